@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+import static org.lukashian.Instant.BEEPS_PER_DAY;
+
+/**
+ * {@link BulkEpochKernels} that use the Vector API of the incubating jdk.incubator.vector module. This class is compiled separately from the rest of the
+ * library, with that module added, and {@link BulkEpochMath} only loads it when the module is enabled at runtime.
+ * <p>
+ * Since there are no SIMD instructions for dividing longs, the divisions are done in doubles. As long as the dividend and the divisor are whole numbers below
+ * 2^53, the double quotient is exactly the same as the long quotient after truncation: a quotient that is not a whole number is at least 1 / divisor away
+ * from the next whole number, which is more than the rounding error of the division. This holds for every day that is shorter than
+ * {@link #MAX_EXACT_MILLISECONDS_OF_DAY}, which is about 28 years, while longer days are handed to the scalar kernels. The values at the end of a run that do
+ * not fill a whole vector are converted with {@link EpochMath} directly.
+ */
+final class VectorBulkEpochKernels implements BulkEpochKernels {
+
+	private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+	private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED; //The same number of lanes as LONGS
+	private static final VectorSpecies<Integer> INTS = VectorSpecies.of(int.class, VectorShape.forBitSize(LONGS.length() * Integer.SIZE));
+
+	static final long MAX_EXACT_MILLISECONDS_OF_DAY = (1L << 53) / BEEPS_PER_DAY;
+
+	private final BulkEpochKernels scalar = new BulkEpochMath.ScalarKernels();
+
+	@Override
+	public void getBeepsOnDay(long[] epochMilliseconds, int start, int end, long epochMillisecondsPreviousDay, long millisecondsOfDay, int[] beeps) {
+		if (millisecondsOfDay >= MAX_EXACT_MILLISECONDS_OF_DAY) {
+			scalar.getBeepsOnDay(epochMilliseconds, start, end, epochMillisecondsPreviousDay, millisecondsOfDay, beeps);
+			return;
+		}
+
+		long firstEpochMilliseconds = epochMillisecondsPreviousDay + 1; //The millisecond itself is not considered to have passed
+		double length = millisecondsOfDay;
+		int i = start;
+		for (int bound = start + LONGS.loopBound(end - start); i < bound; i += LONGS.length()) {
+			DoubleVector millisecondsPassed = (DoubleVector) LongVector.fromArray(LONGS, epochMilliseconds, i).sub(firstEpochMilliseconds).convert(VectorOperators.L2D, 0);
+			((IntVector) millisecondsPassed.mul(BEEPS_PER_DAY).div(length).convertShape(VectorOperators.D2I, INTS, 0)).intoArray(beeps, i);
+		}
+		for (; i < end; i++) {
+			beeps[i] = EpochMath.getBeepsOnDay(epochMilliseconds[i], epochMillisecondsPreviousDay, millisecondsOfDay);
+		}
+	}
+
+	@Override
+	public void getEpochMillisecondsOnDay(int[] beeps, int start, int end, long epochMillisecondsPreviousDay, long millisecondsOfDay, long[] epochMilliseconds) {
+		if (millisecondsOfDay >= MAX_EXACT_MILLISECONDS_OF_DAY) {
+			scalar.getEpochMillisecondsOnDay(beeps, start, end, epochMillisecondsPreviousDay, millisecondsOfDay, epochMilliseconds);
+			return;
+		}
+
+		long firstEpochMilliseconds = epochMillisecondsPreviousDay + 1; //The millisecond after floor(millisecondsOfDay * proportion) is chosen
+		double length = millisecondsOfDay;
+		int i = start;
+		for (int bound = start + INTS.loopBound(end - start); i < bound; i += INTS.length()) {
+			DoubleVector beepsOfDay = (DoubleVector) IntVector.fromArray(INTS, beeps, i).convertShape(VectorOperators.I2D, DOUBLES, 0);
+			((LongVector) beepsOfDay.mul(length).div(BEEPS_PER_DAY).convert(VectorOperators.D2L, 0)).add(firstEpochMilliseconds).intoArray(epochMilliseconds, i);
+		}
+		for (; i < end; i++) {
+			epochMilliseconds[i] = EpochMath.getEpochMillisecondsOnDay(epochMillisecondsPreviousDay, millisecondsOfDay, beeps[i]);
+		}
+	}
+}
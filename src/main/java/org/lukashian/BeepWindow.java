@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import java.util.List;
+
+/**
+ * A closed window of events, as emitted by a {@link BeepWindowProcessor}. A window covers the beeps from its start beeps (inclusive) until its end beeps
+ * (exclusive) on a single {@link Day}, and contains the events of which the milliseconds fall within those beeps, in the order in which they arrived.
+ * <p>
+ * A {@link BeepWindow} is immutable.
+ */
+public final class BeepWindow<T> {
+
+	private final Day day;
+	private final int startBeeps;
+	private final int endBeeps;
+	private final long epochMillisecondsAtStart;
+	private final long epochMillisecondsAtEnd;
+	private final List<T> events;
+
+	BeepWindow(Day day, int startBeeps, int endBeeps, long epochMillisecondsAtStart, long epochMillisecondsAtEnd, List<T> events) {
+		this.day = day;
+		this.startBeeps = startBeeps;
+		this.endBeeps = endBeeps;
+		this.epochMillisecondsAtStart = epochMillisecondsAtStart;
+		this.epochMillisecondsAtEnd = epochMillisecondsAtEnd;
+		this.events = List.copyOf(events);
+	}
+
+	/**
+	 * Returns the {@link Day} of this window.
+	 */
+	public Day getDay() {
+		return day;
+	}
+
+	/**
+	 * Returns the first beep of this window, inclusive.
+	 */
+	public int getStartBeeps() {
+		return startBeeps;
+	}
+
+	/**
+	 * Returns the beep after the last beep of this window, which is 10000 for windows that last until the end of the day.
+	 */
+	public int getEndBeeps() {
+		return endBeeps;
+	}
+
+	/**
+	 * Returns the number of milliseconds since the start of the calendar instance of the first millisecond of this window.
+	 */
+	public long getEpochMillisecondsAtStart() {
+		return epochMillisecondsAtStart;
+	}
+
+	/**
+	 * Returns the number of milliseconds since the start of the calendar instance of the last millisecond of this window.
+	 */
+	public long getEpochMillisecondsAtEnd() {
+		return epochMillisecondsAtEnd;
+	}
+
+	/**
+	 * Returns the unmodifiable list of events in this window, in the order in which they arrived.
+	 */
+	public List<T> getEvents() {
+		return events;
+	}
+
+	@Override
+	public String toString() {
+		return "[BeepWindow: " + Formatter.format(day) + " " + startBeeps + "-" + endBeeps + ", " + events.size() + " events]";
+	}
+}
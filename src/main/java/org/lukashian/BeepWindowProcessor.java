@@ -0,0 +1,515 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import org.lukashian.store.MillisecondStoreData;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
+
+import static org.lukashian.Instant.BEEPS_PER_DAY;
+import static org.lukashian.LukashianException.check;
+import static org.lukashian.store.MillisecondStore.data;
+import static org.lukashian.store.MillisecondStore.defaultCalendarKey;
+
+/**
+ * A {@link Flow.Processor} that groups timestamped events into windows of beeps, and emits the windows once they are closed, in batches. The windows start at
+ * the start of each day, so that they are aligned to beeps and days rather than to fixed durations, and never extend beyond the end of their day. Tumbling
+ * windows follow each other directly, sliding windows start every given number of beeps and may overlap, in which case an event is part of each window that
+ * covers its beeps. A window of 10000 beeps covers a whole day.
+ * <p>
+ * The timestamp of an event is its number of milliseconds since the start of the calendar instance. The watermark is the highest timestamp that has been seen,
+ * of which the milliseconds are supported by the calendar instance, or that was given to {@link #advanceWatermark(long)}. A window is closed when the watermark has passed its last millisecond by more than the allowed
+ * lateness, after which events that arrive for it are dropped, as are events of which the milliseconds are not supported by the calendar instance. Windows
+ * without events are not emitted. When the upstream publisher completes, all remaining windows are closed and emitted before completing downstream. When the function that
+ * returns the timestamp of an event throws an exception, the upstream subscription is cancelled and the exception is signalled downstream.
+ * <p>
+ * A {@link BeepWindowProcessor} supports a single subscriber. Closed windows are emitted when the subscriber has requested them, up to the batch size per
+ * batch, and no more events are requested from the upstream publisher while the maximum number of closed windows is waiting to be emitted. Batches are emitted
+ * on the thread that delivers an event or a request, which must not block. The configuration methods can only be called before a subscriber subscribes.
+ */
+public final class BeepWindowProcessor<T> implements Flow.Processor<T, List<BeepWindow<T>>> {
+
+	private final int calendarKey;
+	private final MillisecondStoreData data;
+	private final int sizeBeeps;
+	private final int slideBeeps;
+	private final int windowsPerDay;
+	private final ToLongFunction<? super T> epochMilliseconds;
+
+	private long allowedLatenessMilliseconds;
+	private int batchSize = 64;
+	private int maxPendingWindows = 1024;
+	private int requestSize = 256;
+
+	//Window state, guarded by this
+	private final TreeMap<Long, OpenWindow<T>> openWindows = new TreeMap<>(); //By epoch day * windows per day + window index, which orders by start and end
+	private long watermark = Long.MIN_VALUE;
+	private long numberOfDroppedEvents;
+	private int currentEpochDay; //The bounds of the most recent day, so that subsequent events on the same day don't need to be looked up
+	private long currentEpochMillisecondsPreviousDay;
+	private long currentEpochMilliseconds;
+
+	//Emission state
+	private final ConcurrentLinkedQueue<BeepWindow<T>> closedWindows = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger numberOfClosedWindows = new AtomicInteger();
+	private final AtomicInteger workInProgress = new AtomicInteger();
+	private final AtomicLong demand = new AtomicLong();
+	private final AtomicLong outstanding = new AtomicLong(); //Events requested from upstream, but not received yet
+	private volatile Flow.Subscription upstream;
+	private volatile Flow.Subscriber<? super List<BeepWindow<T>>> downstream;
+	private volatile boolean done;
+	private volatile Throwable error;
+	private volatile boolean cancelled;
+	private boolean terminated; //Only accessed while draining
+
+	private BeepWindowProcessor(int sizeBeeps, int slideBeeps, ToLongFunction<? super T> epochMilliseconds, int calendarKey) {
+		check(sizeBeeps >= 1 && sizeBeeps <= BEEPS_PER_DAY, () -> sizeBeeps + " is not a valid window size, it must be between 1 and " + BEEPS_PER_DAY + " beeps");
+		check(slideBeeps >= 1 && slideBeeps <= sizeBeeps, () -> slideBeeps + " is not a valid slide, it must be between 1 beep and the window size");
+
+		this.calendarKey = calendarKey;
+		this.data = data(calendarKey);
+		this.sizeBeeps = sizeBeeps;
+		this.slideBeeps = slideBeeps;
+		this.windowsPerDay = (BEEPS_PER_DAY + slideBeeps - 1) / slideBeeps;
+		this.epochMilliseconds = Objects.requireNonNull(epochMilliseconds);
+	}
+
+	/**
+	 * Sets the number of milliseconds that the watermark may pass the end of a window before the window is closed, which is 0 by default.
+	 *
+	 * @throws LukashianException when the given number of milliseconds is negative
+	 * @throws IllegalStateException when a subscriber has already subscribed
+	 */
+	public BeepWindowProcessor<T> withAllowedLateness(long milliseconds) {
+		check(milliseconds >= 0, () -> "The allowed lateness cannot be negative");
+		this.checkNotSubscribed();
+
+		this.allowedLatenessMilliseconds = milliseconds;
+		return this;
+	}
+
+	/**
+	 * Sets the maximum number of windows per emitted batch, which is 64 by default.
+	 *
+	 * @throws LukashianException when the given batch size is smaller than 1
+	 * @throws IllegalStateException when a subscriber has already subscribed
+	 */
+	public BeepWindowProcessor<T> withBatchSize(int batchSize) {
+		check(batchSize >= 1, () -> "The batch size must be at least 1");
+		this.checkNotSubscribed();
+
+		this.batchSize = batchSize;
+		return this;
+	}
+
+	/**
+	 * Sets the maximum number of closed windows that may be waiting to be emitted before no more events are requested from upstream, which is 1024 by default,
+	 * and the number of events that is requested from upstream at a time, which is 256 by default.
+	 *
+	 * @throws LukashianException when either of the given numbers is smaller than 1
+	 * @throws IllegalStateException when a subscriber has already subscribed
+	 */
+	public BeepWindowProcessor<T> withBuffer(int maxPendingWindows, int requestSize) {
+		check(maxPendingWindows >= 1 && requestSize >= 1, () -> "The maximum number of pending windows and the request size must be at least 1");
+		this.checkNotSubscribed();
+
+		this.maxPendingWindows = maxPendingWindows;
+		this.requestSize = requestSize;
+		return this;
+	}
+
+	private void checkNotSubscribed() {
+		if (downstream != null || upstream != null) {
+			throw new IllegalStateException("The processor cannot be configured after subscribing");
+		}
+	}
+
+	@Override
+	public void subscribe(Flow.Subscriber<? super List<BeepWindow<T>>> subscriber) {
+		Objects.requireNonNull(subscriber);
+		synchronized (this) {
+			if (downstream != null) {
+				subscriber.onSubscribe(new NoSubscription());
+				subscriber.onError(new IllegalStateException("A BeepWindowProcessor supports only a single subscriber"));
+				return;
+			}
+			downstream = subscriber;
+		}
+		subscriber.onSubscribe(new DownstreamSubscription());
+		this.drain();
+	}
+
+	@Override
+	public void onSubscribe(Flow.Subscription subscription) {
+		Objects.requireNonNull(subscription);
+		if (upstream != null || cancelled) {
+			subscription.cancel();
+			return;
+		}
+		upstream = subscription;
+		this.drain();
+	}
+
+	@Override
+	public void onNext(T event) {
+		if (done) {
+			return; //Events that were already on their way when upstream was cancelled because of an error
+		}
+
+		long eventEpochMilliseconds;
+		try {
+			eventEpochMilliseconds = epochMilliseconds.applyAsLong(event);
+		} catch (RuntimeException e) {
+			//The function is supplied by the user, it may not break the processor, so the stream fails instead, see rule 2.13 of the Reactive Streams spec
+			Flow.Subscription subscription = upstream;
+			if (subscription != null) {
+				subscription.cancel();
+			}
+			this.onError(e);
+			return;
+		}
+		outstanding.decrementAndGet();
+
+		synchronized (this) {
+			boolean supported = this.assign(event, eventEpochMilliseconds);
+			if (supported && eventEpochMilliseconds > watermark) {
+				watermark = eventEpochMilliseconds;
+				this.closeWindows(false);
+			}
+		}
+		this.drain();
+	}
+
+	@Override
+	public void onError(Throwable throwable) {
+		error = Objects.requireNonNull(throwable);
+		done = true;
+		this.drain();
+	}
+
+	@Override
+	public void onComplete() {
+		synchronized (this) {
+			this.closeWindows(true);
+		}
+		done = true;
+		this.drain();
+	}
+
+	/**
+	 * Advances the watermark to the given number of milliseconds since the start of the calendar instance, if it is higher than the current watermark, and
+	 * emits the windows that are closed because of that, for instance to close the windows of an upstream publisher that has become idle.
+	 */
+	public void advanceWatermark(long epochMilliseconds) {
+		synchronized (this) {
+			if (epochMilliseconds > watermark) {
+				watermark = epochMilliseconds;
+				this.closeWindows(false);
+			}
+		}
+		this.drain();
+	}
+
+	/**
+	 * Returns the current watermark, which is {@link Long#MIN_VALUE} before any event has arrived.
+	 */
+	public synchronized long getWatermark() {
+		return watermark;
+	}
+
+	/**
+	 * Returns the number of events that were dropped, because all of their windows were already closed or because their milliseconds are not supported.
+	 */
+	public synchronized long getNumberOfDroppedEvents() {
+		return numberOfDroppedEvents;
+	}
+
+	/**
+	 * Returns the calendar key of this processor.
+	 */
+	public int getCalendarKey() {
+		return calendarKey;
+	}
+
+	/**
+	 * Adds the given event to each open window that covers its milliseconds, and returns whether its milliseconds are supported by the calendar instance, since
+	 * only supported milliseconds may advance the watermark.
+	 */
+	private boolean assign(T event, long eventEpochMilliseconds) {
+		if (eventEpochMilliseconds <= currentEpochMillisecondsPreviousDay || eventEpochMilliseconds > currentEpochMilliseconds) {
+			if (!data.isSupportedEpochMilliseconds(eventEpochMilliseconds)) {
+				numberOfDroppedEvents++;
+				return false;
+			}
+			currentEpochDay = data.getEpochDayForEpochMilliseconds(eventEpochMilliseconds);
+			currentEpochMillisecondsPreviousDay = currentEpochDay == 1 ? 0 : data.getEpochMillisecondsForEpochDay(currentEpochDay - 1);
+			currentEpochMilliseconds = data.getEpochMillisecondsForEpochDay(currentEpochDay);
+		}
+
+		long millisecondsOfDay = currentEpochMilliseconds - currentEpochMillisecondsPreviousDay;
+		int beeps = EpochMath.getBeepsOnDay(eventEpochMilliseconds, currentEpochMillisecondsPreviousDay, millisecondsOfDay);
+		boolean assigned = false;
+
+		//The windows that cover the beeps start at the multiples of the slide from beeps - size (exclusive) until beeps (inclusive)
+		for (int window = Math.max(0, (beeps - sizeBeeps) / slideBeeps + (beeps >= sizeBeeps ? 1 : 0)); window <= beeps / slideBeeps; window++) {
+			long key = (long) currentEpochDay * windowsPerDay + window;
+			OpenWindow<T> openWindow = openWindows.get(key);
+			if (openWindow == null) {
+				int startBeeps = window * slideBeeps;
+				int endBeeps = Math.min(startBeeps + sizeBeeps, BEEPS_PER_DAY);
+				long epochMillisecondsAtEnd = EpochMath.getFirstEpochMillisecondsOnDay(currentEpochMillisecondsPreviousDay, millisecondsOfDay, endBeeps) - 1;
+				if (this.isClosed(epochMillisecondsAtEnd)) {
+					continue;
+				}
+				long epochMillisecondsAtStart = EpochMath.getFirstEpochMillisecondsOnDay(currentEpochMillisecondsPreviousDay, millisecondsOfDay, startBeeps);
+				openWindow = new OpenWindow<>(currentEpochDay, startBeeps, endBeeps, epochMillisecondsAtStart, epochMillisecondsAtEnd);
+				openWindows.put(key, openWindow);
+			}
+			openWindow.events.add(event);
+			assigned = true;
+		}
+
+		if (!assigned) {
+			numberOfDroppedEvents++;
+		}
+		return true;
+	}
+
+	private boolean isClosed(long epochMillisecondsAtEnd) {
+		return watermark != Long.MIN_VALUE && watermark - allowedLatenessMilliseconds > epochMillisecondsAtEnd;
+	}
+
+	private void closeWindows(boolean all) {
+		Map.Entry<Long, OpenWindow<T>> first;
+		while ((first = openWindows.firstEntry()) != null && (all || this.isClosed(first.getValue().epochMillisecondsAtEnd))) {
+			openWindows.pollFirstEntry();
+			closedWindows.add(first.getValue().close(data, calendarKey));
+			numberOfClosedWindows.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Emits batches of closed windows as far as the demand allows, requests more events from upstream if there is room for them, and completes downstream when
+	 * done. Only one thread drains at a time, other threads that call this method while draining cause another pass instead.
+	 */
+	private void drain() {
+		if (workInProgress.getAndIncrement() != 0) {
+			return;
+		}
+
+		int missed = 1;
+		do {
+			Flow.Subscriber<? super List<BeepWindow<T>>> subscriber = downstream;
+			if (subscriber != null && !terminated) {
+				if (cancelled) {
+					closedWindows.clear();
+					terminated = true;
+				} else {
+					this.emit(subscriber);
+				}
+			}
+			missed = workInProgress.addAndGet(-missed);
+		} while (missed != 0);
+	}
+
+	private void emit(Flow.Subscriber<? super List<BeepWindow<T>>> subscriber) {
+		Throwable throwable = error;
+		if (throwable != null) {
+			terminated = true;
+			closedWindows.clear();
+			subscriber.onError(throwable);
+			return;
+		}
+
+		while (demand.get() > 0 && !closedWindows.isEmpty() && !cancelled) {
+			List<BeepWindow<T>> batch = new ArrayList<>(Math.min(batchSize, numberOfClosedWindows.get()));
+			BeepWindow<T> window;
+			while (batch.size() < batchSize && (window = closedWindows.poll()) != null) {
+				batch.add(window);
+			}
+			numberOfClosedWindows.addAndGet(-batch.size());
+			demand.decrementAndGet();
+			subscriber.onNext(batch);
+		}
+
+		if (done && closedWindows.isEmpty() && !cancelled) {
+			terminated = true;
+			subscriber.onComplete();
+			return;
+		}
+
+		Flow.Subscription subscription = upstream;
+		if (subscription != null && !done && numberOfClosedWindows.get() < maxPendingWindows) {
+			long requested = outstanding.get();
+			if (requested <= requestSize / 2) {
+				outstanding.addAndGet(requestSize - requested);
+				subscription.request(requestSize - requested);
+			}
+		}
+	}
+
+	/**
+	 * Creates a new {@link BeepWindowProcessor} with tumbling windows of the given number of beeps, for events of which the given function returns the number
+	 * of milliseconds since the start of the calendar instance with the given key. If the given number of beeps does not divide 10000, the last window of each
+	 * day is shorter than the others.
+	 *
+	 * @throws LukashianException when the given number of beeps is not between 1 and 10000, both inclusive
+	 */
+	public static <T> BeepWindowProcessor<T> tumbling(int beeps, ToLongFunction<? super T> epochMilliseconds, int calendarKey) {
+		return new BeepWindowProcessor<>(beeps, beeps, epochMilliseconds, calendarKey);
+	}
+
+	/**
+	 * Creates a new {@link BeepWindowProcessor} with tumbling windows of the given number of beeps, for events of which the given function returns the number
+	 * of milliseconds since the start of the default calendar instance. If the given number of beeps does not divide 10000, the last window of each day is
+	 * shorter than the others.
+	 *
+	 * @throws LukashianException when the given number of beeps is not between 1 and 10000, both inclusive
+	 */
+	public static <T> BeepWindowProcessor<T> tumbling(int beeps, ToLongFunction<? super T> epochMilliseconds) {
+		return tumbling(beeps, epochMilliseconds, defaultCalendarKey());
+	}
+
+	/**
+	 * Creates a new {@link BeepWindowProcessor} with windows of the given number of beeps, that start every given number of slide beeps, for events of which
+	 * the given function returns the number of milliseconds since the start of the calendar instance with the given key. Windows that would extend beyond the
+	 * end of their day end at the end of their day.
+	 *
+	 * @throws LukashianException when the given number of beeps is not between 1 and 10000, both inclusive, or when the slide is not between 1 and the given
+	 * number of beeps, both inclusive
+	 */
+	public static <T> BeepWindowProcessor<T> sliding(int beeps, int slideBeeps, ToLongFunction<? super T> epochMilliseconds, int calendarKey) {
+		return new BeepWindowProcessor<>(beeps, slideBeeps, epochMilliseconds, calendarKey);
+	}
+
+	/**
+	 * Creates a new {@link BeepWindowProcessor} with windows of the given number of beeps, that start every given number of slide beeps, for events of which
+	 * the given function returns the number of milliseconds since the start of the default calendar instance. Windows that would extend beyond the end of
+	 * their day end at the end of their day.
+	 *
+	 * @throws LukashianException when the given number of beeps is not between 1 and 10000, both inclusive, or when the slide is not between 1 and the given
+	 * number of beeps, both inclusive
+	 */
+	public static <T> BeepWindowProcessor<T> sliding(int beeps, int slideBeeps, ToLongFunction<? super T> epochMilliseconds) {
+		return sliding(beeps, slideBeeps, epochMilliseconds, defaultCalendarKey());
+	}
+
+	private static final class OpenWindow<T> {
+
+		private final int epochDay;
+		private final int startBeeps;
+		private final int endBeeps;
+		private final long epochMillisecondsAtStart;
+		private final long epochMillisecondsAtEnd;
+		private final List<T> events = new ArrayList<>();
+
+		private OpenWindow(int epochDay, int startBeeps, int endBeeps, long epochMillisecondsAtStart, long epochMillisecondsAtEnd) {
+			this.epochDay = epochDay;
+			this.startBeeps = startBeeps;
+			this.endBeeps = endBeeps;
+			this.epochMillisecondsAtStart = epochMillisecondsAtStart;
+			this.epochMillisecondsAtEnd = epochMillisecondsAtEnd;
+		}
+
+		private BeepWindow<T> close(MillisecondStoreData data, int calendarKey) {
+			return new BeepWindow<>(Day.ofEpoch(epochDay, data, calendarKey), startBeeps, endBeeps, epochMillisecondsAtStart, epochMillisecondsAtEnd, events);
+		}
+	}
+
+	private final class DownstreamSubscription implements Flow.Subscription {
+
+		@Override
+		public void request(long n) {
+			if (n <= 0) {
+				error = new IllegalArgumentException("The number of requested batches must be positive, but was " + n);
+				BeepWindowProcessor.this.cancelUpstream();
+			} else {
+				demand.getAndAccumulate(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+			}
+			BeepWindowProcessor.this.drain();
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true;
+			BeepWindowProcessor.this.cancelUpstream();
+			BeepWindowProcessor.this.drain();
+		}
+	}
+
+	private void cancelUpstream() {
+		Flow.Subscription subscription = upstream;
+		if (subscription != null) {
+			subscription.cancel();
+		}
+		done = true;
+	}
+
+	private static final class NoSubscription implements Flow.Subscription {
+
+		@Override
+		public void request(long n) {
+		}
+
+		@Override
+		public void cancel() {
+		}
+	}
+}
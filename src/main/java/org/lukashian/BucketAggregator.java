@@ -0,0 +1,528 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import org.lukashian.store.MillisecondStoreData;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import static org.lukashian.Instant.BEEPS_PER_DAY;
+import static org.lukashian.LukashianException.check;
+import static org.lukashian.store.MillisecondStore.data;
+
+/**
+ * Counts and sums values per bucket of time, where a bucket is a {@link Day}, a {@link Year} or a window of a fixed number of beeps within a day. Since days
+ * and years differ in length, and beeps with them, the buckets differ in length as well. Each value is assigned to its bucket with the day or year table of
+ * the calendar instance, in the same way as {@link Instant#getDay()}, {@link Instant#getYear()} and {@link Instant#getBeeps()} do, so that a value is counted
+ * in the bucket of the day, year or beeps that its {@link Instant} reports.
+ * <p>
+ * The buckets cover a fixed range of days or years, which is given upon creation. Counts and sums are kept in primitive arrays, and adding values does not
+ * create any objects. Values at milliseconds outside the range of buckets, or outside the days that are supported by the calendar instance, are not counted
+ * in any bucket, but in {@link #getNumberOfDiscarded()}. Sums are calculated with long arithmetic and overflow silently, like {@link Long#sum(long, long)}.
+ * <p>
+ * Values can be added one by one, or in bulk, in which case inputs of at least {@link BulkEpochMath#PARALLEL_THRESHOLD} values are aggregated in parallel,
+ * into partial aggregators that are merged afterwards. Partial aggregations can also be done by the caller, with aggregators that are created by
+ * {@link #emptyCopy()} and combined with {@link #merge(BucketAggregator)}.
+ * <p>
+ * A {@link BucketAggregator} is not thread-safe.
+ */
+public final class BucketAggregator {
+
+	private static final int CHUNK_SIZE = 4096;
+
+	private final int calendarKey;
+	private final MillisecondStoreData data;
+	private final boolean perYear;
+	private final int beepsPerWindow; //0 when aggregating per day or per year
+	private final int windowsPerDay;
+	private final int first; //The first epoch day or year
+	private final int last; //The last epoch day or year
+	private final long epochMillisecondsAtStart;
+	private final long epochMillisecondsAtEnd;
+
+	private final long[] counts;
+	private final long[] sums;
+	private long numberOfDiscarded;
+
+	//The bounds of the most recent day, so that subsequent values on the same day don't need to be looked up
+	private int currentEpochDay;
+	private long currentEpochMillisecondsPreviousDay;
+	private long currentEpochMilliseconds;
+
+	private BucketAggregator(int calendarKey, boolean perYear, int beepsPerWindow, int first, int last) {
+		check(first <= last, () -> "The first bucket cannot be after the last bucket");
+
+		this.calendarKey = calendarKey;
+		this.data = data(calendarKey);
+		this.perYear = perYear;
+		this.beepsPerWindow = beepsPerWindow;
+		this.windowsPerDay = beepsPerWindow == 0 ? 1 : (BEEPS_PER_DAY + beepsPerWindow - 1) / beepsPerWindow;
+		this.first = first;
+		this.last = last;
+
+		if (perYear) {
+			this.epochMillisecondsAtStart = EpochMath.getEpochMillisecondsAtStartOfYear(first, calendarKey);
+			this.epochMillisecondsAtEnd = EpochMath.getEpochMillisecondsAtEndOfYear(last, calendarKey);
+		} else {
+			this.epochMillisecondsAtStart = EpochMath.getEpochMillisecondsAtStartOfDay(first, calendarKey);
+			this.epochMillisecondsAtEnd = EpochMath.getEpochMillisecondsAtEndOfDay(last, calendarKey);
+		}
+
+		int numberOfBuckets = Math.toIntExact((last - first + 1L) * windowsPerDay);
+		this.counts = new long[numberOfBuckets];
+		this.sums = new long[numberOfBuckets];
+	}
+
+	/**
+	 * Adds the given value at the given number of milliseconds since the start of the calendar instance to its bucket.
+	 */
+	public void add(long epochMilliseconds, long value) {
+		if (epochMilliseconds < epochMillisecondsAtStart || epochMilliseconds > epochMillisecondsAtEnd || !data.isSupportedEpochMilliseconds(epochMilliseconds)) {
+			numberOfDiscarded++;
+			return;
+		}
+
+		int bucket;
+		if (perYear) {
+			bucket = data.getYearForEpochMilliseconds(epochMilliseconds) - first;
+		} else {
+			if (epochMilliseconds <= currentEpochMillisecondsPreviousDay || epochMilliseconds > currentEpochMilliseconds) {
+				this.moveToDay(data.getEpochDayForEpochMilliseconds(epochMilliseconds));
+			}
+			bucket = this.getBucket(currentEpochDay, epochMilliseconds, currentEpochMillisecondsPreviousDay, currentEpochMilliseconds - currentEpochMillisecondsPreviousDay);
+		}
+
+		counts[bucket]++;
+		sums[bucket] += value;
+	}
+
+	/**
+	 * Adds the given value at the given non-null {@link Instant} to its bucket.
+	 *
+	 * @throws LukashianException when the given {@link Instant} is of a different calendar instance than this aggregator
+	 */
+	public void add(Instant instant, long value) {
+		check(instant.getCalendarKey() == calendarKey, () -> "Calendar keys of CalendarObjects do not match");
+
+		this.add(instant.getEpochMilliseconds(), value);
+	}
+
+	/**
+	 * Adds the given value at the given number of milliseconds since the UNIX Epoch to its bucket.
+	 */
+	public void addUnix(long unixEpochMilliseconds, long value) {
+		if (!data.isSupportedUnixEpochMilliseconds(unixEpochMilliseconds)) {
+			numberOfDiscarded++;
+			return;
+		}
+		this.add(data.getLukashianEpochMilliseconds(unixEpochMilliseconds), value);
+	}
+
+	/**
+	 * Adds each value to the bucket of the number of milliseconds since the start of the calendar instance at the same index. The values may be null, in which
+	 * case only the counts are updated. The milliseconds don't need to be sorted, but sorted milliseconds are processed faster.
+	 */
+	public void addAll(long[] epochMilliseconds, long[] values) {
+		this.addAll(epochMilliseconds, values, false);
+	}
+
+	/**
+	 * Adds each value to the bucket of the number of milliseconds since the UNIX Epoch at the same index. The values may be null, in which case only the counts
+	 * are updated. The milliseconds don't need to be sorted, but sorted milliseconds are processed faster.
+	 */
+	public void addAllUnix(long[] unixEpochMilliseconds, long[] values) {
+		this.addAll(unixEpochMilliseconds, values, true);
+	}
+
+	private void addAll(long[] milliseconds, long[] values, boolean unix) {
+		check(values == null || values.length >= milliseconds.length, () -> "The array of values is shorter than the array of milliseconds");
+
+		if (milliseconds.length >= BulkEpochMath.PARALLEL_THRESHOLD) {
+			this.mergePartial(ForkJoinPool.commonPool().invoke(new AggregationTask(this, milliseconds, values, unix, 0, milliseconds.length)));
+		} else {
+			this.addRange(milliseconds, values, unix, 0, milliseconds.length);
+		}
+	}
+
+	/**
+	 * Adds the values between start (inclusive) and end (exclusive) in chunks, using the bulk conversions of {@link MillisecondStoreData} for chunks that only
+	 * contain supported milliseconds, and adding the values one by one otherwise.
+	 */
+	private void addRange(long[] milliseconds, long[] values, boolean unix, int start, int end) {
+		long[] epochMilliseconds = new long[Math.min(CHUNK_SIZE, end - start)];
+		int[] indexes = new int[epochMilliseconds.length];
+
+		for (int chunkStart = start; chunkStart < end; chunkStart += CHUNK_SIZE) {
+			int length = Math.min(CHUNK_SIZE, end - chunkStart);
+
+			boolean supported = true;
+			for (int i = 0; i < length; i++) {
+				supported &= unix ? data.isSupportedUnixEpochMilliseconds(milliseconds[chunkStart + i]) : data.isSupportedEpochMilliseconds(milliseconds[chunkStart + i]);
+			}
+			if (!supported) {
+				for (int i = chunkStart; i < chunkStart + length; i++) {
+					long value = values == null ? 0 : values[i];
+					if (unix) {
+						this.addUnix(milliseconds[i], value);
+					} else {
+						this.add(milliseconds[i], value);
+					}
+				}
+				continue;
+			}
+
+			if (unix) {
+				data.getLukashianEpochMilliseconds(milliseconds, chunkStart, length, epochMilliseconds, 0);
+			} else {
+				System.arraycopy(milliseconds, chunkStart, epochMilliseconds, 0, length);
+			}
+			this.addChunk(epochMilliseconds, indexes, length, values, chunkStart);
+		}
+	}
+
+	/**
+	 * Adds the given chunk of supported epoch milliseconds, of which the values are in the given array of values, starting at the given offset.
+	 */
+	private void addChunk(long[] epochMilliseconds, int[] indexes, int length, long[] values, int valuesOffset) {
+		if (perYear) {
+			data.getYearsForEpochMilliseconds(epochMilliseconds, 0, length, indexes, 0);
+		} else {
+			data.getEpochDaysForEpochMilliseconds(epochMilliseconds, 0, length, indexes, 0);
+		}
+
+		int runStart = 0;
+		while (runStart < length) {
+			int index = indexes[runStart];
+			int runEnd = runStart + 1;
+			while (runEnd < length && indexes[runEnd] == index) {
+				runEnd++;
+			}
+
+			if (index < first || index > last) {
+				numberOfDiscarded += runEnd - runStart;
+			} else if (beepsPerWindow == 0) {
+				int bucket = index - first;
+				counts[bucket] += runEnd - runStart;
+				for (int i = runStart; i < runEnd; i++) {
+					sums[bucket] += values == null ? 0 : values[valuesOffset + i];
+				}
+			} else {
+				this.moveToDay(index);
+				long millisecondsOfDay = currentEpochMilliseconds - currentEpochMillisecondsPreviousDay;
+				for (int i = runStart; i < runEnd; i++) {
+					int bucket = this.getBucket(index, epochMilliseconds[i], currentEpochMillisecondsPreviousDay, millisecondsOfDay);
+					counts[bucket]++;
+					sums[bucket] += values == null ? 0 : values[valuesOffset + i];
+				}
+			}
+			runStart = runEnd;
+		}
+	}
+
+	private int getBucket(int epochDay, long epochMilliseconds, long epochMillisecondsPreviousDay, long millisecondsOfDay) {
+		int dayBucket = epochDay - first;
+		if (beepsPerWindow == 0) {
+			return dayBucket;
+		}
+		return dayBucket * windowsPerDay + EpochMath.getBeepsOnDay(epochMilliseconds, epochMillisecondsPreviousDay, millisecondsOfDay) / beepsPerWindow;
+	}
+
+	private void moveToDay(int epochDay) {
+		if (epochDay != currentEpochDay) {
+			currentEpochDay = epochDay;
+			currentEpochMillisecondsPreviousDay = epochDay == 1 ? 0 : data.getEpochMillisecondsForEpochDay(epochDay - 1);
+			currentEpochMilliseconds = data.getEpochMillisecondsForEpochDay(epochDay);
+		}
+	}
+
+	/**
+	 * Adds the counts and sums of the given non-null {@link BucketAggregator}, which needs to have the same buckets, to the counts and sums of this aggregator.
+	 *
+	 * @throws LukashianException when the given aggregator does not have the same buckets as this aggregator
+	 */
+	public void merge(BucketAggregator other) {
+		check(other.calendarKey == calendarKey && other.perYear == perYear && other.beepsPerWindow == beepsPerWindow && other.first == first && other.last == last,
+				() -> "Only aggregators with the same buckets can be merged");
+
+		for (int i = 0; i < counts.length; i++) {
+			counts[i] += other.counts[i];
+			sums[i] += other.sums[i];
+		}
+		numberOfDiscarded += other.numberOfDiscarded;
+	}
+
+	/**
+	 * Returns a new, empty {@link BucketAggregator} with only the buckets of this aggregator that the supported milliseconds between start (inclusive) and end
+	 * (exclusive) can be counted in, so that a partial aggregation of those milliseconds does not allocate and merge the buckets of the whole range.
+	 */
+	private BucketAggregator partialCopy(long[] milliseconds, boolean unix, int start, int end) {
+		long minimum = Long.MAX_VALUE;
+		long maximum = Long.MIN_VALUE;
+		for (int i = start; i < end; i++) {
+			long value = milliseconds[i];
+			if (unix ? data.isSupportedUnixEpochMilliseconds(value) : data.isSupportedEpochMilliseconds(value)) {
+				minimum = Math.min(minimum, value);
+				maximum = Math.max(maximum, value);
+			}
+		}
+		if (minimum > maximum) {
+			return this.partialCopy(first, first); //Nothing to count, every value is discarded
+		}
+
+		if (unix) {
+			minimum = data.getLukashianEpochMilliseconds(minimum);
+			maximum = data.getLukashianEpochMilliseconds(maximum);
+		}
+		int partialFirst = Math.max(first, perYear ? data.getYearForEpochMilliseconds(minimum) : data.getEpochDayForEpochMilliseconds(minimum));
+		int partialLast = Math.min(last, perYear ? data.getYearForEpochMilliseconds(maximum) : data.getEpochDayForEpochMilliseconds(maximum));
+		return partialFirst > partialLast ? this.partialCopy(first, first) : this.partialCopy(partialFirst, partialLast);
+	}
+
+	private BucketAggregator partialCopy(int partialFirst, int partialLast) {
+		return new BucketAggregator(calendarKey, perYear, beepsPerWindow, partialFirst, partialLast);
+	}
+
+	/**
+	 * Adds the counts and sums of the given partial aggregator, of which the range of days or years is within the range of this aggregator, to the counts and
+	 * sums of the corresponding buckets of this aggregator.
+	 */
+	private void mergePartial(BucketAggregator partial) {
+		int offset = (partial.first - first) * windowsPerDay;
+		for (int i = 0; i < partial.counts.length; i++) {
+			counts[offset + i] += partial.counts[i];
+			sums[offset + i] += partial.sums[i];
+		}
+		numberOfDiscarded += partial.numberOfDiscarded;
+	}
+
+	/**
+	 * Returns a new, empty {@link BucketAggregator} with the same buckets as this aggregator, for instance to do a partial aggregation that is merged into this
+	 * aggregator afterwards.
+	 */
+	public BucketAggregator emptyCopy() {
+		return new BucketAggregator(calendarKey, perYear, beepsPerWindow, first, last);
+	}
+
+	/**
+	 * Returns the number of buckets.
+	 */
+	public int getNumberOfBuckets() {
+		return counts.length;
+	}
+
+	/**
+	 * Returns the number of values in the bucket with the given index.
+	 */
+	public long getCount(int bucket) {
+		return counts[bucket];
+	}
+
+	/**
+	 * Returns the sum of the values in the bucket with the given index.
+	 */
+	public long getSum(int bucket) {
+		return sums[bucket];
+	}
+
+	/**
+	 * Returns a copy of the numbers of values of all buckets.
+	 */
+	public long[] getCounts() {
+		return counts.clone();
+	}
+
+	/**
+	 * Returns a copy of the sums of the values of all buckets.
+	 */
+	public long[] getSums() {
+		return sums.clone();
+	}
+
+	/**
+	 * Returns the number of values that were not counted in any bucket, because they were outside the range of buckets or not supported by the calendar instance.
+	 */
+	public long getNumberOfDiscarded() {
+		return numberOfDiscarded;
+	}
+
+	/**
+	 * Returns the number of milliseconds since the start of the calendar instance of the first millisecond of the bucket with the given index.
+	 */
+	public long getEpochMillisecondsAtStartOfBucket(int bucket) {
+		Objects.checkIndex(bucket, counts.length);
+		if (perYear) {
+			return EpochMath.getEpochMillisecondsAtStartOfYear(first + bucket, calendarKey);
+		}
+		return this.getFirstEpochMillisecondsOfWindow(first + bucket / windowsPerDay, bucket % windowsPerDay);
+	}
+
+	/**
+	 * Returns the number of milliseconds since the start of the calendar instance of the last millisecond of the bucket with the given index. Please note that
+	 * a window of beeps that does not contain the start of any millisecond is empty, in which case its last millisecond is before its first millisecond.
+	 */
+	public long getEpochMillisecondsAtEndOfBucket(int bucket) {
+		Objects.checkIndex(bucket, counts.length);
+		if (perYear) {
+			return EpochMath.getEpochMillisecondsAtEndOfYear(first + bucket, calendarKey);
+		}
+		int epochDay = first + bucket / windowsPerDay;
+		int window = bucket % windowsPerDay;
+		if (window == windowsPerDay - 1) {
+			return EpochMath.getEpochMillisecondsAtEndOfDay(epochDay, calendarKey);
+		}
+		return this.getFirstEpochMillisecondsOfWindow(epochDay, window + 1) - 1;
+	}
+
+	private long getFirstEpochMillisecondsOfWindow(int epochDay, int window) {
+		long epochMillisecondsPreviousDay = EpochMath.getEpochMillisecondsPreviousDay(epochDay, calendarKey);
+		long millisecondsOfDay = EpochMath.getLengthOfDayInMilliseconds(epochDay, calendarKey);
+		return EpochMath.getFirstEpochMillisecondsOnDay(epochMillisecondsPreviousDay, millisecondsOfDay, window * Math.max(1, beepsPerWindow));
+	}
+
+	/**
+	 * Creates a new {@link BucketAggregator} with a bucket for each day from the given first day until the given last day, both inclusive.
+	 *
+	 * @throws LukashianException when the given days are of different calendar instances or when the first day is after the last day
+	 */
+	public static BucketAggregator perDay(Day first, Day last) {
+		first.checkSameKeyAs(last);
+
+		return new BucketAggregator(first.getCalendarKey(), false, 0, first.getEpochDay(), last.getEpochDay());
+	}
+
+	/**
+	 * Creates a new {@link BucketAggregator} with a bucket for each year from the given first year until the given last year, both inclusive. Please note that
+	 * values are counted in the year that contains their milliseconds, like {@link Instant#getYear()}, which is not necessarily the year of their day.
+	 *
+	 * @throws LukashianException when the given years are of different calendar instances or when the first year is after the last year
+	 */
+	public static BucketAggregator perYear(Year first, Year last) {
+		first.checkSameKeyAs(last);
+
+		return new BucketAggregator(first.getCalendarKey(), true, 0, first.getYearNumber(), last.getYearNumber());
+	}
+
+	/**
+	 * Creates a new {@link BucketAggregator} with a bucket for each window of the given number of beeps on each day from the given first day until the given
+	 * last day, both inclusive. The windows start at the start of each day, so if the given number of beeps does not divide 10000, the last window of each day
+	 * is shorter than the others. Bucket i * w + j is window j of the i-th day, where w is the number of windows per day, which is 10000 divided by the given
+	 * number of beeps, rounded up.
+	 *
+	 * @throws LukashianException when the given number of beeps is not between 1 and 10000, both inclusive, when the given days are of different calendar
+	 * instances or when the first day is after the last day
+	 */
+	public static BucketAggregator perBeeps(int beeps, Day first, Day last) {
+		check(beeps >= 1 && beeps <= BEEPS_PER_DAY, () -> beeps + " is not a valid number of beeps per window, it must be between 1 and " + BEEPS_PER_DAY);
+		first.checkSameKeyAs(last);
+
+		return new BucketAggregator(first.getCalendarKey(), false, beeps, first.getEpochDay(), last.getEpochDay());
+	}
+
+	/**
+	 * Aggregates the values between start (inclusive) and end (exclusive) into a new partial aggregator, splitting the range in half until it is smaller than
+	 * the parallel threshold. Each partial aggregator only has the buckets that its values can be counted in, so that sorted input, of which the halves cover
+	 * different days or years, is not aggregated into and merged over all buckets at every level.
+	 */
+	@SuppressWarnings("serial") //Never serialized, ForkJoinTask is only Serializable for the sake of remote execution frameworks
+	private static final class AggregationTask extends RecursiveTask<BucketAggregator> {
+
+		private final BucketAggregator template;
+		private final long[] milliseconds;
+		private final long[] values;
+		private final boolean unix;
+		private final int start;
+		private final int end;
+
+		private AggregationTask(BucketAggregator template, long[] milliseconds, long[] values, boolean unix, int start, int end) {
+			this.template = template;
+			this.milliseconds = milliseconds;
+			this.values = values;
+			this.unix = unix;
+			this.start = start;
+			this.end = end;
+		}
+
+		@Override
+		protected BucketAggregator compute() {
+			if (end - start >= BulkEpochMath.PARALLEL_THRESHOLD) {
+				int middle = (start + end) >>> 1;
+				AggregationTask left = new AggregationTask(template, milliseconds, values, unix, start, middle);
+				left.fork();
+				BucketAggregator right = new AggregationTask(template, milliseconds, values, unix, middle, end).compute();
+				return this.combine(left.join(), right);
+			}
+
+			BucketAggregator partial = template.partialCopy(milliseconds, unix, start, end);
+			partial.addRange(milliseconds, values, unix, start, end);
+			return partial;
+		}
+
+		/**
+		 * Merges the given partial aggregators into the one whose range contains the other, or into a new one that spans both ranges otherwise.
+		 */
+		private BucketAggregator combine(BucketAggregator left, BucketAggregator right) {
+			if (left.first <= right.first && left.last >= right.last) {
+				left.mergePartial(right);
+				return left;
+			}
+			if (right.first <= left.first && right.last >= left.last) {
+				right.mergePartial(left);
+				return right;
+			}
+			BucketAggregator result = template.partialCopy(Math.min(left.first, right.first), Math.max(left.last, right.last));
+			result.mergePartial(left);
+			result.mergePartial(right);
+			return result;
+		}
+	}
+}
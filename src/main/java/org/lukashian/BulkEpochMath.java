@@ -0,0 +1,433 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import org.lukashian.store.MillisecondStore;
+import org.lukashian.store.MillisecondStoreData;
+
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import static org.lukashian.Instant.BEEPS_PER_DAY;
+import static org.lukashian.LukashianException.check;
+import static org.lukashian.store.MillisecondStore.data;
+
+/**
+ * Provides the calculations of {@link EpochMath} on arrays of values, which makes it possible to convert columns of timestamps without creating an
+ * {@link Instant}, {@link Day} or {@link Year} for each of them. The results are stored in caller-provided arrays and are exactly the same as the results
+ * of the corresponding methods of {@link EpochMath}. The same goes for the situations in which a {@link LukashianException} is thrown.
+ * <p>
+ * Input values that are in ascending order are matched against the days and years of the calendar instance in a single forward walk. Inputs of at least
+ * {@link #PARALLEL_THRESHOLD} values are split into chunks that are processed in parallel in the common {@link ForkJoinPool}. Within a chunk, the values
+ * are processed in runs of values on the same day, so that the bounds of each day are only looked up once per run, and all values are validated at once by
+ * reductions, instead of one by one.
+ * <p>
+ * The beeps of the values in a run, and the epoch milliseconds of the beeps in a run, are calculated with SIMD instructions when the incubating
+ * jdk.incubator.vector module is enabled, with {@code --add-modules jdk.incubator.vector}, and with scalar loops otherwise. Both give exactly the same
+ * results.
+ * <p>
+ * All methods take the calendar key as their final parameter.
+ *
+ * @see EpochMath
+ * @see MillisecondStore
+ */
+public final class BulkEpochMath {
+
+	/**
+	 * The number of values from which the input is split into chunks that are processed in parallel.
+	 */
+	public static final int PARALLEL_THRESHOLD = 1 << 16;
+
+	static final BulkEpochKernels KERNELS = loadKernels();
+
+	private BulkEpochMath() {
+	}
+
+	/**
+	 * Converts the given milliseconds since the UNIX Epoch to the Lukashian coordinates of the given calendar instance. The value at index i of each of the
+	 * target arrays is the result of the corresponding method of {@link EpochMath} for the value at index i of the given array:
+	 * <ul>
+	 *     <li>epochMilliseconds: {@link EpochMath#getLukashianEpochMilliseconds(long, int)}</li>
+	 *     <li>epochDays: {@link EpochMath#getEpochDay(long, int)}</li>
+	 *     <li>years: {@link EpochMath#getYear(long, int)}</li>
+	 *     <li>dayNumbers: {@link EpochMath#getDayNumber(int, int)} of the epoch day</li>
+	 *     <li>beeps: {@link EpochMath#getBeeps(long, int)}</li>
+	 * </ul>
+	 * The array of epoch milliseconds is required, all other target arrays may be null if their values are not needed. The target arrays need to be at least
+	 * as long as the given array of milliseconds.
+	 *
+	 * @throws LukashianException when any of the given values is not supported by the given calendar instance
+	 */
+	public static void fromUnixEpochMilliseconds(long[] unixEpochMilliseconds, long[] epochMilliseconds, int[] epochDays, int[] years, int[] dayNumbers, int[] beeps, int calendarKey) {
+		convert(unixEpochMilliseconds, 0, unixEpochMilliseconds.length, epochMilliseconds, epochDays, years, dayNumbers, beeps, calendarKey);
+	}
+
+	/**
+	 * Does the same as {@link #fromUnixEpochMilliseconds(long[], long[], int[], int[], int[], int[], int)} for the remaining values of the given
+	 * {@link LongBuffer}, which are stored in the target arrays starting at index 0. The position of the buffer is advanced to its limit.
+	 *
+	 * @throws LukashianException when any of the given values is not supported by the given calendar instance
+	 */
+	public static void fromUnixEpochMilliseconds(LongBuffer unixEpochMilliseconds, long[] epochMilliseconds, int[] epochDays, int[] years, int[] dayNumbers, int[] beeps, int calendarKey) {
+		int length = unixEpochMilliseconds.remaining();
+		checkLength(epochMilliseconds, length);
+
+		if (unixEpochMilliseconds.hasArray()) {
+			convert(unixEpochMilliseconds.array(), unixEpochMilliseconds.arrayOffset() + unixEpochMilliseconds.position(), length, epochMilliseconds, epochDays, years, dayNumbers, beeps, calendarKey);
+		} else {
+			//The target array of epoch milliseconds doubles as the buffer to copy the values into, since the conversion can be done in place
+			unixEpochMilliseconds.get(unixEpochMilliseconds.position(), epochMilliseconds, 0, length);
+			convert(epochMilliseconds, 0, length, epochMilliseconds, epochDays, years, dayNumbers, beeps, calendarKey);
+		}
+		unixEpochMilliseconds.position(unixEpochMilliseconds.limit());
+	}
+
+	/**
+	 * Converts the given milliseconds since the start of the given calendar instance to Lukashian coordinates. The value at index i of each of the target
+	 * arrays is the result of the corresponding method of {@link EpochMath} for the value at index i of the given array:
+	 * <ul>
+	 *     <li>epochDays: {@link EpochMath#getEpochDay(long, int)}</li>
+	 *     <li>years: {@link EpochMath#getYear(long, int)}</li>
+	 *     <li>dayNumbers: {@link EpochMath#getDayNumber(int, int)} of the epoch day</li>
+	 *     <li>beeps: {@link EpochMath#getBeeps(long, int)}</li>
+	 * </ul>
+	 * All target arrays may be null if their values are not needed. The target arrays need to be at least as long as the given array of milliseconds.
+	 *
+	 * @throws LukashianException when any of the given values is lower than 1 or not supported by the given calendar instance
+	 */
+	public static void fromEpochMilliseconds(long[] epochMilliseconds, int[] epochDays, int[] years, int[] dayNumbers, int[] beeps, int calendarKey) {
+		convert(null, 0, epochMilliseconds.length, epochMilliseconds, epochDays, years, dayNumbers, beeps, calendarKey);
+	}
+
+	/**
+	 * Converts the given beeps on the given epoch days of the given calendar instance to milliseconds since the start of that calendar instance. The value at
+	 * index i of the target array is the result of {@link EpochMath#getEpochMilliseconds(int, int, int)} for the values at index i of the given arrays. The
+	 * arrays of beeps and the target array need to be at least as long as the given array of epoch days.
+	 *
+	 * @throws LukashianException when any of the given epoch days is 0 or lower or not supported by the given calendar instance or when any of the given beeps
+	 * are not between 0 (inclusive) and 9999 (inclusive)
+	 */
+	public static void toEpochMilliseconds(int[] epochDays, int[] beeps, long[] epochMilliseconds, int calendarKey) {
+		int length = epochDays.length;
+		check(beeps.length >= length, () -> "The array of beeps is shorter than the array of epoch days");
+		check(epochMilliseconds.length >= length, () -> "The array of epoch milliseconds is shorter than the array of epoch days");
+		check(min(beeps, 0, length) >= 0 && max(beeps, 0, length) < BEEPS_PER_DAY, () -> "Proportion of day must be between 0 (inclusive) and 1 (exclusive)");
+
+		int minEpochDay = min(epochDays, 0, length);
+		check(minEpochDay >= 1, () -> minEpochDay + " is not a valid epoch day, the minimum is 1");
+
+		MillisecondStoreData data = data(calendarKey);
+		int runStart = 0;
+		while (runStart < length) {
+			int epochDay = epochDays[runStart];
+			int runEnd = runStart + 1;
+			while (runEnd < length && epochDays[runEnd] == epochDay) {
+				runEnd++;
+			}
+
+			long epochMillisecondsPreviousDay = epochDay == 1 ? 0 : data.getEpochMillisecondsForEpochDay(epochDay - 1);
+			long millisecondsOfDay = data.getEpochMillisecondsForEpochDay(epochDay) - epochMillisecondsPreviousDay;
+			KERNELS.getEpochMillisecondsOnDay(beeps, runStart, runEnd, epochMillisecondsPreviousDay, millisecondsOfDay, epochMilliseconds);
+
+			runStart = runEnd;
+		}
+	}
+
+	/**
+	 * Converts the given beeps on the given epoch days of the given calendar instance to milliseconds since the UNIX Epoch. The value at index i of the target
+	 * array is the result of {@link EpochMath#getUnixEpochMilliseconds(long, int)} for the result of {@link EpochMath#getEpochMilliseconds(int, int, int)} for
+	 * the values at index i of the given arrays. The arrays of beeps and the target array need to be at least as long as the given array of epoch days.
+	 *
+	 * @throws LukashianException when any of the given epoch days is 0 or lower or not supported by the given calendar instance or when any of the given beeps
+	 * are not between 0 (inclusive) and 9999 (inclusive)
+	 */
+	public static void toUnixEpochMilliseconds(int[] epochDays, int[] beeps, long[] unixEpochMilliseconds, int calendarKey) {
+		toEpochMilliseconds(epochDays, beeps, unixEpochMilliseconds, calendarKey);
+		data(calendarKey).getUnixEpochMilliseconds(unixEpochMilliseconds, 0, epochDays.length, unixEpochMilliseconds, 0);
+	}
+
+	/**
+	 * Converts the given milliseconds since the start of the given calendar instance to milliseconds since the start of the given target calendar instance. The
+	 * value at index i of the target array is the number of epoch milliseconds of the result of {@link Instant#toCalendar(int)} for the {@link Instant} that is
+	 * created by {@link Instant#ofEpoch(long, int)} for the value at index i of the given array. The target array needs to be at least as long as the given
+	 * array and may be the same array.
+	 *
+	 * @see DayOverlaps
+	 */
+	public static void toCalendar(long[] epochMilliseconds, long[] targetEpochMilliseconds, int calendarKey, int targetCalendarKey) {
+		int length = epochMilliseconds.length;
+		checkLength(targetEpochMilliseconds, length);
+
+		data(calendarKey).getUnixEpochMilliseconds(epochMilliseconds, 0, length, targetEpochMilliseconds, 0);
+		data(targetCalendarKey).getLukashianEpochMilliseconds(targetEpochMilliseconds, 0, length, targetEpochMilliseconds, 0);
+	}
+
+	/**
+	 * Returns new {@link Instant}s that represent the same points in time as the given non-null {@link Instant}s, on the given calendar instance. The
+	 * {@link Instant} at index i of the result is equal to the result of {@link Instant#toCalendar(int)} for the {@link Instant} at index i of the given array.
+	 * Consecutive results on the same day share the same {@link Day}.
+	 *
+	 * @throws LukashianException when the given {@link Instant}s are not all of the same calendar instance or when any of the results would not be supported by
+	 * the given calendar instance
+	 */
+	public static Instant[] toCalendar(Instant[] instants, int targetCalendarKey) {
+		int length = instants.length;
+		long[] epochMilliseconds = new long[length];
+		for (int i = 0; i < length; i++) {
+			instants[0].checkSameKeyAs(instants[i]);
+			epochMilliseconds[i] = instants[i].getEpochMilliseconds();
+		}
+		if (length == 0) {
+			return new Instant[0];
+		}
+
+		toCalendar(epochMilliseconds, epochMilliseconds, instants[0].getCalendarKey(), targetCalendarKey);
+		int[] epochDays = new int[length];
+		fromEpochMilliseconds(epochMilliseconds, epochDays, null, null, null, targetCalendarKey);
+
+		MillisecondStoreData data = data(targetCalendarKey);
+		Instant[] result = new Instant[length];
+		Day day = null;
+		for (int i = 0; i < length; i++) {
+			if (day == null || day.getEpochDay() != epochDays[i]) {
+				day = Day.ofEpoch(epochDays[i], data, targetCalendarKey);
+			}
+			result[i] = Instant.ofEpoch(epochMilliseconds[i], day);
+		}
+		return result;
+	}
+
+	/**
+	 * Converts the values of the given source array, starting at the given offset, or the values of the epoch milliseconds array when the source is null.
+	 */
+	private static void convert(long[] unixEpochMilliseconds, int offset, int length, long[] epochMilliseconds, int[] epochDays, int[] years, int[] dayNumbers, int[] beeps, int calendarKey) {
+		checkLength(epochMilliseconds, length);
+		checkLength(epochDays, length);
+		checkLength(years, length);
+		checkLength(dayNumbers, length);
+		checkLength(beeps, length);
+
+		ConversionTask task = new ConversionTask(data(calendarKey), calendarKey, unixEpochMilliseconds, offset, 0, length, epochMilliseconds, epochDays, years, dayNumbers, beeps);
+		if (length >= PARALLEL_THRESHOLD) {
+			ForkJoinPool.commonPool().invoke(task);
+		} else {
+			task.compute();
+		}
+	}
+
+	/**
+	 * Loads the {@link BulkEpochKernels} that use the Vector API when the jdk.incubator.vector module is enabled, or returns the {@link ScalarKernels}. The
+	 * vector kernels are loaded by name, since they can only be linked when that module is present.
+	 */
+	private static BulkEpochKernels loadKernels() {
+		if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+			try {
+				return (BulkEpochKernels) Class.forName("org.lukashian.VectorBulkEpochKernels").getDeclaredConstructor().newInstance();
+			} catch (ReflectiveOperationException | LinkageError e) {
+				//The vector kernels are not part of this build, so the scalar ones are used
+			}
+		}
+		return new ScalarKernels();
+	}
+
+	private static long min(long[] values, int start, int end) {
+		long min = Long.MAX_VALUE;
+		for (int i = start; i < end; i++) {
+			min = Math.min(min, values[i]);
+		}
+		return min;
+	}
+
+	private static int min(int[] values, int start, int end) {
+		int min = Integer.MAX_VALUE;
+		for (int i = start; i < end; i++) {
+			min = Math.min(min, values[i]);
+		}
+		return min;
+	}
+
+	private static int max(int[] values, int start, int end) {
+		int max = Integer.MIN_VALUE;
+		for (int i = start; i < end; i++) {
+			max = Math.max(max, values[i]);
+		}
+		return max;
+	}
+
+	private static void checkLength(long[] target, int length) {
+		check(target.length >= length, () -> "The array of epoch milliseconds is shorter than the array of milliseconds");
+	}
+
+	private static void checkLength(int[] target, int length) {
+		check(target == null || target.length >= length, () -> "A target array is shorter than the array of milliseconds");
+	}
+
+	/**
+	 * {@link BulkEpochKernels} that call {@link EpochMath} for each value.
+	 */
+	static final class ScalarKernels implements BulkEpochKernels {
+
+		@Override
+		public void getBeepsOnDay(long[] epochMilliseconds, int start, int end, long epochMillisecondsPreviousDay, long millisecondsOfDay, int[] beeps) {
+			for (int i = start; i < end; i++) {
+				beeps[i] = EpochMath.getBeepsOnDay(epochMilliseconds[i], epochMillisecondsPreviousDay, millisecondsOfDay);
+			}
+		}
+
+		@Override
+		public void getEpochMillisecondsOnDay(int[] beeps, int start, int end, long epochMillisecondsPreviousDay, long millisecondsOfDay, long[] epochMilliseconds) {
+			for (int i = start; i < end; i++) {
+				epochMilliseconds[i] = EpochMath.getEpochMillisecondsOnDay(epochMillisecondsPreviousDay, millisecondsOfDay, beeps[i]);
+			}
+		}
+	}
+
+	/**
+	 * Converts the values between start (inclusive) and end (exclusive), splitting the range in half until it is smaller than the parallel threshold.
+	 */
+	@SuppressWarnings("serial") //Never serialized, ForkJoinTask is only Serializable for the sake of remote execution frameworks
+	private static final class ConversionTask extends RecursiveAction {
+
+		private final MillisecondStoreData data;
+		private final int calendarKey;
+		private final long[] unixEpochMilliseconds;
+		private final int offset;
+		private final int start;
+		private final int end;
+		private final long[] epochMilliseconds;
+		private final int[] epochDays;
+		private final int[] years;
+		private final int[] dayNumbers;
+		private final int[] beeps;
+
+		private ConversionTask(MillisecondStoreData data, int calendarKey, long[] unixEpochMilliseconds, int offset, int start, int end, long[] epochMilliseconds, int[] epochDays, int[] years, int[] dayNumbers, int[] beeps) {
+			this.data = data;
+			this.calendarKey = calendarKey;
+			this.unixEpochMilliseconds = unixEpochMilliseconds;
+			this.offset = offset;
+			this.start = start;
+			this.end = end;
+			this.epochMilliseconds = epochMilliseconds;
+			this.epochDays = epochDays;
+			this.years = years;
+			this.dayNumbers = dayNumbers;
+			this.beeps = beeps;
+		}
+
+		@Override
+		protected void compute() {
+			if (end - start >= PARALLEL_THRESHOLD) {
+				int middle = (start + end) >>> 1;
+				invokeAll(this.split(start, middle), this.split(middle, end));
+			} else {
+				this.convertChunk();
+			}
+		}
+
+		private ConversionTask split(int start, int end) {
+			return new ConversionTask(data, calendarKey, unixEpochMilliseconds, offset, start, end, epochMilliseconds, epochDays, years, dayNumbers, beeps);
+		}
+
+		private void convertChunk() {
+			int length = end - start;
+			if (unixEpochMilliseconds != null) {
+				data.getLukashianEpochMilliseconds(unixEpochMilliseconds, offset + start, length, epochMilliseconds, start);
+			}
+			long min = min(epochMilliseconds, start, end);
+			check(min >= 1, () -> "Epoch millisecond " + min + " is before the start of the Lukashian Calendar");
+
+			if (years != null) {
+				data.getYearsForEpochMilliseconds(epochMilliseconds, start, length, years, start);
+			}
+			if (epochDays == null && dayNumbers == null && beeps == null) {
+				return;
+			}
+
+			int[] days = epochDays != null ? epochDays : new int[length];
+			int daysOffset = epochDays != null ? start : 0;
+			data.getEpochDaysForEpochMilliseconds(epochMilliseconds, start, length, days, daysOffset);
+			if (dayNumbers == null && beeps == null) {
+				return;
+			}
+
+			//Values are usually clustered, so they are processed in runs of values on the same day, for which the bounds of the day are only looked up once
+			int currentYear = 0;
+			int firstEpochDayOfCurrentYear = 0;
+
+			int runStart = start;
+			while (runStart < end) {
+				int epochDay = days[daysOffset + runStart - start];
+				int runEnd = runStart + 1;
+				while (runEnd < end && days[daysOffset + runEnd - start] == epochDay) {
+					runEnd++;
+				}
+
+				long epochMillisecondsPreviousDay = epochDay == 1 ? 0 : data.getEpochMillisecondsForEpochDay(epochDay - 1);
+				long millisecondsOfDay = data.getEpochMillisecondsForEpochDay(epochDay) - epochMillisecondsPreviousDay;
+
+				if (dayNumbers != null) {
+					int year = data.getYearForEpochMilliseconds(epochMillisecondsPreviousDay + 1);
+					if (year != currentYear) {
+						currentYear = year;
+						firstEpochDayOfCurrentYear = EpochMath.getFirstEpochDayOfYear(year, calendarKey);
+					}
+					Arrays.fill(dayNumbers, runStart, runEnd, (epochDay - firstEpochDayOfCurrentYear) + 1);
+				}
+				if (beeps != null) {
+					KERNELS.getBeepsOnDay(epochMilliseconds, runStart, runEnd, epochMillisecondsPreviousDay, millisecondsOfDay, beeps);
+				}
+				runStart = runEnd;
+			}
+		}
+	}
+}
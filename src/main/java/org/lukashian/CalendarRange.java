@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import java.util.Objects;
+
+import static org.lukashian.LukashianException.check;
+
+/**
+ * Common superclass of {@link InstantRange}, {@link DayRange} and {@link YearRange}. A {@link CalendarRange} runs from a start {@link CalendarObject} until
+ * an end {@link CalendarObject} of the same calendar instance, both inclusive. The range covers the milliseconds from the first millisecond of the start
+ * until the last millisecond of the end, which are calculated once, upon creation, so that comparing ranges does not involve any further calculations.
+ */
+public sealed abstract class CalendarRange<T extends CalendarObject> permits InstantRange, DayRange, YearRange {
+
+	private final T start;
+	private final T end;
+	private final long epochMillisecondsAtStart;
+	private final long epochMillisecondsAtEnd;
+
+	CalendarRange(T start, T end, long epochMillisecondsAtStart, long epochMillisecondsAtEnd) {
+		start.checkSameKeyAs(end);
+		check(epochMillisecondsAtStart <= epochMillisecondsAtEnd, () -> "The start of a range cannot be after its end");
+
+		this.start = start;
+		this.end = end;
+		this.epochMillisecondsAtStart = epochMillisecondsAtStart;
+		this.epochMillisecondsAtEnd = epochMillisecondsAtEnd;
+	}
+
+	/**
+	 * Returns whether this range contains the given non-null {@link Instant}.
+	 */
+	public boolean contains(Instant instant) {
+		this.checkSameKeyAs(instant);
+
+		return this.contains(instant.getEpochMilliseconds());
+	}
+
+	/**
+	 * Returns whether this range contains the given number of milliseconds since the start of its calendar instance.
+	 */
+	public boolean contains(long epochMilliseconds) {
+		return epochMillisecondsAtStart <= epochMilliseconds && epochMilliseconds <= epochMillisecondsAtEnd;
+	}
+
+	/**
+	 * Returns whether this range and the given non-null {@link CalendarRange} have at least one millisecond in common.
+	 */
+	public boolean overlaps(CalendarRange<?> other) {
+		this.checkSameKeyAs(other.start);
+
+		return epochMillisecondsAtStart <= other.epochMillisecondsAtEnd && other.epochMillisecondsAtStart <= epochMillisecondsAtEnd;
+	}
+
+	/**
+	 * Returns whether all milliseconds of the given non-null {@link CalendarRange} are part of this range.
+	 */
+	public boolean encloses(CalendarRange<?> other) {
+		this.checkSameKeyAs(other.start);
+
+		return epochMillisecondsAtStart <= other.epochMillisecondsAtStart && other.epochMillisecondsAtEnd <= epochMillisecondsAtEnd;
+	}
+
+	/**
+	 * Returns a new {@link InstantRange} that runs from the first {@link Instant} until the last {@link Instant} of this range.
+	 */
+	public InstantRange toInstantRange() {
+		return InstantRange.ofEpoch(epochMillisecondsAtStart, epochMillisecondsAtEnd, this.getCalendarKey());
+	}
+
+	/**
+	 * Returns the length of this range in milliseconds, including both its first and last millisecond.
+	 */
+	public long lengthInMilliseconds() {
+		return (epochMillisecondsAtEnd - epochMillisecondsAtStart) + 1;
+	}
+
+	/**
+	 * Gets the calendar key of this range.
+	 */
+	public int getCalendarKey() {
+		return start.getCalendarKey();
+	}
+
+	/**
+	 * Gets the start of this range.
+	 */
+	public T getStart() {
+		return start;
+	}
+
+	/**
+	 * Gets the end of this range.
+	 */
+	public T getEnd() {
+		return end;
+	}
+
+	/**
+	 * Gets the number of milliseconds from the start of the Lukashian Calendar until the first millisecond of this range.
+	 */
+	public long getEpochMillisecondsAtStart() {
+		return epochMillisecondsAtStart;
+	}
+
+	/**
+	 * Gets the number of milliseconds from the start of the Lukashian Calendar until the last millisecond of this range.
+	 */
+	public long getEpochMillisecondsAtEnd() {
+		return epochMillisecondsAtEnd;
+	}
+
+	/**
+	 * Checks whether this range has the same calendar key as the given {@link CalendarObject}.
+	 *
+	 * @throws LukashianException when this range has a different calendar key than the given CalendarObject
+	 */
+	public void checkSameKeyAs(CalendarObject other) {
+		start.checkSameKeyAs(other);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(this.getClass(), start, end);
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		return object != null &&
+			   object.getClass() == this.getClass() &&
+			   ((CalendarRange<?>) object).start.equals(start) &&
+			   ((CalendarRange<?>) object).end.equals(end);
+	}
+}
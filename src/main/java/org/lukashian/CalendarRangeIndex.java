@@ -0,0 +1,308 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+import static org.lukashian.LukashianException.check;
+
+/**
+ * Static index over a collection of {@link CalendarRange}s of the same calendar instance, which finds the ranges that contain a given {@link Instant} or that
+ * overlap with a given {@link CalendarRange} in O(log n + k) time, where n is the number of ranges in the index and k is the number of ranges that are found.
+ * The index is built once, in bulk, in O(n log n) time, and is not modified afterwards.
+ * <p>
+ * The index is a centered interval tree that is laid out in flat arrays of epoch milliseconds and indexes, so queries do not calculate any milliseconds of the
+ * ranges or create any objects, apart from the lists that are returned. Each node of the tree has a center, the ranges that contain that center, sorted both by
+ * their start and by their end, and subtrees with the ranges that end before and start after the center. Ranges that overlap with a given range either contain
+ * its start, or start within it, so overlap queries combine a query on the tree with a search in all ranges sorted by their start.
+ * <p>
+ * Ranges are identified by their index in the collection that the index was built from. The order in which ranges are found is not defined.
+ * <p>
+ * {@link CalendarRangeIndex} is an immutable object.
+ */
+public final class CalendarRangeIndex<R extends CalendarRange<?>> {
+
+	private final Object[] ranges;
+	private final long[] starts;
+	private final long[] ends;
+
+	private final int[] byStart; //All ranges, sorted by start
+	private final long[] sortedStarts;
+
+	private final int root;
+	private final long[] nodeCenters;
+	private final int[] nodeLefts;
+	private final int[] nodeRights;
+	private final int[] nodeOffsets;
+	private final int[] nodeLengths;
+	private final int[] nodeRangesByStart; //The ranges of each node, at the offset of the node, sorted by start
+	private final int[] nodeRangesByEnd; //The ranges of each node, at the offset of the node, sorted by end, descending
+	private int numberOfNodes;
+	private int numberOfNodeRanges;
+
+	private CalendarRangeIndex(Collection<? extends R> ranges) {
+		this.ranges = ranges.toArray();
+		int size = this.ranges.length;
+
+		starts = new long[size];
+		ends = new long[size];
+		for (int i = 0; i < size; i++) {
+			CalendarRange<?> range = (CalendarRange<?>) this.ranges[i];
+			((CalendarRange<?>) this.ranges[0]).checkSameKeyAs(range.getStart());
+			starts[i] = range.getEpochMillisecondsAtStart();
+			ends[i] = range.getEpochMillisecondsAtEnd();
+		}
+
+		byStart = new int[size];
+		for (int i = 0; i < size; i++) {
+			byStart[i] = i;
+		}
+		sortByKey(byStart, 0, size, starts, new int[size]);
+		sortedStarts = new long[size];
+		for (int i = 0; i < size; i++) {
+			sortedStarts[i] = starts[byStart[i]];
+		}
+
+		//Every node contains at least one range, so there are at most as many nodes as there are ranges
+		nodeCenters = new long[size];
+		nodeLefts = new int[size];
+		nodeRights = new int[size];
+		nodeOffsets = new int[size];
+		nodeLengths = new int[size];
+		nodeRangesByStart = new int[size];
+		nodeRangesByEnd = new int[size];
+
+		root = this.buildNode(byStart.clone(), 0, size, new int[size]);
+	}
+
+	/**
+	 * Builds the node for the given ranges between from (inclusive) and to (exclusive), which are sorted by start, and returns its number, or -1 if there are no
+	 * ranges. The center of the node is the start of the middle range, so that both subtrees get at most half of the ranges.
+	 */
+	private int buildNode(int[] subset, int from, int to, int[] scratch) {
+		if (from >= to) {
+			return -1;
+		}
+		long center = starts[subset[(from + to) >>> 1]];
+
+		int node = numberOfNodes++;
+		int offset = numberOfNodeRanges;
+		int numberOfLefts = 0;
+		int numberOfRights = 0;
+		for (int i = from; i < to; i++) {
+			int range = subset[i];
+			if (ends[range] < center) {
+				subset[from + numberOfLefts++] = range; //Never overtakes i, so this partitions in place while keeping the order
+			} else if (starts[range] > center) {
+				scratch[numberOfRights++] = range;
+			} else {
+				nodeRangesByStart[numberOfNodeRanges] = range;
+				nodeRangesByEnd[numberOfNodeRanges] = range;
+				numberOfNodeRanges++;
+			}
+		}
+		System.arraycopy(scratch, 0, subset, from + numberOfLefts, numberOfRights);
+
+		int length = numberOfNodeRanges - offset;
+		sortByKey(nodeRangesByEnd, offset, offset + length, ends, scratch);
+		for (int i = 0; i < length / 2; i++) { //Descending
+			int swap = nodeRangesByEnd[offset + i];
+			nodeRangesByEnd[offset + i] = nodeRangesByEnd[offset + length - 1 - i];
+			nodeRangesByEnd[offset + length - 1 - i] = swap;
+		}
+
+		nodeCenters[node] = center;
+		nodeOffsets[node] = offset;
+		nodeLengths[node] = length;
+		nodeLefts[node] = this.buildNode(subset, from, from + numberOfLefts, scratch);
+		nodeRights[node] = this.buildNode(subset, from + numberOfLefts, from + numberOfLefts + numberOfRights, scratch);
+		return node;
+	}
+
+	/**
+	 * Returns the number of ranges in this index.
+	 */
+	public int size() {
+		return ranges.length;
+	}
+
+	/**
+	 * Returns the range at the given index of the collection that this index was built from.
+	 */
+	@SuppressWarnings("unchecked")
+	public R get(int index) {
+		return (R) ranges[index];
+	}
+
+	/**
+	 * Returns the ranges that contain the given non-null {@link Instant}.
+	 *
+	 * @throws LukashianException when the given {@link Instant} is of a different calendar instance than the ranges in this index
+	 */
+	public List<R> containing(Instant instant) {
+		this.checkSameKeyAs(instant);
+
+		List<R> result = new ArrayList<>();
+		this.forEachContaining(instant.getEpochMilliseconds(), index -> result.add(this.get(index)));
+		return result;
+	}
+
+	/**
+	 * Returns the ranges that have at least one millisecond in common with the given non-null {@link CalendarRange}.
+	 *
+	 * @throws LukashianException when the given range is of a different calendar instance than the ranges in this index
+	 */
+	public List<R> overlapping(CalendarRange<?> range) {
+		this.checkSameKeyAs(range.getStart());
+
+		List<R> result = new ArrayList<>();
+		this.forEachOverlapping(range.getEpochMillisecondsAtStart(), range.getEpochMillisecondsAtEnd(), index -> result.add(this.get(index)));
+		return result;
+	}
+
+	/**
+	 * Passes the index of each range that contains the given number of milliseconds since the start of the calendar instance to the given action.
+	 */
+	public void forEachContaining(long epochMilliseconds, IntConsumer action) {
+		int node = root;
+		while (node >= 0) {
+			int offset = nodeOffsets[node];
+			int end = offset + nodeLengths[node];
+
+			if (epochMilliseconds < nodeCenters[node]) { //Ranges of the node end at or after the center, so only their start matters
+				for (int i = offset; i < end && starts[nodeRangesByStart[i]] <= epochMilliseconds; i++) {
+					action.accept(nodeRangesByStart[i]);
+				}
+				node = nodeLefts[node];
+			} else if (epochMilliseconds > nodeCenters[node]) { //Ranges of the node start at or before the center, so only their end matters
+				for (int i = offset; i < end && ends[nodeRangesByEnd[i]] >= epochMilliseconds; i++) {
+					action.accept(nodeRangesByEnd[i]);
+				}
+				node = nodeRights[node];
+			} else {
+				for (int i = offset; i < end; i++) {
+					action.accept(nodeRangesByStart[i]);
+				}
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Passes the index of each range that has at least one millisecond in common with the given milliseconds since the start of the calendar instance, both
+	 * inclusive, to the given action.
+	 */
+	public void forEachOverlapping(long epochMillisecondsAtStart, long epochMillisecondsAtEnd, IntConsumer action) {
+		if (epochMillisecondsAtStart > epochMillisecondsAtEnd) {
+			return;
+		}
+		this.forEachContaining(epochMillisecondsAtStart, action);
+
+		//The remaining overlapping ranges are the ones that start after the given start, but not after the given end
+		int low = 0;
+		int high = sortedStarts.length;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (sortedStarts[middle] <= epochMillisecondsAtStart) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		for (int i = low; i < sortedStarts.length && sortedStarts[i] <= epochMillisecondsAtEnd; i++) {
+			action.accept(byStart[i]);
+		}
+	}
+
+	private void checkSameKeyAs(CalendarObject other) {
+		if (ranges.length > 0) {
+			((CalendarRange<?>) ranges[0]).checkSameKeyAs(other);
+		}
+	}
+
+	/**
+	 * Creates a new {@link CalendarRangeIndex} over the given non-null ranges, which may contain duplicates.
+	 *
+	 * @throws LukashianException when the given ranges are not all of the same calendar instance
+	 */
+	public static <R extends CalendarRange<?>> CalendarRangeIndex<R> of(Collection<? extends R> ranges) {
+		return new CalendarRangeIndex<>(ranges);
+	}
+
+	/**
+	 * Sorts the given indexes between from (inclusive) and to (exclusive) by the values at those indexes in the given keys, using a stable merge sort.
+	 */
+	private static void sortByKey(int[] indexes, int from, int to, long[] keys, int[] scratch) {
+		if (to - from < 2) {
+			return;
+		}
+		int middle = (from + to) >>> 1;
+		sortByKey(indexes, from, middle, keys, scratch);
+		sortByKey(indexes, middle, to, keys, scratch);
+		if (keys[indexes[middle - 1]] <= keys[indexes[middle]]) {
+			return; //Already in order
+		}
+
+		System.arraycopy(indexes, from, scratch, from, to - from);
+		int left = from;
+		int right = middle;
+		for (int i = from; i < to; i++) {
+			if (right >= to || (left < middle && keys[scratch[left]] <= keys[scratch[right]])) {
+				indexes[i] = scratch[left++];
+			} else {
+				indexes[i] = scratch[right++];
+			}
+		}
+	}
+}
@@ -0,0 +1,387 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import org.lukashian.Formatter.DayFormat;
+import org.lukashian.store.MillisecondStoreData;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.RecursiveTask;
+
+import static org.lukashian.LukashianException.check;
+import static org.lukashian.store.MillisecondStore.data;
+import static org.lukashian.store.MillisecondStore.defaultCalendarKey;
+
+/**
+ * An immutable, thread-safe formatter for columns of epoch milliseconds or {@link Instant}s, that writes each of them in the same way as
+ * {@link Formatter#format(Instant, DayFormat, String)}, followed by a delimiter, into a single array of ASCII bytes.
+ * <p>
+ * Rows that are on the same day share the same text up to the beeps, so the formatter renders that text once per day and keeps it in a small cache of the
+ * most recently used days, after which only the beeps are rendered for each row. Sorted input therefore renders each day once, while input in random order
+ * still benefits when it is clustered around a few days. Columns of at least {@link BulkEpochMath#PARALLEL_THRESHOLD} values are split into parts that are
+ * rendered in parallel in the common {@link java.util.concurrent.ForkJoinPool}, after which the parts are joined.
+ */
+public final class ColumnFormatter {
+
+	private static final int CHUNK_SIZE = 4096;
+	private static final int CACHE_SIZE = 16;
+
+	private final DayFormat dayFormat;
+	private final String daySeparator;
+	private final byte delimiter;
+	private final int calendarKey;
+	private final MillisecondStoreData data;
+
+	private ColumnFormatter(DayFormat dayFormat, String daySeparator, byte delimiter, int calendarKey) {
+		check(daySeparator.chars().allMatch(c -> c < 0x80), () -> "Only ASCII separators can be written as bytes");
+
+		this.dayFormat = Objects.requireNonNull(dayFormat);
+		this.daySeparator = daySeparator;
+		this.delimiter = delimiter;
+		this.calendarKey = calendarKey;
+		this.data = data(calendarKey);
+	}
+
+	/**
+	 * Returns a new {@link ColumnFormatter} that is the same as this formatter, but that writes the given delimiter after each row, rather than a line feed.
+	 *
+	 * @throws LukashianException when the given delimiter is not an ASCII character
+	 */
+	public ColumnFormatter withDelimiter(char delimiter) {
+		check(delimiter < 0x80, () -> "Only ASCII delimiters can be written as bytes");
+
+		return new ColumnFormatter(dayFormat, daySeparator, (byte) delimiter, calendarKey);
+	}
+
+	/**
+	 * Formats the given number of epoch milliseconds in the given array, starting at the given offset, into ASCII bytes, with each row followed by the
+	 * delimiter. The epoch milliseconds don't need to be sorted, but sorted epoch milliseconds are formatted faster.
+	 *
+	 * @throws LukashianException when any of the epoch milliseconds is not supported by the calendar instance of this formatter
+	 * @throws IndexOutOfBoundsException when the given range is not within the given array
+	 */
+	public byte[] format(long[] epochMilliseconds, int offset, int length) {
+		Objects.checkFromIndexSize(offset, length, epochMilliseconds.length);
+
+		return this.format(length, (start, end, output) -> this.renderEpochMilliseconds(epochMilliseconds, offset + start, offset + end, output));
+	}
+
+	/**
+	 * Formats all epoch milliseconds in the given array, see {@link #format(long[], int, int)}.
+	 *
+	 * @throws LukashianException when any of the epoch milliseconds is not supported by the calendar instance of this formatter
+	 */
+	public byte[] format(long[] epochMilliseconds) {
+		return this.format(epochMilliseconds, 0, epochMilliseconds.length);
+	}
+
+	/**
+	 * Formats the given number of epoch milliseconds in the given array, starting at the given offset, into the given {@link ByteBuffer}, at its current
+	 * position, after which the position is advanced by the number of written bytes, see {@link #format(long[], int, int)}. Since the length of the rows is
+	 * only known once they are rendered, they are rendered into arrays first, which are copied into the {@link ByteBuffer} once all of them fit.
+	 *
+	 * @throws LukashianException when any of the epoch milliseconds is not supported by the calendar instance of this formatter
+	 * @throws BufferOverflowException when the given {@link ByteBuffer} does not have enough bytes remaining, in which case nothing is written
+	 * @throws IndexOutOfBoundsException when the given range is not within the given array
+	 */
+	public void format(long[] epochMilliseconds, int offset, int length, ByteBuffer target) {
+		Objects.checkFromIndexSize(offset, length, epochMilliseconds.length);
+
+		List<Output> outputs = this.render(length, (start, end, output) -> this.renderEpochMilliseconds(epochMilliseconds, offset + start, offset + end, output));
+		if (target.remaining() < getSize(outputs)) {
+			throw new BufferOverflowException();
+		}
+		for (Output output : outputs) {
+			target.put(output.bytes, 0, output.size);
+		}
+	}
+
+	/**
+	 * Formats the given {@link Instant}s into ASCII bytes, with each row followed by the delimiter. The beeps of each {@link Instant} follow from its
+	 * proportion of the day, as with {@link Formatter#format(Instant)}.
+	 *
+	 * @throws LukashianException when any of the given {@link Instant}s is of a different calendar instance than this formatter
+	 */
+	public byte[] format(List<Instant> instants) {
+		return this.format(instants.size(), (start, end, output) -> this.renderInstants(instants, start, end, output));
+	}
+
+	private byte[] format(int length, Renderer renderer) {
+		List<Output> outputs = this.render(length, renderer);
+		if (outputs.size() == 1) {
+			return outputs.get(0).toByteArray();
+		}
+
+		long size = getSize(outputs);
+		check(size <= Integer.MAX_VALUE - 8, () -> "The formatted column does not fit in an array");
+
+		byte[] result = new byte[(int) size];
+		int position = 0;
+		for (Output output : outputs) {
+			System.arraycopy(output.bytes, 0, result, position, output.size);
+			position += output.size;
+		}
+		return result;
+	}
+
+	/**
+	 * Renders the given number of rows into a single {@link Output}, or into an {@link Output} per part of the column, in order, when the parts are rendered in
+	 * parallel.
+	 */
+	private List<Output> render(int length, Renderer renderer) {
+		if (length < BulkEpochMath.PARALLEL_THRESHOLD) {
+			Output output = new Output(length);
+			renderer.render(0, length, output);
+			return List.of(output);
+		}
+
+		List<RenderTask> tasks = new ArrayList<>();
+		for (int start = 0; start < length; start += BulkEpochMath.PARALLEL_THRESHOLD) {
+			RenderTask task = new RenderTask(renderer, start, Math.min(length, start + BulkEpochMath.PARALLEL_THRESHOLD));
+			task.fork();
+			tasks.add(task);
+		}
+
+		List<Output> outputs = new ArrayList<>(tasks.size());
+		for (RenderTask task : tasks) {
+			outputs.add(task.join());
+		}
+		return outputs;
+	}
+
+	private static long getSize(List<Output> outputs) {
+		long size = 0;
+		for (Output output : outputs) {
+			size += output.size;
+		}
+		return size;
+	}
+
+	/**
+	 * Renders the epoch milliseconds between start (inclusive) and end (exclusive), looking up their epoch days in chunks.
+	 */
+	private void renderEpochMilliseconds(long[] epochMilliseconds, int start, int end, Output output) {
+		DayCache cache = new DayCache();
+		int[] epochDays = new int[Math.min(CHUNK_SIZE, end - start)];
+
+		for (int chunkStart = start; chunkStart < end; chunkStart += CHUNK_SIZE) {
+			int length = Math.min(CHUNK_SIZE, end - chunkStart);
+			for (int i = chunkStart; i < chunkStart + length; i++) {
+				long value = epochMilliseconds[i];
+				check(data.isSupportedEpochMilliseconds(value), () -> "Epoch millisecond " + value + " is not supported by this Lukashian Calendar instance");
+			}
+			data.getEpochDaysForEpochMilliseconds(epochMilliseconds, chunkStart, length, epochDays, 0);
+
+			for (int i = 0; i < length; i++) {
+				int entry = cache.get(epochDays[i]);
+				int beeps = EpochMath.getBeepsOnDay(epochMilliseconds[chunkStart + i], cache.epochMillisecondsPreviousDay[entry], cache.millisecondsOfDay[entry]);
+				output.write(cache.prefixes[entry], beeps, delimiter);
+			}
+		}
+	}
+
+	private void renderInstants(List<Instant> instants, int start, int end, Output output) {
+		DayCache cache = new DayCache();
+		for (Instant instant : instants.subList(start, end)) {
+			check(instant.getCalendarKey() == calendarKey, () -> "Calendar keys of CalendarObjects do not match");
+
+			output.write(cache.prefixes[cache.get(instant.getDay().getEpochDay())], instant.getBeeps(), delimiter);
+		}
+	}
+
+	/**
+	 * Creates a new {@link ColumnFormatter} that formats in the same way as {@link Formatter#format(Instant, DayFormat, String)}, for the given calendar
+	 * instance, with a line feed after each row.
+	 *
+	 * @throws LukashianException when the given separator contains characters that are not ASCII
+	 */
+	public static ColumnFormatter of(DayFormat dayFormat, String daySeparator, int calendarKey) {
+		return new ColumnFormatter(dayFormat, daySeparator, (byte) '\n', calendarKey);
+	}
+
+	/**
+	 * Creates a new {@link ColumnFormatter} that formats in the same way as {@link Formatter#format(Instant, DayFormat, String)}, for the default calendar
+	 * instance, with a line feed after each row.
+	 *
+	 * @throws LukashianException when the given separator contains characters that are not ASCII
+	 */
+	public static ColumnFormatter of(DayFormat dayFormat, String daySeparator) {
+		return ColumnFormatter.of(dayFormat, daySeparator, defaultCalendarKey());
+	}
+
+	/**
+	 * Creates a new {@link ColumnFormatter} that formats in the same way as {@link Formatter#format(Instant)}, for the default calendar instance, with a line
+	 * feed after each row.
+	 */
+	public static ColumnFormatter of() {
+		return ColumnFormatter.of(DayFormat.YEAR_FIRST, "-");
+	}
+
+	@FunctionalInterface
+	private interface Renderer {
+
+		void render(int start, int end, Output output);
+	}
+
+	/**
+	 * The rendered text of the most recently used days, up to and including the space before the beeps, together with the bounds of those days. Entries are
+	 * kept in order of use, so that the day of the previous row is always found first. Each part of a column has its own cache.
+	 */
+	private final class DayCache {
+
+		private final int[] epochDays = new int[CACHE_SIZE]; //0 for an empty entry, since epoch days start at 1
+		private final byte[][] prefixes = new byte[CACHE_SIZE][];
+		private final long[] epochMillisecondsPreviousDay = new long[CACHE_SIZE];
+		private final long[] millisecondsOfDay = new long[CACHE_SIZE];
+
+		/**
+		 * Returns the index of the entry of the given epoch day, which is 0, rendering it if it isn't cached yet.
+		 */
+		private int get(int epochDay) {
+			if (epochDays[0] == epochDay) {
+				return 0;
+			}
+
+			int index = 1;
+			while (index < CACHE_SIZE - 1 && epochDays[index] != epochDay && epochDays[index] != 0) {
+				index++;
+			}
+			if (epochDays[index] != epochDay) { //Not cached, so replace the least recently used entry, or fill the first empty one
+				byte[] buffer = new byte[24 + daySeparator.length()];
+				int end = Formatter.format(Day.ofEpoch(epochDay, calendarKey), dayFormat, daySeparator, buffer, 0);
+				buffer[end] = ' ';
+
+				epochDays[index] = epochDay;
+				prefixes[index] = Arrays.copyOf(buffer, end + 1);
+				epochMillisecondsPreviousDay[index] = epochDay == 1 ? 0 : data.getEpochMillisecondsForEpochDay(epochDay - 1);
+				millisecondsOfDay[index] = data.getEpochMillisecondsForEpochDay(epochDay) - epochMillisecondsPreviousDay[index];
+			}
+			this.moveToFront(index);
+			return 0;
+		}
+
+		private void moveToFront(int index) {
+			int epochDay = epochDays[index];
+			byte[] prefix = prefixes[index];
+			long previousDay = epochMillisecondsPreviousDay[index];
+			long length = millisecondsOfDay[index];
+
+			System.arraycopy(epochDays, 0, epochDays, 1, index);
+			System.arraycopy(prefixes, 0, prefixes, 1, index);
+			System.arraycopy(epochMillisecondsPreviousDay, 0, epochMillisecondsPreviousDay, 1, index);
+			System.arraycopy(millisecondsOfDay, 0, millisecondsOfDay, 1, index);
+
+			epochDays[0] = epochDay;
+			prefixes[0] = prefix;
+			epochMillisecondsPreviousDay[0] = previousDay;
+			millisecondsOfDay[0] = length;
+		}
+	}
+
+	/**
+	 * A growing array of bytes that rows are rendered into.
+	 */
+	private static final class Output {
+
+		private byte[] bytes;
+		private int size;
+
+		private Output(int numberOfRows) {
+			this.bytes = new byte[(int) Math.min(Integer.MAX_VALUE - 8, Math.max(16L, numberOfRows * 16L))];
+		}
+
+		private void write(byte[] prefix, int beeps, byte delimiter) {
+			int length = prefix.length + 5;
+			if (size + length > bytes.length) {
+				check(size + (long) length <= Integer.MAX_VALUE - 8, () -> "The formatted column does not fit in an array");
+				bytes = Arrays.copyOf(bytes, (int) Math.min(Integer.MAX_VALUE - 8, Math.max(size + (long) length, bytes.length * 2L)));
+			}
+
+			System.arraycopy(prefix, 0, bytes, size, prefix.length);
+			int position = Formatter.putBeeps(beeps, bytes, size + prefix.length);
+			bytes[position] = delimiter;
+			size += length;
+		}
+
+		private byte[] toByteArray() {
+			return bytes.length == size ? bytes : Arrays.copyOf(bytes, size);
+		}
+	}
+
+	/**
+	 * Renders the rows between start (inclusive) and end (exclusive) into a new {@link Output}.
+	 */
+	@SuppressWarnings("serial") //Never serialized, ForkJoinTask is only Serializable for the sake of remote execution frameworks
+	private static final class RenderTask extends RecursiveTask<Output> {
+
+		private final Renderer renderer;
+		private final int start;
+		private final int end;
+
+		private RenderTask(Renderer renderer, int start, int end) {
+			this.renderer = renderer;
+			this.start = start;
+			this.end = end;
+		}
+
+		@Override
+		protected Output compute() {
+			Output output = new Output(end - start);
+			renderer.render(start, end, output);
+			return output;
+		}
+	}
+}
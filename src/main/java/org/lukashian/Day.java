@@ -53,9 +53,17 @@ package org.lukashian;
 import org.apache.commons.numbers.fraction.BigFraction;
 import org.lukashian.store.CalendarKeys;
 import org.lukashian.store.MillisecondStore;
+import org.lukashian.store.MillisecondStoreData;
 
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serial;
 import java.io.Serializable;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static org.lukashian.Instant.BEEPS_PER_DAY;
 import static org.lukashian.LukashianException.check;
@@ -105,6 +113,14 @@ public final class Day extends CalendarObject implements Comparable<Day>, Serial
 		this.epochMillisecondsPreviousDay = epochDay == 1 ? 0 : data(calendarKey).getEpochMillisecondsForEpochDay(epochDay - 1);
 	}
 
+	private Day(int epochDay, long epochMillisecondsPreviousDay, long epochMilliseconds, int calendarKey) {
+		super(calendarKey);
+
+		this.epochDay = epochDay;
+		this.epochMilliseconds = epochMilliseconds;
+		this.epochMillisecondsPreviousDay = epochMillisecondsPreviousDay;
+	}
+
 	/**
 	 * Returns a new {@link Day} that represents this day's number on this day's year minus the given amount of years, for example,
 	 * if this day represents day number 10 of its year, then calling this method will return an day that represents day number 10 of the
@@ -155,14 +171,39 @@ public final class Day extends CalendarObject implements Comparable<Day>, Serial
 	 * @throws LukashianException when the result would be before the start of the Lukashian Calendar
 	 */
 	public Day previous() {
-		return this.minusDays(1);
+		check(epochDay > 1, () -> (epochDay - 1) + " is not a valid epoch day, the minimum is 1");
+
+		long epochMillisecondsPreviousDay = epochDay == 2 ? 0 : data(calendarKey).getEpochMillisecondsForEpochDay(epochDay - 2);
+		return new Day(epochDay - 1, epochMillisecondsPreviousDay, this.epochMillisecondsPreviousDay, calendarKey); //The bounds of this day are reused
 	}
 
 	/**
 	 * Returns a new {@link Day} that represents the day succeeding this day.
 	 */
 	public Day next() {
-		return this.plusDays(1);
+		int nextEpochDay = Math.addExact(epochDay, 1);
+		return new Day(nextEpochDay, epochMilliseconds, data(calendarKey).getEpochMillisecondsForEpochDay(nextEpochDay), calendarKey); //The bounds of this day are reused
+	}
+
+	/**
+	 * Returns an ordered {@link Stream} of the days from this day until the given non-null {@link Day}, both inclusive. The {@link Stream} is empty if the
+	 * given day is before this day. It is backed by a sized {@link Spliterator} that splits the range of days evenly, so that it can be processed in parallel.
+	 */
+	public Stream<Day> rangeTo(Day endInclusive) {
+		this.checkSameKeyAs(endInclusive);
+
+		return range(epochDay, endInclusive.epochDay, calendarKey);
+	}
+
+	/**
+	 * Returns an ordered {@link Stream} of the days from the first until the last given epoch day, both inclusive, of the given calendar instance. The bounds of
+	 * each day are looked up directly in the {@link MillisecondStoreData} of the calendar instance.
+	 */
+	static Stream<Day> range(int firstEpochDay, int lastEpochDay, int calendarKey) {
+		MillisecondStoreData data = data(calendarKey);
+
+		IndexSpliterator<Day> spliterator = new IndexSpliterator<>(firstEpochDay, lastEpochDay + 1L, Spliterator.DISTINCT | Spliterator.SORTED, epochDay -> Day.ofEpoch((int) epochDay, data, calendarKey));
+		return StreamSupport.stream(spliterator, false);
 	}
 
 	/**
@@ -324,8 +365,7 @@ public final class Day extends CalendarObject implements Comparable<Day>, Serial
 	 * Returns the integer value of this {@link Day}, i.e. which day of the year this is.
 	 */
 	public int getDayNumber() {
-		int firstEpochDayOfYear = getFirstDayOfYearInEpochForm(this.getYear());
-		return (epochDay - firstEpochDayOfYear) + 1;
+		return EpochMath.getDayNumber(epochDay, calendarKey);
 	}
 
 	/**
@@ -359,6 +399,15 @@ public final class Day extends CalendarObject implements Comparable<Day>, Serial
 		return new Day(epochDay, calendarKey);
 	}
 
+	/**
+	 * Creates a new {@link Day} representing the given epoch day, which needs to be 1 or higher, of the given calendar instance, of which the given
+	 * {@link MillisecondStoreData} is the data. This avoids looking up the data for each day when many days are created at once.
+	 */
+	static Day ofEpoch(int epochDay, MillisecondStoreData data, int calendarKey) {
+		long epochMillisecondsPreviousDay = epochDay == 1 ? 0 : data.getEpochMillisecondsForEpochDay(epochDay - 1);
+		return new Day(epochDay, epochMillisecondsPreviousDay, data.getEpochMillisecondsForEpochDay(epochDay), calendarKey);
+	}
+
 	/**
 	 * Creates a new {@link Day} representing the given epoch day of the default calendar instance, i.e. the number of the day since the start of the calendar,
 	 * irrespective of the year that the day is in, e.g. 'day 5000 since the epoch'.
@@ -380,7 +429,7 @@ public final class Day extends CalendarObject implements Comparable<Day>, Serial
 		check(day >= 1, () -> day + " is not a valid day, the minimum is 1");
 		check(day <= year.getNumberOfDays(), () -> day + " is not a valid day in year " + year.getYearNumber());
 
-		int firstEpochDayOfYear = getFirstDayOfYearInEpochForm(year);
+		int firstEpochDayOfYear = EpochMath.getFirstEpochDayOfYear(year.getYearNumber(), year.getCalendarKey());
 		return Day.ofEpoch((firstEpochDayOfYear + day) - 1, year.getCalendarKey());
 	}
 
@@ -405,6 +454,56 @@ public final class Day extends CalendarObject implements Comparable<Day>, Serial
 		return Day.of(year, day, defaultCalendarKey());
 	}
 
+	/**
+	 * Returns the {@link Day} representing the given epoch day of the given calendar instance, or an empty {@link Optional} when the given epoch day is 0 or
+	 * lower or not supported by the given calendar instance. Unlike {@link #ofEpoch(int, int)}, this method does not throw an exception for such epoch days.
+	 *
+	 * @see CalendarKeys
+	 * @see MillisecondStore
+	 * @throws LukashianException when the given calendar instance is not registered
+	 */
+	public static Optional<Day> tryOfEpoch(int epochDay, int calendarKey) {
+		return data(calendarKey).isSupportedEpochDay(epochDay) ? Optional.of(Day.ofEpoch(epochDay, calendarKey)) : Optional.empty();
+	}
+
+	/**
+	 * Returns the {@link Day} representing the given epoch day of the default calendar instance, or an empty {@link Optional} when the given epoch day is 0 or
+	 * lower or not supported by the default calendar instance. Unlike {@link #ofEpoch(int)}, this method does not throw an exception for such epoch days.
+	 *
+	 * @see MillisecondStore
+	 */
+	public static Optional<Day> tryOfEpoch(int epochDay) {
+		return Day.tryOfEpoch(epochDay, defaultCalendarKey());
+	}
+
+	/**
+	 * Returns the {@link Day} representing the given day in the given year of the given calendar instance, or an empty {@link Optional} in all situations
+	 * in which {@link #of(int, int, int)} would throw a {@link LukashianException}, for example when the given day does not exist for the given year.
+	 *
+	 * @see CalendarKeys
+	 * @see MillisecondStore
+	 * @throws LukashianException when the given calendar instance is not registered
+	 */
+	public static Optional<Day> tryOf(int year, int day, int calendarKey) {
+		MillisecondStoreData data = data(calendarKey);
+
+		boolean supportedYear = data.isSupportedYear(year) && data.isSupportedEpochMilliseconds(data.getEpochMillisecondsForYear(year)); //All days of the year need to be known
+		if (!supportedYear || day < 1 || day > EpochMath.getNumberOfDays(year, calendarKey)) {
+			return Optional.empty();
+		}
+		return Optional.of(Day.ofEpoch((EpochMath.getFirstEpochDayOfYear(year, calendarKey) + day) - 1, calendarKey));
+	}
+
+	/**
+	 * Returns the {@link Day} representing the given day in the given year of the default calendar instance, or an empty {@link Optional} in all situations
+	 * in which {@link #of(int, int)} would throw a {@link LukashianException}, for example when the given day does not exist for the given year.
+	 *
+	 * @see MillisecondStore
+	 */
+	public static Optional<Day> tryOf(int year, int day) {
+		return Day.tryOf(year, day, defaultCalendarKey());
+	}
+
 	/**
 	 * Returns the current {@link Day} of the given calendar instance.
 	 *
@@ -416,6 +515,13 @@ public final class Day extends CalendarObject implements Comparable<Day>, Serial
 		return Day.ofEpoch(data(calendarKey).getEpochDayForEpochMilliseconds(data(calendarKey).getCurrentEpochMilliseconds()), calendarKey);
 	}
 
+	/**
+	 * Returns the current {@link Day} according to the given {@link LukashianClock}.
+	 */
+	public static Day now(LukashianClock clock) {
+		return clock.currentDay();
+	}
+
 	/**
 	 * Returns the current {@link Day} of the default calendar instance.
 	 *
@@ -447,16 +553,16 @@ public final class Day extends CalendarObject implements Comparable<Day>, Serial
 		return "[Day: " + Formatter.format(this) + "]";
 	}
 
-	private static int getFirstDayOfYearInEpochForm(Year year) {
-		long epochMillisecondsAtStartOfYear = year.getEpochMillisecondsAtStartOfYear();
-		int runningEpochDayAtStartOfYear = data(year.getCalendarKey()).getEpochDayForEpochMilliseconds(epochMillisecondsAtStartOfYear);
-
-		long epochMillisecondsAtStartOfRunningDay = runningEpochDayAtStartOfYear == 1 ? 1 :
-			data(year.getCalendarKey()).getEpochMillisecondsForEpochDay(runningEpochDayAtStartOfYear - 1) + 1;
+	/**
+	 * Replaces this {@link Day} by its compact serialized form, see {@link SerializationProxy}.
+	 */
+	@Serial
+	private Object writeReplace() {
+		return new SerializationProxy(this);
+	}
 
-		if (epochMillisecondsAtStartOfRunningDay < epochMillisecondsAtStartOfYear) { //Present day at start of year started in previous year
-			return runningEpochDayAtStartOfYear + 1;
-		}
-		return runningEpochDayAtStartOfYear;
+	@Serial
+	private void readObject(ObjectInputStream stream) throws InvalidObjectException {
+		throw new InvalidObjectException("A Day can only be deserialized via its serialization proxy");
 	}
 }
@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import org.lukashian.store.CalendarKeys;
+import org.lukashian.store.MillisecondStore;
+import org.lukashian.store.MillisecondStoreData;
+
+import java.util.Arrays;
+
+import static org.lukashian.LukashianException.check;
+import static org.lukashian.store.MillisecondStore.data;
+
+/**
+ * Maps a range of days of one calendar instance onto the days of another calendar instance that they overlap with, for example, a range of days on Earth
+ * onto the sols on Mars that they overlap with. Each overlap is a pair of an epoch day of the source calendar instance and an epoch day of the target
+ * calendar instance, with the number of milliseconds during which both days are running. The overlaps are ordered by source epoch day and then by target
+ * epoch day.
+ * <p>
+ * The overlaps are calculated with a single sweep over the days of both calendar instances, which takes time proportional to the number of overlaps. Since
+ * the days of all calendar instances are defined on the same continuous timeline, with leap seconds only playing a role in the conversion to and from UNIX
+ * time, the overlaps are not affected by leap seconds. Parts of the range that fall outside the days that are supported by the target calendar instance do not
+ * result in overlaps.
+ * <p>
+ * {@link DayOverlaps} is an immutable object.
+ *
+ * @see CalendarKeys
+ * @see MillisecondStore
+ */
+public final class DayOverlaps {
+
+	private final int calendarKey;
+	private final int targetCalendarKey;
+	private final int[] epochDays;
+	private final int[] targetEpochDays;
+	private final long[] overlapMilliseconds;
+
+	private DayOverlaps(int calendarKey, int targetCalendarKey, int[] epochDays, int[] targetEpochDays, long[] overlapMilliseconds) {
+		this.calendarKey = calendarKey;
+		this.targetCalendarKey = targetCalendarKey;
+		this.epochDays = epochDays;
+		this.targetEpochDays = targetEpochDays;
+		this.overlapMilliseconds = overlapMilliseconds;
+	}
+
+	/**
+	 * Returns the number of overlaps.
+	 */
+	public int size() {
+		return epochDays.length;
+	}
+
+	/**
+	 * Returns the key of the calendar instance of the range of days that was mapped.
+	 */
+	public int getCalendarKey() {
+		return calendarKey;
+	}
+
+	/**
+	 * Returns the key of the calendar instance that the range of days was mapped onto.
+	 */
+	public int getTargetCalendarKey() {
+		return targetCalendarKey;
+	}
+
+	/**
+	 * Returns the epoch day of the source calendar instance of the overlap at the given index.
+	 */
+	public int getEpochDay(int index) {
+		return epochDays[index];
+	}
+
+	/**
+	 * Returns the epoch day of the target calendar instance of the overlap at the given index.
+	 */
+	public int getTargetEpochDay(int index) {
+		return targetEpochDays[index];
+	}
+
+	/**
+	 * Returns the number of milliseconds during which both days of the overlap at the given index are running.
+	 */
+	public long getOverlapMilliseconds(int index) {
+		return overlapMilliseconds[index];
+	}
+
+	/**
+	 * Returns a new {@link Day} that represents the day of the source calendar instance of the overlap at the given index.
+	 */
+	public Day getDay(int index) {
+		return Day.ofEpoch(epochDays[index], calendarKey);
+	}
+
+	/**
+	 * Returns a new {@link Day} that represents the day of the target calendar instance of the overlap at the given index.
+	 */
+	public Day getTargetDay(int index) {
+		return Day.ofEpoch(targetEpochDays[index], targetCalendarKey);
+	}
+
+	/**
+	 * Maps the days from the first until the last given non-null {@link Day}, both inclusive, onto the days of the given calendar instance that they overlap with.
+	 *
+	 * @throws LukashianException when the given days are not of the same calendar instance or when the given calendar instance is not registered
+	 */
+	public static DayOverlaps of(Day first, Day last, int targetCalendarKey) {
+		first.checkSameKeyAs(last);
+
+		return DayOverlaps.ofEpochDays(first.getEpochDay(), last.getEpochDay(), first.getCalendarKey(), targetCalendarKey);
+	}
+
+	/**
+	 * Maps the given epoch days of the given calendar instance, from the first until the last, both inclusive, onto the days of the given target calendar
+	 * instance that they overlap with.
+	 *
+	 * @throws LukashianException when the first epoch day is 0 or lower, when the last epoch day is not supported by the given calendar instance or when either
+	 * of the calendar instances is not registered
+	 */
+	public static DayOverlaps ofEpochDays(int firstEpochDay, int lastEpochDay, int calendarKey, int targetCalendarKey) {
+		check(firstEpochDay >= 1, () -> firstEpochDay + " is not a valid epoch day, the minimum is 1");
+
+		MillisecondStoreData data = data(calendarKey);
+		MillisecondStoreData targetData = data(targetCalendarKey);
+		if (lastEpochDay < firstEpochDay) {
+			return new DayOverlaps(calendarKey, targetCalendarKey, new int[0], new int[0], new long[0]);
+		}
+		long endOfRange = data.getEpochMillisecondsForEpochDay(lastEpochDay);
+
+		//Both conversions add the same number of leap seconds, so this is the fixed distance between the epochs of the two calendar instances
+		long shift = targetData.getLukashianEpochMilliseconds(0) - data.getLukashianEpochMilliseconds(0);
+
+		int capacity = (lastEpochDay - firstEpochDay) + 2;
+		int[] epochDays = new int[capacity];
+		int[] targetEpochDays = new int[capacity];
+		long[] overlapMilliseconds = new long[capacity];
+		int size = 0;
+
+		//Days are treated as (end of previous day, end of day], in the milliseconds of the target calendar instance
+		long startOfRange = Math.max(0, previousEnd(data, firstEpochDay) + shift);
+		if (startOfRange < endOfRange + shift && targetData.isSupportedEpochMilliseconds(startOfRange + 1)) {
+			int epochDay = firstEpochDay;
+			int targetEpochDay = targetData.getEpochDayForEpochMilliseconds(startOfRange + 1);
+
+			while (epochDay <= lastEpochDay && targetData.isSupportedEpochDay(targetEpochDay)) {
+				long end = data.getEpochMillisecondsForEpochDay(epochDay) + shift;
+				long targetEnd = targetData.getEpochMillisecondsForEpochDay(targetEpochDay);
+				long overlap = Math.min(end, targetEnd) - Math.max(previousEnd(data, epochDay) + shift, previousEnd(targetData, targetEpochDay));
+
+				if (overlap > 0) {
+					if (size == capacity) {
+						capacity = capacity * 2;
+						epochDays = Arrays.copyOf(epochDays, capacity);
+						targetEpochDays = Arrays.copyOf(targetEpochDays, capacity);
+						overlapMilliseconds = Arrays.copyOf(overlapMilliseconds, capacity);
+					}
+					epochDays[size] = epochDay;
+					targetEpochDays[size] = targetEpochDay;
+					overlapMilliseconds[size] = overlap;
+					size++;
+				}
+
+				//Advance whichever day ends first, or both if they end at the same time
+				if (end <= targetEnd) {
+					epochDay++;
+				}
+				if (targetEnd <= end) {
+					targetEpochDay++;
+				}
+			}
+		}
+
+		return new DayOverlaps(calendarKey, targetCalendarKey, Arrays.copyOf(epochDays, size), Arrays.copyOf(targetEpochDays, size), Arrays.copyOf(overlapMilliseconds, size));
+	}
+
+	private static long previousEnd(MillisecondStoreData data, int epochDay) {
+		return epochDay == 1 ? 0 : data.getEpochMillisecondsForEpochDay(epochDay - 1);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder("[DayOverlaps: ");
+		for (int i = 0; i < this.size(); i++) {
+			builder.append(i == 0 ? "" : ", ").append(epochDays[i]).append('/').append(targetEpochDays[i]).append('=').append(overlapMilliseconds[i]);
+		}
+		return builder.append(']').toString();
+	}
+}
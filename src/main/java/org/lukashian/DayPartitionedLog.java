@@ -0,0 +1,475 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import org.lukashian.store.MillisecondStoreData;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.ObjLongConsumer;
+import java.util.stream.Stream;
+
+import static org.lukashian.Instant.BEEPS_PER_DAY;
+import static org.lukashian.LukashianException.check;
+import static org.lukashian.store.MillisecondStore.data;
+import static org.lukashian.store.MillisecondStore.defaultCalendarKey;
+
+/**
+ * An append-only log of events, stored in a directory with a segment file per {@link Day}. Events are appended with a number of milliseconds since the start
+ * of the calendar instance, which must not be lower than that of the previous event. The segment of the current day is memory-mapped for writing, and the
+ * log rolls over to the segment of the next day as soon as an event is after the last millisecond of the current day, which is looked up only once per day,
+ * so that appending an event takes a single comparison to find its segment.
+ * <p>
+ * Each segment keeps a sparse index, with the offset of the first event of every 100 beeps, so that {@link #scan(long, long, ObjLongConsumer)} reads only
+ * the events of the requested range. When the log rolls over to the next day, the previous segment is sealed by writing its index to a separate file, which
+ * is rebuilt from the events if it's missing. Segment files are named after the epoch day that they contain, such as 0000012345.log and 0000012345.idx.
+ * <p>
+ * A segment file consists of records of the number of epoch milliseconds (a long), the length of the payload (an int) and the payload. The file is
+ * extended in advance, and a record with 0 epoch milliseconds marks the end of the events, so that a log that was not closed can be opened again, after which
+ * appending continues after its last event. Events are written to the memory-mapped file, which the operating system writes to disk eventually, or when
+ * {@link #flush()} is called.
+ * <p>
+ * A {@link DayPartitionedLog} is thread-safe.
+ */
+public final class DayPartitionedLog implements Closeable {
+
+	static final int INDEX_BEEPS = 100;
+	static final int RECORD_HEADER_LENGTH = Long.BYTES + Integer.BYTES;
+
+	private static final int INDEX_LENGTH = BEEPS_PER_DAY / INDEX_BEEPS + 1; //One more for the end of the events
+	private static final String SEGMENT_EXTENSION = ".log";
+	private static final String INDEX_EXTENSION = ".idx";
+	private static final int MAX_CACHED_SEGMENTS = 16;
+
+	private final Path directory;
+	private final int calendarKey;
+	private final MillisecondStoreData data;
+	private final int initialSegmentCapacity;
+	private final TreeSet<Integer> epochDays = new TreeSet<>();
+	private final Map<Integer, Segment> sealedSegments = new LinkedHashMap<>(MAX_CACHED_SEGMENTS, 0.75f, true) { //The most recently scanned sealed segments
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Integer, Segment> eldest) {
+			return this.size() > MAX_CACHED_SEGMENTS;
+		}
+	};
+
+	private Segment active;
+	private long lastEpochMilliseconds;
+	private boolean closed;
+
+	private DayPartitionedLog(Path directory, int initialSegmentCapacity, int calendarKey) throws IOException {
+		check(initialSegmentCapacity >= RECORD_HEADER_LENGTH, () -> "The initial segment capacity must be at least " + RECORD_HEADER_LENGTH + " bytes");
+
+		this.directory = Files.createDirectories(directory);
+		this.calendarKey = calendarKey;
+		this.data = data(calendarKey);
+		this.initialSegmentCapacity = initialSegmentCapacity;
+
+		try (Stream<Path> files = Files.list(directory)) {
+			files.map(path -> path.getFileName().toString())
+					.filter(name -> name.endsWith(SEGMENT_EXTENSION))
+					.forEach(name -> epochDays.add(Integer.parseInt(name.substring(0, name.length() - SEGMENT_EXTENSION.length()))));
+		}
+
+		//Segments that were not sealed, because the log was not closed, are sealed now, except for the last one, to which events can still be appended
+		for (int epochDay : epochDays) {
+			if (!Files.exists(this.indexPath(epochDay))) {
+				Segment segment = this.openSegment(epochDay, FileChannel.MapMode.READ_WRITE);
+				if (epochDay == epochDays.last()) {
+					active = segment;
+				} else {
+					segment.seal();
+				}
+			}
+		}
+		if (!epochDays.isEmpty()) {
+			Segment last = active != null ? active : this.openSegment(epochDays.last(), FileChannel.MapMode.READ_ONLY);
+			lastEpochMilliseconds = last.lastEpochMilliseconds;
+		}
+	}
+
+	/**
+	 * Appends an event with the given payload at the given number of milliseconds since the start of the calendar instance.
+	 *
+	 * @throws LukashianException when the given number of milliseconds is lower than that of the last event, or is not supported by the calendar instance
+	 * @throws IOException when the segment file cannot be created or extended
+	 */
+	public synchronized void append(long epochMilliseconds, ByteBuffer payload) throws IOException {
+		check(!closed, () -> "The log is closed");
+		check(epochMilliseconds >= lastEpochMilliseconds, () -> "Epoch millisecond " + epochMilliseconds + " is before the last event at " + lastEpochMilliseconds);
+
+		if (active == null || epochMilliseconds > active.epochMillisecondsAtEnd) {
+			this.rollOver(epochMilliseconds);
+		}
+		active.append(epochMilliseconds, payload);
+		lastEpochMilliseconds = epochMilliseconds;
+	}
+
+	/**
+	 * Appends an event with the given payload at the given number of milliseconds since the start of the calendar instance.
+	 *
+	 * @throws LukashianException when the given number of milliseconds is lower than that of the last event, or is not supported by the calendar instance
+	 * @throws IOException when the segment file cannot be created or extended
+	 */
+	public void append(long epochMilliseconds, byte[] payload) throws IOException {
+		this.append(epochMilliseconds, ByteBuffer.wrap(payload));
+	}
+
+	/**
+	 * Appends an event with the given payload at the current time.
+	 *
+	 * @throws LukashianException when the current time is before the last event, or is not supported by the calendar instance
+	 * @throws IOException when the segment file cannot be created or extended
+	 */
+	public void append(byte[] payload) throws IOException {
+		this.append(data.getCurrentEpochMilliseconds(), ByteBuffer.wrap(payload));
+	}
+
+	private void rollOver(long epochMilliseconds) throws IOException {
+		check(data.isSupportedEpochMilliseconds(epochMilliseconds), () -> "Lukashian Epoch millisecond " + epochMilliseconds + " isn't supported yet by this Lukashian Calendar instance");
+
+		if (active != null) {
+			active.seal();
+		}
+		int epochDay = data.getEpochDayForEpochMilliseconds(epochMilliseconds);
+		active = this.openSegment(epochDay, FileChannel.MapMode.READ_WRITE);
+		epochDays.add(epochDay);
+	}
+
+	/**
+	 * Passes the events from the given number of milliseconds since the start of the calendar instance until the given number of milliseconds, both inclusive,
+	 * in the order in which they were appended, to the given consumer, with their epoch milliseconds. The payloads are read-only views of the segment files,
+	 * which are only valid during the call to the consumer.
+	 *
+	 * @throws IOException when a segment file cannot be read
+	 */
+	public synchronized void scan(long startInclusive, long endInclusive, ObjLongConsumer<ByteBuffer> consumer) throws IOException {
+		check(!closed, () -> "The log is closed");
+		if (startInclusive > endInclusive || epochDays.isEmpty()) {
+			return;
+		}
+
+		int firstEpochDay = data.isSupportedEpochMilliseconds(startInclusive) ? data.getEpochDayForEpochMilliseconds(startInclusive) : startInclusive < 1 ? 1 : Integer.MAX_VALUE;
+		int lastEpochDay = data.isSupportedEpochMilliseconds(endInclusive) ? data.getEpochDayForEpochMilliseconds(endInclusive) : endInclusive < 1 ? 0 : Integer.MAX_VALUE;
+		if (firstEpochDay > lastEpochDay) {
+			return;
+		}
+
+		for (int epochDay : epochDays.subSet(firstEpochDay, true, lastEpochDay, true)) {
+			Segment segment = active != null && active.epochDay == epochDay ? active : sealedSegments.get(epochDay);
+			if (segment == null) {
+				segment = this.openSegment(epochDay, FileChannel.MapMode.READ_ONLY);
+				sealedSegments.put(epochDay, segment);
+			}
+			segment.scan(startInclusive, endInclusive, consumer);
+		}
+	}
+
+	/**
+	 * Passes the events in the given non-null {@link CalendarRange}, in the order in which they were appended, to the given consumer, with their epoch
+	 * milliseconds, see {@link #scan(long, long, ObjLongConsumer)}.
+	 *
+	 * @throws LukashianException when the given {@link CalendarRange} is of a different calendar instance than this log
+	 * @throws IOException when a segment file cannot be read
+	 */
+	public void scan(CalendarRange<?> range, ObjLongConsumer<ByteBuffer> consumer) throws IOException {
+		check(range.getCalendarKey() == calendarKey, () -> "Calendar keys of CalendarObjects do not match");
+		this.scan(range.getEpochMillisecondsAtStart(), range.getEpochMillisecondsAtEnd(), consumer);
+	}
+
+	/**
+	 * Returns the epoch days of the segments of this log, in ascending order.
+	 */
+	public synchronized int[] getEpochDays() {
+		return epochDays.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	/**
+	 * Returns the calendar key of this log.
+	 */
+	public int getCalendarKey() {
+		return calendarKey;
+	}
+
+	/**
+	 * Forces the events of the current segment to be written to disk.
+	 */
+	public synchronized void flush() {
+		if (active != null) {
+			active.buffer.force();
+		}
+	}
+
+	/**
+	 * Seals the current segment and closes the log, after which it cannot be used anymore.
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		sealedSegments.clear();
+		if (active != null) {
+			active.seal();
+			active = null;
+		}
+	}
+
+	private Path segmentPath(int epochDay) {
+		return directory.resolve(String.format("%010d", epochDay) + SEGMENT_EXTENSION);
+	}
+
+	private Path indexPath(int epochDay) {
+		return directory.resolve(String.format("%010d", epochDay) + INDEX_EXTENSION);
+	}
+
+	private Segment openSegment(int epochDay, FileChannel.MapMode mode) throws IOException {
+		long epochMillisecondsPreviousDay = epochDay == 1 ? 0 : data.getEpochMillisecondsForEpochDay(epochDay - 1);
+		long epochMillisecondsAtEnd = data.getEpochMillisecondsForEpochDay(epochDay);
+
+		MappedByteBuffer buffer;
+		if (mode == FileChannel.MapMode.READ_ONLY) {
+			try (FileChannel channel = FileChannel.open(this.segmentPath(epochDay), StandardOpenOption.READ)) {
+				buffer = channel.map(mode, 0, channel.size());
+			}
+		} else {
+			sealedSegments.remove(epochDay);
+			Files.deleteIfExists(this.indexPath(epochDay)); //A segment that is written to is not sealed anymore
+			try (FileChannel channel = FileChannel.open(this.segmentPath(epochDay), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+				buffer = channel.map(mode, 0, Math.max(channel.size(), initialSegmentCapacity));
+			}
+		}
+
+		Segment segment = new Segment(epochDay, epochMillisecondsPreviousDay, epochMillisecondsAtEnd, buffer);
+		Path indexPath = this.indexPath(epochDay);
+		if (mode == FileChannel.MapMode.READ_ONLY && Files.exists(indexPath)) {
+			segment.readIndex(ByteBuffer.wrap(Files.readAllBytes(indexPath)));
+		} else {
+			segment.recover();
+		}
+		return segment;
+	}
+
+	/**
+	 * The file of the events of a single day, with the offsets of the first event of every 100 beeps.
+	 */
+	private final class Segment {
+
+		private final int epochDay;
+		private final long epochMillisecondsPreviousDay;
+		private final long epochMillisecondsAtEnd;
+		private final long[] index = new long[INDEX_LENGTH];
+		private MappedByteBuffer buffer;
+		private int position;
+		private int indexed; //The number of index entries that are known
+		private long lastEpochMilliseconds;
+
+		private Segment(int epochDay, long epochMillisecondsPreviousDay, long epochMillisecondsAtEnd, MappedByteBuffer buffer) {
+			this.epochDay = epochDay;
+			this.epochMillisecondsPreviousDay = epochMillisecondsPreviousDay;
+			this.epochMillisecondsAtEnd = epochMillisecondsAtEnd;
+			this.buffer = buffer;
+		}
+
+		private void append(long epochMilliseconds, ByteBuffer payload) throws IOException {
+			int length = payload.remaining();
+			long required = (long) position + RECORD_HEADER_LENGTH + length + Long.BYTES; //Room for the end marker as well
+			if (required > buffer.capacity()) {
+				this.grow(required);
+			}
+
+			this.index(epochMilliseconds, position);
+			buffer.putInt(position + Long.BYTES, length);
+			buffer.put(position + RECORD_HEADER_LENGTH, payload, payload.position(), length);
+			buffer.putLong(position, epochMilliseconds); //Written last, so that an incomplete record is not seen as an event
+			position += RECORD_HEADER_LENGTH + length;
+			lastEpochMilliseconds = epochMilliseconds;
+		}
+
+		private void grow(long required) throws IOException {
+			check(required <= Integer.MAX_VALUE, () -> "The segment of epoch day " + epochDay + " cannot grow beyond " + Integer.MAX_VALUE + " bytes");
+
+			long capacity = Math.min(Integer.MAX_VALUE, Math.max(required, 2L * buffer.capacity()));
+			try (FileChannel channel = FileChannel.open(DayPartitionedLog.this.segmentPath(epochDay), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+				buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+			}
+		}
+
+		/**
+		 * Sets the offset of the index entries up to and including the entry of the given epoch milliseconds that are not known yet to the given offset.
+		 */
+		private void index(long epochMilliseconds, int offset) {
+			int beeps = EpochMath.getBeepsOnDay(epochMilliseconds, epochMillisecondsPreviousDay, epochMillisecondsAtEnd - epochMillisecondsPreviousDay);
+			int entry = beeps / INDEX_BEEPS;
+			while (indexed <= entry) {
+				index[indexed++] = offset;
+			}
+		}
+
+		/**
+		 * Finds the end of the events and rebuilds the index by reading all events.
+		 */
+		private void recover() {
+			while (position + RECORD_HEADER_LENGTH <= buffer.limit() && buffer.getLong(position) != 0) {
+				long epochMilliseconds = buffer.getLong(position);
+				this.index(epochMilliseconds, position);
+				lastEpochMilliseconds = epochMilliseconds;
+				position += RECORD_HEADER_LENGTH + buffer.getInt(position + Long.BYTES);
+			}
+		}
+
+		private void readIndex(ByteBuffer source) {
+			for (int i = 0; i < INDEX_LENGTH; i++) {
+				index[i] = source.getLong();
+			}
+			indexed = INDEX_LENGTH;
+			position = (int) index[INDEX_LENGTH - 1];
+			lastEpochMilliseconds = position == 0 ? 0 : this.findLastEpochMilliseconds();
+		}
+
+		private long findLastEpochMilliseconds() {
+			int offset = 0;
+			for (int i = INDEX_LENGTH - 2; i >= 0; i--) {
+				if (index[i] < position) { //The last entry that starts before the end of the events contains the last event
+					offset = (int) index[i];
+					break;
+				}
+			}
+			long epochMilliseconds = 0;
+			while (offset < position) {
+				epochMilliseconds = buffer.getLong(offset);
+				offset += RECORD_HEADER_LENGTH + buffer.getInt(offset + Long.BYTES);
+			}
+			return epochMilliseconds;
+		}
+
+		private void seal() throws IOException {
+			while (indexed < INDEX_LENGTH) {
+				index[indexed++] = position;
+			}
+			buffer.force();
+
+			ByteBuffer bytes = ByteBuffer.allocate(INDEX_LENGTH * Long.BYTES);
+			for (long offset : index) {
+				bytes.putLong(offset);
+			}
+			Path indexPath = DayPartitionedLog.this.indexPath(epochDay);
+			Path temporaryPath = indexPath.resolveSibling(indexPath.getFileName() + ".tmp");
+			Files.write(temporaryPath, bytes.array());
+			Files.move(temporaryPath, indexPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+
+		private void scan(long startInclusive, long endInclusive, ObjLongConsumer<ByteBuffer> consumer) {
+			int offset = 0;
+			if (startInclusive > epochMillisecondsPreviousDay) {
+				int beeps = EpochMath.getBeepsOnDay(startInclusive, epochMillisecondsPreviousDay, epochMillisecondsAtEnd - epochMillisecondsPreviousDay);
+				int entry = beeps / INDEX_BEEPS;
+				offset = entry < indexed ? (int) index[entry] : position;
+			}
+
+			ByteBuffer view = buffer.asReadOnlyBuffer();
+			while (offset < position) {
+				long epochMilliseconds = view.getLong(offset);
+				int length = view.getInt(offset + Long.BYTES);
+				if (epochMilliseconds > endInclusive) {
+					return;
+				}
+				if (epochMilliseconds >= startInclusive) {
+					consumer.accept(view.slice(offset + RECORD_HEADER_LENGTH, length), epochMilliseconds);
+				}
+				offset += RECORD_HEADER_LENGTH + length;
+			}
+		}
+	}
+
+	/**
+	 * Opens the log in the given directory, which is created if it doesn't exist, for events of the calendar instance with the given key. New segment files
+	 * are created with the given capacity, and grow when needed. If the directory contains a log already, appending continues after its last event.
+	 *
+	 * @throws LukashianException when the given capacity is smaller than the header of a record
+	 * @throws IOException when the directory or its segment files cannot be read
+	 */
+	public static DayPartitionedLog open(Path directory, int initialSegmentCapacity, int calendarKey) throws IOException {
+		return new DayPartitionedLog(directory, initialSegmentCapacity, calendarKey);
+	}
+
+	/**
+	 * Opens the log in the given directory, which is created if it doesn't exist, for events of the calendar instance with the given key, with segment files
+	 * that start with a capacity of 1 MiB. If the directory contains a log already, appending continues after its last event.
+	 *
+	 * @throws IOException when the directory or its segment files cannot be read
+	 */
+	public static DayPartitionedLog open(Path directory, int calendarKey) throws IOException {
+		return open(directory, 1 << 20, calendarKey);
+	}
+
+	/**
+	 * Opens the log in the given directory, which is created if it doesn't exist, for events of the default calendar instance, with segment files that start
+	 * with a capacity of 1 MiB. If the directory contains a log already, appending continues after its last event.
+	 *
+	 * @throws IOException when the directory or its segment files cannot be read
+	 */
+	public static DayPartitionedLog open(Path directory) throws IOException {
+		return open(directory, defaultCalendarKey());
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import java.util.stream.Stream;
+
+/**
+ * Represents the {@link Day}s from a first {@link Day} until a last {@link Day}, both inclusive. The range covers the milliseconds from the start of the
+ * first day until the end of the last day.
+ * <p>
+ * {@link DayRange} is an immutable object.
+ *
+ * @see CalendarRangeIndex
+ */
+public final class DayRange extends CalendarRange<Day> {
+
+	private DayRange(Day first, Day last) {
+		super(first, last, first.getEpochMillisecondsAtStartOfDay(), last.getEpochMilliseconds());
+	}
+
+	/**
+	 * Returns the number of days in this range.
+	 */
+	public int getNumberOfDays() {
+		return this.getEnd().differenceWith(this.getStart()) + 1;
+	}
+
+	/**
+	 * Returns an ordered {@link Stream} of the days of this range.
+	 *
+	 * @see Day#rangeTo(Day)
+	 */
+	public Stream<Day> days() {
+		return this.getStart().rangeTo(this.getEnd());
+	}
+
+	/**
+	 * Creates a new {@link DayRange} from the given non-null first day until the given non-null last day, both inclusive.
+	 *
+	 * @throws LukashianException when the given {@link Day}s are of different calendar instances or when the first day is after the last day
+	 */
+	public static DayRange of(Day first, Day last) {
+		return new DayRange(first, last);
+	}
+
+	@Override
+	public String toString() {
+		return "[DayRange: " + Formatter.format(this.getStart()) + " - " + Formatter.format(this.getEnd()) + "]";
+	}
+}
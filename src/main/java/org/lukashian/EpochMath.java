@@ -0,0 +1,432 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import org.lukashian.store.CalendarKeys;
+import org.lukashian.store.MillisecondStore;
+import org.lukashian.store.MillisecondStoreData;
+
+import static org.lukashian.Instant.BEEPS_PER_DAY;
+import static org.lukashian.LukashianException.check;
+import static org.lukashian.store.MillisecondStore.data;
+
+/**
+ * Provides the calculations of {@link Instant}, {@link Day} and {@link Year} on primitive values, i.e. on long epoch milliseconds and int epoch days and years,
+ * for a given calendar instance. None of the methods in this class create any objects, which makes them suitable for processing large volumes of timestamps.
+ * <p>
+ * The results of these methods are exactly the same as the results of the corresponding methods of {@link Instant}, {@link Day} and {@link Year}. The same
+ * goes for the situations in which a {@link LukashianException} is thrown. For example, {@link #getBeeps(long, int)} returns the same value as calling
+ * {@link Instant#getBeeps()} on the {@link Instant} that is created by {@link Instant#ofEpoch(long, int)}.
+ * <p>
+ * All methods take the calendar key as their final parameter. See {@link CalendarKeys} for the calendar instances that are available by default.
+ *
+ * @see MillisecondStore
+ * @see MillisecondStoreData
+ */
+public final class EpochMath {
+
+	static final long NO_FIXED_UNIX_OFFSET = Long.MIN_VALUE;
+
+	private EpochMath() {
+	}
+
+	/**
+	 * Gets the number of milliseconds from the start of the given calendar instance until the given number of milliseconds from the UNIX Epoch.
+	 *
+	 * @see Instant#ofUnixEpochMilliseconds(long, int)
+	 */
+	public static long getLukashianEpochMilliseconds(long unixEpochMilliseconds, int calendarKey) {
+		return data(calendarKey).getLukashianEpochMilliseconds(unixEpochMilliseconds);
+	}
+
+	/**
+	 * Gets the number of milliseconds from the UNIX Epoch until the given number of milliseconds from the start of the given calendar instance.
+	 *
+	 * @see Instant#getUnixEpochMilliseconds()
+	 */
+	public static long getUnixEpochMilliseconds(long epochMilliseconds, int calendarKey) {
+		return data(calendarKey).getUnixEpochMilliseconds(epochMilliseconds);
+	}
+
+	/**
+	 * Gets the epoch day of the given calendar instance that contains the given number of epoch milliseconds.
+	 *
+	 * @see Instant#getDay()
+	 * @throws LukashianException when the given number of milliseconds is lower than 1 or not supported by the given calendar instance
+	 */
+	public static int getEpochDay(long epochMilliseconds, int calendarKey) {
+		checkEpochMilliseconds(epochMilliseconds);
+
+		return data(calendarKey).getEpochDayForEpochMilliseconds(epochMilliseconds);
+	}
+
+	/**
+	 * Gets the year of the given calendar instance that contains the given number of epoch milliseconds. Note that this might be different from the year that
+	 * the day of the given epoch milliseconds is in, see {@link Instant#getYear()}.
+	 *
+	 * @see Instant#getYear()
+	 * @throws LukashianException when the given number of milliseconds is lower than 1 or not supported by the given calendar instance
+	 */
+	public static int getYear(long epochMilliseconds, int calendarKey) {
+		checkEpochMilliseconds(epochMilliseconds);
+
+		return data(calendarKey).getYearForEpochMilliseconds(epochMilliseconds);
+	}
+
+	/**
+	 * Gets the year that the given epoch day of the given calendar instance is part of, which is the year it starts in.
+	 *
+	 * @see Day#getYear()
+	 * @throws LukashianException when the given epoch day is 0 or lower or not supported by the given calendar instance
+	 */
+	public static int getYearOfEpochDay(int epochDay, int calendarKey) {
+		return data(calendarKey).getYearForEpochMilliseconds(getEpochMillisecondsAtStartOfDay(epochDay, calendarKey));
+	}
+
+	/**
+	 * Gets which day of its year the given epoch day of the given calendar instance is.
+	 *
+	 * @see Day#getDayNumber()
+	 * @throws LukashianException when the given epoch day is 0 or lower or not supported by the given calendar instance
+	 */
+	public static int getDayNumber(int epochDay, int calendarKey) {
+		return (epochDay - getFirstEpochDayOfYear(getYearOfEpochDay(epochDay, calendarKey), calendarKey)) + 1;
+	}
+
+	/**
+	 * Gets the epoch day of the first day of the given year of the given calendar instance.
+	 *
+	 * @see Year#firstDay()
+	 * @throws LukashianException when the given year is 0 or lower or not supported by the given calendar instance
+	 */
+	public static int getFirstEpochDayOfYear(int year, int calendarKey) {
+		MillisecondStoreData data = data(calendarKey);
+
+		long epochMillisecondsAtStartOfYear = getEpochMillisecondsAtStartOfYear(year, calendarKey);
+		int runningEpochDayAtStartOfYear = data.getEpochDayForEpochMilliseconds(epochMillisecondsAtStartOfYear);
+
+		long epochMillisecondsAtStartOfRunningDay = runningEpochDayAtStartOfYear == 1 ? 1 : data.getEpochMillisecondsForEpochDay(runningEpochDayAtStartOfYear - 1) + 1;
+
+		if (epochMillisecondsAtStartOfRunningDay < epochMillisecondsAtStartOfYear) { //Present day at start of year started in previous year
+			return runningEpochDayAtStartOfYear + 1;
+		}
+		return runningEpochDayAtStartOfYear;
+	}
+
+	/**
+	 * Gets the epoch day of the given day number in the given year of the given calendar instance.
+	 *
+	 * @see Day#of(int, int, int)
+	 * @throws LukashianException when the given year is 0 or lower or when the given day does not exist for the given year
+	 */
+	public static int getEpochDay(int year, int dayNumber, int calendarKey) {
+		check(dayNumber >= 1, () -> dayNumber + " is not a valid day, the minimum is 1");
+		check(dayNumber <= getNumberOfDays(year, calendarKey), () -> dayNumber + " is not a valid day in year " + year);
+
+		return (getFirstEpochDayOfYear(year, calendarKey) + dayNumber) - 1;
+	}
+
+	/**
+	 * Gets the number of days in the given year of the given calendar instance.
+	 *
+	 * @see Year#getNumberOfDays()
+	 * @throws LukashianException when the given year is 0 or lower or not supported by the given calendar instance
+	 */
+	public static int getNumberOfDays(int year, int calendarKey) {
+		int lastEpochDayOfYear = data(calendarKey).getEpochDayForEpochMilliseconds(getEpochMillisecondsAtEndOfYear(year, calendarKey));
+		return getDayNumber(lastEpochDayOfYear, calendarKey);
+	}
+
+	/**
+	 * Gets the number of beeps that have fully passed on the day of the given calendar instance that contains the given number of epoch milliseconds.
+	 *
+	 * @see Instant#getBeeps()
+	 * @throws LukashianException when the given number of milliseconds is lower than 1 or not supported by the given calendar instance
+	 */
+	public static int getBeeps(long epochMilliseconds, int calendarKey) {
+		int epochDay = getEpochDay(epochMilliseconds, calendarKey);
+		long epochMillisecondsPreviousDay = getEpochMillisecondsPreviousDay(epochDay, calendarKey);
+		long millisecondsOfDay = data(calendarKey).getEpochMillisecondsForEpochDay(epochDay) - epochMillisecondsPreviousDay;
+
+		return getBeepsOnDay(epochMilliseconds, epochMillisecondsPreviousDay, millisecondsOfDay);
+	}
+
+	/**
+	 * Gets the number of epoch milliseconds of the {@link Instant} at the given number of beeps on the given epoch day of the given calendar instance.
+	 *
+	 * @see Instant#of(Day, int)
+	 * @throws LukashianException when the given epoch day is 0 or lower or not supported by the given calendar instance or when the given beeps are not between
+	 * 0 (inclusive) and 9999 (inclusive)
+	 */
+	public static long getEpochMilliseconds(int epochDay, int beeps, int calendarKey) {
+		check(beeps >= 0 && beeps < BEEPS_PER_DAY, () -> "Proportion of day must be between 0 (inclusive) and 1 (exclusive)");
+
+		long epochMillisecondsPreviousDay = getEpochMillisecondsPreviousDay(epochDay, calendarKey);
+		long millisecondsOfDay = data(calendarKey).getEpochMillisecondsForEpochDay(epochDay) - epochMillisecondsPreviousDay;
+
+		return getEpochMillisecondsOnDay(epochMillisecondsPreviousDay, millisecondsOfDay, beeps);
+	}
+
+	/**
+	 * Gets the number of epoch milliseconds that results from adding the given amount of beeps to the given number of epoch milliseconds of the given calendar
+	 * instance. The given amount of beeps may be negative.
+	 *
+	 * @see Instant#plusBeeps(int)
+	 * @throws LukashianException when the given number of milliseconds is lower than 1, when the result would be before the start of the Lukashian Calendar or
+	 * when the given number of milliseconds or the result is not supported by the given calendar instance
+	 */
+	public static long plusBeeps(long epochMilliseconds, int beepsToAdd, int calendarKey) {
+		MillisecondStoreData data = data(calendarKey);
+
+		int epochDay = getEpochDay(epochMilliseconds, calendarKey);
+		long epochMillisecondsPreviousDay = getEpochMillisecondsPreviousDay(epochDay, calendarKey);
+		long millisecondsOfDay = data.getEpochMillisecondsForEpochDay(epochDay) - epochMillisecondsPreviousDay;
+
+		//The proportion of the result is (millisecondsPassed * BEEPS_PER_DAY + beepsToAdd * millisecondsOfDay) / (millisecondsOfDay * BEEPS_PER_DAY)
+		long denominator = millisecondsOfDay * BEEPS_PER_DAY;
+		long numerator = (epochMilliseconds - epochMillisecondsPreviousDay - 1) * BEEPS_PER_DAY + beepsToAdd * millisecondsOfDay;
+		int resultingEpochDay = Math.addExact(epochDay, Math.toIntExact(Math.floorDiv(numerator, denominator)));
+		long remainingNumerator = Math.floorMod(numerator, denominator);
+
+		if (resultingEpochDay < 1) {
+			throw new LukashianException(resultingEpochDay + " is not a valid epoch day, the minimum is 1");
+		}
+
+		long resultingEpochMillisecondsPreviousDay = getEpochMillisecondsPreviousDay(resultingEpochDay, calendarKey);
+		long resultingMillisecondsOfDay = data.getEpochMillisecondsForEpochDay(resultingEpochDay) - resultingEpochMillisecondsPreviousDay;
+
+		//The proportion points to millisecond floor(resultingMillisecondsOfDay * proportion) + 1 of the day, see the javadoc of Instant
+		return resultingEpochMillisecondsPreviousDay + multiplyDivide(resultingMillisecondsOfDay, remainingNumerator, denominator) + 1;
+	}
+
+	/**
+	 * Gets the number of epoch milliseconds of the first millisecond of the given epoch day of the given calendar instance.
+	 *
+	 * @see Day#getEpochMillisecondsAtStartOfDay()
+	 * @throws LukashianException when the given epoch day is 0 or lower or not supported by the given calendar instance
+	 */
+	public static long getEpochMillisecondsAtStartOfDay(int epochDay, int calendarKey) {
+		return getEpochMillisecondsPreviousDay(epochDay, calendarKey) + 1;
+	}
+
+	/**
+	 * Gets the number of epoch milliseconds of the final millisecond of the given epoch day of the given calendar instance.
+	 *
+	 * @see Day#getEpochMilliseconds()
+	 * @throws LukashianException when the given epoch day is 0 or lower or not supported by the given calendar instance
+	 */
+	public static long getEpochMillisecondsAtEndOfDay(int epochDay, int calendarKey) {
+		if (epochDay < 1) {
+			throw new LukashianException(epochDay + " is not a valid epoch day, the minimum is 1");
+		}
+
+		return data(calendarKey).getEpochMillisecondsForEpochDay(epochDay);
+	}
+
+	/**
+	 * Gets the length of the given epoch day of the given calendar instance in milliseconds.
+	 *
+	 * @see Day#lengthInMilliseconds()
+	 * @throws LukashianException when the given epoch day is 0 or lower or not supported by the given calendar instance
+	 */
+	public static long getLengthOfDayInMilliseconds(int epochDay, int calendarKey) {
+		return getEpochMillisecondsAtEndOfDay(epochDay, calendarKey) - getEpochMillisecondsPreviousDay(epochDay, calendarKey);
+	}
+
+	/**
+	 * Gets the number of epoch milliseconds of the first millisecond of the given year of the given calendar instance.
+	 *
+	 * @see Year#getEpochMillisecondsAtStartOfYear()
+	 * @throws LukashianException when the given year is 0 or lower or not supported by the given calendar instance
+	 */
+	public static long getEpochMillisecondsAtStartOfYear(int year, int calendarKey) {
+		if (year < 1) {
+			throw new LukashianException(year + " is not a valid year, the minimum is 1");
+		}
+
+		return year == 1 ? 1 : data(calendarKey).getEpochMillisecondsForYear(year - 1) + 1;
+	}
+
+	/**
+	 * Gets the number of epoch milliseconds of the final millisecond of the given year of the given calendar instance.
+	 *
+	 * @see Year#getEpochMilliseconds()
+	 * @throws LukashianException when the given year is 0 or lower or not supported by the given calendar instance
+	 */
+	public static long getEpochMillisecondsAtEndOfYear(int year, int calendarKey) {
+		if (year < 1) {
+			throw new LukashianException(year + " is not a valid year, the minimum is 1");
+		}
+
+		return data(calendarKey).getEpochMillisecondsForYear(year);
+	}
+
+	static long getEpochMillisecondsPreviousDay(int epochDay, int calendarKey) {
+		if (epochDay < 1) {
+			throw new LukashianException(epochDay + " is not a valid epoch day, the minimum is 1");
+		}
+
+		return epochDay == 1 ? 0 : data(calendarKey).getEpochMillisecondsForEpochDay(epochDay - 1);
+	}
+
+	/**
+	 * Gets the number of beeps that have fully passed at the given number of epoch milliseconds, on the day with the given bounds.
+	 */
+	static int getBeepsOnDay(long epochMilliseconds, long epochMillisecondsPreviousDay, long millisecondsOfDay) {
+		long millisecondsPassed = epochMilliseconds - epochMillisecondsPreviousDay - 1; //The millisecond itself is not considered to have passed
+		return (int) ((millisecondsPassed * BEEPS_PER_DAY) / millisecondsOfDay);
+	}
+
+	/**
+	 * Gets the number of epoch milliseconds that the given number of beeps points to, on the day with the given bounds.
+	 */
+	static long getEpochMillisecondsOnDay(long epochMillisecondsPreviousDay, long millisecondsOfDay, int beeps) {
+		//Whether the proportion points exactly at a boundary between milliseconds or not, the millisecond after floor(millisecondsOfDay * proportion) is chosen
+		return epochMillisecondsPreviousDay + (millisecondsOfDay * beeps) / BEEPS_PER_DAY + 1;
+	}
+
+	/**
+	 * Gets the number of epoch milliseconds that the given proportion of the day points to, on the day with the given bounds, in the same way as
+	 * {@link Instant#getEpochMilliseconds()}.
+	 */
+	static long getEpochMillisecondsOnDay(long epochMillisecondsPreviousDay, long millisecondsOfDay, long numerator, long denominator) {
+		return epochMillisecondsPreviousDay + multiplyDivide(millisecondsOfDay, numerator, denominator) + 1;
+	}
+
+	/**
+	 * Gets the first of the epoch milliseconds that {@link #getBeepsOnDay(long, long, long)} reports the given number of beeps or more for, on the day with the
+	 * given bounds, which is the millisecond after ceil(millisecondsOfDay * beeps / 10000), rather than the floor that
+	 * {@link #getEpochMillisecondsOnDay(long, long, int)} uses, since that millisecond may still be in the previous beep. For 10000 beeps, this is the first
+	 * millisecond of the next day.
+	 */
+	static long getFirstEpochMillisecondsOnDay(long epochMillisecondsPreviousDay, long millisecondsOfDay, int beeps) {
+		return epochMillisecondsPreviousDay + (millisecondsOfDay * beeps + BEEPS_PER_DAY - 1) / BEEPS_PER_DAY + 1;
+	}
+
+	/**
+	 * Gets the difference between the epoch milliseconds and the milliseconds since the UNIX Epoch that holds for the whole period with the given bounds,
+	 * so that any UNIX time in that period can be converted by adding it, or {@link #NO_FIXED_UNIX_OFFSET} when there is no such difference, because there
+	 * is a leap second during the period or because its bounds cannot be converted.
+	 */
+	static long getFixedUnixOffset(long epochMillisecondsPrevious, long epochMillisecondsEnd, int calendarKey) {
+		MillisecondStoreData data = data(calendarKey);
+		long unixEpochMillisecondsPrevious = data.getUnixEpochMilliseconds(epochMillisecondsPrevious);
+		long unixEpochMillisecondsEnd = data.getUnixEpochMilliseconds(epochMillisecondsEnd);
+		long unixOffset = epochMillisecondsEnd - unixEpochMillisecondsEnd;
+
+		//Both bounds need to convert back with the same difference, which is not the case when a leap second is inserted during the period
+		boolean isFixed = epochMillisecondsPrevious - unixEpochMillisecondsPrevious == unixOffset &&
+						  data.isSupportedUnixEpochMilliseconds(unixEpochMillisecondsPrevious + 1) &&
+						  data.getLukashianEpochMilliseconds(unixEpochMillisecondsPrevious + 1) == epochMillisecondsPrevious + 1 &&
+						  data.getLukashianEpochMilliseconds(unixEpochMillisecondsEnd) == epochMillisecondsEnd;
+		return isFixed ? unixOffset : NO_FIXED_UNIX_OFFSET;
+	}
+
+	/**
+	 * Calculates floor(a * b / c) for non-negative values, without overflowing for large products. Products of more than 63 bits, such as those of the
+	 * length of an Earth day in milliseconds and a numerator over 10000 times that length, are divided as 128-bit values.
+	 */
+	static long multiplyDivide(long a, long b, long c) {
+		long high = Math.multiplyHigh(a, b);
+		long low = a * b;
+		if (high == 0 && low >= 0) {
+			return low / c;
+		}
+		long quotient = high < c ? divide(high, low, c) : -1;
+		if (quotient < 0) { //The quotient does not fit in 63 bits
+			throw new ArithmeticException("long overflow");
+		}
+		return quotient;
+	}
+
+	/**
+	 * Divides the unsigned 128-bit value with the given high and low halves by the given positive divisor, which needs to be larger than the high half, using
+	 * the long division of Hacker's Delight (section 9-4) with 32-bit digits.
+	 */
+	private static long divide(long high, long low, long divisor) {
+		int shift = Long.numberOfLeadingZeros(divisor); //Normalize, so that the highest bit of the divisor is set
+		long normalizedDivisor = divisor << shift;
+		long divisorHigh = normalizedDivisor >>> 32;
+		long divisorLow = normalizedDivisor & 0xFFFFFFFFL;
+
+		long dividendHigh = shift == 0 ? high : (high << shift) | (low >>> (64 - shift));
+		long dividendLow = low << shift;
+
+		long quotientHigh = divideDigit(dividendHigh, dividendLow >>> 32, divisorHigh, divisorLow);
+		long remainder = (dividendHigh << 32) + (dividendLow >>> 32) - quotientHigh * normalizedDivisor;
+		long quotientLow = divideDigit(remainder, dividendLow & 0xFFFFFFFFL, divisorHigh, divisorLow);
+
+		return (quotientHigh << 32) | quotientLow;
+	}
+
+	/**
+	 * Calculates the 32-bit digit of the quotient of (dividend * 2^32 + nextDigit) / (divisorHigh * 2^32 + divisorLow), by estimating it from the high
+	 * digit of the divisor and correcting the estimate, which is at most two too high.
+	 */
+	private static long divideDigit(long dividend, long nextDigit, long divisorHigh, long divisorLow) {
+		long quotient = Long.divideUnsigned(dividend, divisorHigh);
+		long remainder = Long.remainderUnsigned(dividend, divisorHigh);
+		while (quotient >>> 32 != 0 || Long.compareUnsigned(quotient * divisorLow, (remainder << 32) | nextDigit) > 0) {
+			quotient--;
+			remainder += divisorHigh;
+			if (remainder >>> 32 != 0) {
+				break;
+			}
+		}
+		return quotient;
+	}
+
+	private static void checkEpochMilliseconds(long epochMilliseconds) {
+		if (epochMilliseconds < 1) {
+			throw new LukashianException("Epoch millisecond " + epochMilliseconds + " is before the start of the Lukashian Calendar");
+		}
+	}
+}
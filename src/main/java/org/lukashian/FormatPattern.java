@@ -0,0 +1,407 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import org.apache.commons.numbers.fraction.BigFraction;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.lukashian.LukashianException.check;
+import static org.lukashian.store.MillisecondStore.defaultCalendarKey;
+
+/**
+ * An immutable, compiled pattern for formatting {@link Instant}s and {@link Day}s. The pattern is parsed once, into a chain of field writers, so that formatting
+ * does not parse or dispatch on the pattern anymore. A {@link FormatPattern} is thread-safe and can be shared and reused freely.
+ * <p>
+ * The following letters are supported, where repeating a letter sets the minimum number of digits, padding with zeroes:
+ * <ul>
+ *     <li>{@code Y}: the year number</li>
+ *     <li>{@code D}: the day number within the year</li>
+ *     <li>{@code E}: the epoch day</li>
+ *     <li>{@code B}: the beeps, so {@code BBBB} formats the beeps in the same way as {@link Formatter#format(BigFraction)}</li>
+ *     <li>{@code b}: the digits of the proportion of the day that follow the beeps, truncated, where the number of letters is the number of digits, up to
+ *     {@value #MAX_SUB_BEEP_DIGITS}</li>
+ * </ul>
+ * Text between single quotes is copied as is, where two single quotes represent a single quote, both inside and outside of quoted text. Any other character
+ * that is not a letter is copied as is as well, while any other letter is reserved and not allowed. For example, {@code YYYY-DDD BBBB} formats as
+ * {@code 0002-003 3300} and {@code Y-D BBBB.bb} as {@code 2-3 3300.00}.
+ */
+public final class FormatPattern {
+
+	/**
+	 * The maximum number of sub-beep digits that can be formatted with the letter {@code b}.
+	 */
+	public static final int MAX_SUB_BEEP_DIGITS = 9;
+
+	private static final long MAX_DIGIT_DENOMINATOR = Long.MAX_VALUE / 10;
+	private static final BigInteger FALLBACK_DENOMINATOR = BigInteger.TEN.pow(4 + MAX_SUB_BEEP_DIGITS);
+
+	private final String pattern;
+	private final FieldWriter[] writers;
+	private final String[] elements; //For each writer, the literal that it writes, or the pattern letters of the field that it writes
+	private final boolean hasProportionFields;
+
+	private FormatPattern(String pattern, FieldWriter[] writers, String[] elements, boolean hasProportionFields) {
+		this.pattern = pattern;
+		this.writers = writers;
+		this.elements = elements;
+		this.hasProportionFields = hasProportionFields;
+	}
+
+	/**
+	 * Returns whether this pattern contains fields that format the proportion of the day, which means it can only format {@link Instant}s.
+	 */
+	public boolean hasProportionFields() {
+		return hasProportionFields;
+	}
+
+	/**
+	 * Formats the given {@link Instant} according to this pattern.
+	 */
+	public String format(Instant instant) {
+		StringBuilder builder = new StringBuilder(32);
+		this.format(instant, builder);
+		return builder.toString();
+	}
+
+	/**
+	 * Appends the given {@link Instant} to the given {@link StringBuilder}, formatted according to this pattern.
+	 */
+	public void format(Instant instant, StringBuilder target) {
+		try {
+			this.format(instant, (Appendable) target);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e); //Never happens, a StringBuilder does not throw IOExceptions
+		}
+	}
+
+	/**
+	 * Appends the given {@link Instant} to the given {@link Appendable}, formatted according to this pattern, in the same way as
+	 * {@link #format(Instant, StringBuilder)}, but without building a {@link String} first.
+	 */
+	public void format(Instant instant, Appendable target) throws IOException {
+		BigFraction proportionOfDay = instant.getProportionOfDay();
+		BigInteger numerator = proportionOfDay.getNumerator();
+		BigInteger denominator = proportionOfDay.getDenominator();
+		if (denominator.bitLength() < Long.SIZE && denominator.longValue() < MAX_DIGIT_DENOMINATOR) { //Fits the digit-by-digit long division of getDigits
+			this.write(instant.getDay().getEpochDay(), numerator.longValue(), denominator.longValue(), instant.getCalendarKey(), target);
+		} else {
+			long truncatedNumerator = numerator.multiply(FALLBACK_DENOMINATOR).divide(denominator).longValue();
+			this.write(instant.getDay().getEpochDay(), truncatedNumerator, FALLBACK_DENOMINATOR.longValue(), instant.getCalendarKey(), target);
+		}
+	}
+
+	/**
+	 * Formats the {@link Instant} of the given epoch milliseconds in the given calendar instance according to this pattern, without creating the
+	 * {@link Instant}.
+	 *
+	 * @throws LukashianException when the given epoch milliseconds are not in a known day of the given calendar instance
+	 */
+	public String formatEpoch(long epochMilliseconds, int calendarKey) {
+		StringBuilder builder = new StringBuilder(32);
+		this.formatEpoch(epochMilliseconds, calendarKey, builder);
+		return builder.toString();
+	}
+
+	/**
+	 * Formats the {@link Instant} of the given epoch milliseconds in the default calendar instance according to this pattern, without creating the
+	 * {@link Instant}.
+	 *
+	 * @throws LukashianException when the given epoch milliseconds are not in a known day of the default calendar instance
+	 */
+	public String formatEpoch(long epochMilliseconds) {
+		return this.formatEpoch(epochMilliseconds, defaultCalendarKey());
+	}
+
+	/**
+	 * Appends the {@link Instant} of the given epoch milliseconds in the given calendar instance to the given {@link StringBuilder}, formatted according to
+	 * this pattern, without creating the {@link Instant}.
+	 *
+	 * @throws LukashianException when the given epoch milliseconds are not in a known day of the given calendar instance
+	 */
+	public void formatEpoch(long epochMilliseconds, int calendarKey, StringBuilder target) {
+		int epochDay = EpochMath.getEpochDay(epochMilliseconds, calendarKey);
+		long epochMillisecondsPreviousDay = EpochMath.getEpochMillisecondsPreviousDay(epochDay, calendarKey);
+		long millisecondsOfDay = EpochMath.getLengthOfDayInMilliseconds(epochDay, calendarKey);
+		this.write(epochDay, epochMilliseconds - epochMillisecondsPreviousDay - 1, millisecondsOfDay, calendarKey, target);
+	}
+
+	/**
+	 * Formats the given {@link Day} according to this pattern.
+	 *
+	 * @throws LukashianException when this pattern contains fields that format the proportion of the day
+	 */
+	public String format(Day day) {
+		StringBuilder builder = new StringBuilder(16);
+		this.format(day, builder);
+		return builder.toString();
+	}
+
+	/**
+	 * Appends the given {@link Day} to the given {@link StringBuilder}, formatted according to this pattern.
+	 *
+	 * @throws LukashianException when this pattern contains fields that format the proportion of the day
+	 */
+	public void format(Day day, StringBuilder target) {
+		check(!hasProportionFields, () -> "Pattern " + pattern + " contains beeps, so it cannot format a Day");
+		this.write(day.getEpochDay(), 0, 1, day.getCalendarKey(), target);
+	}
+
+	/**
+	 * Returns the number of literals and fields that this pattern consists of, see {@link #getLetter(int)}.
+	 */
+	int getNumberOfElements() {
+		return elements.length;
+	}
+
+	/**
+	 * Returns the pattern letter of the element at the given index, or 0 when that element is a literal.
+	 */
+	char getLetter(int index) {
+		return writers[index].literal != null ? 0 : elements[index].charAt(0);
+	}
+
+	/**
+	 * Returns the number of pattern letters of the field at the given index, or the literal at the given index.
+	 */
+	int getWidth(int index) {
+		return elements[index].length();
+	}
+
+	/**
+	 * Returns the literal at the given index.
+	 */
+	String getLiteral(int index) {
+		return elements[index];
+	}
+
+	/**
+	 * Returns the given text as a quoted literal that can be used in a pattern.
+	 */
+	static String quote(String text) {
+		return text.isEmpty() ? "" : "'" + text.replace("'", "''") + "'";
+	}
+
+	private void write(int epochDay, long numerator, long denominator, int calendarKey, StringBuilder target) {
+		try {
+			this.write(epochDay, numerator, denominator, calendarKey, (Appendable) target);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e); //Never happens, a StringBuilder does not throw IOExceptions
+		}
+	}
+
+	private void write(int epochDay, long numerator, long denominator, int calendarKey, Appendable target) throws IOException {
+		for (FieldWriter writer : writers) {
+			writer.write(epochDay, numerator, denominator, calendarKey, target);
+		}
+	}
+
+	/**
+	 * Compiles the given pattern into a {@link FormatPattern}.
+	 *
+	 * @throws LukashianException when the given pattern contains reserved letters, too many sub-beep digits or an unterminated quote
+	 */
+	public static FormatPattern of(String pattern) {
+		List<FieldWriter> writers = new ArrayList<>();
+		List<String> elements = new ArrayList<>();
+		StringBuilder literal = new StringBuilder();
+		boolean hasProportionFields = false;
+
+		int i = 0;
+		while (i < pattern.length()) {
+			char c = pattern.charAt(i);
+			if (c == '\'') {
+				int end = i + 1;
+				if (end < pattern.length() && pattern.charAt(end) == '\'') {
+					literal.append('\'');
+					i = end + 1;
+					continue;
+				}
+				while (true) {
+					check(end < pattern.length(), () -> "Unterminated quote in pattern " + pattern);
+					if (pattern.charAt(end) == '\'') {
+						if (end + 1 < pattern.length() && pattern.charAt(end + 1) == '\'') {
+							literal.append('\'');
+							end += 2;
+							continue;
+						}
+						break;
+					}
+					literal.append(pattern.charAt(end++));
+				}
+				i = end + 1;
+
+			} else if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z')) {
+				int count = 1;
+				while (i + count < pattern.length() && pattern.charAt(i + count) == c) {
+					count++;
+				}
+				if (!literal.isEmpty()) {
+					writers.add(new FieldWriter(literal.toString()));
+					elements.add(literal.toString());
+					literal.setLength(0);
+				}
+				writers.add(new FieldWriter(fieldValue(pattern, c, count), count));
+				elements.add(pattern.substring(i, i + count));
+				hasProportionFields |= c == 'B' || c == 'b';
+				i += count;
+
+			} else {
+				literal.append(c);
+				i++;
+			}
+		}
+		if (!literal.isEmpty()) {
+			writers.add(new FieldWriter(literal.toString()));
+			elements.add(literal.toString());
+		}
+		return new FormatPattern(pattern, writers.toArray(new FieldWriter[0]), elements.toArray(new String[0]), hasProportionFields);
+	}
+
+	private static FieldValue fieldValue(String pattern, char letter, int count) {
+		switch (letter) {
+			case 'Y':
+				return (epochDay, numerator, denominator, calendarKey) -> EpochMath.getYearOfEpochDay(epochDay, calendarKey);
+			case 'D':
+				return (epochDay, numerator, denominator, calendarKey) -> EpochMath.getDayNumber(epochDay, calendarKey);
+			case 'E':
+				return (epochDay, numerator, denominator, calendarKey) -> epochDay;
+			case 'B':
+				return (epochDay, numerator, denominator, calendarKey) -> getDigits(numerator, denominator, 4);
+			case 'b':
+				check(count <= MAX_SUB_BEEP_DIGITS, () -> "Pattern " + pattern + " contains more than " + MAX_SUB_BEEP_DIGITS + " sub-beep digits");
+				long modulus = (long) Math.pow(10, count);
+				return (epochDay, numerator, denominator, calendarKey) -> getDigits(numerator, denominator, 4 + count) % modulus;
+			default:
+				throw new LukashianException("Pattern " + pattern + " contains reserved letter " + letter);
+		}
+	}
+
+	/**
+	 * Returns the first given number of decimal digits of the given proportion, which is lower than 1, as a number, so floor(proportion * 10^numberOfDigits).
+	 * Uses long division one digit at a time, so that nothing overflows as long as the denominator is lower than {@link #MAX_DIGIT_DENOMINATOR}.
+	 */
+	private static long getDigits(long numerator, long denominator, int numberOfDigits) {
+		long digits = 0;
+		long remainder = numerator;
+		for (int i = 0; i < numberOfDigits; i++) {
+			remainder *= 10;
+			digits = digits * 10 + remainder / denominator;
+			remainder %= denominator;
+		}
+		return digits;
+	}
+
+	private static void appendPadded(long value, int minimumNumberOfDigits, Appendable target) throws IOException {
+		long divisor = 1;
+		for (int i = 1; i < minimumNumberOfDigits || divisor <= value / 10; i++) {
+			divisor *= 10;
+		}
+		for (; divisor > 0; divisor /= 10) {
+			target.append((char) ('0' + value / divisor % 10));
+		}
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		return object instanceof FormatPattern && ((FormatPattern) object).pattern.equals(pattern);
+	}
+
+	@Override
+	public int hashCode() {
+		return pattern.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return pattern;
+	}
+
+	@FunctionalInterface
+	private interface FieldValue {
+
+		long get(int epochDay, long numerator, long denominator, int calendarKey);
+	}
+
+	/**
+	 * Writes either a literal, or the value of a field, padded with zeroes to the minimum number of digits.
+	 */
+	private static final class FieldWriter {
+
+		private final String literal; //Null for a field
+		private final FieldValue value;
+		private final int minimumNumberOfDigits;
+
+		private FieldWriter(String literal) {
+			this.literal = literal;
+			this.value = null;
+			this.minimumNumberOfDigits = 0;
+		}
+
+		private FieldWriter(FieldValue value, int minimumNumberOfDigits) {
+			this.literal = null;
+			this.value = value;
+			this.minimumNumberOfDigits = minimumNumberOfDigits;
+		}
+
+		private void write(int epochDay, long numerator, long denominator, int calendarKey, Appendable target) throws IOException {
+			if (literal != null) {
+				target.append(literal);
+			} else {
+				appendPadded(value.get(epochDay, numerator, denominator, calendarKey), minimumNumberOfDigits, target);
+			}
+		}
+	}
+}
@@ -52,14 +52,22 @@ package org.lukashian;
 
 import org.apache.commons.numbers.fraction.BigFraction;
 
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 import java.util.function.Function;
 
+import static org.lukashian.LukashianException.check;
+
 /**
  * Provides methods for formatting instances of the Lukashian Calendar classes. This implementation is not as sophisticated as the Java formatting classes, but
  * should provide sufficient functionality for most use cases.
  */
 public final class Formatter {
 
+	private static final int[] BEEPS_DIVISORS = {1000, 100, 10, 1};
+
 	/**
 	 * Represents the different ways to format a {@link Day}.
 	 */
@@ -98,21 +106,9 @@ public final class Formatter {
 	 * {@link DayFormat#EPOCH} or {@link DayFormat#DAY_ONLY} is chosen, then the separator is not used.
 	 */
 	public static String format(Day day, DayFormat format, String separator) {
-		if (format == DayFormat.EPOCH) {
-			return Integer.toString(day.getEpochDay());
-
-		} else if (format == DayFormat.YEAR_FIRST) {
-			return format(day.getYear()) + separator + day.getDayNumber();
-
-		} else if (format == DayFormat.DAY_FIRST) {
-			return day.getDayNumber() + separator + format(day.getYear());
-
-		} else if (format == DayFormat.DAY_ONLY) {
-			return Integer.toString(day.getDayNumber());
-
-		} else {
-			throw new IllegalStateException();
-		}
+		StringBuilder builder = new StringBuilder(24);
+		format(day, format, separator, builder);
+		return builder.toString();
 	}
 
 	/**
@@ -144,7 +140,11 @@ public final class Formatter {
 	 * For a detailed explanation on how the proportion is interpreted, see {@link Instant#getBeeps()}.
 	 */
 	public static String format(BigFraction proportionOfDay) {
-		return format(proportionOfDay, bd -> String.format("%04d", bd.multiply(Instant.BEEPS_PER_DAY).intValue()));
+		return format(proportionOfDay, bd -> {
+			StringBuilder builder = new StringBuilder(4);
+			appendBeeps(bd.multiply(Instant.BEEPS_PER_DAY).intValue(), builder);
+			return builder.toString();
+		});
 	}
 
 	/**
@@ -172,20 +172,364 @@ public final class Formatter {
 	 * Formats the given {@link Instant} using {@link #format(Day, DayFormat, String)} and {@link #format(BigFraction)}, using a space to separate the two.
 	 */
 	public static String format(Instant instant, DayFormat dayFormat, String daySeparator) {
-		return format(instant.getDay(), dayFormat, daySeparator) + " " + format(instant.getProportionOfDay());
+		StringBuilder builder = new StringBuilder(32);
+		format(instant, dayFormat, daySeparator, builder);
+		return builder.toString();
 	}
 
 	/**
 	 * Formats the given {@link Instant} using {@link #format(Day, DayFormat)} and {@link #format(BigFraction)}, using a space to separate the two.
 	 */
 	public static String format(Instant instant, DayFormat dayFormat) {
-		return format(instant.getDay(), dayFormat) + " " + format(instant.getProportionOfDay());
+		return format(instant, dayFormat, "-");
 	}
 
 	/**
 	 * Formats the given {@link Instant} using {@link #format(Day)} and {@link #format(BigFraction)}, using a space to separate the two.
 	 */
 	public static String format(Instant instant) {
-		return format(instant.getDay()) + " " + format(instant.getProportionOfDay());
+		return format(instant, DayFormat.YEAR_FIRST);
+	}
+
+	/**
+	 * Appends the given {@link Day} to the given {@link StringBuilder}, in the same way as {@link #format(Day, DayFormat, String)}.
+	 */
+	public static void format(Day day, DayFormat format, String separator, StringBuilder target) {
+		if (format == DayFormat.EPOCH) {
+			target.append(day.getEpochDay());
+
+		} else if (format == DayFormat.YEAR_FIRST) {
+			target.append(getYearNumber(day)).append(separator).append(day.getDayNumber());
+
+		} else if (format == DayFormat.DAY_FIRST) {
+			target.append(day.getDayNumber()).append(separator).append(getYearNumber(day));
+
+		} else if (format == DayFormat.DAY_ONLY) {
+			target.append(day.getDayNumber());
+
+		} else {
+			throw new IllegalStateException();
+		}
+	}
+
+	/**
+	 * Appends the given {@link Instant} to the given {@link StringBuilder}, in the same way as {@link #format(Instant, DayFormat, String)}, without creating
+	 * any intermediate objects for instants of which the proportion of the day fits in a long.
+	 */
+	public static void format(Instant instant, DayFormat dayFormat, String daySeparator, StringBuilder target) {
+		format(instant.getDay(), dayFormat, daySeparator, target);
+		target.append(' ');
+		appendBeeps(instant.getBeeps(), target);
+	}
+
+	/**
+	 * Appends the given {@link Instant} to the given {@link StringBuilder}, in the same way as {@link #format(Instant)}.
+	 */
+	public static void format(Instant instant, StringBuilder target) {
+		format(instant, DayFormat.YEAR_FIRST, "-", target);
+	}
+
+	/**
+	 * Appends the given {@link Day} to the given {@link Appendable}, in the same way as {@link #format(Day, DayFormat, String)}.
+	 */
+	public static void format(Day day, DayFormat format, String separator, Appendable target) throws IOException {
+		if (format == DayFormat.EPOCH) {
+			appendDigits(day.getEpochDay(), target);
+
+		} else if (format == DayFormat.YEAR_FIRST) {
+			appendDigits(getYearNumber(day), target);
+			target.append(String.valueOf(separator));
+			appendDigits(day.getDayNumber(), target);
+
+		} else if (format == DayFormat.DAY_FIRST) {
+			appendDigits(day.getDayNumber(), target);
+			target.append(String.valueOf(separator));
+			appendDigits(getYearNumber(day), target);
+
+		} else if (format == DayFormat.DAY_ONLY) {
+			appendDigits(day.getDayNumber(), target);
+
+		} else {
+			throw new IllegalStateException();
+		}
+	}
+
+	/**
+	 * Appends the given {@link Instant} to the given {@link Appendable}, in the same way as {@link #format(Instant, DayFormat, String)}.
+	 */
+	public static void format(Instant instant, DayFormat dayFormat, String daySeparator, Appendable target) throws IOException {
+		format(instant.getDay(), dayFormat, daySeparator, target);
+		target.append(' ');
+		int beeps = instant.getBeeps();
+		for (int i = 0; i < 4; i++) {
+			target.append((char) getBeepsDigit(beeps, i));
+		}
+	}
+
+	/**
+	 * Appends the given {@link Instant} to the given {@link Appendable}, in the same way as {@link #format(Instant)}.
+	 */
+	public static void format(Instant instant, Appendable target) throws IOException {
+		format(instant, DayFormat.YEAR_FIRST, "-", target);
+	}
+
+	/**
+	 * Writes the given {@link Day} as ASCII to the given array, starting at the given offset, in the same way as {@link #format(Day, DayFormat, String)}, and
+	 * returns the offset after the last written byte.
+	 *
+	 * @throws LukashianException when the given separator contains characters that are not ASCII
+	 * @throws IndexOutOfBoundsException when the given array is too small
+	 */
+	public static int format(Day day, DayFormat format, String separator, byte[] target, int offset) {
+		if (format == DayFormat.EPOCH) {
+			return putDigits(day.getEpochDay(), target, offset);
+
+		} else if (format == DayFormat.YEAR_FIRST) {
+			offset = putDigits(getYearNumber(day), target, offset);
+			offset = putAscii(String.valueOf(separator), target, offset);
+			return putDigits(day.getDayNumber(), target, offset);
+
+		} else if (format == DayFormat.DAY_FIRST) {
+			offset = putDigits(day.getDayNumber(), target, offset);
+			offset = putAscii(String.valueOf(separator), target, offset);
+			return putDigits(getYearNumber(day), target, offset);
+
+		} else if (format == DayFormat.DAY_ONLY) {
+			return putDigits(day.getDayNumber(), target, offset);
+
+		} else {
+			throw new IllegalStateException();
+		}
+	}
+
+	/**
+	 * Writes the given {@link Day} as ASCII to the given array, starting at the given offset, in the same way as {@link #format(Day)}, and returns the offset
+	 * after the last written byte.
+	 *
+	 * @throws IndexOutOfBoundsException when the given array is too small
+	 */
+	public static int format(Day day, byte[] target, int offset) {
+		return format(day, DayFormat.YEAR_FIRST, "-", target, offset);
+	}
+
+	/**
+	 * Writes the given {@link Instant} as ASCII to the given array, starting at the given offset, in the same way as
+	 * {@link #format(Instant, DayFormat, String)}, and returns the offset after the last written byte.
+	 *
+	 * @throws LukashianException when the given separator contains characters that are not ASCII
+	 * @throws IndexOutOfBoundsException when the given array is too small
+	 */
+	public static int format(Instant instant, DayFormat dayFormat, String daySeparator, byte[] target, int offset) {
+		offset = format(instant.getDay(), dayFormat, daySeparator, target, offset);
+		target[offset] = ' ';
+		return putBeeps(instant.getBeeps(), target, offset + 1);
+	}
+
+	/**
+	 * Writes the given {@link Instant} as ASCII to the given array, starting at the given offset, in the same way as {@link #format(Instant)}, and returns the
+	 * offset after the last written byte.
+	 *
+	 * @throws IndexOutOfBoundsException when the given array is too small
+	 */
+	public static int format(Instant instant, byte[] target, int offset) {
+		return format(instant, DayFormat.YEAR_FIRST, "-", target, offset);
+	}
+
+	/**
+	 * Writes the given {@link Day} as ASCII to the given {@link ByteBuffer}, at its current position, in the same way as
+	 * {@link #format(Day, DayFormat, String)}, after which the position is advanced by the number of written bytes.
+	 *
+	 * @throws LukashianException when the given separator contains characters that are not ASCII
+	 * @throws BufferOverflowException when the given {@link ByteBuffer} does not have enough bytes remaining, in which case nothing is written
+	 */
+	public static void format(Day day, DayFormat format, String separator, ByteBuffer target) {
+		int length = getLength(day, format, separator);
+		if (target.remaining() < length) {
+			throw new BufferOverflowException();
+		}
+
+		int position = target.position();
+		if (target.hasArray()) {
+			format(day, format, separator, target.array(), target.arrayOffset() + position);
+		} else {
+			put(day, format, separator, target, position);
+		}
+		target.position(position + length);
+	}
+
+	/**
+	 * Writes the given {@link Instant} as ASCII to the given {@link ByteBuffer}, at its current position, in the same way as
+	 * {@link #format(Instant, DayFormat, String)}, after which the position is advanced by the number of written bytes.
+	 *
+	 * @throws LukashianException when the given separator contains characters that are not ASCII
+	 * @throws BufferOverflowException when the given {@link ByteBuffer} does not have enough bytes remaining, in which case nothing is written
+	 */
+	public static void format(Instant instant, DayFormat dayFormat, String daySeparator, ByteBuffer target) {
+		Day day = instant.getDay();
+		int length = getLength(day, dayFormat, daySeparator) + 5;
+		if (target.remaining() < length) {
+			throw new BufferOverflowException();
+		}
+
+		int position = target.position();
+		if (target.hasArray()) {
+			int offset = format(day, dayFormat, daySeparator, target.array(), target.arrayOffset() + position);
+			target.array()[offset] = ' ';
+			putBeeps(instant.getBeeps(), target.array(), offset + 1);
+		} else {
+			int index = put(day, dayFormat, daySeparator, target, position);
+			target.put(index, (byte) ' ');
+			int beeps = instant.getBeeps();
+			for (int i = 0; i < 4; i++) {
+				target.put(index + 1 + i, getBeepsDigit(beeps, i));
+			}
+		}
+		target.position(position + length);
+	}
+
+	/**
+	 * Writes the given {@link Instant} as ASCII to the given {@link ByteBuffer}, at its current position, in the same way as {@link #format(Instant)}, after
+	 * which the position is advanced by the number of written bytes.
+	 *
+	 * @throws BufferOverflowException when the given {@link ByteBuffer} does not have enough bytes remaining, in which case nothing is written
+	 */
+	public static void format(Instant instant, ByteBuffer target) {
+		format(instant, DayFormat.YEAR_FIRST, "-", target);
+	}
+
+	/**
+	 * Returns the year number of the given {@link Day} without creating a {@link Year} object.
+	 */
+	private static int getYearNumber(Day day) {
+		return EpochMath.getYearOfEpochDay(day.getEpochDay(), day.getCalendarKey());
+	}
+
+	/**
+	 * Returns the number of bytes or characters needed to format the given {@link Day} in the given {@link DayFormat}.
+	 */
+	private static int getLength(Day day, DayFormat format, String separator) {
+		if (format == DayFormat.EPOCH) {
+			return getNumberOfDigits(day.getEpochDay());
+
+		} else if (format == DayFormat.YEAR_FIRST || format == DayFormat.DAY_FIRST) {
+			return getNumberOfDigits(getYearNumber(day)) + String.valueOf(separator).length() + getNumberOfDigits(day.getDayNumber());
+
+		} else if (format == DayFormat.DAY_ONLY) {
+			return getNumberOfDigits(day.getDayNumber());
+
+		} else {
+			throw new IllegalStateException();
+		}
+	}
+
+	/**
+	 * Writes the given {@link Day} to the given {@link ByteBuffer} using absolute puts, starting at the given index, and returns the index after the last
+	 * written byte. The caller is responsible for making sure there is enough room.
+	 */
+	private static int put(Day day, DayFormat format, String separator, ByteBuffer target, int index) {
+		if (format == DayFormat.EPOCH) {
+			return putDigits(day.getEpochDay(), target, index);
+
+		} else if (format == DayFormat.YEAR_FIRST) {
+			index = putDigits(getYearNumber(day), target, index);
+			index = putAscii(String.valueOf(separator), target, index);
+			return putDigits(day.getDayNumber(), target, index);
+
+		} else if (format == DayFormat.DAY_FIRST) {
+			index = putDigits(day.getDayNumber(), target, index);
+			index = putAscii(String.valueOf(separator), target, index);
+			return putDigits(getYearNumber(day), target, index);
+
+		} else if (format == DayFormat.DAY_ONLY) {
+			return putDigits(day.getDayNumber(), target, index);
+
+		} else {
+			throw new IllegalStateException();
+		}
+	}
+
+	private static int getNumberOfDigits(int value) {
+		int numberOfDigits = 1;
+		while (value >= 10) {
+			value /= 10;
+			numberOfDigits++;
+		}
+		return numberOfDigits;
+	}
+
+	/**
+	 * Appends the given beeps to the given {@link StringBuilder} as four digits.
+	 */
+	static void appendBeeps(int beeps, StringBuilder target) {
+		if (beeps < 1000) {
+			target.append(beeps < 10 ? "000" : beeps < 100 ? "00" : "0");
+		}
+		target.append(beeps);
+	}
+
+	private static void appendDigits(int value, Appendable target) throws IOException {
+		int divisor = 1;
+		for (int i = getNumberOfDigits(value); i > 1; i--) {
+			divisor *= 10;
+		}
+		for (; divisor > 0; divisor /= 10) {
+			target.append((char) ('0' + value / divisor % 10));
+		}
+	}
+
+	private static int putDigits(int value, byte[] target, int offset) {
+		int end = offset + getNumberOfDigits(value);
+		Objects.checkFromToIndex(offset, end, target.length);
+		for (int i = end - 1; i >= offset; i--) {
+			target[i] = (byte) ('0' + value % 10);
+			value /= 10;
+		}
+		return end;
+	}
+
+	private static int putDigits(int value, ByteBuffer target, int index) {
+		int end = index + getNumberOfDigits(value);
+		for (int i = end - 1; i >= index; i--) {
+			target.put(i, (byte) ('0' + value % 10));
+			value /= 10;
+		}
+		return end;
+	}
+
+	/**
+	 * Writes the given beeps as four ASCII digits to the given array, starting at the given offset, and returns the offset after the last written byte.
+	 */
+	static int putBeeps(int beeps, byte[] target, int offset) {
+		Objects.checkFromToIndex(offset, offset + 4, target.length);
+		for (int i = 0; i < 4; i++) {
+			target[offset + i] = getBeepsDigit(beeps, i);
+		}
+		return offset + 4;
+	}
+
+	/**
+	 * Returns the ASCII digit with the given index, from 0 until 4, of the given beeps written as four digits.
+	 */
+	static byte getBeepsDigit(int beeps, int index) {
+		return (byte) ('0' + beeps / BEEPS_DIVISORS[index] % 10);
+	}
+
+	private static int putAscii(String value, byte[] target, int offset) {
+		Objects.checkFromToIndex(offset, offset + value.length(), target.length);
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			check(c < 0x80, () -> "Only ASCII separators can be written as bytes");
+			target[offset + i] = (byte) c;
+		}
+		return offset + value.length();
+	}
+
+	private static int putAscii(String value, ByteBuffer target, int index) {
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			check(c < 0x80, () -> "Only ASCII separators can be written as bytes");
+			target.put(index + i, (byte) c);
+		}
+		return index + value.length();
 	}
 }
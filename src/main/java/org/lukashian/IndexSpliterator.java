@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+/**
+ * {@link Spliterator} over a range of indexes, such as epoch days, year numbers or steps, that creates the element for each index with a given function. The
+ * size of the range is known up front and the range is always split in half, so parallel streams that are backed by this {@link Spliterator} divide the work
+ * evenly across threads.
+ */
+final class IndexSpliterator<T> implements Spliterator<T> {
+
+	private static final int CHARACTERISTICS = ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL;
+
+	private final LongFunction<T> element;
+	private final int additionalCharacteristics;
+	private long index;
+	private final long fence;
+
+	/**
+	 * Creates a new {@link IndexSpliterator} over the indexes from origin (inclusive) until fence (exclusive). The additional characteristics should
+	 * only contain {@link #DISTINCT} and {@link #SORTED}, and {@link #SORTED} may only be passed if the elements are {@link Comparable}.
+	 */
+	IndexSpliterator(long origin, long fence, int additionalCharacteristics, LongFunction<T> element) {
+		this.element = element;
+		this.additionalCharacteristics = additionalCharacteristics;
+		this.index = origin;
+		this.fence = Math.max(origin, fence);
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super T> action) {
+		if (index >= fence) {
+			return false;
+		}
+		action.accept(element.apply(index++));
+		return true;
+	}
+
+	@Override
+	public void forEachRemaining(Consumer<? super T> action) {
+		long end = fence;
+		for (long i = index; i < end; i++) {
+			action.accept(element.apply(i));
+		}
+		index = end;
+	}
+
+	@Override
+	public Spliterator<T> trySplit() {
+		long middle = (index + fence) >>> 1;
+		if (middle <= index) {
+			return null;
+		}
+		Spliterator<T> prefix = new IndexSpliterator<>(index, middle, additionalCharacteristics, element);
+		index = middle;
+		return prefix;
+	}
+
+	@Override
+	public long estimateSize() {
+		return fence - index;
+	}
+
+	@Override
+	public int characteristics() {
+		return CHARACTERISTICS | additionalCharacteristics;
+	}
+
+	@Override
+	public Comparator<? super T> getComparator() {
+		if (this.hasCharacteristics(SORTED)) {
+			return null; //Natural order
+		}
+		throw new IllegalStateException();
+	}
+}
@@ -54,9 +54,17 @@ import org.apache.commons.numbers.fraction.BigFraction;
 import org.lukashian.store.CalendarKeys;
 import org.lukashian.store.MillisecondStore;
 
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serial;
 import java.io.Serializable;
+import java.math.BigInteger;
 import java.math.RoundingMode;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static org.lukashian.LukashianException.check;
 import static org.lukashian.store.MillisecondStore.*;
@@ -203,7 +211,7 @@ public final class Instant extends CalendarObject implements Comparable<Instant>
 	 * @throws LukashianException when the result would be before the start of the Lukashian Calendar
 	 */
 	public Instant atPreviousDay() {
-		return this.minusDays(1);
+		return Instant.of(day.previous(), proportionOfDay);
 	}
 
 	/**
@@ -215,7 +223,7 @@ public final class Instant extends CalendarObject implements Comparable<Instant>
 	 * @throws LukashianException when the result would be before the start of the Lukashian Calendar
 	 */
 	public Instant atNextDay() {
-		return this.plusDays(1);
+		return Instant.of(day.next(), proportionOfDay);
 	}
 
 	/**
@@ -230,7 +238,7 @@ public final class Instant extends CalendarObject implements Comparable<Instant>
 		if (millisecondsToSubtract < 0) { //To not have to deal with negatives
 			return this.plusMilliseconds(Math.negateExact(millisecondsToSubtract));
 		}
-		return Instant.ofEpoch(Math.subtractExact(this.getEpochMilliseconds(), millisecondsToSubtract), calendarKey);
+		return this.atEpoch(Math.subtractExact(this.getEpochMilliseconds(), millisecondsToSubtract));
 	}
 
 	/**
@@ -255,7 +263,7 @@ public final class Instant extends CalendarObject implements Comparable<Instant>
 		if (millisecondsToAdd < 0) { //To not have to deal with negatives
 			return this.minusMilliseconds(Math.negateExact(millisecondsToAdd));
 		}
-		return Instant.ofEpoch(Math.addExact(this.getEpochMilliseconds(), millisecondsToAdd), calendarKey);
+		return this.atEpoch(Math.addExact(this.getEpochMilliseconds(), millisecondsToAdd));
 	}
 
 	/**
@@ -296,7 +304,7 @@ public final class Instant extends CalendarObject implements Comparable<Instant>
 			daysToSubtract++; //Add one on top of the amount of whole days
 			remainingProportion = remainingProportion.add(BigFraction.ONE);
 		}
-		return Instant.of(day.minusDays(daysToSubtract), remainingProportion);
+		return Instant.of(this.dayMinus(daysToSubtract), remainingProportion);
 	}
 
 	/**
@@ -337,7 +345,7 @@ public final class Instant extends CalendarObject implements Comparable<Instant>
 		BigFraction totalProportion = proportionOfDay.add(proportionToAdd);
 		int daysToAdd = totalProportion.intValue();
 		BigFraction remainingProportion = totalProportion.subtract(daysToAdd);
-		return Instant.of(day.plusDays(daysToAdd), remainingProportion);
+		return Instant.of(this.dayPlus(daysToAdd), remainingProportion);
 	}
 
 	/**
@@ -356,6 +364,58 @@ public final class Instant extends CalendarObject implements Comparable<Instant>
 		return this.plusProportionOfDay(BigFraction.of(beepsToAdd, BEEPS_PER_DAY));
 	}
 
+	/**
+	 * Returns an ordered {@link Stream} of the instants that result from adding multiples of the given amount of beeps to this instant, from this instant
+	 * itself until the given non-null {@link Instant}, inclusive if it is reached exactly. Each element is calculated with {@link #plusBeeps(int)} from this
+	 * instant, so the steps follow the varying lengths of the days in the same way. The {@link Stream} is empty if the given instant is before this instant.
+	 * It is backed by a sized {@link Spliterator} that splits the range of steps evenly, so that it can be processed in parallel.
+	 * <p>
+	 * Please note that consecutive elements may be equal if the given amount of beeps is shorter than a millisecond.
+	 *
+	 * @throws LukashianException when the given amount of beeps is 0 or lower
+	 */
+	public Stream<Instant> rangeTo(Instant endInclusive, int beeps) {
+		this.checkSameKeyAs(endInclusive);
+		check(beeps >= 1, () -> beeps + " is not a valid amount of beeps to step with, the minimum is 1");
+
+		long numberOfSteps = this.isAfter(endInclusive) ? 0 : this.getLastStepUntil(endInclusive, beeps) + 1;
+		return StreamSupport.stream(new IndexSpliterator<>(0, numberOfSteps, Spliterator.SORTED, step -> this.plusSteps(step, beeps)), false);
+	}
+
+	/**
+	 * Finds the highest step for which this instant plus the step times the given amount of beeps is the same as or before the given instant, using binary search.
+	 * The steps are counted in a long, since a range of single beeps covers more than {@link Integer#MAX_VALUE} steps after about 214748 days.
+	 */
+	private long getLastStepUntil(Instant endInclusive, int beeps) {
+		int lastEpochDay = endInclusive.getDay().getEpochDay();
+		long low = 0; //Always a valid step
+		long high = ((lastEpochDay - day.getEpochDay() + 1L) * BEEPS_PER_DAY) / beeps + 1;
+
+		while (low < high) {
+			long middle = (low + high + 1) >>> 1;
+
+			//The day of the step is determined first, so that no steps are created that would be on days that are not supported
+			BigFraction totalProportion = proportionOfDay.add(BigFraction.of(middle * beeps, BEEPS_PER_DAY));
+			long epochDayOfStep = day.getEpochDay() + totalProportion.longValue();
+
+			boolean reached = epochDayOfStep < lastEpochDay || (epochDayOfStep == lastEpochDay && this.plusSteps(middle, beeps).isSameOrBefore(endInclusive));
+			if (reached) {
+				low = middle;
+			} else {
+				high = middle - 1;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Returns this instant plus the given number of steps of the given amount of beeps, like {@link #plusBeeps(int)}, but without limiting the total amount
+	 * of beeps to an int.
+	 */
+	private Instant plusSteps(long steps, int beeps) {
+		return this.plusProportionOfDay(BigFraction.of(steps * beeps, BEEPS_PER_DAY));
+	}
+
 	/**
 	 * Returns whether this instant is before the given non-null {@link Instant}. This will compare the unique milliseconds on the timeline that the Instants represent. It will not compare
 	 * the proportions of the respective days that the Instants represent.
@@ -501,6 +561,10 @@ public final class Instant extends CalendarObject implements Comparable<Instant>
 	 * This means that everything after the first 4 significant digits of the proportion of the day that this instant represents, will be truncated.
 	 */
 	public int getBeeps() {
+		BigInteger denominator = proportionOfDay.getDenominator();
+		if (denominator.bitLength() < Long.SIZE - 14) { //The numerator is lower than the denominator, so the product with 10000 fits in a long
+			return (int) (proportionOfDay.getNumerator().longValue() * BEEPS_PER_DAY / denominator.longValue());
+		}
 		return proportionOfDay.multiply(BigFraction.of(BEEPS_PER_DAY)).intValue();
 	}
 
@@ -522,10 +586,12 @@ public final class Instant extends CalendarObject implements Comparable<Instant>
 	/**
 	 * Returns the same point in time on the given calendar instance. This is only possible for {@link Instant}s, not {@link Day}s and {@link Year}s, because
 	 * those don't have a one-on-one match between calendar instances, i.e. the starting and ending points of days and years on one calendar instance may not
-	 * coincide with those on another calendar instance, so they cannot be mapped onto one another.
+	 * coincide with those on another calendar instance, so they cannot be mapped onto one another. To find out which days of another calendar instance a
+	 * range of days overlaps with, see {@link DayOverlaps}.
 	 *
 	 * @see CalendarKeys
 	 * @see MillisecondStore
+	 * @see BulkEpochMath#toCalendar(Instant[], int)
 	 */
 	public Instant toCalendar(int calendarKey) {
 		return Instant.ofUnixEpochMilliseconds(this.getUnixEpochMilliseconds(), calendarKey);
@@ -576,6 +642,55 @@ public final class Instant extends CalendarObject implements Comparable<Instant>
 		return beepDifference + dayDifference;
 	}
 
+	/**
+	 * Returns the {@link Instant} representing the given number of epoch milliseconds. When these milliseconds lie on the {@link Day} of this instant or
+	 * on one of its neighbouring days, which is the case for nearly all small offsets, that {@link Day} is reused instead of being searched for.
+	 */
+	private Instant atEpoch(long epochMilliseconds) {
+		if (epochMilliseconds > day.getEpochMilliseconds()) {
+			if (epochMilliseconds - day.getEpochMilliseconds() <= day.lengthInMilliseconds()) { //Days of similar length, so worth trying the next one
+				Day next = day.next();
+				if (epochMilliseconds <= next.getEpochMilliseconds()) {
+					return Instant.ofEpoch(epochMilliseconds, next);
+				}
+			}
+			return Instant.ofEpoch(epochMilliseconds, calendarKey);
+
+		} else if (epochMilliseconds <= day.getEpochMillisecondsPreviousDay()) {
+			if (day.getEpochMillisecondsPreviousDay() - epochMilliseconds < day.lengthInMilliseconds() && day.getEpochDay() > 1) {
+				Day previous = day.previous();
+				if (epochMilliseconds > previous.getEpochMillisecondsPreviousDay()) {
+					return Instant.ofEpoch(epochMilliseconds, previous);
+				}
+			}
+			return Instant.ofEpoch(epochMilliseconds, calendarKey);
+		}
+		return Instant.ofEpoch(epochMilliseconds, day);
+	}
+
+	/**
+	 * Returns the {@link Day} of this instant plus the given non-negative amount of days, reusing the bounds of the {@link Day} of this instant where possible.
+	 */
+	private Day dayPlus(int daysToAdd) {
+		return daysToAdd == 0 ? day : daysToAdd == 1 ? day.next() : day.plusDays(daysToAdd);
+	}
+
+	/**
+	 * Returns the {@link Day} of this instant minus the given non-negative amount of days, reusing the bounds of the {@link Day} of this instant where possible.
+	 */
+	private Day dayMinus(int daysToSubtract) {
+		return daysToSubtract == 0 ? day : daysToSubtract == 1 ? day.previous() : day.minusDays(daysToSubtract);
+	}
+
+	/**
+	 * Creates a new {@link Instant} representing the given number of milliseconds since the start of the calendar instance of the given {@link Day}, which
+	 * needs to contain those milliseconds.
+	 */
+	static Instant ofEpoch(long epochMilliseconds, Day day) {
+		long millisecondsPassed = epochMilliseconds - day.getEpochMillisecondsAtStartOfDay(); //Use getEpochMillisecondsAtStartOfDay in order not to count the millisecond itself as having passed
+		return Instant.of(day, BigFraction.of(millisecondsPassed, day.lengthInMilliseconds()));
+	}
+
 	/**
 	 * Creates a new {@link Instant} representing the given number of milliseconds since the start of the given calendar instance. See the javadoc of
 	 * {@link Instant} for an explanation of how a millisecond is translated to a proportion of a day.
@@ -585,12 +700,7 @@ public final class Instant extends CalendarObject implements Comparable<Instant>
 	 * @throws LukashianException when the given number of milliseconds is lower than 0 or when the given calendar instance is not registered
 	 */
 	public static Instant ofEpoch(long epochMilliseconds, int calendarKey) {
-		Day day =  Day.ofEpoch(data(calendarKey).getEpochDayForEpochMilliseconds(epochMilliseconds), calendarKey);
-		long millisecondsOfDay = day.lengthInMilliseconds();
-
-		long millisecondsPassed = epochMilliseconds - day.getEpochMillisecondsAtStartOfDay(); //Use getEpochMillisecondsAtStartOfDay in order not to count the millisecond itself as having passed
-		BigFraction proportionOfDay = BigFraction.of(millisecondsPassed, millisecondsOfDay);
-		return Instant.of(day, proportionOfDay);
+		return Instant.ofEpoch(epochMilliseconds, Day.ofEpoch(data(calendarKey).getEpochDayForEpochMilliseconds(epochMilliseconds), calendarKey));
 	}
 
 	/**
@@ -733,6 +843,54 @@ public final class Instant extends CalendarObject implements Comparable<Instant>
 		return Instant.ofJavaInstant(javaInstant, defaultCalendarKey());
 	}
 
+	/**
+	 * Returns the {@link Instant} representing the given number of milliseconds since the start of the given calendar instance, or an empty {@link Optional}
+	 * when the given number of milliseconds is lower than 1 or not supported by the given calendar instance. Unlike {@link #ofEpoch(long, int)}, this method
+	 * does not throw an exception for such values.
+	 *
+	 * @see CalendarKeys
+	 * @see MillisecondStore
+	 * @throws LukashianException when the given calendar instance is not registered
+	 */
+	public static Optional<Instant> tryOfEpoch(long epochMilliseconds, int calendarKey) {
+		return data(calendarKey).isSupportedEpochMilliseconds(epochMilliseconds) ? Optional.of(Instant.ofEpoch(epochMilliseconds, calendarKey)) : Optional.empty();
+	}
+
+	/**
+	 * Returns the {@link Instant} representing the given number of milliseconds since the start of the default calendar instance, or an empty {@link Optional}
+	 * when the given number of milliseconds is lower than 1 or not supported by the default calendar instance. Unlike {@link #ofEpoch(long)}, this method
+	 * does not throw an exception for such values.
+	 *
+	 * @see MillisecondStore
+	 */
+	public static Optional<Instant> tryOfEpoch(long epochMilliseconds) {
+		return Instant.tryOfEpoch(epochMilliseconds, defaultCalendarKey());
+	}
+
+	/**
+	 * Returns the {@link Instant} representing the given number of milliseconds since the UNIX Epoch in the given calendar instance, or an empty {@link Optional}
+	 * when the resulting point is not supported by the given calendar instance. Unlike {@link #ofUnixEpochMilliseconds(long, int)}, this method does not throw
+	 * an exception for such values.
+	 *
+	 * @see CalendarKeys
+	 * @see MillisecondStore
+	 * @throws LukashianException when the given calendar instance is not registered
+	 */
+	public static Optional<Instant> tryOfUnixEpochMilliseconds(long unixEpochMilliseconds, int calendarKey) {
+		return data(calendarKey).isSupportedUnixEpochMilliseconds(unixEpochMilliseconds) ? Optional.of(Instant.ofUnixEpochMilliseconds(unixEpochMilliseconds, calendarKey)) : Optional.empty();
+	}
+
+	/**
+	 * Returns the {@link Instant} representing the given number of milliseconds since the UNIX Epoch in the default calendar instance, or an empty {@link Optional}
+	 * when the resulting point is not supported by the default calendar instance. Unlike {@link #ofUnixEpochMilliseconds(long)}, this method does not throw
+	 * an exception for such values.
+	 *
+	 * @see MillisecondStore
+	 */
+	public static Optional<Instant> tryOfUnixEpochMilliseconds(long unixEpochMilliseconds) {
+		return Instant.tryOfUnixEpochMilliseconds(unixEpochMilliseconds, defaultCalendarKey());
+	}
+
 	/**
 	 * Returns the current {@link Instant} of the given calendar instance.
 	 *
@@ -744,6 +902,13 @@ public final class Instant extends CalendarObject implements Comparable<Instant>
 		return Instant.ofEpoch(data(calendarKey).getCurrentEpochMilliseconds(), calendarKey);
 	}
 
+	/**
+	 * Returns the current {@link Instant} according to the given {@link LukashianClock}.
+	 */
+	public static Instant now(LukashianClock clock) {
+		return clock.now();
+	}
+
 	/**
 	 * Returns the current {@link Instant} of the default calendar instance.
 	 *
@@ -776,4 +941,17 @@ public final class Instant extends CalendarObject implements Comparable<Instant>
 	public String toString() {
 		return "[Instant: " + Formatter.format(this) + "]";
 	}
+
+	/**
+	 * Replaces this {@link Instant} by its compact serialized form, see {@link SerializationProxy}.
+	 */
+	@Serial
+	private Object writeReplace() {
+		return new SerializationProxy(this);
+	}
+
+	@Serial
+	private void readObject(ObjectInputStream stream) throws InvalidObjectException {
+		throw new InvalidObjectException("An Instant can only be deserialized via its serialization proxy");
+	}
 }
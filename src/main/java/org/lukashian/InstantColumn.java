@@ -0,0 +1,355 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import org.apache.commons.numbers.fraction.BigFraction;
+import org.lukashian.store.MillisecondStoreData;
+
+import java.math.BigInteger;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Objects;
+
+import static org.lukashian.LukashianException.check;
+import static org.lukashian.store.MillisecondStore.data;
+import static org.lukashian.store.MillisecondStore.defaultCalendarKey;
+
+/**
+ * An immutable column of {@link Instant}s of a single calendar instance, that stores their epoch milliseconds in compressed blocks, rather than as objects. Each
+ * block of 1024 instants stores its lowest and highest epoch milliseconds, and the differences with the lowest epoch milliseconds in as few bits as they fit
+ * in, which for instants that are sorted or clustered in time takes a few bits per instant, while each instant can still be read directly.
+ * <p>
+ * The filters, such as {@link #inDay(Day)} and {@link #between(Instant, Instant)}, return a {@link BitSet} with a bit set for the index of every matching
+ * instant, without creating any {@link Instant}s. Blocks of which the lowest and highest epoch milliseconds are both outside or both inside the filtered range
+ * are skipped or selected as a whole. Only the other blocks are decoded, to compare their epoch milliseconds one by one.
+ * <p>
+ * Besides the epoch milliseconds, a column can store the epoch days of the instants, see {@link #withEpochDays()}, so that they don't need to be looked up.
+ * When the column is created from {@link Instant}s that were not created from milliseconds, such as with {@link Instant#of(Day, int)}, it stores their exact
+ * proportions of the day as well, so that {@link #get(int)} returns {@link Instant}s that are equal to the original ones.
+ */
+public final class InstantColumn {
+
+	private final int calendarKey;
+	private final MillisecondStoreData data;
+	private final PackedBlocks epochMilliseconds;
+	private final PackedBlocks epochDays; //Optional
+	private final PackedBlocks numerators; //Optional, together with the denominators, where a denominator of 0 means that the proportion follows from the millisecond
+	private final PackedBlocks denominators;
+
+	private InstantColumn(int calendarKey, PackedBlocks epochMilliseconds, PackedBlocks epochDays, PackedBlocks numerators, PackedBlocks denominators) {
+		this.calendarKey = calendarKey;
+		this.data = data(calendarKey);
+		this.epochMilliseconds = epochMilliseconds;
+		this.epochDays = epochDays;
+		this.numerators = numerators;
+		this.denominators = denominators;
+	}
+
+	/**
+	 * Returns a new {@link InstantColumn} with the same instants as this column, that also stores their epoch days, or this column if it already does.
+	 */
+	public InstantColumn withEpochDays() {
+		if (epochDays != null) {
+			return this;
+		}
+
+		long[] values = new long[epochMilliseconds.size()];
+		long[] block = new long[PackedBlocks.BLOCK_SIZE];
+		int[] blockEpochDays = new int[PackedBlocks.BLOCK_SIZE];
+		for (int b = 0; b < epochMilliseconds.numberOfBlocks(); b++) {
+			int length = epochMilliseconds.blockLength(b);
+			epochMilliseconds.decode(b, block, 0);
+			data.getEpochDaysForEpochMilliseconds(block, 0, length, blockEpochDays, 0);
+			for (int i = 0; i < length; i++) {
+				values[(b << PackedBlocks.BLOCK_SHIFT) + i] = blockEpochDays[i];
+			}
+		}
+		return new InstantColumn(calendarKey, epochMilliseconds, new PackedBlocks(values, 0, values.length), numerators, denominators);
+	}
+
+	/**
+	 * Returns whether this column stores the epoch days of its instants.
+	 */
+	public boolean hasEpochDays() {
+		return epochDays != null;
+	}
+
+	/**
+	 * Returns whether this column stores exact proportions of the day for its instants, which is the case when it was created from {@link Instant}s that were
+	 * not created from milliseconds.
+	 */
+	public boolean hasExactProportions() {
+		return denominators != null;
+	}
+
+	/**
+	 * Returns the number of instants in this column.
+	 */
+	public int size() {
+		return epochMilliseconds.size();
+	}
+
+	/**
+	 * Returns the calendar key of the instants in this column.
+	 */
+	public int getCalendarKey() {
+		return calendarKey;
+	}
+
+	/**
+	 * Returns the number of milliseconds since the start of the calendar instance of the instant at the given index.
+	 */
+	public long getEpochMilliseconds(int index) {
+		Objects.checkIndex(index, this.size());
+		return epochMilliseconds.get(index);
+	}
+
+	/**
+	 * Returns the epoch day of the instant at the given index, which is looked up if this column does not store epoch days.
+	 */
+	public int getEpochDay(int index) {
+		Objects.checkIndex(index, this.size());
+		return epochDays != null ? (int) epochDays.get(index) : data.getEpochDayForEpochMilliseconds(epochMilliseconds.get(index));
+	}
+
+	/**
+	 * Creates the {@link Instant} at the given index. If this column stores exact proportions, the {@link Instant} has the proportion of the day of the
+	 * {@link Instant} that the column was created from.
+	 */
+	public Instant get(int index) {
+		Day day = Day.ofEpoch(this.getEpochDay(index), data, calendarKey);
+		long denominator = denominators == null ? 0 : denominators.get(index);
+		if (denominator != 0) {
+			return Instant.of(day, BigFraction.of(numerators.get(index), denominator));
+		}
+		return Instant.ofEpoch(epochMilliseconds.get(index), day);
+	}
+
+	/**
+	 * Returns the epoch milliseconds of all instants in this column, in a new array.
+	 */
+	public long[] toEpochMilliseconds() {
+		long[] values = new long[this.size()];
+		for (int block = 0; block < epochMilliseconds.numberOfBlocks(); block++) {
+			epochMilliseconds.decode(block, values, block << PackedBlocks.BLOCK_SHIFT);
+		}
+		return values;
+	}
+
+	/**
+	 * Returns the approximate number of bytes that the encoded instants of this column take.
+	 */
+	public long getSizeInBytes() {
+		long size = epochMilliseconds.sizeInBytes();
+		if (epochDays != null) {
+			size += epochDays.sizeInBytes();
+		}
+		if (denominators != null) {
+			size += numerators.sizeInBytes() + denominators.sizeInBytes();
+		}
+		return size;
+	}
+
+	/**
+	 * Selects the instants that are on the given non-null {@link Day}.
+	 *
+	 * @throws LukashianException when the given {@link Day} is of a different calendar instance than this column
+	 */
+	public BitSet inDay(Day day) {
+		this.checkCalendarKey(day);
+		return this.betweenEpochMilliseconds(day.getEpochMillisecondsAtStartOfDay(), day.getEpochMilliseconds());
+	}
+
+	/**
+	 * Selects the instants that are in the given non-null {@link Year}.
+	 *
+	 * @throws LukashianException when the given {@link Year} is of a different calendar instance than this column
+	 */
+	public BitSet inYear(Year year) {
+		this.checkCalendarKey(year);
+		return this.betweenEpochMilliseconds(year.getEpochMillisecondsAtStartOfYear(), year.getEpochMilliseconds());
+	}
+
+	/**
+	 * Selects the instants that are in the given non-null {@link CalendarRange}.
+	 *
+	 * @throws LukashianException when the given {@link CalendarRange} is of a different calendar instance than this column
+	 */
+	public BitSet in(CalendarRange<?> range) {
+		check(range.getCalendarKey() == calendarKey, () -> "Calendar keys of CalendarObjects do not match");
+		return this.betweenEpochMilliseconds(range.getEpochMillisecondsAtStart(), range.getEpochMillisecondsAtEnd());
+	}
+
+	/**
+	 * Selects the instants that are between the given non-null {@link Instant}s, both inclusive.
+	 *
+	 * @throws LukashianException when either of the given {@link Instant}s is of a different calendar instance than this column
+	 */
+	public BitSet between(Instant startInclusive, Instant endInclusive) {
+		this.checkCalendarKey(startInclusive);
+		this.checkCalendarKey(endInclusive);
+		return this.betweenEpochMilliseconds(startInclusive.getEpochMilliseconds(), endInclusive.getEpochMilliseconds());
+	}
+
+	/**
+	 * Selects the instants of which the number of milliseconds since the start of the calendar instance is between the given numbers, both inclusive.
+	 */
+	public BitSet betweenEpochMilliseconds(long startInclusive, long endInclusive) {
+		long[] selection = new long[(this.size() + Long.SIZE - 1) / Long.SIZE];
+		long[] block = new long[PackedBlocks.BLOCK_SIZE];
+
+		for (int b = 0; b < epochMilliseconds.numberOfBlocks(); b++) {
+			long minimum = epochMilliseconds.minimum(b);
+			long maximum = epochMilliseconds.maximum(b);
+			if (maximum < startInclusive || minimum > endInclusive) {
+				continue;
+			}
+
+			int length = epochMilliseconds.blockLength(b);
+			int firstWord = (b << PackedBlocks.BLOCK_SHIFT) / Long.SIZE; //Blocks start at a word boundary, since the block size is a multiple of 64
+			if (minimum >= startInclusive && maximum <= endInclusive) {
+				for (int i = 0; i < length / Long.SIZE; i++) {
+					selection[firstWord + i] = -1L;
+				}
+				if (length % Long.SIZE != 0) {
+					selection[firstWord + length / Long.SIZE] = (1L << (length % Long.SIZE)) - 1;
+				}
+				continue;
+			}
+
+			epochMilliseconds.decode(b, block, 0);
+			for (int i = 0; i < length; i++) {
+				long value = block[i];
+				long selected = value >= startInclusive & value <= endInclusive ? 1L : 0L;
+				selection[firstWord + i / Long.SIZE] |= selected << i;
+			}
+		}
+		return BitSet.valueOf(selection);
+	}
+
+	private void checkCalendarKey(CalendarObject calendarObject) {
+		check(calendarObject.getCalendarKey() == calendarKey, () -> "Calendar keys of CalendarObjects do not match");
+	}
+
+	/**
+	 * Creates a new {@link InstantColumn} with the given numbers of milliseconds since the start of the calendar instance with the given key.
+	 *
+	 * @throws LukashianException when any of the given numbers of milliseconds is not supported by the calendar instance
+	 */
+	public static InstantColumn ofEpoch(long[] epochMilliseconds, int calendarKey) {
+		MillisecondStoreData data = data(calendarKey);
+		for (long value : epochMilliseconds) {
+			check(data.isSupportedEpochMilliseconds(value), () -> "Lukashian Epoch millisecond " + value + " isn't supported by this Lukashian Calendar instance");
+		}
+		return new InstantColumn(calendarKey, new PackedBlocks(epochMilliseconds, 0, epochMilliseconds.length), null, null, null);
+	}
+
+	/**
+	 * Creates a new {@link InstantColumn} with the given numbers of milliseconds since the start of the default calendar instance.
+	 *
+	 * @throws LukashianException when any of the given numbers of milliseconds is not supported by the calendar instance
+	 */
+	public static InstantColumn ofEpoch(long[] epochMilliseconds) {
+		return ofEpoch(epochMilliseconds, defaultCalendarKey());
+	}
+
+	/**
+	 * Creates a new {@link InstantColumn} with the given non-null {@link Instant}s, which need to be of the given calendar instance. The column stores exact
+	 * proportions if any of the given {@link Instant}s has a proportion of the day that does not follow from its millisecond.
+	 *
+	 * @throws LukashianException when any of the given {@link Instant}s is of a different calendar instance, or when an exact proportion does not fit in a
+	 * numerator and denominator of 63 bits
+	 */
+	public static InstantColumn of(Collection<Instant> instants, int calendarKey) {
+		int size = instants.size();
+		long[] epochMilliseconds = new long[size];
+		long[] numerators = new long[size];
+		long[] denominators = new long[size];
+		boolean exact = false;
+
+		int i = 0;
+		for (Instant instant : instants) {
+			check(instant.getCalendarKey() == calendarKey, () -> "Calendar keys of CalendarObjects do not match");
+
+			epochMilliseconds[i] = instant.getEpochMilliseconds();
+			BigFraction proportion = instant.getProportionOfDay();
+			Day day = instant.getDay();
+			if (!proportion.equals(BigFraction.of(epochMilliseconds[i] - day.getEpochMillisecondsAtStartOfDay(), day.lengthInMilliseconds()))) {
+				numerators[i] = longValue(proportion.getNumerator());
+				denominators[i] = longValue(proportion.getDenominator());
+				exact = true;
+			}
+			i++;
+		}
+
+		PackedBlocks packedEpochMilliseconds = new PackedBlocks(epochMilliseconds, 0, size);
+		if (!exact) {
+			return new InstantColumn(calendarKey, packedEpochMilliseconds, null, null, null);
+		}
+		return new InstantColumn(calendarKey, packedEpochMilliseconds, null, new PackedBlocks(numerators, 0, size), new PackedBlocks(denominators, 0, size));
+	}
+
+	/**
+	 * Creates a new {@link InstantColumn} with the given non-null {@link Instant}s, which need to be of the default calendar instance. The column stores exact
+	 * proportions if any of the given {@link Instant}s has a proportion of the day that does not follow from its millisecond.
+	 *
+	 * @throws LukashianException when any of the given {@link Instant}s is of a different calendar instance, or when an exact proportion does not fit in a
+	 * numerator and denominator of 63 bits
+	 */
+	public static InstantColumn of(Collection<Instant> instants) {
+		return of(instants, defaultCalendarKey());
+	}
+
+	private static long longValue(BigInteger value) {
+		check(value.bitLength() < Long.SIZE, () -> "Proportion of day is too precise to be stored in a column");
+		return value.longValue();
+	}
+}
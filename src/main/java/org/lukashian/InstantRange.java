@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import org.lukashian.store.CalendarKeys;
+import org.lukashian.store.MillisecondStore;
+
+import java.util.stream.Stream;
+
+import static org.lukashian.store.MillisecondStore.defaultCalendarKey;
+
+/**
+ * Represents the {@link Instant}s from a start {@link Instant} until an end {@link Instant}, both inclusive. Like {@link Instant#compareTo(Instant)}, a
+ * range only considers the unique milliseconds on the timeline that its {@link Instant}s represent.
+ * <p>
+ * {@link InstantRange} is an immutable object.
+ *
+ * @see CalendarRangeIndex
+ */
+public final class InstantRange extends CalendarRange<Instant> {
+
+	private InstantRange(Instant start, Instant end) {
+		super(start, end, start.getEpochMilliseconds(), end.getEpochMilliseconds());
+	}
+
+	/**
+	 * Returns an ordered {@link Stream} of the instants of this range, starting at its start, with steps of the given amount of beeps.
+	 *
+	 * @see Instant#rangeTo(Instant, int)
+	 * @throws LukashianException when the given amount of beeps is 0 or lower
+	 */
+	public Stream<Instant> instants(int beeps) {
+		return this.getStart().rangeTo(this.getEnd(), beeps);
+	}
+
+	/**
+	 * Creates a new {@link InstantRange} from the given non-null start until the given non-null end, both inclusive.
+	 *
+	 * @throws LukashianException when the given {@link Instant}s are of different calendar instances or when the start is after the end
+	 */
+	public static InstantRange of(Instant start, Instant end) {
+		return new InstantRange(start, end);
+	}
+
+	/**
+	 * Creates a new {@link InstantRange} of the given calendar instance, from the given number of milliseconds until the given number of milliseconds, both
+	 * inclusive, since the start of the calendar instance.
+	 *
+	 * @see CalendarKeys
+	 * @see MillisecondStore
+	 * @throws LukashianException when either of the given numbers of milliseconds is not supported by the given calendar instance or when the start is after
+	 * the end
+	 */
+	public static InstantRange ofEpoch(long epochMillisecondsAtStart, long epochMillisecondsAtEnd, int calendarKey) {
+		return new InstantRange(Instant.ofEpoch(epochMillisecondsAtStart, calendarKey), Instant.ofEpoch(epochMillisecondsAtEnd, calendarKey));
+	}
+
+	/**
+	 * Creates a new {@link InstantRange} of the default calendar instance, from the given number of milliseconds until the given number of milliseconds, both
+	 * inclusive, since the start of the calendar instance.
+	 *
+	 * @see MillisecondStore
+	 * @throws LukashianException when either of the given numbers of milliseconds is not supported by the calendar instance or when the start is after the end
+	 */
+	public static InstantRange ofEpoch(long epochMillisecondsAtStart, long epochMillisecondsAtEnd) {
+		return InstantRange.ofEpoch(epochMillisecondsAtStart, epochMillisecondsAtEnd, defaultCalendarKey());
+	}
+
+	@Override
+	public InstantRange toInstantRange() {
+		return this;
+	}
+
+	@Override
+	public String toString() {
+		return "[InstantRange: " + Formatter.format(this.getStart()) + " - " + Formatter.format(this.getEnd()) + "]";
+	}
+}
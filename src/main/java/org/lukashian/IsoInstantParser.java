@@ -0,0 +1,439 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import org.lukashian.Parser.AsciiSequence;
+import org.lukashian.store.MillisecondStoreData;
+
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Objects;
+
+import static org.lukashian.LukashianException.check;
+import static org.lukashian.store.MillisecondStore.data;
+import static org.lukashian.store.MillisecondStore.defaultCalendarKey;
+
+/**
+ * An immutable, thread-safe parser for ISO-8601 timestamps, that reads them directly into epoch milliseconds of a calendar instance, without going through
+ * {@link java.time}. It reads the date and time with a fixed layout, converts the date to a number of days since the UNIX Epoch with integer arithmetic, and
+ * corrects the result for leap seconds in the same way as {@link Instant#ofUnixEpochMilliseconds(long, int)}.
+ * <p>
+ * The supported layout is {@code yyyy-MM-ddTHH:mm[:ss[.fraction]]offset}, where:
+ * <ul>
+ *     <li>the {@code T} can also be a lowercase {@code t} or a space</li>
+ *     <li>the fraction of a second has 1 to 9 digits, of which the ones after the milliseconds are truncated</li>
+ *     <li>the offset is {@code Z}, {@code z}, or {@code +HH}, {@code +HHmm} or {@code +HH:mm}, or the same with {@code -}</li>
+ *     <li>the seconds can be 60 at the end of a UTC day that ends with a leap second, since the Lukashian Calendar counts leap seconds</li>
+ * </ul>
+ * Like {@link Parser}, the methods that return epoch milliseconds, and the methods that parse a delimited column, report invalid or unsupported timestamps
+ * with a result of 0, which is never a valid number of epoch milliseconds, rather than with an exception.
+ */
+public final class IsoInstantParser {
+
+	private static final long INVALID = Long.MIN_VALUE;
+	private static final long LEAP_SECOND = 1L << 60; //Added to the result of parseUnixEpochMilliseconds for a leap second, which stays far from INVALID
+	private static final long MILLISECONDS_PER_DAY = 86_400_000L;
+	private static final int MAX_OFFSET_HOURS = 18;
+
+	private final int calendarKey;
+	private final MillisecondStoreData data;
+
+	private IsoInstantParser(int calendarKey) {
+		this.calendarKey = calendarKey;
+		this.data = data(calendarKey);
+	}
+
+	/**
+	 * Returns the calendar key of the calendar instance that this parser parses for.
+	 */
+	public int getCalendarKey() {
+		return calendarKey;
+	}
+
+	/**
+	 * Parses the given ISO-8601 timestamp into an {@link Instant}.
+	 *
+	 * @throws LukashianException when the given text is not a valid ISO-8601 timestamp, or not supported by the calendar instance of this parser
+	 */
+	public Instant parseInstant(CharSequence text) {
+		long epochMilliseconds = this.parseEpochMilliseconds(text, 0, text.length());
+		check(epochMilliseconds > 0, () -> "Text '" + text + "' is not a valid or supported ISO-8601 timestamp");
+
+		return Instant.ofEpoch(epochMilliseconds, calendarKey);
+	}
+
+	/**
+	 * Parses the ISO-8601 timestamp in the given range of the given text into epoch milliseconds, or returns 0 when it is invalid or not supported by the
+	 * calendar instance of this parser.
+	 *
+	 * @throws IndexOutOfBoundsException when the given range is not within the given text
+	 */
+	public long parseEpochMilliseconds(CharSequence text, int start, int end) {
+		Objects.checkFromToIndex(start, end, text.length());
+		return this.toEpochMilliseconds(parseUnixEpochMilliseconds(text, start, end));
+	}
+
+	/**
+	 * Parses the ISO-8601 timestamp in the given range of the given characters into epoch milliseconds, or returns 0 when it is invalid or not supported by
+	 * the calendar instance of this parser.
+	 *
+	 * @throws IndexOutOfBoundsException when the given range is not within the given array
+	 */
+	public long parseEpochMilliseconds(char[] text, int offset, int length) {
+		return this.parseEpochMilliseconds(CharBuffer.wrap(text), offset, offset + length);
+	}
+
+	/**
+	 * Parses the ISO-8601 timestamp in the given range of the given ASCII bytes into epoch milliseconds, or returns 0 when it is invalid or not supported by
+	 * the calendar instance of this parser.
+	 *
+	 * @throws IndexOutOfBoundsException when the given range is not within the given array
+	 */
+	public long parseEpochMilliseconds(byte[] text, int offset, int length) {
+		return this.parseEpochMilliseconds(new AsciiSequence(text), offset, offset + length);
+	}
+
+	/**
+	 * Parses the ISO-8601 timestamps in the given range of the given text, which are separated by the given delimiter, and stores their epoch milliseconds,
+	 * and optionally their epoch days and beeps, in the given arrays, starting at the given offset. The arrays of epoch days and beeps may be null. For each
+	 * timestamp that is invalid or not supported, 0 is stored in each of the arrays, and the bit of its index, counting from 0 for the first timestamp of the
+	 * column, is set in the given {@link BitSet} of errors. A delimiter at the end of the range is ignored, so that a column of lines can end with a line
+	 * separator.
+	 * <p>
+	 * The timestamps are first parsed into milliseconds since the UNIX Epoch, after which they are converted and looked up as a whole, see
+	 * {@link MillisecondStoreData#getLukashianEpochMilliseconds(long[], int, int, long[], int)}, which is fastest when they are in ascending order.
+	 *
+	 * @return the number of timestamps in the column
+	 * @throws IndexOutOfBoundsException when the given range is not within the given text, or when any of the given arrays is too small
+	 */
+	public int parse(CharSequence text, int start, int end, char delimiter, long[] epochMilliseconds, int[] epochDays, int[] beeps, int targetOffset, BitSet errors) {
+		Objects.checkFromToIndex(start, end, text.length());
+
+		BitSet leapSeconds = null;
+		long[] leapSecondsBefore = null; //The UNIX milliseconds of 23:59:59 for each leap second, since those can't be converted back
+		int numberOfLeapSeconds = 0;
+		long lastValid = INVALID;
+		int numberOfValues = 0;
+		int valueStart = start;
+		while (valueStart < end) {
+			int valueEnd = valueStart;
+			while (valueEnd < end && text.charAt(valueEnd) != delimiter) {
+				valueEnd++;
+			}
+
+			long unixEpochMilliseconds = parseUnixEpochMilliseconds(text, valueStart, valueEnd);
+			if (unixEpochMilliseconds != INVALID && unixEpochMilliseconds >= LEAP_SECOND / 2) {
+				unixEpochMilliseconds -= LEAP_SECOND;
+				if (leapSeconds == null) {
+					leapSeconds = new BitSet();
+					leapSecondsBefore = new long[4];
+				} else if (numberOfLeapSeconds == leapSecondsBefore.length) {
+					leapSecondsBefore = Arrays.copyOf(leapSecondsBefore, numberOfLeapSeconds * 2);
+				}
+				leapSeconds.set(numberOfValues);
+				leapSecondsBefore[numberOfLeapSeconds++] = unixEpochMilliseconds;
+			}
+			if (unixEpochMilliseconds == INVALID || !data.isSupportedUnixEpochMilliseconds(unixEpochMilliseconds)) {
+				errors.set(numberOfValues);
+				unixEpochMilliseconds = lastValid; //Keeps ascending values ascending, errors are cleared below
+			}
+			lastValid = unixEpochMilliseconds;
+			Objects.checkIndex(targetOffset + numberOfValues, epochMilliseconds.length);
+			epochMilliseconds[targetOffset + numberOfValues++] = unixEpochMilliseconds;
+			valueStart = valueEnd + 1;
+		}
+
+		//Leading errors don't have a previous value to take, so take the first valid one
+		int firstValid = errors.nextClearBit(0);
+		if (firstValid >= numberOfValues) {
+			this.clear(epochMilliseconds, epochDays, beeps, targetOffset, numberOfValues, errors);
+			return numberOfValues;
+		}
+		for (int i = 0; i < firstValid; i++) {
+			epochMilliseconds[targetOffset + i] = epochMilliseconds[targetOffset + firstValid];
+		}
+
+		data.getLukashianEpochMilliseconds(epochMilliseconds, targetOffset, numberOfValues, epochMilliseconds, targetOffset);
+		if (leapSeconds != null) {
+			int leapSecond = 0;
+			for (int i = leapSeconds.nextSetBit(0); i >= 0; i = leapSeconds.nextSetBit(i + 1)) {
+				long unixEpochMillisecondsBefore = leapSecondsBefore[leapSecond++];
+				if (!errors.get(i)) {
+					long result = this.toEpochMilliseconds(unixEpochMillisecondsBefore + LEAP_SECOND);
+					epochMilliseconds[targetOffset + i] = result;
+					if (result == 0) {
+						errors.set(i);
+						epochMilliseconds[targetOffset + i] = epochMilliseconds[targetOffset + firstValid];
+					}
+				}
+			}
+		}
+
+		if (epochDays != null || beeps != null) {
+			int[] days = epochDays != null ? epochDays : new int[targetOffset + numberOfValues];
+			data.getEpochDaysForEpochMilliseconds(epochMilliseconds, targetOffset, numberOfValues, days, targetOffset);
+			if (beeps != null) {
+				Objects.checkFromIndexSize(targetOffset, numberOfValues, beeps.length);
+				int epochDay = 0;
+				long epochMillisecondsPreviousDay = 0, millisecondsOfDay = 0;
+				for (int i = targetOffset; i < targetOffset + numberOfValues; i++) {
+					if (days[i] != epochDay) { //Runs of values on the same day share the bounds of that day
+						epochDay = days[i];
+						epochMillisecondsPreviousDay = epochDay == 1 ? 0 : data.getEpochMillisecondsForEpochDay(epochDay - 1);
+						millisecondsOfDay = data.getEpochMillisecondsForEpochDay(epochDay) - epochMillisecondsPreviousDay;
+					}
+					beeps[i] = EpochMath.getBeepsOnDay(epochMilliseconds[i], epochMillisecondsPreviousDay, millisecondsOfDay);
+				}
+			}
+		}
+		this.clear(epochMilliseconds, epochDays, beeps, targetOffset, numberOfValues, errors);
+		return numberOfValues;
+	}
+
+	/**
+	 * Parses the delimited ISO-8601 timestamps in the given range of the given characters, in the same way as
+	 * {@link #parse(CharSequence, int, int, char, long[], int[], int[], int, BitSet)}.
+	 *
+	 * @return the number of timestamps in the column
+	 * @throws IndexOutOfBoundsException when the given range is not within the given array, or when any of the given arrays is too small
+	 */
+	public int parse(char[] text, int offset, int length, char delimiter, long[] epochMilliseconds, int[] epochDays, int[] beeps, int targetOffset, BitSet errors) {
+		return this.parse(CharBuffer.wrap(text), offset, offset + length, delimiter, epochMilliseconds, epochDays, beeps, targetOffset, errors);
+	}
+
+	/**
+	 * Parses the delimited ISO-8601 timestamps in the given range of the given ASCII bytes, in the same way as
+	 * {@link #parse(CharSequence, int, int, char, long[], int[], int[], int, BitSet)}.
+	 *
+	 * @return the number of timestamps in the column
+	 * @throws IndexOutOfBoundsException when the given range is not within the given array, or when any of the given arrays is too small
+	 */
+	public int parse(byte[] text, int offset, int length, char delimiter, long[] epochMilliseconds, int[] epochDays, int[] beeps, int targetOffset, BitSet errors) {
+		return this.parse(new AsciiSequence(text), offset, offset + length, delimiter, epochMilliseconds, epochDays, beeps, targetOffset, errors);
+	}
+
+	private void clear(long[] epochMilliseconds, int[] epochDays, int[] beeps, int targetOffset, int numberOfValues, BitSet errors) {
+		for (int i = errors.nextSetBit(0); i >= 0 && i < numberOfValues; i = errors.nextSetBit(i + 1)) {
+			epochMilliseconds[targetOffset + i] = 0;
+			if (epochDays != null) {
+				epochDays[targetOffset + i] = 0;
+			}
+			if (beeps != null) {
+				beeps[targetOffset + i] = 0;
+			}
+		}
+	}
+
+	/**
+	 * Converts the given result of {@link #parseUnixEpochMilliseconds(CharSequence, int, int)} to epoch milliseconds, or 0 when it is invalid or not
+	 * supported.
+	 */
+	private long toEpochMilliseconds(long unixEpochMilliseconds) {
+		if (unixEpochMilliseconds == INVALID) {
+			return 0;
+		}
+		if (unixEpochMilliseconds < LEAP_SECOND / 2) {
+			return data.isSupportedUnixEpochMilliseconds(unixEpochMilliseconds) ? data.getLukashianEpochMilliseconds(unixEpochMilliseconds) : 0;
+		}
+
+		//UNIX time cannot represent a leap second, so it is the second after 23:59:59 in the Lukashian Calendar, if there is a leap second on that day
+		long unixEpochMillisecondsBefore = unixEpochMilliseconds - LEAP_SECOND;
+		long startOfSecond = unixEpochMillisecondsBefore - Math.floorMod(unixEpochMillisecondsBefore, 1000);
+		if (Math.floorMod(startOfSecond, MILLISECONDS_PER_DAY) != MILLISECONDS_PER_DAY - 1000 || !data.isSupportedUnixEpochMilliseconds(startOfSecond + 1000)) {
+			return 0;
+		}
+		long epochMillisecondsBefore = data.getLukashianEpochMilliseconds(unixEpochMillisecondsBefore);
+		boolean leapSecond = data.getLukashianEpochMilliseconds(startOfSecond + 1000) - data.getLukashianEpochMilliseconds(startOfSecond) == 2000;
+		return leapSecond ? epochMillisecondsBefore + 1000 : 0;
+	}
+
+	/**
+	 * Parses the given range of the given text into milliseconds since the UNIX Epoch. Returns {@link #INVALID} when the text is not a valid ISO-8601
+	 * timestamp, and adds {@link #LEAP_SECOND} to the milliseconds of 23:59:59 when the seconds are 60.
+	 */
+	private static long parseUnixEpochMilliseconds(CharSequence text, int start, int end) {
+		if (end - start < 17) { //The shortest valid timestamp is yyyy-MM-ddTHH:mmZ
+			return INVALID;
+		}
+
+		int year = digits(text, start, 4);
+		int month = digits(text, start + 5, 2);
+		int day = digits(text, start + 8, 2);
+		char separator = text.charAt(start + 10);
+		int hour = digits(text, start + 11, 2);
+		int minute = digits(text, start + 14, 2);
+		if ((year | month | day | hour | minute) < 0 || text.charAt(start + 4) != '-' || text.charAt(start + 7) != '-' || text.charAt(start + 13) != ':' ||
+			(separator != 'T' && separator != 't' && separator != ' ')) {
+			return INVALID;
+		}
+		if (month < 1 || month > 12 || day < 1 || day > getLengthOfMonth(year, month) || hour > 23 || minute > 59) {
+			return INVALID;
+		}
+
+		int position = start + 16;
+		int second = 0, millisecond = 0;
+		if (text.charAt(position) == ':') {
+			second = end - position >= 3 ? digits(text, position + 1, 2) : -1;
+			if (second < 0 || second > 60) {
+				return INVALID;
+			}
+			position += 3;
+
+			if (position < end && (text.charAt(position) == '.' || text.charAt(position) == ',')) {
+				int fractionStart = ++position;
+				while (position < end && position - fractionStart < 9 && isDigit(text.charAt(position))) {
+					if (position - fractionStart < 3) {
+						millisecond = millisecond * 10 + (text.charAt(position) - '0');
+					}
+					position++;
+				}
+				int numberOfDigits = position - fractionStart;
+				if (numberOfDigits == 0) {
+					return INVALID;
+				}
+				for (int i = numberOfDigits; i < 3; i++) {
+					millisecond *= 10;
+				}
+			}
+		}
+
+		long offsetMilliseconds;
+		if (position >= end) {
+			return INVALID;
+		}
+		char sign = text.charAt(position);
+		if (sign == 'Z' || sign == 'z') {
+			offsetMilliseconds = 0;
+			position++;
+
+		} else if (sign == '+' || sign == '-') {
+			int offsetHours = end - position >= 3 ? digits(text, position + 1, 2) : -1;
+			position += 3;
+			int offsetMinutes = 0;
+			if (position < end) {
+				if (text.charAt(position) == ':') {
+					position++;
+				}
+				offsetMinutes = end - position >= 2 ? digits(text, position, 2) : -1;
+				position += 2;
+			}
+			if (offsetHours < 0 || offsetHours > MAX_OFFSET_HOURS || offsetMinutes < 0 || offsetMinutes > 59) {
+				return INVALID;
+			}
+			offsetMilliseconds = (offsetHours * 60L + offsetMinutes) * 60_000L * (sign == '-' ? -1 : 1);
+
+		} else {
+			return INVALID;
+		}
+		if (position != end) {
+			return INVALID;
+		}
+
+		long unixEpochMilliseconds = getUnixEpochDay(year, month, day) * MILLISECONDS_PER_DAY + ((hour * 60L + minute) * 60 + Math.min(second, 59)) * 1000 + millisecond - offsetMilliseconds;
+		return second == 60 ? unixEpochMilliseconds + LEAP_SECOND : unixEpochMilliseconds;
+	}
+
+	/**
+	 * Reads the given number of digits at the given index as a number, or returns -1 when they are not all digits.
+	 */
+	private static int digits(CharSequence text, int index, int numberOfDigits) {
+		int value = 0;
+		for (int i = index; i < index + numberOfDigits; i++) {
+			char c = text.charAt(i);
+			if (!isDigit(c)) {
+				return -1;
+			}
+			value = value * 10 + (c - '0');
+		}
+		return value;
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	private static int getLengthOfMonth(int year, int month) {
+		if (month == 2) {
+			return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+		}
+		return month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31;
+	}
+
+	/**
+	 * Returns the number of days from the UNIX Epoch until the given date in the proleptic Gregorian calendar, by counting in eras of 400 years, which all
+	 * have the same number of days, starting each year on March 1st, so that the leap day is the last day of the year.
+	 */
+	static long getUnixEpochDay(int year, int month, int day) {
+		int y = month <= 2 ? year - 1 : year;
+		int era = Math.floorDiv(y, 400);
+		int yearOfEra = y - era * 400;
+		int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+		int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+		return era * 146_097L + dayOfEra - 719_468;
+	}
+
+	/**
+	 * Creates a new {@link IsoInstantParser} that parses for the given calendar instance.
+	 *
+	 * @throws LukashianException when the given calendar instance is not registered
+	 */
+	public static IsoInstantParser of(int calendarKey) {
+		return new IsoInstantParser(calendarKey);
+	}
+
+	/**
+	 * Creates a new {@link IsoInstantParser} that parses for the default calendar instance.
+	 */
+	public static IsoInstantParser of() {
+		return IsoInstantParser.of(defaultCalendarKey());
+	}
+}
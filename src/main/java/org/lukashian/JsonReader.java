@@ -0,0 +1,879 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import org.apache.commons.numbers.fraction.BigFraction;
+import org.lukashian.Formatter.DayFormat;
+import org.lukashian.store.MillisecondStoreData;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import static org.lukashian.LukashianException.check;
+import static org.lukashian.store.MillisecondStore.data;
+import static org.lukashian.store.MillisecondStore.defaultCalendarKey;
+
+/**
+ * A streaming reader of JSON documents that contain {@link Instant}s, {@link Day}s and {@link Year}s, that reads directly from the UTF-8 bytes in a
+ * {@link ByteBuffer}, without building a tree of the document first. The reader is a pull parser: the caller walks through the document with
+ * {@link #beginArray()}, {@link #nextName()}, {@link #nextInstant()} and so on, and can look at the type of the next token with {@link #peek()}.
+ * <p>
+ * Calendar objects are read in any of the forms that {@link JsonWriter} writes, which are recognized by the token: a number is an epoch millisecond, an epoch
+ * day or a year number, an object is the exact proportion of a day of {@link JsonWriter.Form#EXACT} and a string is text in the layout that
+ * {@link Formatter#format(Instant, DayFormat, String)} writes, with the {@link DayFormat} and separator of this reader. Whole arrays can be read into lists of
+ * calendar objects, or into columns of epoch milliseconds and epoch days, in which case no calendar objects are created at all.
+ * <p>
+ * The position of the given {@link ByteBuffer} is moved forward as tokens are read. A {@link JsonReader} is not thread-safe.
+ */
+public final class JsonReader {
+
+	/**
+	 * A type of token in a JSON document.
+	 */
+	public enum Token {
+		BEGIN_ARRAY,
+		END_ARRAY,
+		BEGIN_OBJECT,
+		END_OBJECT,
+		NAME,
+		STRING,
+		NUMBER,
+		BOOLEAN,
+		NULL,
+		END_DOCUMENT
+	}
+
+	private static final int MAX_LONG_DIGITS = 18;
+	private static final String[] EXACT_NAMES = {JsonWriter.EPOCH_DAY, JsonWriter.NUMERATOR, JsonWriter.DENOMINATOR};
+
+	private static final byte EMPTY_DOCUMENT = 0;
+	private static final byte NONEMPTY_DOCUMENT = 1;
+	private static final byte EMPTY_ARRAY = 2;
+	private static final byte NONEMPTY_ARRAY = 3;
+	private static final byte EMPTY_OBJECT = 4;
+	private static final byte DANGLING_NAME = 5;
+	private static final byte NONEMPTY_OBJECT = 6;
+
+	private final ByteBuffer source;
+	private final int limit;
+	private final DayFormat dayFormat;
+	private final String daySeparator;
+	private final int calendarKey;
+	private final MillisecondStoreData data;
+
+	private int index;
+	private Token peeked;
+
+	private byte[] scopes = new byte[32];
+	private int depth = 1;
+
+	private byte[] scratch = new byte[64];
+	private Parser instantParser;
+	private Parser dayParser;
+
+	private int cachedEpochDay;
+	private long cachedEpochMillisecondsPreviousDay;
+	private long cachedMillisecondsOfDay;
+
+	private JsonReader(ByteBuffer source, DayFormat dayFormat, String daySeparator, int calendarKey) {
+		Objects.requireNonNull(dayFormat);
+		Objects.requireNonNull(daySeparator);
+
+		this.source = source;
+		this.limit = source.limit();
+		this.dayFormat = dayFormat;
+		this.daySeparator = daySeparator;
+		this.calendarKey = calendarKey;
+		this.data = data(calendarKey);
+		this.index = source.position();
+		this.scopes[0] = EMPTY_DOCUMENT;
+	}
+
+	/**
+	 * Returns the key of the calendar instance for which this reader reads calendar objects.
+	 */
+	public int getCalendarKey() {
+		return calendarKey;
+	}
+
+	/**
+	 * Returns the type of the next token, without reading it.
+	 *
+	 * @throws LukashianException when the document is malformed at the next token
+	 */
+	public Token peek() {
+		if (peeked != null) {
+			return peeked;
+		}
+		switch (scopes[depth - 1]) {
+			case EMPTY_ARRAY -> {
+				scopes[depth - 1] = NONEMPTY_ARRAY;
+				if (this.nextNonWhitespace() == ']') {
+					index++;
+					return peeked = Token.END_ARRAY;
+				}
+			}
+			case NONEMPTY_ARRAY -> {
+				int c = this.nextNonWhitespace();
+				if (c == ']') {
+					index++;
+					return peeked = Token.END_ARRAY;
+				}
+				this.consume(c, ',');
+			}
+			case EMPTY_OBJECT, NONEMPTY_OBJECT -> {
+				int c = this.nextNonWhitespace();
+				if (c == '}') {
+					index++;
+					return peeked = Token.END_OBJECT;
+				}
+				if (scopes[depth - 1] == NONEMPTY_OBJECT) {
+					this.consume(c, ',');
+					c = this.nextNonWhitespace();
+				}
+				check(c == '"', () -> this.describe("a name"));
+				scopes[depth - 1] = DANGLING_NAME;
+				return peeked = Token.NAME;
+			}
+			case DANGLING_NAME -> {
+				this.consume(this.nextNonWhitespace(), ':');
+				scopes[depth - 1] = NONEMPTY_OBJECT;
+			}
+			case EMPTY_DOCUMENT -> scopes[depth - 1] = NONEMPTY_DOCUMENT;
+			default -> {
+				check(this.nextNonWhitespace() == -1, () -> this.describe("the end of the document"));
+				return peeked = Token.END_DOCUMENT;
+			}
+		}
+
+		int c = this.nextNonWhitespace();
+		switch (c) {
+			case '[' -> {
+				index++;
+				return peeked = Token.BEGIN_ARRAY;
+			}
+			case '{' -> {
+				index++;
+				return peeked = Token.BEGIN_OBJECT;
+			}
+			case '"' -> {
+				return peeked = Token.STRING;
+			}
+			case 't', 'f' -> {
+				return peeked = Token.BOOLEAN;
+			}
+			case 'n' -> {
+				return peeked = Token.NULL;
+			}
+			default -> {
+				check(c == '-' || (c >= '0' && c <= '9'), () -> this.describe("a value"));
+				return peeked = Token.NUMBER;
+			}
+		}
+	}
+
+	/**
+	 * Returns whether the current array or object has another element.
+	 */
+	public boolean hasNext() {
+		Token token = this.peek();
+		return token != Token.END_ARRAY && token != Token.END_OBJECT && token != Token.END_DOCUMENT;
+	}
+
+	/**
+	 * Reads the start of an array.
+	 *
+	 * @throws LukashianException when the next token is not the start of an array
+	 */
+	public void beginArray() {
+		this.expect(Token.BEGIN_ARRAY);
+		this.push(EMPTY_ARRAY);
+	}
+
+	/**
+	 * Reads the end of the current array.
+	 *
+	 * @throws LukashianException when the next token is not the end of an array
+	 */
+	public void endArray() {
+		this.expect(Token.END_ARRAY);
+		depth--;
+		this.updatePosition();
+	}
+
+	/**
+	 * Reads the start of an object.
+	 *
+	 * @throws LukashianException when the next token is not the start of an object
+	 */
+	public void beginObject() {
+		this.expect(Token.BEGIN_OBJECT);
+		this.push(EMPTY_OBJECT);
+	}
+
+	/**
+	 * Reads the end of the current object.
+	 *
+	 * @throws LukashianException when the next token is not the end of an object
+	 */
+	public void endObject() {
+		this.expect(Token.END_OBJECT);
+		depth--;
+		this.updatePosition();
+	}
+
+	/**
+	 * Reads the name of the next value in the current object.
+	 *
+	 * @throws LukashianException when the next token is not a name
+	 */
+	public String nextName() {
+		this.expect(Token.NAME);
+		return this.readString();
+	}
+
+	/**
+	 * Reads a string.
+	 *
+	 * @throws LukashianException when the next token is not a string
+	 */
+	public String nextString() {
+		this.expect(Token.STRING);
+		String value = this.readString();
+		this.updatePosition();
+		return value;
+	}
+
+	/**
+	 * Reads a number that fits in a long.
+	 *
+	 * @throws LukashianException when the next token is not a whole number that fits in a long
+	 */
+	public long nextLong() {
+		this.expect(Token.NUMBER);
+		long value = this.readLong();
+		this.updatePosition();
+		return value;
+	}
+
+	/**
+	 * Reads a whole number of any size.
+	 *
+	 * @throws LukashianException when the next token is not a whole number
+	 */
+	public BigInteger nextBigInteger() {
+		this.expect(Token.NUMBER);
+		BigInteger value = this.readBigInteger();
+		this.updatePosition();
+		return value;
+	}
+
+	/**
+	 * Reads a boolean.
+	 *
+	 * @throws LukashianException when the next token is not a boolean
+	 */
+	public boolean nextBoolean() {
+		this.expect(Token.BOOLEAN);
+		boolean value = this.get(index) == 't';
+		this.readLiteral(value ? "true" : "false");
+		this.updatePosition();
+		return value;
+	}
+
+	/**
+	 * Reads null.
+	 *
+	 * @throws LukashianException when the next token is not null
+	 */
+	public void nextNull() {
+		this.expect(Token.NULL);
+		this.readLiteral("null");
+		this.updatePosition();
+	}
+
+	/**
+	 * Skips the next value, including everything that is in it when it is an array or an object.
+	 *
+	 * @throws LukashianException when the next token is not the start of a value
+	 */
+	public void skipValue() {
+		int nesting = 0;
+		do {
+			switch (this.peek()) {
+				case BEGIN_ARRAY -> {
+					this.beginArray();
+					nesting++;
+				}
+				case BEGIN_OBJECT -> {
+					this.beginObject();
+					nesting++;
+				}
+				case END_ARRAY -> {
+					check(nesting > 0, () -> this.describe("a value"));
+					this.endArray();
+					nesting--;
+				}
+				case END_OBJECT -> {
+					check(nesting > 0, () -> this.describe("a value"));
+					this.endObject();
+					nesting--;
+				}
+				case NAME -> {
+					this.nextName();
+					continue;
+				}
+				case STRING -> this.nextString();
+				case NUMBER -> {
+					peeked = null;
+					this.skipNumber();
+				}
+				case BOOLEAN -> this.nextBoolean();
+				case NULL -> this.nextNull();
+				case END_DOCUMENT -> throw new LukashianException(this.describe("a value"));
+			}
+		} while (nesting > 0);
+	}
+
+	/**
+	 * Reads an {@link Instant} in any of the forms of {@link JsonWriter}, or null.
+	 *
+	 * @throws LukashianException when the next token is not an instant, or when the instant is not supported by the calendar instance of this reader
+	 */
+	public Instant nextInstant() {
+		Token token = this.peek();
+		if (token == Token.NULL) {
+			this.nextNull();
+			return null;
+		}
+		if (token == Token.NUMBER) {
+			return Instant.ofEpoch(this.nextLong(), calendarKey);
+		}
+		if (token == Token.STRING) {
+			return this.getInstantParser().parseInstant(this.nextString());
+		}
+		this.beginObject();
+		int epochDay = 0;
+		BigInteger numerator = null;
+		BigInteger denominator = null;
+		while (this.hasNext()) {
+			switch (this.nextName()) {
+				case JsonWriter.EPOCH_DAY -> epochDay = this.nextInt();
+				case JsonWriter.NUMERATOR -> numerator = this.nextBigInteger();
+				case JsonWriter.DENOMINATOR -> denominator = this.nextBigInteger();
+				default -> this.skipValue();
+			}
+		}
+		this.endObject();
+		check(numerator != null && denominator != null && denominator.signum() != 0, () -> "An exact instant needs a numerator and a non-zero denominator");
+
+		return Instant.of(Day.ofEpoch(epochDay, calendarKey), BigFraction.of(numerator, denominator));
+	}
+
+	/**
+	 * Reads a {@link Day} as an epoch day or as text, or null.
+	 *
+	 * @throws LukashianException when the next token is not a day, or when the day is not supported by the calendar instance of this reader
+	 */
+	public Day nextDay() {
+		Token token = this.peek();
+		if (token == Token.NULL) {
+			this.nextNull();
+			return null;
+		}
+		return Day.ofEpoch(this.readEpochDay(), calendarKey);
+	}
+
+	/**
+	 * Reads a {@link Year} as a year number, written either as a number or as a string, or null.
+	 *
+	 * @throws LukashianException when the next token is not a year, or when the year is not supported by the calendar instance of this reader
+	 */
+	public Year nextYear() {
+		Token token = this.peek();
+		if (token == Token.NULL) {
+			this.nextNull();
+			return null;
+		}
+		if (token == Token.STRING) {
+			String text = this.nextString();
+			check(!text.isEmpty() && text.chars().allMatch(c -> c >= '0' && c <= '9') && text.length() <= 9, () -> "'" + text + "' is not a year");
+			return Year.of(Integer.parseInt(text), calendarKey);
+		}
+		return Year.of(this.nextInt(), calendarKey);
+	}
+
+	/**
+	 * Reads an array of {@link Instant}s, in the same way as {@link #nextInstant()}.
+	 */
+	public List<Instant> nextInstants() {
+		List<Instant> instants = new ArrayList<>();
+		this.beginArray();
+		while (this.hasNext()) {
+			instants.add(this.nextInstant());
+		}
+		this.endArray();
+		return instants;
+	}
+
+	/**
+	 * Reads an array of {@link Day}s, in the same way as {@link #nextDay()}.
+	 */
+	public List<Day> nextDays() {
+		List<Day> days = new ArrayList<>();
+		this.beginArray();
+		while (this.hasNext()) {
+			days.add(this.nextDay());
+		}
+		this.endArray();
+		return days;
+	}
+
+	/**
+	 * Reads an array of {@link Year}s, in the same way as {@link #nextYear()}.
+	 */
+	public List<Year> nextYears() {
+		List<Year> years = new ArrayList<>();
+		this.beginArray();
+		while (this.hasNext()) {
+			years.add(this.nextYear());
+		}
+		this.endArray();
+		return years;
+	}
+
+	/**
+	 * Reads the next instants of the current array, in any of the forms of {@link JsonWriter}, into the given array as epoch milliseconds, with the same
+	 * result as {@link Instant#getEpochMilliseconds()} of {@link #nextInstant()}, but without creating any instants for numbers, for text that is written
+	 * with ASCII only and for exact proportions of which the numerator and denominator fit in a long. Reading stops at the end of the current array, which is
+	 * not read itself, or when the given length has been read, so that arrays of any size can be read in parts into the same target.
+	 *
+	 * @return the number of epoch milliseconds that were read
+	 * @throws LukashianException when an element is not an instant, or when it is not supported by the calendar instance of this reader
+	 */
+	public int nextEpochMilliseconds(long[] target, int targetOffset, int length) {
+		Objects.checkFromIndexSize(targetOffset, length, target.length);
+		int count = 0;
+		while (count < length && this.hasNext()) {
+			long epochMilliseconds = switch (peeked) {
+				case NUMBER -> {
+					peeked = null;
+					yield this.readLong();
+				}
+				case STRING -> {
+					peeked = null;
+					yield this.readFormatted(this.getInstantParser(), true);
+				}
+				case BEGIN_OBJECT -> this.readExactEpochMilliseconds();
+				default -> throw new LukashianException(this.describe("an instant"));
+			};
+			long result = epochMilliseconds;
+			check(result > 0 && data.isSupportedEpochMilliseconds(result), () -> "Epoch millisecond " + result + " is not supported");
+			target[targetOffset + count++] = epochMilliseconds;
+		}
+		this.updatePosition();
+		return count;
+	}
+
+	/**
+	 * Reads the next days of the current array, as epoch days or as text, into the given array as epoch days, without creating any days. Reading stops in the
+	 * same way as {@link #nextEpochMilliseconds(long[], int, int)}.
+	 *
+	 * @return the number of epoch days that were read
+	 * @throws LukashianException when an element is not a day, or when it is not supported by the calendar instance of this reader
+	 */
+	public int nextEpochDays(int[] target, int targetOffset, int length) {
+		Objects.checkFromIndexSize(targetOffset, length, target.length);
+		int count = 0;
+		while (count < length && this.hasNext()) {
+			int epochDay = this.readEpochDay();
+			check(epochDay > 0 && data.isSupportedEpochDay(epochDay), () -> "Epoch day " + epochDay + " is not supported");
+			target[targetOffset + count++] = epochDay;
+		}
+		this.updatePosition();
+		return count;
+	}
+
+	private int readEpochDay() {
+		Token token = this.peek();
+		if (token == Token.STRING) {
+			peeked = null;
+			return (int) this.readFormatted(this.getDayParser(), false);
+		}
+		check(token == Token.NUMBER, () -> this.describe("a day"));
+		return this.nextInt();
+	}
+
+	private long readExactEpochMilliseconds() {
+		this.beginObject();
+		int epochDay = 0;
+		long numerator = Long.MIN_VALUE;
+		long denominator = Long.MIN_VALUE;
+		BigInteger bigNumerator = null;
+		BigInteger bigDenominator = null;
+		while (this.hasNext()) {
+			switch (this.nextExactName()) {
+				case JsonWriter.EPOCH_DAY -> epochDay = this.nextInt();
+				case JsonWriter.NUMERATOR -> {
+					if (this.peek() == Token.NUMBER && this.isLongWithoutSign()) {
+						numerator = this.nextLong();
+					} else {
+						bigNumerator = this.nextBigInteger();
+					}
+				}
+				case JsonWriter.DENOMINATOR -> {
+					if (this.peek() == Token.NUMBER && this.isLongWithoutSign()) {
+						denominator = this.nextLong();
+					} else {
+						bigDenominator = this.nextBigInteger();
+					}
+				}
+				default -> this.skipValue();
+			}
+		}
+		this.endObject();
+
+		if (bigNumerator == null && bigDenominator == null && numerator >= 0 && denominator > numerator) {
+			if (epochDay != cachedEpochDay) { //Consecutive instants are often on the same day
+				int day = epochDay;
+				check(day > 0 && data.isSupportedEpochDay(day), () -> "Epoch day " + day + " is not supported");
+				cachedEpochDay = epochDay;
+				cachedEpochMillisecondsPreviousDay = EpochMath.getEpochMillisecondsPreviousDay(epochDay, calendarKey);
+				cachedMillisecondsOfDay = data.getEpochMillisecondsForEpochDay(epochDay) - cachedEpochMillisecondsPreviousDay;
+			}
+			return EpochMath.getEpochMillisecondsOnDay(cachedEpochMillisecondsPreviousDay, cachedMillisecondsOfDay, numerator, denominator);
+		}
+
+		//Large or invalid proportions are left to the instant, which calculates exactly and checks them
+		check((bigNumerator != null || numerator != Long.MIN_VALUE) && (bigDenominator != null || denominator != Long.MIN_VALUE), () -> "An exact instant needs a numerator and a denominator");
+		BigInteger exactNumerator = bigNumerator != null ? bigNumerator : BigInteger.valueOf(numerator);
+		BigInteger exactDenominator = bigDenominator != null ? bigDenominator : BigInteger.valueOf(denominator);
+		check(exactDenominator.signum() != 0, () -> "An exact instant needs a non-zero denominator");
+		return Instant.of(Day.ofEpoch(epochDay, calendarKey), BigFraction.of(exactNumerator, exactDenominator)).getEpochMilliseconds();
+	}
+
+	/**
+	 * Reads a name in the exact form of an instant, without decoding it when it is one of the names that {@link JsonWriter} writes.
+	 */
+	private String nextExactName() {
+		this.expect(Token.NAME);
+		for (String name : EXACT_NAMES) {
+			int end = index + name.length() + 1;
+			if (end < limit && this.get(end) == '"' && this.matches(index + 1, name)) {
+				index = end + 1;
+				return name;
+			}
+		}
+		return this.readString();
+	}
+
+	private boolean matches(int start, String name) {
+		for (int i = 0; i < name.length(); i++) {
+			if (this.get(start + i) != name.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private long readFormatted(Parser parser, boolean instant) {
+		int start = index + 1;
+		int end = start;
+		boolean plain = true;
+		while (end < limit) {
+			byte b = this.get(end);
+			if (b == '"') {
+				break;
+			}
+			plain &= b >= 0x20 && b != '\\';
+			end++;
+		}
+		if (!plain || end == limit) { //Escaped or unterminated text is read as a string
+			String text = this.readString();
+			return instant ? parser.parseInstant(text).getEpochMilliseconds() : parser.parseDay(text).getEpochDay();
+		}
+		index = end + 1;
+
+		byte[] text;
+		int offset;
+		if (source.hasArray()) {
+			text = source.array();
+			offset = source.arrayOffset() + start;
+		} else {
+			if (scratch.length < end - start) {
+				scratch = new byte[end - start];
+			}
+			source.get(start, scratch, 0, end - start);
+			text = scratch;
+			offset = 0;
+		}
+		long result = instant ? parser.parseEpochMilliseconds(text, offset, end - start) : parser.parseEpochDay(text, offset, end - start);
+		if (result <= 0) {
+			throw new LukashianException("'" + new String(text, offset, end - start, StandardCharsets.UTF_8) + "' cannot be parsed");
+		}
+		return result;
+	}
+
+	private String readString() {
+		peeked = null;
+		int start = ++index;
+		StringBuilder builder = null;
+		while (true) {
+			check(index < limit, () -> "Unterminated string");
+			byte b = this.get(index);
+			if (b == '"') {
+				break;
+			}
+			check(b >= 0x20 || b < 0, () -> this.describe("an escaped control character"));
+			if (b == '\\') {
+				if (builder == null) {
+					builder = new StringBuilder();
+				}
+				builder.append(this.decode(start, index));
+				index++;
+				check(index < limit, () -> "Unterminated string");
+				byte escaped = this.get(index++);
+				switch (escaped) {
+					case '"', '\\', '/' -> builder.append((char) escaped);
+					case 'b' -> builder.append('\b');
+					case 'f' -> builder.append('\f');
+					case 'n' -> builder.append('\n');
+					case 'r' -> builder.append('\r');
+					case 't' -> builder.append('\t');
+					case 'u' -> {
+						check(index + 4 <= limit, () -> "Unterminated string");
+						int c = 0;
+						for (int i = 0; i < 4; i++) {
+							int digit = Character.digit(this.get(index++), 16);
+							check(digit >= 0, () -> this.describe("a hexadecimal digit"));
+							c = c << 4 | digit;
+						}
+						builder.append((char) c);
+					}
+					default -> throw new LukashianException(this.describe("an escape sequence"));
+				}
+				start = index;
+			} else {
+				index++;
+			}
+		}
+		String rest = this.decode(start, index++);
+		return builder == null ? rest : builder.append(rest).toString();
+	}
+
+	private String decode(int start, int end) {
+		if (source.hasArray()) {
+			return new String(source.array(), source.arrayOffset() + start, end - start, StandardCharsets.UTF_8);
+		}
+		if (scratch.length < end - start) {
+			scratch = new byte[end - start];
+		}
+		source.get(start, scratch, 0, end - start);
+		return new String(scratch, 0, end - start, StandardCharsets.UTF_8);
+	}
+
+	private boolean isLongWithoutSign() {
+		int end = index;
+		while (end < limit && this.get(end) >= '0' && this.get(end) <= '9') {
+			end++;
+		}
+		return end - index <= MAX_LONG_DIGITS && (end == limit || !isNumberPart(this.get(end)));
+	}
+
+	private long readLong() {
+		boolean negative = this.get(index) == '-';
+		int start = negative ? index + 1 : index;
+		int end = start;
+		long value = 0;
+		while (end < limit && this.get(end) >= '0' && this.get(end) <= '9') {
+			end++;
+		}
+		check(end > start && end - start <= MAX_LONG_DIGITS + 1 && (end == limit || !isNumberPart(this.get(end))), () -> this.describe("a whole number that fits in a long"));
+		for (int i = start; i < end; i++) {
+			value = value * 10 + (this.get(i) - '0');
+			check(value >= 0, () -> this.describe("a whole number that fits in a long")); //A 19 digit number may overflow
+		}
+		index = end;
+		return negative ? -value : value;
+	}
+
+	private int nextInt() {
+		long value = this.nextLong();
+		check(value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE, () -> value + " does not fit in an int");
+		return (int) value;
+	}
+
+	private BigInteger readBigInteger() {
+		int start = index;
+		if (this.get(index) == '-') {
+			index++;
+		}
+		int digitsStart = index;
+		while (index < limit && this.get(index) >= '0' && this.get(index) <= '9') {
+			index++;
+		}
+		int end = index;
+		check(end > digitsStart && (end == limit || !isNumberPart(this.get(end))), () -> this.describe("a whole number"));
+		return new BigInteger(this.decode(start, end));
+	}
+
+	private void skipNumber() {
+		int start = index;
+		while (index < limit && isNumberPart(this.get(index))) {
+			index++;
+		}
+		String number = this.decode(start, index);
+		check(number.matches("-?(0|[1-9][0-9]*)(\\.[0-9]+)?([eE][+-]?[0-9]+)?"), () -> "'" + number + "' is not a number");
+	}
+
+	private void readLiteral(String literal) {
+		peeked = null;
+		for (int i = 0; i < literal.length(); i++) {
+			check(index < limit && this.get(index) == literal.charAt(i), () -> this.describe(literal));
+			index++;
+		}
+	}
+
+	private void expect(Token token) {
+		check(this.peek() == token, () -> this.describe(token.name().toLowerCase().replace('_', ' ')));
+		peeked = null;
+	}
+
+	private void consume(int c, char expected) {
+		check(c == expected, () -> this.describe("'" + expected + "'"));
+		index++;
+	}
+
+	private int nextNonWhitespace() {
+		while (index < limit) {
+			byte b = this.get(index);
+			if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+				return b;
+			}
+			index++;
+		}
+		return -1;
+	}
+
+	private void push(byte scope) {
+		if (depth == scopes.length) {
+			scopes = Arrays.copyOf(scopes, depth * 2);
+		}
+		scopes[depth++] = scope;
+	}
+
+	private void updatePosition() {
+		source.position(index);
+	}
+
+	private byte get(int index) {
+		return source.get(index);
+	}
+
+	private String describe(String expected) {
+		return "Expected " + expected + " at position " + index;
+	}
+
+	private Parser getInstantParser() {
+		if (instantParser == null) {
+			instantParser = Parser.ofInstants(dayFormat, daySeparator, calendarKey);
+		}
+		return instantParser;
+	}
+
+	private Parser getDayParser() {
+		if (dayParser == null) {
+			dayParser = Parser.ofDays(dayFormat, daySeparator, calendarKey);
+		}
+		return dayParser;
+	}
+
+	private static boolean isNumberPart(byte b) {
+		return (b >= '0' && b <= '9') || b == '-' || b == '+' || b == '.' || b == 'e' || b == 'E';
+	}
+
+	/**
+	 * Creates a new {@link JsonReader} that reads from the given {@link ByteBuffer}, from its position up to its limit, for the given calendar instance.
+	 * Text is read in the layout that {@link Formatter#format(Instant, DayFormat, String)} writes with the given {@link DayFormat} and separator.
+	 */
+	public static JsonReader of(ByteBuffer source, DayFormat dayFormat, String daySeparator, int calendarKey) {
+		return new JsonReader(source, dayFormat, daySeparator, calendarKey);
+	}
+
+	/**
+	 * Creates a new {@link JsonReader} that reads from the given {@link ByteBuffer}, from its position up to its limit, for the default calendar instance.
+	 * Text is read in the layout that {@link Formatter#format(Instant, DayFormat, String)} writes with the given {@link DayFormat} and separator.
+	 */
+	public static JsonReader of(ByteBuffer source, DayFormat dayFormat, String daySeparator) {
+		return JsonReader.of(source, dayFormat, daySeparator, defaultCalendarKey());
+	}
+
+	/**
+	 * Creates a new {@link JsonReader} that reads from the given {@link ByteBuffer}, from its position up to its limit, for the given calendar instance.
+	 * Text is read in the layout that {@link Formatter#format(Instant)} writes.
+	 */
+	public static JsonReader of(ByteBuffer source, int calendarKey) {
+		return JsonReader.of(source, DayFormat.YEAR_FIRST, "-", calendarKey);
+	}
+
+	/**
+	 * Creates a new {@link JsonReader} that reads from the given {@link ByteBuffer}, from its position up to its limit, for the default calendar instance.
+	 * Text is read in the layout that {@link Formatter#format(Instant)} writes.
+	 */
+	public static JsonReader of(ByteBuffer source) {
+		return JsonReader.of(source, defaultCalendarKey());
+	}
+}
@@ -0,0 +1,699 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import org.lukashian.Formatter.DayFormat;
+import org.lukashian.store.MillisecondStoreData;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+
+import static org.lukashian.LukashianException.check;
+import static org.lukashian.store.MillisecondStore.data;
+
+/**
+ * A streaming writer of JSON documents that contain {@link Instant}s, {@link Day}s and {@link Year}s, that writes directly to an {@link OutputStream}, as
+ * UTF-8, or to a {@link Writer}, without building a tree of the document first. The {@link Form} of the writer determines how calendar objects are written,
+ * either as compact numbers or as the text that {@link Formatter} writes. Documents that are written in any form can be read again with {@link JsonReader}.
+ * <p>
+ * Besides single values, whole arrays can be written from collections of calendar objects, or from columns of epoch milliseconds and epoch days, in which
+ * case no calendar objects are created at all.
+ * <p>
+ * The writer checks that the document is well-formed, so that names are only written inside objects, and values inside objects only after a name. Output is
+ * buffered, so it has to be flushed or closed when the document is complete. A {@link JsonWriter} is not thread-safe.
+ */
+public final class JsonWriter implements Closeable, Flushable {
+
+	/**
+	 * The form in which a {@link JsonWriter} writes calendar objects.
+	 */
+	public enum Form {
+
+		/**
+		 * Writes an {@link Instant} as its epoch milliseconds, a {@link Day} as its epoch day and a {@link Year} as its year number. This is the most compact
+		 * form, but the exact proportion of the day of an instant is lost, which can be a problem for instants that were created from beeps.
+		 */
+		EPOCH,
+
+		/**
+		 * Writes an {@link Instant} as an object with the epoch day of its day, and the numerator and denominator of its exact proportion of the day, such as
+		 * <code>{"epochDay":7,"numerator":1,"denominator":2}</code>. A {@link Day} and a {@link Year} are written in the same way as {@link #EPOCH}.
+		 */
+		EXACT,
+
+		/**
+		 * Writes an {@link Instant} and a {@link Day} as a string, in the same way as {@link Formatter#format(Instant, DayFormat, String)} and
+		 * {@link Formatter#format(Day, DayFormat, String)}. A {@link Year} is written as its year number.
+		 */
+		FORMATTED
+	}
+
+	static final String EPOCH_DAY = "epochDay";
+	static final String NUMERATOR = "numerator";
+	static final String DENOMINATOR = "denominator";
+
+	private static final int BUFFER_SIZE = 8192;
+	private static final int MAX_NUMBER_LENGTH = 20;
+	private static final int CHUNK_SIZE = 1024;
+
+	private static final byte EMPTY_DOCUMENT = 0;
+	private static final byte NONEMPTY_DOCUMENT = 1;
+	private static final byte EMPTY_ARRAY = 2;
+	private static final byte NONEMPTY_ARRAY = 3;
+	private static final byte EMPTY_OBJECT = 4;
+	private static final byte DANGLING_NAME = 5;
+	private static final byte NONEMPTY_OBJECT = 6;
+
+	private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] TRUE = "true".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] FALSE = "false".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+
+	private final OutputStream outputStream;
+	private final Writer writer;
+	private final Form form;
+	private final DayFormat dayFormat;
+	private final String daySeparator;
+
+	private byte[] buffer = new byte[BUFFER_SIZE];
+	private int position;
+
+	private byte[] scopes = new byte[32];
+	private int depth = 1;
+
+	private TimestampRenderer renderer;
+	private int rendererCalendarKey;
+
+	private JsonWriter(OutputStream outputStream, Writer writer, Form form, DayFormat dayFormat, String daySeparator) {
+		Objects.requireNonNull(form);
+		check(daySeparator.chars().allMatch(c -> c >= 0x20 && c < 0x80 && c != '"' && c != '\\'), () -> "The separator must be ASCII that does not need escaping in JSON");
+		Objects.requireNonNull(dayFormat);
+
+		this.outputStream = outputStream;
+		this.writer = writer;
+		this.form = form;
+		this.dayFormat = dayFormat;
+		this.daySeparator = daySeparator;
+		this.scopes[0] = EMPTY_DOCUMENT;
+	}
+
+	/**
+	 * Returns the {@link Form} in which this writer writes calendar objects.
+	 */
+	public Form getForm() {
+		return form;
+	}
+
+	/**
+	 * Begins a new array. Each call to this method must be paired with a call to {@link #endArray()}.
+	 */
+	public JsonWriter beginArray() throws IOException {
+		this.beforeValue();
+		this.push(EMPTY_ARRAY);
+		this.putByte('[');
+		return this;
+	}
+
+	/**
+	 * Ends the current array.
+	 *
+	 * @throws LukashianException when there is no array to end
+	 */
+	public JsonWriter endArray() throws IOException {
+		check(scopes[depth - 1] == EMPTY_ARRAY || scopes[depth - 1] == NONEMPTY_ARRAY, () -> "There is no array to end");
+		depth--;
+		this.putByte(']');
+		return this;
+	}
+
+	/**
+	 * Begins a new object. Each call to this method must be paired with a call to {@link #endObject()}.
+	 */
+	public JsonWriter beginObject() throws IOException {
+		this.beforeValue();
+		this.push(EMPTY_OBJECT);
+		this.putByte('{');
+		return this;
+	}
+
+	/**
+	 * Ends the current object.
+	 *
+	 * @throws LukashianException when there is no object to end, or when the last name in it has no value
+	 */
+	public JsonWriter endObject() throws IOException {
+		check(scopes[depth - 1] == EMPTY_OBJECT || scopes[depth - 1] == NONEMPTY_OBJECT, () -> "There is no object to end");
+		depth--;
+		this.putByte('}');
+		return this;
+	}
+
+	/**
+	 * Writes the name of the next value in the current object.
+	 *
+	 * @throws LukashianException when not in an object, or when the previous name has no value yet
+	 */
+	public JsonWriter name(String name) throws IOException {
+		Objects.requireNonNull(name);
+		byte scope = scopes[depth - 1];
+		check(scope == EMPTY_OBJECT || scope == NONEMPTY_OBJECT, () -> "A name can only be written in an object, before its value");
+
+		if (scope == NONEMPTY_OBJECT) {
+			this.putByte(',');
+		}
+		scopes[depth - 1] = DANGLING_NAME;
+		this.putString(name);
+		this.putByte(':');
+		return this;
+	}
+
+	/**
+	 * Writes the given {@link Instant} in the {@link Form} of this writer, or null.
+	 */
+	public JsonWriter value(Instant instant) throws IOException {
+		if (instant == null) {
+			return this.nullValue();
+		}
+		if (form == Form.EPOCH) {
+			return this.value(instant.getEpochMilliseconds());
+		}
+		if (form == Form.EXACT) {
+			this.beginObject();
+			this.name(EPOCH_DAY).value(instant.getDay().getEpochDay());
+			this.name(NUMERATOR).value(instant.getProportionOfDay().getNumerator());
+			this.name(DENOMINATOR).value(instant.getProportionOfDay().getDenominator());
+			return this.endObject();
+		}
+		this.beforeValue();
+		this.ensure(MAX_NUMBER_LENGTH * 2 + daySeparator.length() + 8);
+		buffer[position++] = '"';
+		position = Formatter.format(instant, dayFormat, daySeparator, buffer, position);
+		buffer[position++] = '"';
+		return this;
+	}
+
+	/**
+	 * Writes the given {@link Day} in the {@link Form} of this writer, or null.
+	 */
+	public JsonWriter value(Day day) throws IOException {
+		if (day == null) {
+			return this.nullValue();
+		}
+		if (form != Form.FORMATTED) {
+			return this.value(day.getEpochDay());
+		}
+		this.beforeValue();
+		this.ensure(MAX_NUMBER_LENGTH * 2 + daySeparator.length() + 2);
+		buffer[position++] = '"';
+		position = Formatter.format(day, dayFormat, daySeparator, buffer, position);
+		buffer[position++] = '"';
+		return this;
+	}
+
+	/**
+	 * Writes the given {@link Year} as its year number, or null.
+	 */
+	public JsonWriter value(Year year) throws IOException {
+		return year == null ? this.nullValue() : this.value(year.getYearNumber());
+	}
+
+	/**
+	 * Writes the given string, or null.
+	 */
+	public JsonWriter value(String value) throws IOException {
+		if (value == null) {
+			return this.nullValue();
+		}
+		this.beforeValue();
+		this.putString(value);
+		return this;
+	}
+
+	/**
+	 * Writes the given number.
+	 */
+	public JsonWriter value(long value) throws IOException {
+		this.beforeValue();
+		this.ensure(MAX_NUMBER_LENGTH);
+		this.putLong(value);
+		return this;
+	}
+
+	/**
+	 * Writes the given number, or null.
+	 */
+	public JsonWriter value(BigInteger value) throws IOException {
+		if (value == null) {
+			return this.nullValue();
+		}
+		if (value.bitLength() < Long.SIZE) {
+			return this.value(value.longValue());
+		}
+		String digits = value.toString();
+		this.beforeValue();
+		this.ensure(digits.length());
+		this.putAscii(digits);
+		return this;
+	}
+
+	/**
+	 * Writes the given boolean.
+	 */
+	public JsonWriter value(boolean value) throws IOException {
+		this.beforeValue();
+		this.putBytes(value ? TRUE : FALSE);
+		return this;
+	}
+
+	/**
+	 * Writes null.
+	 */
+	public JsonWriter nullValue() throws IOException {
+		this.beforeValue();
+		this.putBytes(NULL);
+		return this;
+	}
+
+	/**
+	 * Writes the given {@link Instant}s as an array, in the same way as {@link #value(Instant)}.
+	 */
+	public JsonWriter instants(Collection<Instant> instants) throws IOException {
+		this.beginArray();
+		for (Instant instant : instants) {
+			this.value(instant);
+		}
+		return this.endArray();
+	}
+
+	/**
+	 * Writes the given {@link Day}s as an array, in the same way as {@link #value(Day)}.
+	 */
+	public JsonWriter days(Collection<Day> days) throws IOException {
+		this.beginArray();
+		for (Day day : days) {
+			this.value(day);
+		}
+		return this.endArray();
+	}
+
+	/**
+	 * Writes the given {@link Year}s as an array, in the same way as {@link #value(Year)}.
+	 */
+	public JsonWriter years(Collection<Year> years) throws IOException {
+		this.beginArray();
+		for (Year year : years) {
+			this.value(year);
+		}
+		return this.endArray();
+	}
+
+	/**
+	 * Writes the instants at the given epoch milliseconds of the given calendar instance as an array, with the same result as writing
+	 * {@link Instant#ofEpoch(long, int)} for each of them with {@link #value(Instant)}, but without creating any instants. In the {@link Form#EXACT} and
+	 * {@link Form#FORMATTED} forms, the bounds of each day are only looked up once for consecutive values on the same day, so sorted values are written fastest.
+	 *
+	 * @throws LukashianException when any of the given epoch milliseconds is not supported by the given calendar instance, in which case nothing is written
+	 */
+	public JsonWriter instants(long[] epochMilliseconds, int offset, int length, int calendarKey) throws IOException {
+		Objects.checkFromIndexSize(offset, length, epochMilliseconds.length);
+		MillisecondStoreData data = data(calendarKey);
+		long minimum = Long.MAX_VALUE;
+		long maximum = Long.MIN_VALUE;
+		for (int i = offset; i < offset + length; i++) {
+			minimum = Math.min(minimum, epochMilliseconds[i]);
+			maximum = Math.max(maximum, epochMilliseconds[i]);
+		}
+		long min = minimum;
+		long max = maximum;
+		check(length == 0 || (min > 0 && data.isSupportedEpochMilliseconds(max)), () -> "The epoch milliseconds from " + min + " to " + max + " are not all supported");
+
+		this.beginArray();
+		if (form == Form.EPOCH) {
+			for (int i = offset; i < offset + length; i++) {
+				this.putElementSeparator(i - offset);
+				this.ensure(MAX_NUMBER_LENGTH);
+				this.putLong(epochMilliseconds[i]);
+			}
+		} else if (form == Form.EXACT) {
+			this.putExact(epochMilliseconds, offset, length, calendarKey);
+		} else {
+			if (renderer == null || rendererCalendarKey != calendarKey) {
+				renderer = TimestampRenderer.of(dayFormat, daySeparator, calendarKey);
+				rendererCalendarKey = calendarKey;
+			}
+			for (int i = offset; i < offset + length; i++) {
+				this.putElementSeparator(i - offset);
+				this.ensure(MAX_NUMBER_LENGTH * 2 + daySeparator.length() + 8);
+				buffer[position++] = '"';
+				position = renderer.render(epochMilliseconds[i], buffer, position);
+				buffer[position++] = '"';
+			}
+		}
+		scopes[depth - 1] = NONEMPTY_ARRAY;
+		return this.endArray();
+	}
+
+	/**
+	 * Writes the instants at the given epoch milliseconds of the given calendar instance as an array, in the same way as
+	 * {@link #instants(long[], int, int, int)}.
+	 */
+	public JsonWriter instants(long[] epochMilliseconds, int calendarKey) throws IOException {
+		return this.instants(epochMilliseconds, 0, epochMilliseconds.length, calendarKey);
+	}
+
+	/**
+	 * Writes the days with the given epoch days of the given calendar instance as an array, with the same result as writing {@link Day#ofEpoch(int, int)}
+	 * for each of them with {@link #value(Day)}, but without creating any days.
+	 *
+	 * @throws LukashianException when any of the given epoch days is not supported by the given calendar instance, in which case nothing is written
+	 */
+	public JsonWriter days(int[] epochDays, int offset, int length, int calendarKey) throws IOException {
+		Objects.checkFromIndexSize(offset, length, epochDays.length);
+		MillisecondStoreData data = data(calendarKey);
+		for (int i = offset; i < offset + length; i++) {
+			int epochDay = epochDays[i];
+			check(epochDay > 0 && data.isSupportedEpochDay(epochDay), () -> "Epoch day " + epochDay + " is not supported");
+		}
+
+		this.beginArray();
+		Day day = null;
+		for (int i = offset; i < offset + length; i++) {
+			this.putElementSeparator(i - offset);
+			if (form != Form.FORMATTED) {
+				this.ensure(MAX_NUMBER_LENGTH);
+				this.putLong(epochDays[i]);
+			} else {
+				if (day == null || day.getEpochDay() != epochDays[i]) {
+					day = Day.ofEpoch(epochDays[i], calendarKey);
+				}
+				this.ensure(MAX_NUMBER_LENGTH * 2 + daySeparator.length() + 2);
+				buffer[position++] = '"';
+				position = Formatter.format(day, dayFormat, daySeparator, buffer, position);
+				buffer[position++] = '"';
+			}
+		}
+		scopes[depth - 1] = NONEMPTY_ARRAY;
+		return this.endArray();
+	}
+
+	/**
+	 * Writes the days with the given epoch days of the given calendar instance as an array, in the same way as {@link #days(int[], int, int, int)}.
+	 */
+	public JsonWriter days(int[] epochDays, int calendarKey) throws IOException {
+		return this.days(epochDays, 0, epochDays.length, calendarKey);
+	}
+
+	/**
+	 * Writes everything that is buffered to the target of this writer and flushes the target.
+	 */
+	@Override
+	public void flush() throws IOException {
+		this.flushBuffer();
+		if (outputStream != null) {
+			outputStream.flush();
+		} else {
+			writer.flush();
+		}
+	}
+
+	/**
+	 * Writes everything that is buffered to the target of this writer and closes the target.
+	 */
+	@Override
+	public void close() throws IOException {
+		this.flushBuffer();
+		if (outputStream != null) {
+			outputStream.close();
+		} else {
+			writer.close();
+		}
+	}
+
+	private void putExact(long[] epochMilliseconds, int offset, int length, int calendarKey) throws IOException {
+		MillisecondStoreData data = data(calendarKey);
+		int[] epochDays = new int[Math.min(length, CHUNK_SIZE)];
+		int epochDay = 0;
+		long epochMillisecondsPreviousDay = 0;
+		long millisecondsOfDay = 0;
+
+		for (int chunk = 0; chunk < length; chunk += CHUNK_SIZE) {
+			int chunkLength = Math.min(CHUNK_SIZE, length - chunk);
+			data.getEpochDaysForEpochMilliseconds(epochMilliseconds, offset + chunk, chunkLength, epochDays, 0);
+
+			for (int i = 0; i < chunkLength; i++) {
+				if (epochDays[i] != epochDay) {
+					epochDay = epochDays[i];
+					epochMillisecondsPreviousDay = EpochMath.getEpochMillisecondsPreviousDay(epochDay, calendarKey);
+					millisecondsOfDay = data.getEpochMillisecondsForEpochDay(epochDay) - epochMillisecondsPreviousDay;
+				}
+				long numerator = epochMilliseconds[offset + chunk + i] - epochMillisecondsPreviousDay - 1; //The millisecond itself is not considered to have passed
+				long divisor = gcd(numerator, millisecondsOfDay);
+
+				this.putElementSeparator(chunk + i);
+				this.ensure(MAX_NUMBER_LENGTH * 3 + EPOCH_DAY.length() + NUMERATOR.length() + DENOMINATOR.length() + 16);
+				this.putAscii("{\"" + EPOCH_DAY + "\":");
+				this.putLong(epochDay);
+				this.putAscii(",\"" + NUMERATOR + "\":");
+				this.putLong(numerator / divisor);
+				this.putAscii(",\"" + DENOMINATOR + "\":");
+				this.putLong(millisecondsOfDay / divisor);
+				buffer[position++] = '}';
+			}
+		}
+	}
+
+	private void beforeValue() throws IOException {
+		switch (scopes[depth - 1]) {
+			case EMPTY_DOCUMENT -> scopes[depth - 1] = NONEMPTY_DOCUMENT;
+			case EMPTY_ARRAY -> scopes[depth - 1] = NONEMPTY_ARRAY;
+			case NONEMPTY_ARRAY -> this.putByte(',');
+			case DANGLING_NAME -> scopes[depth - 1] = NONEMPTY_OBJECT;
+			case NONEMPTY_DOCUMENT -> throw new LukashianException("A JSON document can only have one value at the top level");
+			default -> throw new LukashianException("A value in an object needs a name first");
+		}
+	}
+
+	private void push(byte scope) {
+		if (depth == scopes.length) {
+			scopes = Arrays.copyOf(scopes, depth * 2);
+		}
+		scopes[depth++] = scope;
+	}
+
+	private void putElementSeparator(int index) throws IOException {
+		if (index > 0) {
+			this.putByte(',');
+		}
+	}
+
+	private void putString(String value) throws IOException {
+		this.ensure(1);
+		buffer[position++] = '"';
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c >= 0x20 && c < 0x80 && c != '"' && c != '\\') {
+				this.ensure(2);
+				buffer[position++] = (byte) c;
+
+			} else if (c < 0x80) {
+				this.ensure(6);
+				buffer[position++] = '\\';
+				switch (c) {
+					case '"', '\\' -> buffer[position++] = (byte) c;
+					case '\n' -> buffer[position++] = 'n';
+					case '\r' -> buffer[position++] = 'r';
+					case '\t' -> buffer[position++] = 't';
+					default -> this.putUnicodeEscape(c);
+				}
+			} else if (c < 0x800) {
+				this.ensure(3);
+				buffer[position++] = (byte) (0xC0 | c >> 6);
+				buffer[position++] = (byte) (0x80 | c & 0x3F);
+
+			} else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+				int codePoint = Character.toCodePoint(c, value.charAt(++i));
+				this.ensure(5);
+				buffer[position++] = (byte) (0xF0 | codePoint >> 18);
+				buffer[position++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+				buffer[position++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+				buffer[position++] = (byte) (0x80 | codePoint & 0x3F);
+
+			} else if (Character.isSurrogate(c)) { //A lone surrogate cannot be encoded as UTF-8, but it can be escaped
+				this.ensure(7);
+				buffer[position++] = '\\';
+				this.putUnicodeEscape(c);
+
+			} else {
+				this.ensure(4);
+				buffer[position++] = (byte) (0xE0 | c >> 12);
+				buffer[position++] = (byte) (0x80 | c >> 6 & 0x3F);
+				buffer[position++] = (byte) (0x80 | c & 0x3F);
+			}
+		}
+		this.ensure(1);
+		buffer[position++] = '"';
+	}
+
+	private void putUnicodeEscape(char c) {
+		buffer[position++] = 'u';
+		buffer[position++] = HEX_DIGITS[c >> 12];
+		buffer[position++] = HEX_DIGITS[c >> 8 & 0xF];
+		buffer[position++] = HEX_DIGITS[c >> 4 & 0xF];
+		buffer[position++] = HEX_DIGITS[c & 0xF];
+	}
+
+	private void putLong(long value) {
+		if (value < 0) {
+			if (value == Long.MIN_VALUE) {
+				this.putAscii(Long.toString(value));
+				return;
+			}
+			buffer[position++] = '-';
+			value = -value;
+		}
+		int end = position + 1;
+		for (long remainder = value; remainder >= 10; remainder /= 10) {
+			end++;
+		}
+		for (int i = end - 1; i >= position; i--) {
+			buffer[i] = (byte) ('0' + value % 10);
+			value /= 10;
+		}
+		position = end;
+	}
+
+	private void putAscii(String value) {
+		for (int i = 0; i < value.length(); i++) {
+			buffer[position++] = (byte) value.charAt(i);
+		}
+	}
+
+	private void putBytes(byte[] value) throws IOException {
+		this.ensure(value.length);
+		System.arraycopy(value, 0, buffer, position, value.length);
+		position += value.length;
+	}
+
+	private void putByte(char c) throws IOException {
+		this.ensure(1);
+		buffer[position++] = (byte) c;
+	}
+
+	private void ensure(int length) throws IOException {
+		if (buffer.length - position < length) {
+			this.flushBuffer();
+			if (buffer.length < length) {
+				buffer = new byte[length];
+			}
+		}
+	}
+
+	private void flushBuffer() throws IOException {
+		if (position == 0) {
+			return;
+		}
+		if (outputStream != null) {
+			outputStream.write(buffer, 0, position);
+		} else {
+			writer.write(new String(buffer, 0, position, StandardCharsets.UTF_8)); //Multibyte sequences are never split over two flushes
+		}
+		position = 0;
+	}
+
+	private static long gcd(long a, long b) {
+		while (b != 0) {
+			long remainder = a % b;
+			a = b;
+			b = remainder;
+		}
+		return a;
+	}
+
+	/**
+	 * Creates a new {@link JsonWriter} that writes UTF-8 to the given {@link OutputStream}, in the given {@link Form}. In the {@link Form#FORMATTED} form,
+	 * instants and days are written in the same way as {@link Formatter#format(Instant)}.
+	 */
+	public static JsonWriter of(OutputStream outputStream, Form form) {
+		return new JsonWriter(Objects.requireNonNull(outputStream), null, form, DayFormat.YEAR_FIRST, "-");
+	}
+
+	/**
+	 * Creates a new {@link JsonWriter} that writes to the given {@link Writer}, in the given {@link Form}. In the {@link Form#FORMATTED} form, instants and days
+	 * are written in the same way as {@link Formatter#format(Instant)}.
+	 */
+	public static JsonWriter of(Writer writer, Form form) {
+		return new JsonWriter(null, Objects.requireNonNull(writer), form, DayFormat.YEAR_FIRST, "-");
+	}
+
+	/**
+	 * Creates a new {@link JsonWriter} that writes UTF-8 to the given {@link OutputStream}, in the {@link Form#FORMATTED} form, using the given {@link DayFormat}
+	 * and separator, which must be ASCII that does not need escaping.
+	 */
+	public static JsonWriter of(OutputStream outputStream, DayFormat dayFormat, String daySeparator) {
+		return new JsonWriter(Objects.requireNonNull(outputStream), null, Form.FORMATTED, dayFormat, daySeparator);
+	}
+
+	/**
+	 * Creates a new {@link JsonWriter} that writes to the given {@link Writer}, in the {@link Form#FORMATTED} form, using the given {@link DayFormat} and
+	 * separator, which must be ASCII that does not need escaping.
+	 */
+	public static JsonWriter of(Writer writer, DayFormat dayFormat, String daySeparator) {
+		return new JsonWriter(null, Objects.requireNonNull(writer), Form.FORMATTED, dayFormat, daySeparator);
+	}
+}
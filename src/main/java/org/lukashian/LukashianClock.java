@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import org.lukashian.store.MillisecondStoreData;
+
+import java.time.InstantSource;
+import java.util.Objects;
+
+import static org.lukashian.LukashianException.check;
+import static org.lukashian.store.MillisecondStore.data;
+import static org.lukashian.store.MillisecondStore.defaultCalendarKey;
+
+/**
+ * A thread-safe clock that provides the current {@link Instant}, {@link Day} and {@link Year} of a calendar instance, reading the time from a
+ * {@link InstantSource}. The system clock is used by {@link #system(int)}, while tests can use a clock that always returns the same time, created by
+ * {@link #fixed(Instant)}, or a clock over any other {@link InstantSource}, created by {@link #of(InstantSource, int)}.
+ * <p>
+ * The clock keeps the current {@link Day} and {@link Year}, together with the bounds of the period in which both are current, in a single immutable snapshot
+ * that is shared by all threads. As long as the time stays within that period, {@link #currentDay()} and {@link #currentYear()} only check those bounds and
+ * return the same objects, and {@link #now()} only needs to calculate the proportion of the day, without looking anything up. The first time outside of the
+ * period replaces the snapshot. Since the {@link Day} of an {@link Instant} does not necessarily end in the year in which it starts, the period ends at the
+ * end of the current year when that comes first.
+ * <p>
+ * The snapshot also holds the bounds of the period in milliseconds since the UNIX Epoch, so that the time of the {@link InstantSource} does not need to be
+ * corrected for leap seconds separately, unless there is a leap second during the period, in which case it is corrected in the same way as
+ * {@link Instant#now(int)}.
+ */
+public final class LukashianClock {
+
+	private final InstantSource source;
+	private final int calendarKey;
+	private final MillisecondStoreData data;
+
+	private volatile Snapshot snapshot;
+
+	private LukashianClock(InstantSource source, int calendarKey) {
+		this.source = Objects.requireNonNull(source);
+		this.calendarKey = calendarKey;
+		this.data = data(calendarKey);
+		this.snapshot = this.createSnapshot(1);
+	}
+
+	/**
+	 * Returns the {@link InstantSource} from which this clock reads the time.
+	 */
+	public InstantSource getSource() {
+		return source;
+	}
+
+	/**
+	 * Returns the key of the calendar instance of this clock.
+	 */
+	public int getCalendarKey() {
+		return calendarKey;
+	}
+
+	/**
+	 * Returns the current {@link Instant}, which is the same as {@link Instant#ofUnixEpochMilliseconds(long, int)} for the time of the {@link InstantSource}
+	 * of this clock.
+	 *
+	 * @throws LukashianException when the time of the {@link InstantSource} is not supported by the calendar instance of this clock
+	 */
+	public Instant now() {
+		long epochMilliseconds = this.currentEpochMilliseconds();
+		return Instant.ofEpoch(epochMilliseconds, this.getSnapshot(epochMilliseconds).day);
+	}
+
+	/**
+	 * Returns the current {@link Day}, which is the same as the {@link Day} of {@link #now()}.
+	 *
+	 * @throws LukashianException when the time of the {@link InstantSource} is not supported by the calendar instance of this clock
+	 */
+	public Day currentDay() {
+		return this.getSnapshot(this.currentEpochMilliseconds()).day;
+	}
+
+	/**
+	 * Returns the current {@link Year}, which is the same as {@link Instant#getYear()} of {@link #now()}. Note that this may be a different year than the
+	 * year of the current {@link Day}, see {@link Instant#getYear()}.
+	 *
+	 * @throws LukashianException when the time of the {@link InstantSource} is not supported by the calendar instance of this clock
+	 */
+	public Year currentYear() {
+		return this.getSnapshot(this.currentEpochMilliseconds()).year;
+	}
+
+	/**
+	 * Returns the number of milliseconds from the start of the calendar instance of this clock until the time of its {@link InstantSource}, which is the
+	 * same as {@link Instant#getEpochMilliseconds()} of {@link #now()}.
+	 *
+	 * @throws LukashianException when the time of the {@link InstantSource} is not supported by the calendar instance of this clock
+	 */
+	public long currentEpochMilliseconds() {
+		long unixEpochMilliseconds = source.millis();
+		Snapshot snapshot = this.snapshot;
+		if (snapshot.hasFixedUnixOffset() && unixEpochMilliseconds > snapshot.unixEpochMillisecondsPrevious && unixEpochMilliseconds <= snapshot.unixEpochMillisecondsEnd) {
+			return unixEpochMilliseconds + snapshot.unixOffset;
+		}
+		check(data.isSupportedUnixEpochMilliseconds(unixEpochMilliseconds), () -> "UNIX epoch millisecond " + unixEpochMilliseconds + " is not supported by this Lukashian Calendar instance");
+
+		return data.getLukashianEpochMilliseconds(unixEpochMilliseconds);
+	}
+
+	private Snapshot getSnapshot(long epochMilliseconds) {
+		Snapshot snapshot = this.snapshot;
+		if (epochMilliseconds > snapshot.epochMillisecondsPrevious && epochMilliseconds <= snapshot.epochMillisecondsEnd) {
+			return snapshot;
+		}
+
+		//Concurrent threads may replace the snapshot at the same time, which is harmless, since any snapshot is correct for its own period
+		snapshot = this.createSnapshot(epochMilliseconds);
+		this.snapshot = snapshot;
+		return snapshot;
+	}
+
+	private Snapshot createSnapshot(long epochMilliseconds) {
+		Day day = Day.ofEpoch(data.getEpochDayForEpochMilliseconds(epochMilliseconds), calendarKey);
+		Year year = Year.of(data.getYearForEpochMilliseconds(epochMilliseconds), calendarKey);
+		return new Snapshot(day, year);
+	}
+
+	/**
+	 * Creates a new {@link LukashianClock} that reads the time from the given {@link InstantSource}, for the given calendar instance.
+	 */
+	public static LukashianClock of(InstantSource source, int calendarKey) {
+		return new LukashianClock(source, calendarKey);
+	}
+
+	/**
+	 * Creates a new {@link LukashianClock} that reads the time from the given {@link InstantSource}, for the default calendar instance.
+	 */
+	public static LukashianClock of(InstantSource source) {
+		return LukashianClock.of(source, defaultCalendarKey());
+	}
+
+	/**
+	 * Creates a new {@link LukashianClock} that reads the time from the system clock, for the given calendar instance.
+	 */
+	public static LukashianClock system(int calendarKey) {
+		return LukashianClock.of(InstantSource.system(), calendarKey);
+	}
+
+	/**
+	 * Creates a new {@link LukashianClock} that reads the time from the system clock, for the default calendar instance.
+	 */
+	public static LukashianClock system() {
+		return LukashianClock.system(defaultCalendarKey());
+	}
+
+	/**
+	 * Creates a new {@link LukashianClock} that always returns the given {@link Instant}, or rather, the millisecond that it represents, for the calendar
+	 * instance of the given {@link Instant}. Note that an {@link Instant} during a leap second cannot be represented in UNIX time, so such a clock returns the
+	 * millisecond of the given {@link Instant} one second later.
+	 */
+	public static LukashianClock fixed(Instant instant) {
+		return LukashianClock.of(InstantSource.fixed(java.time.Instant.ofEpochMilli(instant.getUnixEpochMilliseconds())), instant.getCalendarKey());
+	}
+
+	/**
+	 * The current {@link Day} and {@link Year}, with the bounds of the period in which both are current.
+	 */
+	private static final class Snapshot {
+
+		private final Day day;
+		private final Year year;
+		private final long epochMillisecondsPrevious;
+		private final long epochMillisecondsEnd;
+
+		private final long unixOffset;
+		private final long unixEpochMillisecondsPrevious;
+		private final long unixEpochMillisecondsEnd;
+
+		private Snapshot(Day day, Year year) {
+			this.day = day;
+			this.year = year;
+			this.epochMillisecondsPrevious = Math.max(day.getEpochMillisecondsPreviousDay(), year.getEpochMillisecondsPreviousYear());
+			this.epochMillisecondsEnd = Math.min(day.getEpochMilliseconds(), year.getEpochMilliseconds());
+
+			//The UNIX bounds are only used when there is no leap second during this period
+			this.unixOffset = EpochMath.getFixedUnixOffset(epochMillisecondsPrevious, epochMillisecondsEnd, day.getCalendarKey());
+			this.unixEpochMillisecondsPrevious = epochMillisecondsPrevious - unixOffset;
+			this.unixEpochMillisecondsEnd = epochMillisecondsEnd - unixOffset;
+		}
+
+		private boolean hasFixedUnixOffset() {
+			return unixOffset != EpochMath.NO_FIXED_UNIX_OFFSET;
+		}
+	}
+}
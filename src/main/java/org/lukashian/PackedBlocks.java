@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import java.util.Arrays;
+
+/**
+ * Immutable, frame-of-reference encoded longs. The values are divided into blocks of {@link #BLOCK_SIZE} values, and each block stores its minimum and maximum,
+ * and the difference between each value and the minimum, in the least number of bits that fits the difference between the maximum and the minimum. Blocks
+ * of sorted or clustered values, such as timestamps, therefore take only a few bits per value, while each value can still be read directly.
+ */
+final class PackedBlocks {
+
+	static final int BLOCK_SHIFT = 10;
+	static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+
+	private final int size;
+	private final long[] minimums;
+	private final long[] maximums;
+	private final byte[] bitWidths;
+	private final int[] wordOffsets; //The index of the first word of each block
+	private final long[] words;
+
+	/**
+	 * Encodes the given number of values of the given array, starting at the given offset.
+	 */
+	PackedBlocks(long[] values, int offset, int length) {
+		int numberOfBlocks = (length + BLOCK_SIZE - 1) >>> BLOCK_SHIFT;
+		this.size = length;
+		this.minimums = new long[numberOfBlocks];
+		this.maximums = new long[numberOfBlocks];
+		this.bitWidths = new byte[numberOfBlocks];
+		this.wordOffsets = new int[numberOfBlocks + 1];
+
+		long numberOfWords = 0;
+		for (int block = 0; block < numberOfBlocks; block++) {
+			int start = offset + (block << BLOCK_SHIFT);
+			int end = offset + Math.min(length, (block + 1) << BLOCK_SHIFT);
+			long minimum = values[start];
+			long maximum = values[start];
+			for (int i = start + 1; i < end; i++) {
+				minimum = Math.min(minimum, values[i]);
+				maximum = Math.max(maximum, values[i]);
+			}
+			minimums[block] = minimum;
+			maximums[block] = maximum;
+			bitWidths[block] = (byte) (Long.SIZE - Long.numberOfLeadingZeros(maximum - minimum)); //The difference is treated as unsigned
+			wordOffsets[block] = Math.toIntExact(numberOfWords);
+			numberOfWords += ((long) (end - start) * bitWidths[block] + Long.SIZE - 1) / Long.SIZE;
+		}
+		wordOffsets[numberOfBlocks] = Math.toIntExact(numberOfWords);
+
+		this.words = new long[(int) numberOfWords];
+		for (int block = 0; block < numberOfBlocks; block++) {
+			int width = bitWidths[block];
+			if (width == 0) {
+				continue;
+			}
+			int start = offset + (block << BLOCK_SHIFT);
+			int end = offset + Math.min(length, (block + 1) << BLOCK_SHIFT);
+			long bitPosition = (long) wordOffsets[block] * Long.SIZE;
+			for (int i = start; i < end; i++, bitPosition += width) {
+				long difference = values[i] - minimums[block];
+				int word = (int) (bitPosition >>> 6);
+				int shift = (int) (bitPosition & 63);
+				words[word] |= difference << shift;
+				if (shift + width > Long.SIZE) {
+					words[word + 1] |= difference >>> (Long.SIZE - shift);
+				}
+			}
+		}
+	}
+
+	int size() {
+		return size;
+	}
+
+	int numberOfBlocks() {
+		return minimums.length;
+	}
+
+	long minimum(int block) {
+		return minimums[block];
+	}
+
+	long maximum(int block) {
+		return maximums[block];
+	}
+
+	/**
+	 * Returns the number of values in the given block, which is {@link #BLOCK_SIZE} for every block but the last.
+	 */
+	int blockLength(int block) {
+		return Math.min(BLOCK_SIZE, size - (block << BLOCK_SHIFT));
+	}
+
+	long get(int index) {
+		int block = index >>> BLOCK_SHIFT;
+		int width = bitWidths[block];
+		if (width == 0) {
+			return minimums[block];
+		}
+		long bitPosition = (long) wordOffsets[block] * Long.SIZE + (long) (index & (BLOCK_SIZE - 1)) * width;
+		return minimums[block] + extract(bitPosition, width);
+	}
+
+	/**
+	 * Decodes all values of the given block into the given target array, starting at the given target offset.
+	 */
+	void decode(int block, long[] target, int targetOffset) {
+		int length = this.blockLength(block);
+		int width = bitWidths[block];
+		long minimum = minimums[block];
+		if (width == 0) {
+			Arrays.fill(target, targetOffset, targetOffset + length, minimum);
+			return;
+		}
+		long bitPosition = (long) wordOffsets[block] * Long.SIZE;
+		for (int i = 0; i < length; i++, bitPosition += width) {
+			target[targetOffset + i] = minimum + extract(bitPosition, width);
+		}
+	}
+
+	private long extract(long bitPosition, int width) {
+		int word = (int) (bitPosition >>> 6);
+		int shift = (int) (bitPosition & 63);
+		long value = words[word] >>> shift;
+		if (shift + width > Long.SIZE) {
+			value |= words[word + 1] << (Long.SIZE - shift);
+		}
+		return width == Long.SIZE ? value : value & ((1L << width) - 1);
+	}
+
+	/**
+	 * Returns the approximate number of bytes that the encoded values take, including the minimums, maximums and offsets of the blocks.
+	 */
+	long sizeInBytes() {
+		return (long) words.length * Long.BYTES + (long) minimums.length * (2 * Long.BYTES + 1 + Integer.BYTES);
+	}
+}
@@ -0,0 +1,613 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import org.apache.commons.numbers.fraction.BigFraction;
+import org.lukashian.Formatter.DayFormat;
+import org.lukashian.store.MillisecondStoreData;
+
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+import java.util.Objects;
+
+import static org.lukashian.LukashianException.check;
+import static org.lukashian.store.MillisecondStore.data;
+import static org.lukashian.store.MillisecondStore.defaultCalendarKey;
+
+/**
+ * An immutable, thread-safe parser for text in the layout of a {@link FormatPattern}, or in the layouts that {@link Formatter} writes for each
+ * {@link DayFormat}. The text is read directly from a {@link CharSequence}, a {@code char[]} or an ASCII {@code byte[]}, without creating substrings.
+ * <p>
+ * Fields that are directly followed by another field are read with exactly the number of digits of their pattern letters, while other fields are read
+ * with as many digits as there are, so that {@code Y-D} reads both {@code 2-3} and {@code 0002-003}, while {@code YYYYDDD} reads {@code 0002003}.
+ * <p>
+ * There are two ways of parsing:
+ * <ul>
+ *     <li>{@link #parseInstant(CharSequence)} and {@link #parseDay(CharSequence)} create objects and throw a {@link LukashianException} when the text is
+ *     invalid</li>
+ *     <li>the methods that return epoch milliseconds or epoch days, including the ones that parse a delimited column of values, do not create objects and do
+ *     not throw for invalid text, but report it with a result of 0, which is never a valid number of epoch milliseconds or epoch day</li>
+ * </ul>
+ * Both ways throw a {@link LukashianException} when the pattern of this parser cannot parse what is asked, such as an {@link Instant} from a pattern without
+ * beeps, or a {@link Day} from a pattern without a year or epoch day when no default year is set, see {@link #withDefaultYear(int)}.
+ */
+public final class Parser {
+
+	private static final int NOT_PRESENT = -1;
+	private static final int MAX_DIGITS = 9; //Keeps every number within an int
+
+	private static final int LITERAL_MISMATCH = 1;
+	private static final int MISSING_DIGITS = 2;
+	private static final int TRAILING_TEXT = 3;
+	private static final int INVALID_DAY = 4;
+	private static final int INVALID_BEEPS = 5;
+	private static final int INCONSISTENT_DAY = 6;
+
+	private final FormatPattern pattern;
+	private final int calendarKey;
+	private final MillisecondStoreData data;
+	private final int defaultYear; //Or NOT_PRESENT
+	private final boolean[] fixedWidth; //For each element of the pattern, whether it is a field that is read with exactly as many digits as its letters
+	private final boolean hasYear;
+	private final boolean hasBeeps;
+	private final boolean hasDay; //Whether the pattern can identify a day by itself
+
+	private Parser(FormatPattern pattern, int calendarKey, int defaultYear) {
+		this.pattern = pattern;
+		this.calendarKey = calendarKey;
+		this.data = data(calendarKey);
+		this.defaultYear = defaultYear;
+
+		int numberOfElements = pattern.getNumberOfElements();
+		boolean hasYear = false, hasDayNumber = false, hasEpochDay = false, hasBeeps = false;
+		this.fixedWidth = new boolean[numberOfElements];
+		for (int i = 0; i < numberOfElements; i++) {
+			char letter = pattern.getLetter(i);
+			fixedWidth[i] = letter == 'b' || (letter != 0 && i + 1 < numberOfElements && pattern.getLetter(i + 1) != 0);
+			hasYear |= letter == 'Y';
+			hasDayNumber |= letter == 'D';
+			hasEpochDay |= letter == 'E';
+			hasBeeps |= letter == 'B';
+		}
+		this.hasYear = hasYear;
+		this.hasBeeps = hasBeeps;
+		this.hasDay = hasEpochDay || (hasYear && hasDayNumber);
+
+		check(hasDay || (hasDayNumber && !hasYear), () -> "Pattern " + pattern + " cannot identify a day");
+	}
+
+	/**
+	 * Returns the {@link FormatPattern} that this parser reads.
+	 */
+	public FormatPattern getPattern() {
+		return pattern;
+	}
+
+	/**
+	 * Returns the calendar key of the calendar instance that this parser parses for.
+	 */
+	public int getCalendarKey() {
+		return calendarKey;
+	}
+
+	/**
+	 * Returns a new {@link Parser} that is the same as this parser, but that uses the given year for text that does not contain a year or epoch day, such as
+	 * that of {@link DayFormat#DAY_ONLY}.
+	 *
+	 * @throws LukashianException when the given year is not supported by the calendar instance of this parser
+	 */
+	public Parser withDefaultYear(int year) {
+		check(data.isSupportedYear(year), () -> year + " is not a supported year");
+
+		return new Parser(pattern, calendarKey, year);
+	}
+
+	/**
+	 * Parses the given text into an {@link Instant}, with the exact proportion of the day that the text represents, so that for example {@code 2-3 3300}
+	 * results in the same {@link Instant} as {@code Instant.of(Day.of(2, 3), 3300)}.
+	 *
+	 * @throws LukashianException when the given text is invalid, or when the pattern of this parser cannot parse an {@link Instant}
+	 */
+	public Instant parseInstant(CharSequence text) {
+		long[] proportionOfDay = new long[2];
+		long epochDay = this.parse(text, 0, text.length(), true, proportionOfDay);
+		check(epochDay > 0, () -> getErrorMessage(text, epochDay));
+
+		return Instant.of(Day.ofEpoch((int) epochDay, calendarKey), BigFraction.of(proportionOfDay[0], proportionOfDay[1]));
+	}
+
+	/**
+	 * Parses the given text into a {@link Day}. Any beeps in the text are validated, but otherwise ignored.
+	 *
+	 * @throws LukashianException when the given text is invalid, or when the pattern of this parser cannot parse a {@link Day}
+	 */
+	public Day parseDay(CharSequence text) {
+		long epochDay = this.parse(text, 0, text.length(), false);
+		check(epochDay > 0, () -> getErrorMessage(text, epochDay));
+
+		return Day.ofEpoch((int) epochDay, calendarKey);
+	}
+
+	/**
+	 * Parses the given range of the given text into the number of epoch milliseconds of the {@link Instant} that it represents, see
+	 * {@link Instant#getEpochMilliseconds()}, or returns 0 when the text is invalid.
+	 *
+	 * @throws LukashianException when the pattern of this parser cannot parse an {@link Instant}
+	 * @throws IndexOutOfBoundsException when the given range is not within the given text
+	 */
+	public long parseEpochMilliseconds(CharSequence text, int start, int end) {
+		Objects.checkFromToIndex(start, end, text.length());
+		return Math.max(this.parse(text, start, end, true), 0);
+	}
+
+	/**
+	 * Parses the given range of the given characters into the number of epoch milliseconds of the {@link Instant} that it represents, or returns 0 when the
+	 * text is invalid.
+	 *
+	 * @throws LukashianException when the pattern of this parser cannot parse an {@link Instant}
+	 * @throws IndexOutOfBoundsException when the given range is not within the given array
+	 */
+	public long parseEpochMilliseconds(char[] text, int offset, int length) {
+		return this.parseEpochMilliseconds(CharBuffer.wrap(text), offset, offset + length);
+	}
+
+	/**
+	 * Parses the given range of the given ASCII bytes into the number of epoch milliseconds of the {@link Instant} that it represents, or returns 0 when the
+	 * text is invalid.
+	 *
+	 * @throws LukashianException when the pattern of this parser cannot parse an {@link Instant}
+	 * @throws IndexOutOfBoundsException when the given range is not within the given array
+	 */
+	public long parseEpochMilliseconds(byte[] text, int offset, int length) {
+		return this.parseEpochMilliseconds(new AsciiSequence(text), offset, offset + length);
+	}
+
+	/**
+	 * Parses the given range of the given text into the epoch day of the {@link Day} that it represents, or returns 0 when the text is invalid. Any beeps in
+	 * the text are validated, but otherwise ignored.
+	 *
+	 * @throws LukashianException when the pattern of this parser cannot parse a {@link Day}
+	 * @throws IndexOutOfBoundsException when the given range is not within the given text
+	 */
+	public int parseEpochDay(CharSequence text, int start, int end) {
+		Objects.checkFromToIndex(start, end, text.length());
+		return (int) Math.max(this.parse(text, start, end, false), 0);
+	}
+
+	/**
+	 * Parses the given range of the given characters into the epoch day of the {@link Day} that it represents, or returns 0 when the text is invalid. Any
+	 * beeps in the text are validated, but otherwise ignored.
+	 *
+	 * @throws LukashianException when the pattern of this parser cannot parse a {@link Day}
+	 * @throws IndexOutOfBoundsException when the given range is not within the given array
+	 */
+	public int parseEpochDay(char[] text, int offset, int length) {
+		return this.parseEpochDay(CharBuffer.wrap(text), offset, offset + length);
+	}
+
+	/**
+	 * Parses the given range of the given ASCII bytes into the epoch day of the {@link Day} that it represents, or returns 0 when the text is invalid. Any
+	 * beeps in the text are validated, but otherwise ignored.
+	 *
+	 * @throws LukashianException when the pattern of this parser cannot parse a {@link Day}
+	 * @throws IndexOutOfBoundsException when the given range is not within the given array
+	 */
+	public int parseEpochDay(byte[] text, int offset, int length) {
+		return this.parseEpochDay(new AsciiSequence(text), offset, offset + length);
+	}
+
+	/**
+	 * Parses the values in the given range of the given text, which are separated by the given delimiter, into epoch milliseconds, which are stored in the
+	 * given array, starting at the given offset. For each value that is invalid, 0 is stored and the bit of its index, counting from 0 for the first value of
+	 * the column, is set in the given {@link BitSet} of errors. A delimiter at the end of the range is ignored, so that a column of lines can end with a line
+	 * separator.
+	 *
+	 * @return the number of values in the column
+	 * @throws LukashianException when the pattern of this parser cannot parse an {@link Instant}
+	 * @throws IndexOutOfBoundsException when the given range is not within the given text, or when the given target is too small
+	 */
+	public int parseEpochMilliseconds(CharSequence text, int start, int end, char delimiter, long[] target, int targetOffset, BitSet errors) {
+		Objects.checkFromToIndex(start, end, text.length());
+		check(hasBeeps, () -> "Pattern " + pattern + " does not contain beeps, so it cannot parse an Instant");
+
+		int numberOfValues = 0;
+		int valueStart = start;
+		while (valueStart < end) {
+			int valueEnd = indexOf(text, delimiter, valueStart, end);
+			long epochMilliseconds = this.parse(text, valueStart, valueEnd, true);
+			if (epochMilliseconds <= 0) {
+				epochMilliseconds = 0;
+				errors.set(numberOfValues);
+			}
+			target[targetOffset + numberOfValues++] = epochMilliseconds;
+			valueStart = valueEnd + 1;
+		}
+		return numberOfValues;
+	}
+
+	/**
+	 * Parses the delimited values in the given range of the given characters into epoch milliseconds, in the same way as
+	 * {@link #parseEpochMilliseconds(CharSequence, int, int, char, long[], int, BitSet)}.
+	 *
+	 * @return the number of values in the column
+	 * @throws LukashianException when the pattern of this parser cannot parse an {@link Instant}
+	 * @throws IndexOutOfBoundsException when the given range is not within the given array, or when the given target is too small
+	 */
+	public int parseEpochMilliseconds(char[] text, int offset, int length, char delimiter, long[] target, int targetOffset, BitSet errors) {
+		return this.parseEpochMilliseconds(CharBuffer.wrap(text), offset, offset + length, delimiter, target, targetOffset, errors);
+	}
+
+	/**
+	 * Parses the delimited values in the given range of the given ASCII bytes into epoch milliseconds, in the same way as
+	 * {@link #parseEpochMilliseconds(CharSequence, int, int, char, long[], int, BitSet)}.
+	 *
+	 * @return the number of values in the column
+	 * @throws LukashianException when the pattern of this parser cannot parse an {@link Instant}
+	 * @throws IndexOutOfBoundsException when the given range is not within the given array, or when the given target is too small
+	 */
+	public int parseEpochMilliseconds(byte[] text, int offset, int length, char delimiter, long[] target, int targetOffset, BitSet errors) {
+		return this.parseEpochMilliseconds(new AsciiSequence(text), offset, offset + length, delimiter, target, targetOffset, errors);
+	}
+
+	/**
+	 * Parses the values in the given range of the given text, which are separated by the given delimiter, into epoch days, which are stored in the given
+	 * array, starting at the given offset. For each value that is invalid, 0 is stored and the bit of its index, counting from 0 for the first value of the
+	 * column, is set in the given {@link BitSet} of errors. A delimiter at the end of the range is ignored, so that a column of lines can end with a line
+	 * separator.
+	 *
+	 * @return the number of values in the column
+	 * @throws LukashianException when the pattern of this parser cannot parse a {@link Day}
+	 * @throws IndexOutOfBoundsException when the given range is not within the given text, or when the given target is too small
+	 */
+	public int parseEpochDays(CharSequence text, int start, int end, char delimiter, int[] target, int targetOffset, BitSet errors) {
+		Objects.checkFromToIndex(start, end, text.length());
+		check(hasDay || defaultYear != NOT_PRESENT, () -> "Pattern " + pattern + " does not contain a year, so it needs a default year");
+
+		int numberOfValues = 0;
+		int valueStart = start;
+		while (valueStart < end) {
+			int valueEnd = indexOf(text, delimiter, valueStart, end);
+			long epochDay = this.parse(text, valueStart, valueEnd, false);
+			if (epochDay <= 0) {
+				epochDay = 0;
+				errors.set(numberOfValues);
+			}
+			target[targetOffset + numberOfValues++] = (int) epochDay;
+			valueStart = valueEnd + 1;
+		}
+		return numberOfValues;
+	}
+
+	/**
+	 * Parses the delimited values in the given range of the given characters into epoch days, in the same way as
+	 * {@link #parseEpochDays(CharSequence, int, int, char, int[], int, BitSet)}.
+	 *
+	 * @return the number of values in the column
+	 * @throws LukashianException when the pattern of this parser cannot parse a {@link Day}
+	 * @throws IndexOutOfBoundsException when the given range is not within the given array, or when the given target is too small
+	 */
+	public int parseEpochDays(char[] text, int offset, int length, char delimiter, int[] target, int targetOffset, BitSet errors) {
+		return this.parseEpochDays(CharBuffer.wrap(text), offset, offset + length, delimiter, target, targetOffset, errors);
+	}
+
+	/**
+	 * Parses the delimited values in the given range of the given ASCII bytes into epoch days, in the same way as
+	 * {@link #parseEpochDays(CharSequence, int, int, char, int[], int, BitSet)}.
+	 *
+	 * @return the number of values in the column
+	 * @throws LukashianException when the pattern of this parser cannot parse a {@link Day}
+	 * @throws IndexOutOfBoundsException when the given range is not within the given array, or when the given target is too small
+	 */
+	public int parseEpochDays(byte[] text, int offset, int length, char delimiter, int[] target, int targetOffset, BitSet errors) {
+		return this.parseEpochDays(new AsciiSequence(text), offset, offset + length, delimiter, target, targetOffset, errors);
+	}
+
+	/**
+	 * Parses the given range of the given text into epoch milliseconds, or into an epoch day when no instant is requested or when an array is given to store
+	 * the numerator and denominator of the proportion of the day in. When the text is invalid, the result is negative, and holds the index at which parsing
+	 * failed, shifted left by 8 bits, combined with the reason of the failure.
+	 */
+	private long parse(CharSequence text, int start, int end, boolean instant) {
+		return this.parse(text, start, end, instant, null);
+	}
+
+	private long parse(CharSequence text, int start, int end, boolean instant, long[] proportionOfDay) {
+		check(!instant || hasBeeps, () -> "Pattern " + pattern + " does not contain beeps, so it cannot parse an Instant");
+		check(hasDay || defaultYear != NOT_PRESENT, () -> "Pattern " + pattern + " does not contain a year, so it needs a default year");
+
+		int year = defaultYear, dayNumber = NOT_PRESENT, epochDay = NOT_PRESENT, beeps = 0, subBeeps = 0;
+		long subBeepsDenominator = 1;
+
+		int position = start;
+		for (int i = 0; i < fixedWidth.length; i++) {
+			char letter = pattern.getLetter(i);
+			int width = pattern.getWidth(i);
+
+			if (letter == 0) {
+				String literal = pattern.getLiteral(i);
+				if (end - position < width) {
+					return error(end, LITERAL_MISMATCH);
+				}
+				for (int c = 0; c < width; c++) {
+					if (text.charAt(position + c) != literal.charAt(c)) {
+						return error(position + c, LITERAL_MISMATCH);
+					}
+				}
+				position += width;
+				continue;
+			}
+
+			int limit = Math.min(end, position + (fixedWidth[i] ? width : MAX_DIGITS));
+			int value = 0;
+			int digitsEnd = position;
+			while (digitsEnd < limit) {
+				int digit = text.charAt(digitsEnd) - '0';
+				if (digit < 0 || digit > 9) {
+					break;
+				}
+				value = value * 10 + digit;
+				digitsEnd++;
+			}
+			if (digitsEnd == position || (fixedWidth[i] && digitsEnd - position != width)) {
+				return error(digitsEnd, MISSING_DIGITS);
+			}
+			position = digitsEnd;
+
+			switch (letter) {
+				case 'Y' -> year = value;
+				case 'D' -> dayNumber = value;
+				case 'E' -> epochDay = value;
+				case 'B' -> beeps = value;
+				case 'b' -> {
+					subBeeps = value;
+					subBeepsDenominator = pow10(width);
+				}
+			}
+			if (letter == 'B' && beeps >= Instant.BEEPS_PER_DAY) {
+				return error(position, INVALID_BEEPS);
+			}
+		}
+		if (position != end) {
+			return error(position, TRAILING_TEXT);
+		}
+
+		if (dayNumber != NOT_PRESENT) {
+			int epochDayOfYear = this.getEpochDay(year, dayNumber);
+			if (epochDayOfYear == 0) {
+				return error(start, INVALID_DAY);
+			}
+			if (epochDay != NOT_PRESENT && epochDay != epochDayOfYear) {
+				return error(start, INCONSISTENT_DAY);
+			}
+			epochDay = epochDayOfYear;
+
+		} else if (!data.isSupportedEpochDay(epochDay)) {
+			return error(start, INVALID_DAY);
+
+		} else if (hasYear && EpochMath.getYearOfEpochDay(epochDay, calendarKey) != year) {
+			return error(start, INCONSISTENT_DAY);
+		}
+		if (!instant) {
+			return epochDay;
+		}
+
+		long numerator = beeps * subBeepsDenominator + subBeeps;
+		long denominator = Instant.BEEPS_PER_DAY * subBeepsDenominator;
+		if (proportionOfDay != null) {
+			proportionOfDay[0] = numerator;
+			proportionOfDay[1] = denominator;
+			return epochDay;
+		}
+
+		long epochMillisecondsPreviousDay = EpochMath.getEpochMillisecondsPreviousDay(epochDay, calendarKey);
+		long millisecondsOfDay = data.getEpochMillisecondsForEpochDay(epochDay) - epochMillisecondsPreviousDay;
+		return EpochMath.getEpochMillisecondsOnDay(epochMillisecondsPreviousDay, millisecondsOfDay, numerator, denominator);
+	}
+
+	/**
+	 * Returns the epoch day of the given day of the given year, or 0 when there is no such day.
+	 */
+	private int getEpochDay(int year, int dayNumber) {
+		if (!data.isSupportedYear(year) || dayNumber < 1) {
+			return 0;
+		}
+		int epochDay = EpochMath.getFirstEpochDayOfYear(year, calendarKey) + dayNumber - 1;
+		if (!data.isSupportedEpochDay(epochDay) || EpochMath.getYearOfEpochDay(epochDay, calendarKey) != year) {
+			return 0;
+		}
+		return epochDay;
+	}
+
+	private String getErrorMessage(CharSequence text, long error) {
+		int index = (int) (-error >>> 8);
+		String reason = switch ((int) (-error & 0xFF)) {
+			case LITERAL_MISMATCH -> "expected " + pattern;
+			case MISSING_DIGITS -> "expected digits";
+			case TRAILING_TEXT -> "unexpected text";
+			case INVALID_DAY -> "day does not exist";
+			case INVALID_BEEPS -> "beeps must be lower than " + Instant.BEEPS_PER_DAY;
+			case INCONSISTENT_DAY -> "epoch day does not match year or day";
+			default -> throw new IllegalStateException();
+		};
+		return "Text '" + text + "' could not be parsed at index " + index + ": " + reason;
+	}
+
+	private static long error(int index, int reason) {
+		return -(((long) index << 8) | reason);
+	}
+
+	private static int indexOf(CharSequence text, char c, int start, int end) {
+		for (int i = start; i < end; i++) {
+			if (text.charAt(i) == c) {
+				return i;
+			}
+		}
+		return end;
+	}
+
+	private static long pow10(int exponent) {
+		long result = 1;
+		for (int i = 0; i < exponent; i++) {
+			result *= 10;
+		}
+		return result;
+	}
+
+	/**
+	 * Creates a new {@link Parser} for the given {@link FormatPattern}, that parses for the given calendar instance.
+	 *
+	 * @throws LukashianException when the given pattern cannot identify a day, because it has no epoch day and not both a year and day, nor only a day
+	 */
+	public static Parser of(FormatPattern pattern, int calendarKey) {
+		return new Parser(pattern, calendarKey, NOT_PRESENT);
+	}
+
+	/**
+	 * Creates a new {@link Parser} for the given {@link FormatPattern}, that parses for the default calendar instance.
+	 *
+	 * @throws LukashianException when the given pattern cannot identify a day, because it has no epoch day and not both a year and day, nor only a day
+	 */
+	public static Parser of(FormatPattern pattern) {
+		return Parser.of(pattern, defaultCalendarKey());
+	}
+
+	/**
+	 * Creates a new {@link Parser} for the layout that {@link Formatter#format(Day, DayFormat, String)} writes, that parses for the given calendar instance.
+	 * Text in the layout of {@link DayFormat#DAY_ONLY} needs a default year, see {@link #withDefaultYear(int)}.
+	 */
+	public static Parser ofDays(DayFormat format, String separator, int calendarKey) {
+		return Parser.of(FormatPattern.of(getDayPattern(format, separator)), calendarKey);
+	}
+
+	/**
+	 * Creates a new {@link Parser} for the layout that {@link Formatter#format(Day, DayFormat, String)} writes, that parses for the default calendar instance.
+	 * Text in the layout of {@link DayFormat#DAY_ONLY} needs a default year, see {@link #withDefaultYear(int)}.
+	 */
+	public static Parser ofDays(DayFormat format, String separator) {
+		return Parser.ofDays(format, separator, defaultCalendarKey());
+	}
+
+	/**
+	 * Creates a new {@link Parser} for the layout that {@link Formatter#format(Instant, DayFormat, String)} writes, that parses for the given calendar
+	 * instance. Text in the layout of {@link DayFormat#DAY_ONLY} needs a default year, see {@link #withDefaultYear(int)}.
+	 */
+	public static Parser ofInstants(DayFormat dayFormat, String daySeparator, int calendarKey) {
+		return Parser.of(FormatPattern.of(getDayPattern(dayFormat, daySeparator) + " BBBB"), calendarKey);
+	}
+
+	/**
+	 * Creates a new {@link Parser} for the layout that {@link Formatter#format(Instant, DayFormat, String)} writes, that parses for the default calendar
+	 * instance. Text in the layout of {@link DayFormat#DAY_ONLY} needs a default year, see {@link #withDefaultYear(int)}.
+	 */
+	public static Parser ofInstants(DayFormat dayFormat, String daySeparator) {
+		return Parser.ofInstants(dayFormat, daySeparator, defaultCalendarKey());
+	}
+
+	/**
+	 * Creates a new {@link Parser} for the layout that {@link Formatter#format(Instant)} writes, that parses for the default calendar instance.
+	 */
+	public static Parser ofInstants() {
+		return Parser.ofInstants(DayFormat.YEAR_FIRST, "-");
+	}
+
+	private static String getDayPattern(DayFormat format, String separator) {
+		if (format == DayFormat.EPOCH) {
+			return "E";
+
+		} else if (format == DayFormat.YEAR_FIRST) {
+			return "Y" + FormatPattern.quote(separator) + "D";
+
+		} else if (format == DayFormat.DAY_FIRST) {
+			return "D" + FormatPattern.quote(separator) + "Y";
+
+		} else if (format == DayFormat.DAY_ONLY) {
+			return "D";
+
+		} else {
+			throw new IllegalStateException();
+		}
+	}
+
+	/**
+	 * A view of an array of ASCII bytes as characters, without copying them. Bytes outside of the ASCII range are read as {@link Character#MAX_VALUE}, which
+	 * is not a character that text contains, so that they never match.
+	 */
+	static final class AsciiSequence implements CharSequence {
+
+		private final byte[] bytes;
+
+		AsciiSequence(byte[] bytes) {
+			this.bytes = bytes;
+		}
+
+		@Override
+		public int length() {
+			return bytes.length;
+		}
+
+		@Override
+		public char charAt(int index) {
+			byte b = bytes[index];
+			return b < 0 ? Character.MAX_VALUE : (char) b;
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			return this.toString().substring(start, end);
+		}
+
+		@Override
+		public String toString() {
+			return new String(bytes, StandardCharsets.ISO_8859_1);
+		}
+	}
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import org.lukashian.store.MillisecondStoreData;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import static org.lukashian.Instant.BEEPS_PER_DAY;
+import static org.lukashian.LukashianException.check;
+import static org.lukashian.store.MillisecondStore.data;
+
+/**
+ * A recurring point in time that is aligned to the {@link Day}s and {@link Year}s of a calendar instance, such as the start of every day, every 500 beeps
+ * or beep 2500 of day 100 of every year. Since days do not all have the same length, the times at which a schedule fires are not a fixed number of
+ * milliseconds apart, which is why they are calculated from the bounds of the days themselves, see {@link #nextEpochMilliseconds(long, int)}.
+ * <p>
+ * A schedule fires at the first millisecond at which the given number of beeps has passed on a day, which is the first millisecond for which
+ * {@link Instant#getBeeps()} returns that number of beeps, rather than the millisecond that {@link Instant#of(Day, int)} points to, since that millisecond may
+ * still be in the previous beep. On days that are shorter than 10000 milliseconds, some beeps are never reached, in which case the schedule fires at the
+ * first millisecond of the next day instead.
+ * <p>
+ * {@link Schedule} is an immutable object, that is not bound to any calendar instance.
+ *
+ * @see Scheduler
+ */
+public final class Schedule {
+
+	private enum Kind {
+		EVERY_DAY,
+		EVERY_BEEPS,
+		EVERY_YEAR
+	}
+
+	private final Kind kind;
+	private final int dayNumber;
+	private final int beeps;
+
+	private Schedule(Kind kind, int dayNumber, int beeps) {
+		this.kind = kind;
+		this.dayNumber = dayNumber;
+		this.beeps = beeps;
+	}
+
+	/**
+	 * Gets the first millisecond after the given number of epoch milliseconds at which this schedule fires, in the given calendar instance, or 0 if that
+	 * millisecond is beyond the days that are supported by the given calendar instance.
+	 *
+	 * @throws LukashianException when the given number of epoch milliseconds is not supported by the given calendar instance
+	 */
+	public long nextEpochMilliseconds(long epochMilliseconds, int calendarKey) {
+		MillisecondStoreData data = data(calendarKey);
+		check(epochMilliseconds > 0 && data.isSupportedEpochMilliseconds(epochMilliseconds), () -> "Epoch millisecond " + epochMilliseconds + " is not supported by this Lukashian Calendar instance");
+
+		int epochDay = data.getEpochDayForEpochMilliseconds(epochMilliseconds);
+		long epochMillisecondsPreviousDay = EpochMath.getEpochMillisecondsPreviousDay(epochDay, calendarKey);
+		long millisecondsOfDay = data.getEpochMillisecondsForEpochDay(epochDay) - epochMillisecondsPreviousDay;
+
+		if (kind == Kind.EVERY_DAY) {
+			long result = getEpochMillisecondsOnDay(epochDay, beeps, data, calendarKey);
+			return result > epochMilliseconds || result == 0 ? result : getEpochMillisecondsOnDay(epochDay + 1, beeps, data, calendarKey);
+
+		} else if (kind == Kind.EVERY_BEEPS) {
+			//The millisecond itself is in a beep that has already started, so the next multiple of the interval after that beep is the first one after it
+			int next = (EpochMath.getBeepsOnDay(epochMilliseconds, epochMillisecondsPreviousDay, millisecondsOfDay) / beeps + 1) * beeps;
+			if (next < BEEPS_PER_DAY) {
+				return getEpochMillisecondsOnDay(epochDay, next, data, calendarKey);
+			}
+			return getEpochMillisecondsOnDay(epochDay + 1, 0, data, calendarKey);
+
+		} else if (kind == Kind.EVERY_YEAR) {
+			for (int year = data.getYearForEpochMilliseconds(epochMillisecondsPreviousDay + 1); data.isSupportedYear(year); year++) {
+				if (!data.isSupportedEpochMilliseconds(EpochMath.getEpochMillisecondsAtStartOfYear(year, calendarKey))) {
+					return 0;
+				}
+				int dayOfYear = EpochMath.getFirstEpochDayOfYear(year, calendarKey) + dayNumber - 1;
+				if (!data.isSupportedEpochDay(dayOfYear)) {
+					return 0;
+				}
+				if (EpochMath.getYearOfEpochDay(dayOfYear, calendarKey) == year) { //Not every year needs to have that many days
+					long result = getEpochMillisecondsOnDay(dayOfYear, beeps, data, calendarKey);
+					if (result == 0 || result > epochMilliseconds) {
+						return result;
+					}
+				}
+			}
+			return 0;
+
+		} else {
+			throw new IllegalStateException();
+		}
+	}
+
+	/**
+	 * Gets the first {@link Instant} after the given {@link Instant} at which this schedule fires, in the calendar instance of the given {@link Instant}, or
+	 * an empty {@link Optional} if that is beyond the days that are supported by that calendar instance.
+	 */
+	public Optional<Instant> next(Instant instant) {
+		long next = this.nextEpochMilliseconds(instant.getEpochMilliseconds(), instant.getCalendarKey());
+		return next == 0 ? Optional.empty() : Optional.of(Instant.ofEpoch(next, instant.getCalendarKey()));
+	}
+
+	private static long getEpochMillisecondsOnDay(int epochDay, int beeps, MillisecondStoreData data, int calendarKey) {
+		if (!data.isSupportedEpochDay(epochDay)) {
+			return 0;
+		}
+		long epochMillisecondsPreviousDay = EpochMath.getEpochMillisecondsPreviousDay(epochDay, calendarKey);
+		long millisecondsOfDay = data.getEpochMillisecondsForEpochDay(epochDay) - epochMillisecondsPreviousDay;
+		long result = EpochMath.getFirstEpochMillisecondsOnDay(epochMillisecondsPreviousDay, millisecondsOfDay, beeps);
+		return data.isSupportedEpochMilliseconds(result) ? result : 0; //On days that are shorter than 10000 milliseconds, the final beeps may not be reached
+	}
+
+	/**
+	 * Creates a new {@link Schedule} that fires at the start of every {@link Day}.
+	 */
+	public static Schedule everyDay() {
+		return Schedule.everyDayAt(0);
+	}
+
+	/**
+	 * Creates a new {@link Schedule} that fires when the given number of beeps has passed on every {@link Day}.
+	 *
+	 * @throws LukashianException when the given number of beeps is not between 0 (inclusive) and 9999 (inclusive)
+	 */
+	public static Schedule everyDayAt(int beeps) {
+		check(beeps >= 0 && beeps < BEEPS_PER_DAY, () -> beeps + " is not a valid number of beeps");
+
+		return new Schedule(Kind.EVERY_DAY, 0, beeps);
+	}
+
+	/**
+	 * Creates a new {@link Schedule} that fires every given number of beeps, starting at the start of every {@link Day}. When the number of beeps in a day
+	 * is not a multiple of the given number, the final interval of each day is shorter.
+	 *
+	 * @throws LukashianException when the given number of beeps is not between 1 (inclusive) and 10000 (inclusive)
+	 */
+	public static Schedule everyBeeps(int beeps) {
+		check(beeps >= 1 && beeps <= BEEPS_PER_DAY, () -> beeps + " is not a valid interval of beeps");
+
+		return new Schedule(Kind.EVERY_BEEPS, 0, beeps);
+	}
+
+	/**
+	 * Creates a new {@link Schedule} that fires when the given number of beeps has passed on the day with the given number of every {@link Year}. Years
+	 * that do not have a day with that number are skipped.
+	 *
+	 * @throws LukashianException when the given day number is lower than 1 or when the given number of beeps is not between 0 (inclusive) and 9999 (inclusive)
+	 */
+	public static Schedule everyYearAt(int dayNumber, int beeps) {
+		check(dayNumber >= 1, () -> dayNumber + " is not a valid day number, the minimum is 1");
+		check(beeps >= 0 && beeps < BEEPS_PER_DAY, () -> beeps + " is not a valid number of beeps");
+
+		return new Schedule(Kind.EVERY_YEAR, dayNumber, beeps);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(kind, dayNumber, beeps);
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		return object instanceof Schedule && ((Schedule) object).kind == kind && ((Schedule) object).dayNumber == dayNumber && ((Schedule) object).beeps == beeps;
+	}
+
+	@Override
+	public String toString() {
+		return switch (kind) {
+			case EVERY_DAY -> "Every day at " + beeps + " beeps";
+			case EVERY_BEEPS -> "Every " + beeps + " beeps";
+			case EVERY_YEAR -> "Every year on day " + dayNumber + " at " + beeps + " beeps";
+		};
+	}
+}
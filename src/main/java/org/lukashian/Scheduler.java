@@ -0,0 +1,312 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import static org.lukashian.LukashianException.check;
+
+/**
+ * Runs tasks according to {@link Schedule}s, at times that are calculated from the days of a calendar instance, rather than at a fixed rate. A single timer
+ * thread waits for the task that is due first, for any number of tasks, and hands each task to an {@link Executor} when it is due, so that long-running tasks
+ * do not delay the others. By default, every run gets its own virtual thread.
+ * <p>
+ * The times are read from a {@link LukashianClock}. The timer thread never waits longer than a second at a time before it reads the clock again, so that a
+ * change of the wall clock, or a difference between the wall clock and the time that has passed while waiting, does not make tasks run at the wrong time
+ * for longer than that. Each next time at which a task runs is calculated from the time at which it was due, so that small delays do not add up. A task that
+ * has fallen behind more than one time, for example because the system was suspended, runs once and then continues at the first time that is still to come.
+ * <p>
+ * An exception that is thrown by a task that runs on the timer thread itself, because the given {@link Executor} runs tasks directly, is passed to the
+ * {@link Thread.UncaughtExceptionHandler} of the timer thread, after which the timer continues with the other tasks and with the next run of that task.
+ * <p>
+ * A {@link Scheduler} is thread-safe. It needs to be closed when it is no longer used, which stops the timer thread.
+ */
+public final class Scheduler implements AutoCloseable {
+
+	private static final long MAX_WAIT_MILLISECONDS = 1000;
+
+	private final LukashianClock clock;
+	private final Executor executor;
+	private final boolean isOwnExecutor;
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition changed = lock.newCondition();
+	private final PriorityQueue<ScheduledTask> queue = new PriorityQueue<>(Comparator.comparingLong(task -> task.nextEpochMilliseconds));
+	private final Thread timer;
+	private volatile boolean closed;
+
+	private Scheduler(LukashianClock clock, Executor executor, boolean isOwnExecutor) {
+		this.clock = Objects.requireNonNull(clock);
+		this.executor = Objects.requireNonNull(executor);
+		this.isOwnExecutor = isOwnExecutor;
+		this.timer = Thread.ofPlatform().name("lukashian-scheduler").daemon().start(this::runTimer);
+	}
+
+	/**
+	 * Returns the {@link LukashianClock} of this scheduler, which determines its calendar instance.
+	 */
+	public LukashianClock getClock() {
+		return clock;
+	}
+
+	/**
+	 * Schedules the given task to run every time the given {@link Schedule} fires, after the time that is now, until it is cancelled. The task is given the
+	 * {@link Instant} at which it was due.
+	 *
+	 * @throws LukashianException when this scheduler has been closed, or when the time that is now is not supported by the calendar instance of this scheduler
+	 */
+	public ScheduledTask schedule(Schedule schedule, Consumer<Instant> task) {
+		ScheduledTask scheduledTask = new ScheduledTask(Objects.requireNonNull(schedule), Objects.requireNonNull(task));
+		long next = schedule.nextEpochMilliseconds(clock.currentEpochMilliseconds(), clock.getCalendarKey());
+
+		lock.lock();
+		try {
+			check(!closed, () -> "This scheduler has been closed");
+
+			scheduledTask.nextEpochMilliseconds = next;
+			if (next != 0) {
+				queue.add(scheduledTask);
+				changed.signal();
+			}
+		} finally {
+			lock.unlock();
+		}
+		return scheduledTask;
+	}
+
+	/**
+	 * Schedules the given task to run every time the given {@link Schedule} fires, after the time that is now, until it is cancelled.
+	 *
+	 * @throws LukashianException when this scheduler has been closed, or when the time that is now is not supported by the calendar instance of this scheduler
+	 */
+	public ScheduledTask schedule(Schedule schedule, Runnable task) {
+		Objects.requireNonNull(task);
+		return this.schedule(schedule, instant -> task.run());
+	}
+
+	/**
+	 * Returns the number of tasks that are scheduled to run.
+	 */
+	public int getNumberOfTasks() {
+		lock.lock();
+		try {
+			return queue.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Stops the timer thread, after which no more tasks are started. Runs that have already started are not interrupted. When this scheduler created its own
+	 * {@link Executor}, that is shut down as well.
+	 */
+	@Override
+	public void close() {
+		lock.lock();
+		try {
+			closed = true;
+			queue.clear();
+			changed.signal();
+		} finally {
+			lock.unlock();
+		}
+		if (Thread.currentThread() != timer) {
+			timer.interrupt();
+		}
+		if (isOwnExecutor) {
+			((ExecutorService) executor).shutdown();
+		}
+	}
+
+	private void runTimer() {
+		lock.lock();
+		try {
+			while (!closed) {
+				ScheduledTask task = queue.peek();
+				if (task == null) {
+					changed.await();
+					continue;
+				}
+
+				long now = this.currentEpochMilliseconds();
+				long delay = task.nextEpochMilliseconds - now;
+				if (now == 0 || delay > 0) { //Waits are capped, so that changes of the wall clock are noticed
+					changed.await(now == 0 ? MAX_WAIT_MILLISECONDS : Math.min(delay, MAX_WAIT_MILLISECONDS), TimeUnit.MILLISECONDS);
+					continue;
+				}
+
+				queue.poll();
+				long due = task.nextEpochMilliseconds;
+				task.nextEpochMilliseconds = task.schedule.nextEpochMilliseconds(Math.max(due, now), clock.getCalendarKey());
+				if (task.nextEpochMilliseconds != 0) {
+					queue.add(task);
+				}
+
+				lock.unlock();
+				try {
+					this.execute(task, Instant.ofEpoch(due, clock.getCalendarKey()));
+				} finally {
+					lock.lock();
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt(); //Only happens when closing
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void execute(ScheduledTask task, Instant due) {
+		try {
+			executor.execute(() -> {
+				if (!task.cancelled) {
+					task.task.accept(due);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			//The executor is shutting down, so this run is skipped, just like the runs of a closed scheduler
+		} catch (RuntimeException e) { //An executor that runs the task on the timer thread passes on what it throws, which must not stop the timer
+			Thread thread = Thread.currentThread();
+			thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+		}
+	}
+
+	private long currentEpochMilliseconds() {
+		try {
+			return clock.currentEpochMilliseconds();
+		} catch (LukashianException e) {
+			return 0; //The clock is outside of the calendar instance, no task can be due
+		}
+	}
+
+	/**
+	 * Creates a new {@link Scheduler} that reads the time from the given {@link LukashianClock} and runs tasks on the given {@link Executor}.
+	 */
+	public static Scheduler of(LukashianClock clock, Executor executor) {
+		return new Scheduler(clock, executor, false);
+	}
+
+	/**
+	 * Creates a new {@link Scheduler} that reads the time from the given {@link LukashianClock} and runs each task on a new virtual thread.
+	 */
+	public static Scheduler of(LukashianClock clock) {
+		return new Scheduler(clock, Executors.newVirtualThreadPerTaskExecutor(), true);
+	}
+
+	/**
+	 * Creates a new {@link Scheduler} that reads the time from the system clock, for the default calendar instance, and runs each task on a new virtual
+	 * thread.
+	 */
+	public static Scheduler of() {
+		return Scheduler.of(LukashianClock.system());
+	}
+
+	/**
+	 * A task that has been scheduled with a {@link Scheduler}.
+	 */
+	public final class ScheduledTask {
+
+		private final Schedule schedule;
+		private final Consumer<Instant> task;
+		private volatile long nextEpochMilliseconds;
+		private volatile boolean cancelled;
+
+		private ScheduledTask(Schedule schedule, Consumer<Instant> task) {
+			this.schedule = schedule;
+			this.task = task;
+		}
+
+		/**
+		 * Returns the {@link Schedule} of this task.
+		 */
+		public Schedule getSchedule() {
+			return schedule;
+		}
+
+		/**
+		 * Returns the number of epoch milliseconds at which this task is due next, or 0 if it is not going to run again.
+		 */
+		public long getNextEpochMilliseconds() {
+			return cancelled || closed ? 0 : nextEpochMilliseconds;
+		}
+
+		/**
+		 * Returns whether this task has been cancelled.
+		 */
+		public boolean isCancelled() {
+			return cancelled;
+		}
+
+		/**
+		 * Cancels this task, so that it does not run again. A run that has already started is not interrupted.
+		 */
+		public void cancel() {
+			lock.lock();
+			try {
+				cancelled = true;
+				queue.remove(this);
+				changed.signal();
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import org.apache.commons.numbers.fraction.BigFraction;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.Serial;
+import java.io.StreamCorruptedException;
+import java.math.BigInteger;
+
+/**
+ * The serialized form of {@link Year}, {@link Day} and {@link Instant}. Instead of the default serialized form, which contains all fields of these classes,
+ * their class descriptors and, for {@link Instant}, the {@link BigInteger}s that make up its proportion of the day, only the following values are written:
+ * <ul>
+ *     <li>A byte that identifies the type of {@link CalendarObject}</li>
+ *     <li>The calendar key</li>
+ *     <li>The year number for a {@link Year} or the epoch day for a {@link Day} and an {@link Instant}</li>
+ *     <li>For an {@link Instant}, the numerator and denominator of its exact proportion of the day</li>
+ * </ul>
+ * All numbers are written as variable-length integers, using 7 bits per byte, so that small values only take up a single byte. When the numerator or
+ * denominator of a proportion does not fit in a long, the denominator is written as 0, followed by the lengths and bytes of both {@link BigInteger}s.
+ * <p>
+ * Upon deserialization, the {@link CalendarObject} is recreated via its regular factory methods, so it is validated against the calendar instance in the
+ * same way as any other {@link CalendarObject}.
+ */
+final class SerializationProxy implements Externalizable {
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	private static final byte YEAR_TYPE = 1;
+	private static final byte DAY_TYPE = 2;
+	private static final byte INSTANT_TYPE = 3;
+
+	/**
+	 * The maximum length of the bytes of a {@link BigInteger}, so that a corrupt length cannot make deserialization allocate an arbitrary amount of memory.
+	 */
+	private static final int MAX_BIG_INTEGER_LENGTH = 1 << 16;
+
+	private CalendarObject object;
+
+	/**
+	 * Constructor for deserialization, as required by {@link Externalizable}.
+	 */
+	public SerializationProxy() {
+	}
+
+	SerializationProxy(CalendarObject object) {
+		this.object = object;
+	}
+
+	@Override
+	public void writeExternal(ObjectOutput out) throws IOException {
+		switch (object) {
+			case Year year -> {
+				out.writeByte(YEAR_TYPE);
+				writeVarLong(out, zigZag(year.getCalendarKey()));
+				writeVarLong(out, year.getYearNumber());
+			}
+			case Day day -> {
+				out.writeByte(DAY_TYPE);
+				writeVarLong(out, zigZag(day.getCalendarKey()));
+				writeVarLong(out, day.getEpochDay());
+			}
+			case Instant instant -> {
+				out.writeByte(INSTANT_TYPE);
+				writeVarLong(out, zigZag(instant.getCalendarKey()));
+				writeVarLong(out, instant.getDay().getEpochDay());
+				writeProportion(out, instant.getProportionOfDay());
+			}
+		}
+	}
+
+	@Override
+	public void readExternal(ObjectInput in) throws IOException {
+		byte type = in.readByte();
+		int calendarKey = unZigZag(readVarLong(in));
+		long value = readVarLong(in);
+		if (value < 0 || value > Integer.MAX_VALUE) { //Year numbers and epoch days are never negative
+			throw new InvalidObjectException("Serialized year or epoch day " + value + " is out of range");
+		}
+
+		try {
+			object = switch (type) {
+				case YEAR_TYPE -> Year.of((int) value, calendarKey);
+				case DAY_TYPE -> Day.ofEpoch((int) value, calendarKey);
+				case INSTANT_TYPE -> Instant.of(Day.ofEpoch((int) value, calendarKey), readProportion(in));
+				default -> throw new StreamCorruptedException("Unknown serialized type " + type);
+			};
+		} catch (LukashianException | ArithmeticException e) { //ArithmeticException for a proportion with a denominator of zero
+			throw new InvalidObjectException(e.getMessage());
+		}
+	}
+
+	@Serial
+	private Object readResolve() {
+		return object;
+	}
+
+	private static void writeProportion(ObjectOutput out, BigFraction proportion) throws IOException {
+		BigInteger numerator = proportion.getNumerator().abs(); //A valid proportion is never negative
+		BigInteger denominator = proportion.getDenominator().abs();
+
+		if (numerator.bitLength() < Long.SIZE && denominator.bitLength() < Long.SIZE) {
+			writeVarLong(out, denominator.longValue());
+			writeVarLong(out, numerator.longValue());
+		} else {
+			writeVarLong(out, 0); //A denominator of 0 marks the proportion as not fitting in longs
+			writeBigInteger(out, denominator);
+			writeBigInteger(out, numerator);
+		}
+	}
+
+	private static BigFraction readProportion(ObjectInput in) throws IOException {
+		long denominator = readVarLong(in);
+		if (denominator == 0) {
+			BigInteger bigDenominator = readBigInteger(in);
+			return BigFraction.of(readBigInteger(in), bigDenominator);
+		}
+		return BigFraction.of(BigInteger.valueOf(readVarLong(in)), BigInteger.valueOf(denominator));
+	}
+
+	private static void writeBigInteger(ObjectOutput out, BigInteger value) throws IOException {
+		byte[] bytes = value.toByteArray();
+		writeVarLong(out, bytes.length);
+		out.write(bytes);
+	}
+
+	private static BigInteger readBigInteger(ObjectInput in) throws IOException {
+		long length = readVarLong(in);
+		if (length < 1 || length > MAX_BIG_INTEGER_LENGTH) {
+			throw new InvalidObjectException("Serialized length " + length + " of a number is out of range");
+		}
+
+		byte[] bytes = new byte[(int) length];
+		in.readFully(bytes);
+		return new BigInteger(bytes);
+	}
+
+	private static void writeVarLong(ObjectOutput out, long value) throws IOException {
+		while ((value & ~0x7FL) != 0) {
+			out.writeByte((int) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		out.writeByte((int) value);
+	}
+
+	private static long readVarLong(ObjectInput in) throws IOException {
+		long value = 0;
+		for (int shift = 0; shift < Long.SIZE; shift += 7) {
+			byte b = in.readByte();
+			value |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw new StreamCorruptedException("Malformed variable-length integer");
+	}
+
+	private static long zigZag(int value) {
+		return Integer.toUnsignedLong((value << 1) ^ (value >> 31));
+	}
+
+	private static int unZigZag(long value) {
+		int bits = (int) value;
+		return (bits >>> 1) ^ -(bits & 1);
+	}
+}
@@ -0,0 +1,337 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import org.apache.commons.numbers.fraction.BigFraction;
+import org.lukashian.store.MillisecondStoreData;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.lukashian.LukashianException.check;
+import static org.lukashian.store.MillisecondStore.data;
+
+/**
+ * Encodes {@link Year}s, {@link Day}s and {@link Instant}s into binary keys whose unsigned lexicographic byte order is equal to the order of
+ * {@link Comparable#compareTo(Object)} within a calendar instance. This makes them suitable as keys in sorted key-value stores and in binary sort buffers.
+ * <p>
+ * All values are written in big-endian byte order, with their sign bit flipped, so that negative values sort before positive ones. Each key starts
+ * with the calendar key, so that all keys of a calendar instance are adjacent to each other. The keys have a fixed length:
+ * <ul>
+ *     <li>A {@link Year} key consists of the calendar key (4 bytes) and the year number (4 bytes).</li>
+ *     <li>A {@link Day} key consists of the calendar key (4 bytes) and the epoch day (4 bytes).</li>
+ *     <li>An {@link Instant} key consists of the calendar key (4 bytes), the epoch milliseconds (8 bytes) and the numerator (8 bytes) and denominator
+ *     (8 bytes) of the exact proportion of the day. Since {@link Instant#compareTo(Instant)} only looks at the epoch milliseconds, the proportion does not
+ *     influence the order of instants that are not equal, but it allows for decoding the exact {@link Instant} that was encoded.</li>
+ * </ul>
+ * Encoding is done into caller-provided byte arrays and {@link ByteBuffer}s, without creating any objects, apart from the objects that are created when
+ * calculating the epoch milliseconds of an {@link Instant}. The methods that take epoch milliseconds instead of an {@link Instant} create no objects at all.
+ */
+public final class SortKey {
+
+	/**
+	 * The length in bytes of the key of a {@link Year}.
+	 */
+	public static final int YEAR_KEY_LENGTH = 8;
+
+	/**
+	 * The length in bytes of the key of a {@link Day}.
+	 */
+	public static final int DAY_KEY_LENGTH = 8;
+
+	/**
+	 * The length in bytes of the key of an {@link Instant}.
+	 */
+	public static final int INSTANT_KEY_LENGTH = 28;
+
+	private static final VarHandle INT_HANDLE = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+	private static final VarHandle LONG_HANDLE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+	private SortKey() {
+	}
+
+	/**
+	 * Encodes the given {@link Year} into the given array, starting at the given offset, and returns the offset after the key.
+	 */
+	public static int encode(Year year, byte[] target, int offset) {
+		putInt(target, offset, year.getCalendarKey());
+		putInt(target, offset + 4, year.getYearNumber());
+		return offset + YEAR_KEY_LENGTH;
+	}
+
+	/**
+	 * Encodes the given {@link Day} into the given array, starting at the given offset, and returns the offset after the key.
+	 */
+	public static int encode(Day day, byte[] target, int offset) {
+		putInt(target, offset, day.getCalendarKey());
+		putInt(target, offset + 4, day.getEpochDay());
+		return offset + DAY_KEY_LENGTH;
+	}
+
+	/**
+	 * Encodes the given {@link Instant} into the given array, starting at the given offset, and returns the offset after the key.
+	 *
+	 * @throws LukashianException when the numerator or denominator of the proportion of the day of the given {@link Instant} does not fit in a long
+	 */
+	public static int encode(Instant instant, byte[] target, int offset) {
+		BigFraction proportion = instant.getProportionOfDay();
+		return encode(instant.getEpochMilliseconds(), longValue(proportion.getNumerator()), longValue(proportion.getDenominator()), instant.getCalendarKey(), target, offset);
+	}
+
+	/**
+	 * Encodes the {@link Instant} that represents the given number of milliseconds since the start of the given calendar instance into the given array,
+	 * starting at the given offset, and returns the offset after the key. The result is equal to the result of {@link #encode(Instant, byte[], int)} for
+	 * the {@link Instant} that is created by {@link Instant#ofEpoch(long, int)}.
+	 *
+	 * @throws LukashianException when the given number of milliseconds is lower than 1 or not supported by the given calendar instance
+	 */
+	public static int encode(long epochMilliseconds, int calendarKey, byte[] target, int offset) {
+		int epochDay = EpochMath.getEpochDay(epochMilliseconds, calendarKey);
+		long epochMillisecondsPreviousDay = EpochMath.getEpochMillisecondsPreviousDay(epochDay, calendarKey);
+
+		//The same proportion as the one that Instant.ofEpoch creates, in its reduced form
+		long numerator = epochMilliseconds - epochMillisecondsPreviousDay - 1;
+		long denominator = data(calendarKey).getEpochMillisecondsForEpochDay(epochDay) - epochMillisecondsPreviousDay;
+		long gcd = gcd(numerator, denominator);
+
+		return encode(epochMilliseconds, numerator / gcd, denominator / gcd, calendarKey, target, offset);
+	}
+
+	/**
+	 * Encodes the given {@link Year} into the given {@link ByteBuffer}, at its current position, after which the position is advanced by the length of the key.
+	 */
+	public static void encode(Year year, ByteBuffer target) {
+		putInt(target, year.getCalendarKey());
+		putInt(target, year.getYearNumber());
+	}
+
+	/**
+	 * Encodes the given {@link Day} into the given {@link ByteBuffer}, at its current position, after which the position is advanced by the length of the key.
+	 */
+	public static void encode(Day day, ByteBuffer target) {
+		putInt(target, day.getCalendarKey());
+		putInt(target, day.getEpochDay());
+	}
+
+	/**
+	 * Encodes the given {@link Instant} into the given {@link ByteBuffer}, at its current position, after which the position is advanced by the length of the key.
+	 *
+	 * @throws LukashianException when the numerator or denominator of the proportion of the day of the given {@link Instant} does not fit in a long
+	 */
+	public static void encode(Instant instant, ByteBuffer target) {
+		BigFraction proportion = instant.getProportionOfDay();
+		long numerator = longValue(proportion.getNumerator());
+		long denominator = longValue(proportion.getDenominator());
+
+		putInt(target, instant.getCalendarKey());
+		putLong(target, instant.getEpochMilliseconds());
+		putLong(target, numerator);
+		putLong(target, denominator);
+	}
+
+	/**
+	 * Decodes the calendar key of the key of a {@link Year}, {@link Day} or {@link Instant} in the given array, starting at the given offset.
+	 */
+	public static int decodeCalendarKey(byte[] source, int offset) {
+		return getInt(source, offset);
+	}
+
+	/**
+	 * Decodes the year number of the key of a {@link Year} in the given array, starting at the given offset.
+	 */
+	public static int decodeYearNumber(byte[] source, int offset) {
+		return getInt(source, offset + 4);
+	}
+
+	/**
+	 * Decodes the epoch day of the key of a {@link Day} in the given array, starting at the given offset.
+	 */
+	public static int decodeEpochDay(byte[] source, int offset) {
+		return getInt(source, offset + 4);
+	}
+
+	/**
+	 * Decodes the epoch milliseconds of the key of an {@link Instant} in the given array, starting at the given offset.
+	 */
+	public static long decodeEpochMilliseconds(byte[] source, int offset) {
+		return getLong(source, offset + 4);
+	}
+
+	/**
+	 * Decodes the key of a {@link Year} in the given array, starting at the given offset.
+	 *
+	 * @throws LukashianException when the encoded {@link Year} is not supported by its calendar instance
+	 */
+	public static Year decodeYear(byte[] source, int offset) {
+		return Year.of(decodeYearNumber(source, offset), decodeCalendarKey(source, offset));
+	}
+
+	/**
+	 * Decodes the key of a {@link Day} in the given array, starting at the given offset.
+	 *
+	 * @throws LukashianException when the encoded {@link Day} is not supported by its calendar instance
+	 */
+	public static Day decodeDay(byte[] source, int offset) {
+		return Day.ofEpoch(decodeEpochDay(source, offset), decodeCalendarKey(source, offset));
+	}
+
+	/**
+	 * Decodes the key of an {@link Instant} in the given array, starting at the given offset. The resulting {@link Instant} has the exact proportion of
+	 * the day of the {@link Instant} that was encoded.
+	 *
+	 * @throws LukashianException when the encoded {@link Instant} is not supported by its calendar instance
+	 */
+	public static Instant decodeInstant(byte[] source, int offset) {
+		return decodeInstant(decodeCalendarKey(source, offset), decodeEpochMilliseconds(source, offset), getLong(source, offset + 12), getLong(source, offset + 20));
+	}
+
+	/**
+	 * Decodes the key of a {@link Year} in the given {@link ByteBuffer}, at its current position, after which the position is advanced by the length of the key.
+	 *
+	 * @throws LukashianException when the encoded {@link Year} is not supported by its calendar instance
+	 */
+	public static Year decodeYear(ByteBuffer source) {
+		int calendarKey = getInt(source);
+		return Year.of(getInt(source), calendarKey);
+	}
+
+	/**
+	 * Decodes the key of a {@link Day} in the given {@link ByteBuffer}, at its current position, after which the position is advanced by the length of the key.
+	 *
+	 * @throws LukashianException when the encoded {@link Day} is not supported by its calendar instance
+	 */
+	public static Day decodeDay(ByteBuffer source) {
+		int calendarKey = getInt(source);
+		return Day.ofEpoch(getInt(source), calendarKey);
+	}
+
+	/**
+	 * Decodes the key of an {@link Instant} in the given {@link ByteBuffer}, at its current position, after which the position is advanced by the length of the
+	 * key. The resulting {@link Instant} has the exact proportion of the day of the {@link Instant} that was encoded.
+	 *
+	 * @throws LukashianException when the encoded {@link Instant} is not supported by its calendar instance
+	 */
+	public static Instant decodeInstant(ByteBuffer source) {
+		int calendarKey = getInt(source);
+		long epochMilliseconds = getLong(source);
+		long numerator = getLong(source);
+		return decodeInstant(calendarKey, epochMilliseconds, numerator, getLong(source));
+	}
+
+	private static int encode(long epochMilliseconds, long numerator, long denominator, int calendarKey, byte[] target, int offset) {
+		putInt(target, offset, calendarKey);
+		putLong(target, offset + 4, epochMilliseconds);
+		putLong(target, offset + 12, numerator);
+		putLong(target, offset + 20, denominator);
+		return offset + INSTANT_KEY_LENGTH;
+	}
+
+	private static Instant decodeInstant(int calendarKey, long epochMilliseconds, long numerator, long denominator) {
+		MillisecondStoreData data = data(calendarKey);
+		check(data.isSupportedEpochMilliseconds(epochMilliseconds), () -> "Epoch millisecond " + epochMilliseconds + " isn't supported by this Lukashian Calendar instance");
+
+		Day day = Day.ofEpoch(data.getEpochDayForEpochMilliseconds(epochMilliseconds), calendarKey);
+		return Instant.of(day, BigFraction.of(numerator, denominator));
+	}
+
+	private static long longValue(BigInteger value) {
+		check(value.bitLength() < Long.SIZE, () -> "Proportion of day is too precise to be encoded in a key");
+		return value.longValue();
+	}
+
+	private static long gcd(long a, long b) {
+		while (b != 0) {
+			long remainder = a % b;
+			a = b;
+			b = remainder;
+		}
+		return a;
+	}
+
+	private static void putInt(byte[] target, int offset, int value) {
+		INT_HANDLE.set(target, offset, value ^ Integer.MIN_VALUE);
+	}
+
+	private static void putLong(byte[] target, int offset, long value) {
+		LONG_HANDLE.set(target, offset, value ^ Long.MIN_VALUE);
+	}
+
+	private static int getInt(byte[] source, int offset) {
+		return (int) INT_HANDLE.get(source, offset) ^ Integer.MIN_VALUE;
+	}
+
+	private static long getLong(byte[] source, int offset) {
+		return (long) LONG_HANDLE.get(source, offset) ^ Long.MIN_VALUE;
+	}
+
+	private static void putInt(ByteBuffer target, int value) {
+		int flipped = value ^ Integer.MIN_VALUE;
+		target.putInt(target.order() == ByteOrder.BIG_ENDIAN ? flipped : Integer.reverseBytes(flipped));
+	}
+
+	private static void putLong(ByteBuffer target, long value) {
+		long flipped = value ^ Long.MIN_VALUE;
+		target.putLong(target.order() == ByteOrder.BIG_ENDIAN ? flipped : Long.reverseBytes(flipped));
+	}
+
+	private static int getInt(ByteBuffer source) {
+		int value = source.getInt();
+		return (source.order() == ByteOrder.BIG_ENDIAN ? value : Integer.reverseBytes(value)) ^ Integer.MIN_VALUE;
+	}
+
+	private static long getLong(ByteBuffer source) {
+		long value = source.getLong();
+		return (source.order() == ByteOrder.BIG_ENDIAN ? value : Long.reverseBytes(value)) ^ Long.MIN_VALUE;
+	}
+}
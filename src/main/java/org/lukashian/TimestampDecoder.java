@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.NoSuchElementException;
+
+import static org.lukashian.store.MillisecondStore.defaultCalendarKey;
+
+/**
+ * Streaming decoder for values that were encoded by a {@link TimestampEncoder}. No objects are created per value, and a decoder can be reused for other
+ * encoded values with {@link #reset(ByteBuffer)}.
+ * <p>
+ * A {@link TimestampDecoder} is not thread-safe.
+ */
+public final class TimestampDecoder {
+
+	private ByteBuffer source;
+	private int remainingValues;
+	private int numberOfValues;
+	private long bits; //The next bits, from the most significant bit onwards
+	private int availableBits;
+	private long previousValue;
+	private long previousDelta;
+
+	/**
+	 * Creates a new {@link TimestampDecoder} for the encoded values at the current position of the given {@link ByteBuffer}, see {@link #reset(ByteBuffer)}.
+	 *
+	 * @throws BufferUnderflowException when the given {@link ByteBuffer} does not contain all encoded values
+	 */
+	public TimestampDecoder(ByteBuffer source) {
+		this.reset(source);
+	}
+
+	/**
+	 * Starts decoding the encoded values at the current position of the given {@link ByteBuffer}, after which the position is advanced to the end of the
+	 * encoded values. The bytes are read as the values are decoded, so they must not be changed while decoding.
+	 *
+	 * @throws BufferUnderflowException when the given {@link ByteBuffer} does not contain all encoded values
+	 */
+	public void reset(ByteBuffer source) {
+		int values = source.getInt();
+		int numberOfBytes = source.getInt();
+		if (values < 0 || numberOfBytes < 0 || source.remaining() < numberOfBytes) {
+			throw new BufferUnderflowException();
+		}
+
+		this.source = source.slice(source.position(), numberOfBytes);
+		source.position(source.position() + numberOfBytes);
+		this.remainingValues = values;
+		this.numberOfValues = values;
+		this.bits = 0;
+		this.availableBits = 0;
+		this.previousValue = 0;
+		this.previousDelta = 0;
+	}
+
+	/**
+	 * Returns the total number of encoded values.
+	 */
+	public int getNumberOfValues() {
+		return numberOfValues;
+	}
+
+	/**
+	 * Returns whether there are more values to decode.
+	 */
+	public boolean hasNext() {
+		return remainingValues > 0;
+	}
+
+	/**
+	 * Decodes the next value.
+	 *
+	 * @throws NoSuchElementException when all values have been decoded
+	 */
+	public long next() {
+		if (remainingValues == 0) {
+			throw new NoSuchElementException();
+		}
+
+		long value;
+		if (remainingValues == numberOfValues) {
+			value = this.read(Long.SIZE);
+		} else {
+			long deltaOfDelta;
+			if (this.read(1) == 0) {
+				deltaOfDelta = 0;
+			} else if (this.read(1) == 0) {
+				deltaOfDelta = this.readSigned(7);
+			} else if (this.read(1) == 0) {
+				deltaOfDelta = this.readSigned(9);
+			} else if (this.read(1) == 0) {
+				deltaOfDelta = this.readSigned(12);
+			} else {
+				deltaOfDelta = this.read(Long.SIZE);
+			}
+			previousDelta += deltaOfDelta;
+			value = previousValue + previousDelta;
+		}
+		previousValue = value;
+		remainingValues--;
+		return value;
+	}
+
+	/**
+	 * Decodes the next values into the given array, starting at the given offset, until the given number of values have been decoded or all values have been
+	 * decoded, and returns the number of decoded values.
+	 */
+	public int next(long[] target, int offset, int length) {
+		int count = Math.min(length, remainingValues);
+		for (int i = 0; i < count; i++) {
+			target[offset + i] = this.next();
+		}
+		return count;
+	}
+
+	/**
+	 * Decodes the next value as the number of milliseconds since the start of the calendar instance with the given key, and returns the {@link Instant} that
+	 * {@link Instant#ofEpoch(long, int)} returns for it.
+	 *
+	 * @throws NoSuchElementException when all values have been decoded
+	 * @throws LukashianException when the decoded number of milliseconds is not supported by the calendar instance
+	 */
+	public Instant nextInstant(int calendarKey) {
+		return Instant.ofEpoch(this.next(), calendarKey);
+	}
+
+	/**
+	 * Decodes the next value as the number of milliseconds since the start of the default calendar instance, and returns the {@link Instant} that
+	 * {@link Instant#ofEpoch(long)} returns for it.
+	 *
+	 * @throws NoSuchElementException when all values have been decoded
+	 * @throws LukashianException when the decoded number of milliseconds is not supported by the calendar instance
+	 */
+	public Instant nextInstant() {
+		return this.nextInstant(defaultCalendarKey());
+	}
+
+	private long readSigned(int numberOfBits) {
+		return this.read(numberOfBits) << (Long.SIZE - numberOfBits) >> (Long.SIZE - numberOfBits);
+	}
+
+	private long read(int numberOfBits) {
+		if (numberOfBits > Integer.SIZE) {
+			long high = this.read(numberOfBits - Integer.SIZE);
+			return high << Integer.SIZE | this.read(Integer.SIZE);
+		}
+
+		while (availableBits <= Long.SIZE - Byte.SIZE && source.hasRemaining()) {
+			bits |= (source.get() & 0xFFL) << (Long.SIZE - Byte.SIZE - availableBits);
+			availableBits += Byte.SIZE;
+		}
+		if (availableBits < numberOfBits) {
+			throw new BufferUnderflowException();
+		}
+
+		long value = bits >>> (Long.SIZE - numberOfBits);
+		bits <<= numberOfBits;
+		availableBits -= numberOfBits;
+		return value;
+	}
+}
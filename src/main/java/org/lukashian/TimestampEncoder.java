@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Streaming delta-of-delta encoder for sequences of longs, such as epoch milliseconds, or beep indexes of the form epochDay * 10000 + beeps. The first value
+ * is stored as is, after which each value is stored as the difference between its delta with the previous value and the previous delta, behind a control code
+ * that tells how many bits that difference takes:
+ * <ul>
+ *     <li>'0' for a difference of 0</li>
+ *     <li>'10' followed by 7 bits for a difference between -64 and 63</li>
+ *     <li>'110' followed by 9 bits for a difference between -256 and 255</li>
+ *     <li>'1110' followed by 12 bits for a difference between -2048 and 2047</li>
+ *     <li>'1111' followed by 64 bits for any other difference</li>
+ * </ul>
+ * Beep indexes of samples that are taken every given number of beeps have a constant delta, so they take a single bit per sample. The epoch milliseconds of
+ * such samples have deltas that only vary with the lengths of the days, and rounding, so they mostly take one or nine bits per sample.
+ * <p>
+ * The bits are collected in an internal buffer that grows as needed, and no objects are created per value. An encoder can be reused with {@link #reset()}.
+ * The encoded form, written by {@link #writeTo(ByteBuffer)}, consists of the number of values and the number of bytes of the bits, both as an int, followed
+ * by the bits, and can be read by a {@link TimestampDecoder}.
+ * <p>
+ * A {@link TimestampEncoder} is not thread-safe.
+ */
+public final class TimestampEncoder {
+
+	static final int HEADER_LENGTH = 2 * Integer.BYTES;
+
+	private long[] words = new long[16];
+	private long numberOfBits;
+	private int numberOfValues;
+	private long previousValue;
+	private long previousDelta;
+
+	/**
+	 * Adds the given value.
+	 */
+	public void add(long value) {
+		if (numberOfValues == 0) {
+			this.write(value, Long.SIZE);
+		} else {
+			long delta = value - previousValue;
+			long deltaOfDelta = delta - previousDelta; //Overflow wraps around the same way when decoding
+			if (deltaOfDelta == 0) {
+				this.write(0b0, 1);
+			} else if (deltaOfDelta >= -64 && deltaOfDelta <= 63) {
+				this.write(0b10, 2);
+				this.write(deltaOfDelta, 7);
+			} else if (deltaOfDelta >= -256 && deltaOfDelta <= 255) {
+				this.write(0b110, 3);
+				this.write(deltaOfDelta, 9);
+			} else if (deltaOfDelta >= -2048 && deltaOfDelta <= 2047) {
+				this.write(0b1110, 4);
+				this.write(deltaOfDelta, 12);
+			} else {
+				this.write(0b1111, 4);
+				this.write(deltaOfDelta, Long.SIZE);
+			}
+			previousDelta = delta;
+		}
+		previousValue = value;
+		numberOfValues++;
+	}
+
+	/**
+	 * Adds the number of epoch milliseconds of the given non-null {@link Instant}.
+	 */
+	public void add(Instant instant) {
+		this.add(instant.getEpochMilliseconds());
+	}
+
+	/**
+	 * Adds the given number of values of the given array, starting at the given offset.
+	 */
+	public void add(long[] values, int offset, int length) {
+		for (int i = offset; i < offset + length; i++) {
+			this.add(values[i]);
+		}
+	}
+
+	private void write(long value, int bits) {
+		int index = (int) (numberOfBits >>> 6);
+		if (index + 1 >= words.length) {
+			words = Arrays.copyOf(words, words.length * 2);
+		}
+
+		long masked = bits == Long.SIZE ? value : value & ((1L << bits) - 1);
+		int free = Long.SIZE - (int) (numberOfBits & 63);
+		if (bits <= free) {
+			words[index] |= masked << (free - bits); //Shifting by 64 is never needed, since bits is at least 1
+		} else {
+			words[index] |= masked >>> (bits - free);
+			words[index + 1] |= masked << (Long.SIZE - (bits - free));
+		}
+		numberOfBits += bits;
+	}
+
+	/**
+	 * Returns the number of values that were added.
+	 */
+	public int getNumberOfValues() {
+		return numberOfValues;
+	}
+
+	/**
+	 * Returns the number of bits that the added values take.
+	 */
+	public long getNumberOfBits() {
+		return numberOfBits;
+	}
+
+	/**
+	 * Returns the number of bytes that {@link #writeTo(ByteBuffer)} writes.
+	 */
+	public int getEncodedLength() {
+		return HEADER_LENGTH + this.getNumberOfBytes();
+	}
+
+	private int getNumberOfBytes() {
+		return Math.toIntExact((numberOfBits + Byte.SIZE - 1) / Byte.SIZE);
+	}
+
+	/**
+	 * Writes the encoded values to the given {@link ByteBuffer}, at its current position, after which the position is advanced by
+	 * {@link #getEncodedLength()}. The encoder can still be used to add more values.
+	 *
+	 * @throws BufferOverflowException when the given {@link ByteBuffer} has less than {@link #getEncodedLength()} bytes remaining
+	 */
+	public void writeTo(ByteBuffer target) {
+		int numberOfBytes = this.getNumberOfBytes();
+		if (target.remaining() < HEADER_LENGTH + numberOfBytes) {
+			throw new BufferOverflowException();
+		}
+
+		target.putInt(numberOfValues);
+		target.putInt(numberOfBytes);
+		for (int i = 0; i < numberOfBytes; i++) {
+			target.put((byte) (words[i >>> 3] >>> (Long.SIZE - Byte.SIZE - ((i & 7) << 3))));
+		}
+	}
+
+	/**
+	 * Returns the encoded values in a new array.
+	 */
+	public byte[] toByteArray() {
+		ByteBuffer buffer = ByteBuffer.allocate(this.getEncodedLength());
+		this.writeTo(buffer);
+		return buffer.array();
+	}
+
+	/**
+	 * Removes all values, so that the encoder can be reused, keeping its internal buffer.
+	 */
+	public void reset() {
+		Arrays.fill(words, 0, (int) Math.min(words.length, (numberOfBits >>> 6) + 2), 0L);
+		numberOfBits = 0;
+		numberOfValues = 0;
+		previousValue = 0;
+		previousDelta = 0;
+	}
+}
@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import org.lukashian.Formatter.DayFormat;
+import org.lukashian.store.MillisecondStoreData;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+import static org.lukashian.LukashianException.check;
+import static org.lukashian.store.MillisecondStore.data;
+import static org.lukashian.store.MillisecondStore.defaultCalendarKey;
+
+/**
+ * A thread-safe renderer of timestamps for log lines, that writes the time that is now, or given epoch milliseconds, in the same way as
+ * {@link Formatter#format(Instant, DayFormat, String)}, into a {@link StringBuilder}, an array of ASCII bytes or a {@link ByteBuffer} that the caller reuses.
+ * <p>
+ * The renderer keeps the rendered text of the most recent day, up to and including the space before the beeps, together with the bounds of that day, in a
+ * single immutable snapshot that is shared by all threads. As long as timestamps stay within that day, rendering one takes a range check, a division for the
+ * beeps and copying the text, without looking anything up or creating any objects. The first timestamp on another day replaces the snapshot.
+ * <p>
+ * The time that is now is read from a {@link LukashianClock}, which is the system clock by default, see {@link #withClock(LukashianClock)}.
+ */
+public final class TimestampRenderer {
+
+	private final DayFormat dayFormat;
+	private final String daySeparator;
+	private final int calendarKey;
+	private final MillisecondStoreData data;
+	private final LukashianClock clock;
+
+	private volatile Snapshot snapshot;
+
+	private TimestampRenderer(DayFormat dayFormat, String daySeparator, LukashianClock clock) {
+		check(daySeparator.chars().allMatch(c -> c < 0x80), () -> "Only ASCII separators can be written as bytes");
+
+		this.dayFormat = Objects.requireNonNull(dayFormat);
+		this.daySeparator = daySeparator;
+		this.calendarKey = clock.getCalendarKey();
+		this.data = data(calendarKey);
+		this.clock = clock;
+		this.snapshot = this.createSnapshot(1);
+	}
+
+	/**
+	 * Returns a new {@link TimestampRenderer} that is the same as this renderer, but that reads the time that is now from the given {@link LukashianClock}.
+	 *
+	 * @throws LukashianException when the given clock is of a different calendar instance than this renderer
+	 */
+	public TimestampRenderer withClock(LukashianClock clock) {
+		check(clock.getCalendarKey() == calendarKey, () -> "The clock is of a different calendar instance than this renderer");
+
+		return new TimestampRenderer(dayFormat, daySeparator, clock);
+	}
+
+	/**
+	 * Returns the time that is now, rendered in the same way as {@link Formatter#format(Instant, DayFormat, String)}.
+	 *
+	 * @throws LukashianException when the time that is now is not supported by the calendar instance of this renderer
+	 */
+	public String renderNow() {
+		StringBuilder builder = new StringBuilder(24);
+		this.renderNow(builder);
+		return builder.toString();
+	}
+
+	/**
+	 * Appends the time that is now to the given {@link StringBuilder}.
+	 *
+	 * @throws LukashianException when the time that is now is not supported by the calendar instance of this renderer
+	 */
+	public void renderNow(StringBuilder target) {
+		this.render(clock.currentEpochMilliseconds(), target);
+	}
+
+	/**
+	 * Writes the time that is now as ASCII to the given array, starting at the given offset, and returns the offset after the last written byte.
+	 *
+	 * @throws LukashianException when the time that is now is not supported by the calendar instance of this renderer
+	 * @throws IndexOutOfBoundsException when the given array is too small, in which case nothing is written
+	 */
+	public int renderNow(byte[] target, int offset) {
+		return this.render(clock.currentEpochMilliseconds(), target, offset);
+	}
+
+	/**
+	 * Writes the time that is now as ASCII to the given {@link ByteBuffer}, at its current position, after which the position is advanced by the number of
+	 * written bytes.
+	 *
+	 * @throws LukashianException when the time that is now is not supported by the calendar instance of this renderer
+	 * @throws BufferOverflowException when the given {@link ByteBuffer} does not have enough bytes remaining, in which case nothing is written
+	 */
+	public void renderNow(ByteBuffer target) {
+		this.render(clock.currentEpochMilliseconds(), target);
+	}
+
+	/**
+	 * Appends the given epoch milliseconds to the given {@link StringBuilder}, rendered in the same way as
+	 * {@link Formatter#format(Instant, DayFormat, String)}.
+	 *
+	 * @throws LukashianException when the given epoch milliseconds are not supported by the calendar instance of this renderer
+	 */
+	public void render(long epochMilliseconds, StringBuilder target) {
+		Snapshot snapshot = this.getSnapshot(epochMilliseconds);
+
+		target.append(snapshot.text);
+		Formatter.appendBeeps(snapshot.getBeeps(epochMilliseconds), target);
+	}
+
+	/**
+	 * Writes the given epoch milliseconds as ASCII to the given array, starting at the given offset, and returns the offset after the last written byte.
+	 *
+	 * @throws LukashianException when the given epoch milliseconds are not supported by the calendar instance of this renderer
+	 * @throws IndexOutOfBoundsException when the given array is too small, in which case nothing is written
+	 */
+	public int render(long epochMilliseconds, byte[] target, int offset) {
+		Snapshot snapshot = this.getSnapshot(epochMilliseconds);
+		int end = offset + snapshot.bytes.length + 4;
+		Objects.checkFromToIndex(offset, end, target.length);
+
+		System.arraycopy(snapshot.bytes, 0, target, offset, snapshot.bytes.length);
+		return Formatter.putBeeps(snapshot.getBeeps(epochMilliseconds), target, end - 4);
+	}
+
+	/**
+	 * Writes the given epoch milliseconds as ASCII to the given {@link ByteBuffer}, at its current position, after which the position is advanced by the
+	 * number of written bytes.
+	 *
+	 * @throws LukashianException when the given epoch milliseconds are not supported by the calendar instance of this renderer
+	 * @throws BufferOverflowException when the given {@link ByteBuffer} does not have enough bytes remaining, in which case nothing is written
+	 */
+	public void render(long epochMilliseconds, ByteBuffer target) {
+		Snapshot snapshot = this.getSnapshot(epochMilliseconds);
+		int length = snapshot.bytes.length + 4;
+		if (target.remaining() < length) {
+			throw new BufferOverflowException();
+		}
+
+		if (target.hasArray()) {
+			int offset = target.arrayOffset() + target.position();
+			System.arraycopy(snapshot.bytes, 0, target.array(), offset, snapshot.bytes.length);
+			Formatter.putBeeps(snapshot.getBeeps(epochMilliseconds), target.array(), offset + snapshot.bytes.length);
+			target.position(target.position() + length);
+		} else {
+			int beeps = snapshot.getBeeps(epochMilliseconds);
+			target.put(snapshot.bytes);
+			for (int i = 0; i < 4; i++) {
+				target.put(Formatter.getBeepsDigit(beeps, i));
+			}
+		}
+	}
+
+	private Snapshot getSnapshot(long epochMilliseconds) {
+		Snapshot snapshot = this.snapshot;
+		if (epochMilliseconds > snapshot.epochMillisecondsPreviousDay && epochMilliseconds <= snapshot.epochMillisecondsEndOfDay) {
+			return snapshot;
+		}
+		check(data.isSupportedEpochMilliseconds(epochMilliseconds), () -> "Epoch millisecond " + epochMilliseconds + " is not supported by this Lukashian Calendar instance");
+
+		//Concurrent threads may replace the snapshot at the same time, which is harmless, since any snapshot is correct for its own day
+		snapshot = this.createSnapshot(data.getEpochDayForEpochMilliseconds(epochMilliseconds));
+		this.snapshot = snapshot;
+		return snapshot;
+	}
+
+	private Snapshot createSnapshot(int epochDay) {
+		Day day = Day.ofEpoch(epochDay, calendarKey);
+		String text = Formatter.format(day, dayFormat, daySeparator) + ' ';
+		long epochMillisecondsPreviousDay = epochDay == 1 ? 0 : data.getEpochMillisecondsForEpochDay(epochDay - 1);
+		long epochMillisecondsEndOfDay = data.getEpochMillisecondsForEpochDay(epochDay);
+		return new Snapshot(text, epochMillisecondsPreviousDay, epochMillisecondsEndOfDay);
+	}
+
+	/**
+	 * Creates a new {@link TimestampRenderer} that renders in the same way as {@link Formatter#format(Instant, DayFormat, String)}, for the given calendar
+	 * instance, reading the time that is now from the system clock.
+	 *
+	 * @throws LukashianException when the given separator contains characters that are not ASCII
+	 */
+	public static TimestampRenderer of(DayFormat dayFormat, String daySeparator, int calendarKey) {
+		return new TimestampRenderer(dayFormat, daySeparator, LukashianClock.system(calendarKey));
+	}
+
+	/**
+	 * Creates a new {@link TimestampRenderer} that renders in the same way as {@link Formatter#format(Instant, DayFormat, String)}, for the default calendar
+	 * instance.
+	 *
+	 * @throws LukashianException when the given separator contains characters that are not ASCII
+	 */
+	public static TimestampRenderer of(DayFormat dayFormat, String daySeparator) {
+		return TimestampRenderer.of(dayFormat, daySeparator, defaultCalendarKey());
+	}
+
+	/**
+	 * Creates a new {@link TimestampRenderer} that renders in the same way as {@link Formatter#format(Instant)}, for the default calendar instance.
+	 */
+	public static TimestampRenderer of() {
+		return TimestampRenderer.of(DayFormat.YEAR_FIRST, "-");
+	}
+
+	/**
+	 * The rendered text and bounds of a single day.
+	 */
+	private static final class Snapshot {
+
+		private final String text;
+		private final byte[] bytes;
+		private final long epochMillisecondsPreviousDay;
+		private final long epochMillisecondsEndOfDay;
+		private final long millisecondsOfDay;
+
+		private Snapshot(String text, long epochMillisecondsPreviousDay, long epochMillisecondsEndOfDay) {
+			this.text = text;
+			this.bytes = text.getBytes(StandardCharsets.US_ASCII);
+			this.epochMillisecondsPreviousDay = epochMillisecondsPreviousDay;
+			this.epochMillisecondsEndOfDay = epochMillisecondsEndOfDay;
+			this.millisecondsOfDay = epochMillisecondsEndOfDay - epochMillisecondsPreviousDay;
+		}
+
+		private int getBeeps(long epochMilliseconds) {
+			return EpochMath.getBeepsOnDay(epochMilliseconds, epochMillisecondsPreviousDay, millisecondsOfDay);
+		}
+	}
+}
@@ -0,0 +1,542 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import org.lukashian.store.MillisecondStoreData;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import static org.lukashian.Instant.BEEPS_PER_DAY;
+import static org.lukashian.LukashianException.check;
+import static org.lukashian.store.MillisecondStore.data;
+
+/**
+ * A hierarchical timing wheel that keeps any number of deadlines in a calendar instance, of which scheduling and cancelling take a constant amount of time,
+ * independent of the number of deadlines, rather than the logarithmic time of a priority queue. The wheel does not have a thread of its own, but is moved
+ * forward in time by {@link #advance(long, Consumer)}, which hands every {@link Timeout} of which the deadline has been reached to the given consumer.
+ * <p>
+ * The wheel has three levels, that follow the days and years of the calendar instance, rather than a fixed number of milliseconds per slot:
+ * <ul>
+ *     <li>the beeps of the current {@link Day}, with one slot for each of the 10000 beeps</li>
+ *     <li>the remaining days of the current {@link Year}, with one slot for each day, as many as that year has</li>
+ *     <li>the later years, with one slot for each year that has deadlines</li>
+ * </ul>
+ * When the wheel reaches the start of a day, the deadlines in the slot of that day are spread over the slots of its beeps, and when it reaches the first day
+ * of a year, the deadlines of that year are spread over the slots of its days, so that every deadline is moved at most twice. All deadlines in the slots of
+ * the beeps that have fully passed expire together, without being compared to the time. Only the deadlines in the slot of the beep that has partially
+ * passed are compared, and only when the earliest of them has been reached, so that every {@link Timeout} expires exactly at the first call of
+ * {@link #advance(long, Consumer)} with a time that is at or after its deadline, rather than at the end of its beep. Like {@link Day#getYear()}, the year of
+ * a day is the year in which it starts.
+ * <p>
+ * A {@link TimingWheel} is thread-safe. Scheduling and cancelling are lock-free: new and cancelled timeouts are pushed onto a number of stacks, of which the
+ * stack is chosen by the thread, so that many threads can schedule at the same time without contending for the same stack. These stacks are emptied into
+ * the wheel by the next call of {@link #advance(long, Consumer)}, which only one thread at a time can make.
+ */
+public final class TimingWheel<T> {
+
+	private static final int PENDING = 0;
+	private static final int CANCELLED = 1;
+	private static final int EXPIRED = 2;
+
+	private static final VarHandle STATE;
+
+	static {
+		try {
+			STATE = MethodHandles.lookup().findVarHandle(Timeout.class, "state", int.class);
+		} catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	private final int calendarKey;
+	private final MillisecondStoreData data;
+
+	private final int stripeMask;
+	private final AtomicReferenceArray<Timeout<T>> scheduledStacks;
+	private final AtomicReferenceArray<Timeout<T>> cancelledStacks;
+	private final LongAdder numberOfTimeouts = new LongAdder();
+
+	//Everything below is only accessed while holding the lock
+	private final ReentrantLock lock = new ReentrantLock();
+	private volatile long epochMilliseconds;
+
+	private int epochDay;
+	private long epochMillisecondsPreviousDay;
+	private long epochMillisecondsEndOfDay;
+	private int currentBeeps;
+	private final Timeout<T>[] beepSlots;
+	private final long[] earliestDeadlineOfBeep;
+
+	private int lastEpochDayOfYear;
+	private int firstEpochDayOfYear;
+	private Timeout<T>[] daySlots;
+
+	private final Map<Integer, Timeout<T>> yearSlots = new HashMap<>();
+	private final Timeout<T> overdueSlot = new Timeout<>();
+
+	private TimingWheel(long epochMilliseconds, int calendarKey) {
+		this.calendarKey = calendarKey;
+		this.data = data(calendarKey);
+		check(epochMilliseconds > 0 && data.isSupportedEpochMilliseconds(epochMilliseconds), () -> "Epoch millisecond " + epochMilliseconds + " is not supported by this Lukashian Calendar instance");
+
+		int stripes = Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1) * 2; //A power of two, of at least twice the number of processors
+		this.stripeMask = stripes - 1;
+		this.scheduledStacks = new AtomicReferenceArray<>(stripes);
+		this.cancelledStacks = new AtomicReferenceArray<>(stripes);
+
+		this.epochMilliseconds = epochMilliseconds;
+		this.beepSlots = createSlots(BEEPS_PER_DAY);
+		this.earliestDeadlineOfBeep = new long[BEEPS_PER_DAY];
+		Arrays.fill(earliestDeadlineOfBeep, Long.MAX_VALUE);
+
+		this.startDay(data.getEpochDayForEpochMilliseconds(epochMilliseconds));
+		this.currentBeeps = EpochMath.getBeepsOnDay(epochMilliseconds, epochMillisecondsPreviousDay, epochMillisecondsEndOfDay - epochMillisecondsPreviousDay);
+		int year = EpochMath.getYearOfEpochDay(epochDay, calendarKey);
+		this.firstEpochDayOfYear = EpochMath.getFirstEpochDayOfYear(year, calendarKey);
+		this.startYear(year);
+	}
+
+	/**
+	 * Returns the key of the calendar instance of this wheel.
+	 */
+	public int getCalendarKey() {
+		return calendarKey;
+	}
+
+	/**
+	 * Returns the number of epoch milliseconds until which this wheel has been advanced, which means that the timeouts with a deadline at or before it have
+	 * expired.
+	 */
+	public long getEpochMilliseconds() {
+		return epochMilliseconds;
+	}
+
+	/**
+	 * Returns the number of timeouts that have been scheduled and have neither expired nor been cancelled.
+	 */
+	public long getNumberOfTimeouts() {
+		return numberOfTimeouts.sum();
+	}
+
+	/**
+	 * Schedules a new {@link Timeout} with the given value, that expires when this wheel is advanced to the given number of epoch milliseconds or later. When
+	 * this wheel has already been advanced that far, it expires at the next call of {@link #advance(long, Consumer)}.
+	 *
+	 * @throws LukashianException when the given number of epoch milliseconds is not supported by the calendar instance of this wheel
+	 */
+	public Timeout<T> schedule(long deadlineEpochMilliseconds, T value) {
+		check(deadlineEpochMilliseconds > 0 && data.isSupportedEpochMilliseconds(deadlineEpochMilliseconds), () -> "Epoch millisecond " + deadlineEpochMilliseconds + " is not supported by this Lukashian Calendar instance");
+
+		Timeout<T> timeout = new Timeout<>(this, deadlineEpochMilliseconds, data.getEpochDayForEpochMilliseconds(deadlineEpochMilliseconds), value);
+		numberOfTimeouts.increment();
+		push(scheduledStacks, this.stripe(), timeout, false);
+		return timeout;
+	}
+
+	/**
+	 * Schedules a new {@link Timeout} with the given value, that expires when this wheel is advanced to the given {@link Instant} or later.
+	 *
+	 * @throws LukashianException when the given {@link Instant} is of a different calendar instance than this wheel
+	 */
+	public Timeout<T> schedule(Instant deadline, T value) {
+		check(deadline.getCalendarKey() == calendarKey, () -> "Calendar keys of CalendarObjects do not match");
+
+		return this.schedule(deadline.getEpochMilliseconds(), value);
+	}
+
+	/**
+	 * Advances this wheel to the given number of epoch milliseconds and gives every {@link Timeout} of which the deadline is at or before it to the given
+	 * consumer, ordered by the beeps of their deadlines, but in no particular order within a beep. The consumer is called while other threads cannot advance
+	 * this wheel, so it should hand the work on to other threads when that takes long. When the consumer throws an exception, the timeouts that it has not
+	 * been given yet expire at the next call. When the given number of epoch milliseconds is before the time until which this wheel has already been
+	 * advanced, only the timeouts that have been scheduled in the past are expired.
+	 *
+	 * @return the number of timeouts that have expired
+	 * @throws LukashianException when the given number of epoch milliseconds is not supported by the calendar instance of this wheel
+	 */
+	public int advance(long epochMilliseconds, Consumer<? super Timeout<T>> consumer) {
+		check(epochMilliseconds > 0 && data.isSupportedEpochMilliseconds(epochMilliseconds), () -> "Epoch millisecond " + epochMilliseconds + " is not supported by this Lukashian Calendar instance");
+
+		lock.lock();
+		try {
+			this.addScheduled();
+			this.removeCancelled();
+			int expired = this.expireAll(overdueSlot, consumer);
+
+			long current = this.epochMilliseconds;
+			while (current < epochMilliseconds) {
+				if (current == epochMillisecondsEndOfDay) {
+					this.nextDay();
+				}
+
+				long target = Math.min(epochMilliseconds, epochMillisecondsEndOfDay);
+				int targetBeeps = target == epochMillisecondsEndOfDay ? BEEPS_PER_DAY : EpochMath.getBeepsOnDay(target, epochMillisecondsPreviousDay, epochMillisecondsEndOfDay - epochMillisecondsPreviousDay);
+				for (int beeps = currentBeeps; beeps < targetBeeps; beeps++) { //These beeps have fully passed
+					if (earliestDeadlineOfBeep[beeps] != Long.MAX_VALUE) {
+						expired += this.expireAll(beepSlots[beeps], consumer);
+						earliestDeadlineOfBeep[beeps] = Long.MAX_VALUE;
+					}
+				}
+				if (targetBeeps < BEEPS_PER_DAY) {
+					if (earliestDeadlineOfBeep[targetBeeps] <= target) {
+						expired += this.expireUntil(targetBeeps, target, consumer);
+					}
+					currentBeeps = targetBeeps;
+				}
+				current = target;
+				this.epochMilliseconds = current;
+			}
+			return expired;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Advances this wheel to the given {@link Instant}, see {@link #advance(long, Consumer)}.
+	 *
+	 * @return the number of timeouts that have expired
+	 * @throws LukashianException when the given {@link Instant} is of a different calendar instance than this wheel
+	 */
+	public int advance(Instant instant, Consumer<? super Timeout<T>> consumer) {
+		check(instant.getCalendarKey() == calendarKey, () -> "Calendar keys of CalendarObjects do not match");
+
+		return this.advance(instant.getEpochMilliseconds(), consumer);
+	}
+
+	private void addScheduled() {
+		for (int i = 0; i < scheduledStacks.length(); i++) {
+			for (Timeout<T> timeout = scheduledStacks.getAndSet(i, null); timeout != null; ) {
+				Timeout<T> next = timeout.nextScheduled;
+				timeout.nextScheduled = null;
+				if (timeout.state == PENDING) {
+					this.add(timeout);
+				}
+				timeout = next;
+			}
+		}
+	}
+
+	private void removeCancelled() {
+		for (int i = 0; i < cancelledStacks.length(); i++) {
+			for (Timeout<T> timeout = cancelledStacks.getAndSet(i, null); timeout != null; ) {
+				Timeout<T> next = timeout.nextCancelled;
+				timeout.nextCancelled = null;
+				if (timeout.previous != null) { //Not yet added when it was cancelled, or already removed when its slot was reached
+					timeout.unlink();
+				}
+				timeout = next;
+			}
+		}
+	}
+
+	private void add(Timeout<T> timeout) {
+		if (timeout.deadlineEpochMilliseconds <= epochMilliseconds) { //Scheduled in the past, expires before the others
+			overdueSlot.linkAfter(timeout);
+
+		} else if (timeout.epochDay == epochDay) {
+			int beeps = EpochMath.getBeepsOnDay(timeout.deadlineEpochMilliseconds, epochMillisecondsPreviousDay, epochMillisecondsEndOfDay - epochMillisecondsPreviousDay);
+			beepSlots[beeps].linkAfter(timeout);
+			earliestDeadlineOfBeep[beeps] = Math.min(earliestDeadlineOfBeep[beeps], timeout.deadlineEpochMilliseconds);
+
+		} else if (timeout.epochDay <= lastEpochDayOfYear) {
+			this.getDaySlot(timeout.epochDay - firstEpochDayOfYear).linkAfter(timeout);
+
+		} else {
+			yearSlots.computeIfAbsent(EpochMath.getYearOfEpochDay(timeout.epochDay, calendarKey), year -> new Timeout<>()).linkAfter(timeout);
+		}
+	}
+
+	private void nextDay() {
+		int nextEpochDay = epochDay + 1;
+		if (nextEpochDay > lastEpochDayOfYear) {
+			firstEpochDayOfYear = nextEpochDay;
+			this.startYear(EpochMath.getYearOfEpochDay(nextEpochDay, calendarKey));
+		}
+		this.startDay(nextEpochDay);
+		currentBeeps = 0;
+
+		Timeout<T> slot = this.getDaySlot(epochDay - firstEpochDayOfYear);
+		for (Timeout<T> timeout = slot.next; timeout != slot; ) {
+			Timeout<T> next = timeout.next;
+			timeout.unlink();
+			if (timeout.state == PENDING) {
+				this.add(timeout);
+			}
+			timeout = next;
+		}
+	}
+
+	private void startDay(int epochDay) {
+		this.epochDay = epochDay;
+		this.epochMillisecondsPreviousDay = EpochMath.getEpochMillisecondsPreviousDay(epochDay, calendarKey);
+		this.epochMillisecondsEndOfDay = data.getEpochMillisecondsForEpochDay(epochDay);
+	}
+
+	private void startYear(int year) {
+		//The final year of a calendar instance may end after its final day, in which case all of its remaining days are kept in the slots of the days
+		long epochMillisecondsEndOfYear = data.getEpochMillisecondsForYear(year);
+		lastEpochDayOfYear = data.isSupportedEpochMilliseconds(epochMillisecondsEndOfYear) ? data.getEpochDayForEpochMilliseconds(epochMillisecondsEndOfYear) : Integer.MAX_VALUE;
+
+		Timeout<T> slot = yearSlots.remove(year);
+		if (slot != null) {
+			for (Timeout<T> timeout = slot.next; timeout != slot; ) {
+				Timeout<T> next = timeout.next;
+				timeout.unlink();
+				if (timeout.state == PENDING) {
+					this.getDaySlot(timeout.epochDay - firstEpochDayOfYear).linkAfter(timeout);
+				}
+				timeout = next;
+			}
+		}
+	}
+
+	private Timeout<T> getDaySlot(int index) {
+		if (daySlots == null || index >= daySlots.length) {
+			Timeout<T>[] slots = createSlots(Math.max(index + 1, daySlots == null ? 512 : daySlots.length * 2));
+			if (daySlots != null) {
+				System.arraycopy(daySlots, 0, slots, 0, daySlots.length);
+			}
+			daySlots = slots;
+		}
+		return daySlots[index];
+	}
+
+	private int expireAll(Timeout<T> slot, Consumer<? super Timeout<T>> consumer) {
+		int expired = 0;
+		for (Timeout<T> timeout = slot.next; timeout != slot; ) {
+			Timeout<T> next = timeout.next;
+			timeout.unlink();
+			expired += this.expire(timeout, consumer);
+			timeout = next;
+		}
+		return expired;
+	}
+
+	private int expireUntil(int beeps, long epochMilliseconds, Consumer<? super Timeout<T>> consumer) {
+		int expired = 0;
+		long earliestDeadline = Long.MAX_VALUE;
+		Timeout<T> slot = beepSlots[beeps];
+		for (Timeout<T> timeout = slot.next; timeout != slot; ) {
+			Timeout<T> next = timeout.next;
+			if (timeout.deadlineEpochMilliseconds <= epochMilliseconds) {
+				timeout.unlink();
+				expired += this.expire(timeout, consumer);
+			} else {
+				earliestDeadline = Math.min(earliestDeadline, timeout.deadlineEpochMilliseconds);
+			}
+			timeout = next;
+		}
+		earliestDeadlineOfBeep[beeps] = earliestDeadline;
+		return expired;
+	}
+
+	private int expire(Timeout<T> timeout, Consumer<? super Timeout<T>> consumer) {
+		if (!STATE.compareAndSet(timeout, PENDING, EXPIRED)) {
+			return 0; //Cancelled
+		}
+		numberOfTimeouts.decrement();
+		consumer.accept(timeout);
+		return 1;
+	}
+
+	private int stripe() {
+		return (int) Thread.currentThread().threadId() & stripeMask;
+	}
+
+	private static <T> void push(AtomicReferenceArray<Timeout<T>> stacks, int stripe, Timeout<T> timeout, boolean cancelled) {
+		Timeout<T> head;
+		do {
+			head = stacks.get(stripe);
+			if (cancelled) {
+				timeout.nextCancelled = head;
+			} else {
+				timeout.nextScheduled = head;
+			}
+		} while (!stacks.compareAndSet(stripe, head, timeout));
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static <T> Timeout<T>[] createSlots(int length) {
+		Timeout<T>[] slots = new Timeout[length];
+		for (int i = 0; i < length; i++) {
+			slots[i] = new Timeout<>();
+		}
+		return slots;
+	}
+
+	/**
+	 * Creates a new {@link TimingWheel} for the given calendar instance, that starts at the given number of epoch milliseconds.
+	 *
+	 * @throws LukashianException when the given number of epoch milliseconds is not supported by the given calendar instance
+	 */
+	public static <T> TimingWheel<T> of(long epochMilliseconds, int calendarKey) {
+		return new TimingWheel<>(epochMilliseconds, calendarKey);
+	}
+
+	/**
+	 * Creates a new {@link TimingWheel} for the calendar instance of the given {@link Instant}, that starts at the given {@link Instant}.
+	 */
+	public static <T> TimingWheel<T> of(Instant start) {
+		return TimingWheel.of(start.getEpochMilliseconds(), start.getCalendarKey());
+	}
+
+	/**
+	 * A deadline with a value, that has been scheduled with a {@link TimingWheel}. Timeouts are linked into the slots of the wheel themselves, while each slot
+	 * is an empty timeout that the timeouts in it are linked to in a circle, so that a timeout can be removed from its slot without knowing which slot it is in.
+	 */
+	public static final class Timeout<T> {
+
+		private final TimingWheel<T> wheel;
+		private final long deadlineEpochMilliseconds;
+		private final int epochDay;
+		private final T value;
+		@SuppressWarnings("unused") //Accessed through STATE
+		private volatile int state;
+
+		private Timeout<T> nextScheduled;
+		private Timeout<T> nextCancelled;
+		private Timeout<T> previous;
+		private Timeout<T> next;
+
+		private Timeout() { //An empty slot
+			this.wheel = null;
+			this.deadlineEpochMilliseconds = 0;
+			this.epochDay = 0;
+			this.value = null;
+			this.previous = this;
+			this.next = this;
+		}
+
+		private Timeout(TimingWheel<T> wheel, long deadlineEpochMilliseconds, int epochDay, T value) {
+			this.wheel = wheel;
+			this.deadlineEpochMilliseconds = deadlineEpochMilliseconds;
+			this.epochDay = epochDay;
+			this.value = value;
+		}
+
+		/**
+		 * Returns the value of this timeout.
+		 */
+		public T getValue() {
+			return value;
+		}
+
+		/**
+		 * Returns the number of epoch milliseconds at which this timeout expires.
+		 */
+		public long getDeadlineEpochMilliseconds() {
+			return deadlineEpochMilliseconds;
+		}
+
+		/**
+		 * Returns the {@link Instant} at which this timeout expires.
+		 */
+		public Instant getDeadline() {
+			return Instant.ofEpoch(deadlineEpochMilliseconds, wheel.calendarKey);
+		}
+
+		/**
+		 * Returns whether this timeout has been cancelled.
+		 */
+		public boolean isCancelled() {
+			return state == CANCELLED;
+		}
+
+		/**
+		 * Returns whether this timeout has expired.
+		 */
+		public boolean isExpired() {
+			return state == EXPIRED;
+		}
+
+		/**
+		 * Cancels this timeout, so that it does not expire, unless it has already expired.
+		 *
+		 * @return whether this timeout has been cancelled by this call
+		 */
+		public boolean cancel() {
+			if (!STATE.compareAndSet(this, PENDING, CANCELLED)) {
+				return false;
+			}
+			wheel.numberOfTimeouts.decrement();
+			push(wheel.cancelledStacks, wheel.stripe(), this, true); //Removed from its slot by the next advance, to free up the memory before its deadline
+			return true;
+		}
+
+		private void linkAfter(Timeout<T> timeout) {
+			timeout.previous = this;
+			timeout.next = next;
+			next.previous = timeout;
+			next = timeout;
+		}
+
+		private void unlink() {
+			previous.next = next;
+			next.previous = previous;
+			previous = null;
+			next = null;
+		}
+
+		@Override
+		public String toString() {
+			return "Timeout at " + deadlineEpochMilliseconds + " epoch milliseconds" + (this.isCancelled() ? " (cancelled)" : this.isExpired() ? " (expired)" : "");
+		}
+	}
+}
@@ -53,8 +53,16 @@ package org.lukashian;
 import org.lukashian.store.CalendarKeys;
 import org.lukashian.store.MillisecondStore;
 
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serial;
 import java.io.Serializable;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static org.lukashian.LukashianException.check;
 import static org.lukashian.store.MillisecondStore.data;
@@ -159,6 +167,32 @@ public final class Year extends CalendarObject implements Comparable<Year>, Seri
 		return Day.ofEpoch(data(calendarKey).getEpochDayForEpochMilliseconds(this.getEpochMilliseconds()), calendarKey);
 	}
 
+	/**
+	 * Returns an ordered {@link Stream} of the days of this year, from its {@link #firstDay()} until its {@link #lastDay()}. It is backed by a sized
+	 * {@link Spliterator} that splits the range of days evenly, so that it can be processed in parallel.
+	 */
+	public Stream<Day> days() {
+		return Day.range(this.firstDay().getEpochDay(), this.lastDay().getEpochDay(), calendarKey);
+	}
+
+	/**
+	 * Returns an ordered {@link IntStream} of the epoch days of the days of this year, from its {@link #firstDay()} until its {@link #lastDay()}.
+	 */
+	public IntStream epochDays() {
+		return IntStream.rangeClosed(this.firstDay().getEpochDay(), this.lastDay().getEpochDay());
+	}
+
+	/**
+	 * Returns an ordered {@link Stream} of the years from this year until the given non-null {@link Year}, both inclusive. The {@link Stream} is empty if the
+	 * given year is before this year. It is backed by a sized {@link Spliterator} that splits the range of years evenly, so that it can be processed in parallel.
+	 */
+	public Stream<Year> rangeTo(Year endInclusive) {
+		this.checkSameKeyAs(endInclusive);
+
+		IndexSpliterator<Year> spliterator = new IndexSpliterator<>(year, endInclusive.year + 1L, Spliterator.DISTINCT | Spliterator.SORTED, yearNumber -> new Year((int) yearNumber, calendarKey));
+		return StreamSupport.stream(spliterator, false);
+	}
+
 	/**
 	 * Returns a new {@link Instant} that represents the first {@link Instant} of this year. This is not necessarily at the start of a day.
 	 */
@@ -327,6 +361,28 @@ public final class Year extends CalendarObject implements Comparable<Year>, Seri
 		return Year.of(year, defaultCalendarKey());
 	}
 
+	/**
+	 * Returns the {@link Year} representing the given year of the given calendar instance, or an empty {@link Optional} when the given year is 0 or lower or
+	 * not supported by the given calendar instance. Unlike {@link #of(int, int)}, this method does not throw an exception for such years.
+	 *
+	 * @see CalendarKeys
+	 * @see MillisecondStore
+	 * @throws LukashianException when the given calendar instance is not registered
+	 */
+	public static Optional<Year> tryOf(int year, int calendarKey) {
+		return data(calendarKey).isSupportedYear(year) ? Optional.of(Year.of(year, calendarKey)) : Optional.empty();
+	}
+
+	/**
+	 * Returns the {@link Year} representing the given year of the default calendar instance, or an empty {@link Optional} when the given year is 0 or lower or
+	 * not supported by the default calendar instance. Unlike {@link #of(int)}, this method does not throw an exception for such years.
+	 *
+	 * @see MillisecondStore
+	 */
+	public static Optional<Year> tryOf(int year) {
+		return Year.tryOf(year, defaultCalendarKey());
+	}
+
 	/**
 	 * Returns the current {@link Year} of the given calendar instance.
 	 *
@@ -338,6 +394,13 @@ public final class Year extends CalendarObject implements Comparable<Year>, Seri
 		return Year.of(data(calendarKey).getYearForEpochMilliseconds(data(calendarKey).getCurrentEpochMilliseconds()), calendarKey);
 	}
 
+	/**
+	 * Returns the current {@link Year} according to the given {@link LukashianClock}.
+	 */
+	public static Year now(LukashianClock clock) {
+		return clock.currentYear();
+	}
+
 	/**
 	 * Returns the current {@link Year} of the default calendar instance.
 	 *
@@ -368,4 +431,17 @@ public final class Year extends CalendarObject implements Comparable<Year>, Seri
 	public String toString() {
 		return "[Year: " + Formatter.format(this) + "]";
 	}
+
+	/**
+	 * Replaces this {@link Year} by its compact serialized form, see {@link SerializationProxy}.
+	 */
+	@Serial
+	private Object writeReplace() {
+		return new SerializationProxy(this);
+	}
+
+	@Serial
+	private void readObject(ObjectInputStream stream) throws InvalidObjectException {
+		throw new InvalidObjectException("A Year can only be deserialized via its serialization proxy");
+	}
 }
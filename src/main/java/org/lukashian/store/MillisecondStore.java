@@ -149,6 +149,10 @@ public final class MillisecondStore {
 	 * @throws LukashianException when the given key is not mapped to a {@link MillisecondStoreDataProvider}
 	 */
 	public MillisecondStoreData getData(int calendarKey) {
+		MillisecondStoreData loaded = data.get(calendarKey); //Looked up without a lambda first, since this is called for every calculation
+		if (loaded != null) {
+			return loaded;
+		}
 		check(providers.get(calendarKey) != null, () -> "Please register provider for key " + calendarKey + " before calling this method with key " + calendarKey);
 
 		return data.computeIfAbsent(calendarKey, k -> new MillisecondStoreData(providers.get(k)));
@@ -51,6 +51,7 @@
 package org.lukashian.store;
 
 import org.lukashian.Day;
+import org.lukashian.LukashianException;
 import org.lukashian.Year;
 
 import java.io.Serializable;
@@ -97,10 +98,7 @@ public final class MillisecondStoreData implements Serializable {
 		long unixEpochMilliseconds = Math.subtractExact(lukashianEpochMilliseconds, unixEpochOffsetMilliseconds);
 
 		//We have the correct value, now we need to make it incorrect, so that it matches the incorrect UNIX time standard
-		int index = Arrays.binarySearch(unixTimestampsWithLeapSecond, unixEpochMilliseconds);
-		int numberOfLeapSeconds = index >= 0 ? index + 1 : -index - 1;
-
-		return unixEpochMilliseconds - (numberOfLeapSeconds * 1000L);
+		return unixEpochMilliseconds - (getNumberOfLeapSeconds(unixEpochMilliseconds) * 1000L);
 	}
 
 	/**
@@ -108,10 +106,7 @@ public final class MillisecondStoreData implements Serializable {
 	 */
 	public long getLukashianEpochMilliseconds(long unixEpochMilliseconds) {
 		//We have the incorrect value, now we need to make it correct, to compensate for the the incorrect UNIX time standard
-		int index = Arrays.binarySearch(unixTimestampsWithLeapSecond, unixEpochMilliseconds);
-		int numberOfLeapSeconds = index >= 0 ? index + 1 : -index - 1;
-
-		return Math.addExact(unixEpochMilliseconds + (numberOfLeapSeconds * 1000L), unixEpochOffsetMilliseconds);
+		return Math.addExact(unixEpochMilliseconds + (getNumberOfLeapSeconds(unixEpochMilliseconds) * 1000L), unixEpochOffsetMilliseconds);
 	}
 
 	/**
@@ -125,7 +120,9 @@ public final class MillisecondStoreData implements Serializable {
 	 * Gets the number of milliseconds from the start of the Lukashian Calendar until the final point of the given year.
 	 */
 	public long getEpochMillisecondsForYear(int year) {
-		check(year <= yearEpochMilliseconds.length, () -> "Year " + year + " isn't supported yet by this Lukashian Calendar instance");
+		if (year > yearEpochMilliseconds.length) {
+			throw new LukashianException("Year " + year + " isn't supported yet by this Lukashian Calendar instance");
+		}
 
 		return yearEpochMilliseconds[year - 1];
 	}
@@ -135,7 +132,9 @@ public final class MillisecondStoreData implements Serializable {
 	 * form, i.e. the how manieth day it is since the start of the Lukashian Calendar, irrespective of the year of the day.
 	 */
 	public long getEpochMillisecondsForEpochDay(int epochDay) {
-		check(epochDay <= dayEpochMilliseconds.length, () -> "Epoch day " + epochDay + " isn't supported yet by this Lukashian Calendar instance");
+		if (epochDay > dayEpochMilliseconds.length) {
+			throw new LukashianException("Epoch day " + epochDay + " isn't supported yet by this Lukashian Calendar instance");
+		}
 
 		return dayEpochMilliseconds[epochDay - 1];
 	}
@@ -144,7 +143,9 @@ public final class MillisecondStoreData implements Serializable {
 	 * Gets the year that overlaps with the point where the given number of milliseconds have passed since the start of the Lukashian Calendar.
 	 */
 	public int getYearForEpochMilliseconds(long epochMilliseconds) {
-		check(epochMilliseconds <= yearEpochMilliseconds[yearEpochMilliseconds.length - 1], () -> "Epoch millisecond " + epochMilliseconds + " isn't supported yet by this Lukashian Calendar instance");
+		if (epochMilliseconds > yearEpochMilliseconds[yearEpochMilliseconds.length - 1]) {
+			throw new LukashianException("Epoch millisecond " + epochMilliseconds + " isn't supported yet by this Lukashian Calendar instance");
+		}
 
 		int index = Arrays.binarySearch(yearEpochMilliseconds, epochMilliseconds);
 		return index >= 0 ? index + 1 : -index;
@@ -154,12 +155,255 @@ public final class MillisecondStoreData implements Serializable {
 	 * Gets the epoch day that overlaps with the point where the given number of milliseconds have passed since the start of the Lukashian Calendar.
 	 */
 	public int getEpochDayForEpochMilliseconds(long epochMilliseconds) {
-		check(epochMilliseconds <= dayEpochMilliseconds[dayEpochMilliseconds.length - 1], () -> "Epoch millisecond " + epochMilliseconds + " isn't supported yet by this Lukashian Calendar instance");
+		if (epochMilliseconds > dayEpochMilliseconds[dayEpochMilliseconds.length - 1]) {
+			throw new LukashianException("Epoch millisecond " + epochMilliseconds + " isn't supported yet by this Lukashian Calendar instance");
+		}
 
 		int index = Arrays.binarySearch(dayEpochMilliseconds, epochMilliseconds);
 		return index >= 0 ? index + 1 : -index;
 	}
 
+	/**
+	 * Returns whether the given year is supported by this Lukashian Calendar instance.
+	 */
+	public boolean isSupportedYear(int year) {
+		return year >= 1 && year <= yearEpochMilliseconds.length;
+	}
+
+	/**
+	 * Returns whether the given epoch day is supported by this Lukashian Calendar instance.
+	 */
+	public boolean isSupportedEpochDay(int epochDay) {
+		return epochDay >= 1 && epochDay <= dayEpochMilliseconds.length;
+	}
+
+	/**
+	 * Returns whether the given number of milliseconds since the start of the Lukashian Calendar lies on one of the days supported by this Lukashian Calendar instance.
+	 */
+	public boolean isSupportedEpochMilliseconds(long epochMilliseconds) {
+		return epochMilliseconds >= 1 && epochMilliseconds <= dayEpochMilliseconds[dayEpochMilliseconds.length - 1];
+	}
+
+	/**
+	 * Returns whether the given number of milliseconds since the UNIX Epoch lies on one of the days supported by this Lukashian Calendar instance. Unlike
+	 * {@link #getLukashianEpochMilliseconds(long)}, this method does not throw an exception for values that are too large or too small to be converted.
+	 */
+	public boolean isSupportedUnixEpochMilliseconds(long unixEpochMilliseconds) {
+		long correctedMilliseconds = unixEpochMilliseconds + (getNumberOfLeapSeconds(unixEpochMilliseconds) * 1000L);
+		long epochMilliseconds = correctedMilliseconds + unixEpochOffsetMilliseconds;
+
+		boolean overflow = correctedMilliseconds < unixEpochMilliseconds || ((correctedMilliseconds ^ epochMilliseconds) & (unixEpochOffsetMilliseconds ^ epochMilliseconds)) < 0;
+		return !overflow && this.isSupportedEpochMilliseconds(epochMilliseconds);
+	}
+
+	/**
+	 * Gets the epoch day that overlaps with the point where the given number of milliseconds have passed since the start of the Lukashian Calendar, or 0
+	 * if that point is not supported by this Lukashian Calendar instance. Unlike {@link #getEpochDayForEpochMilliseconds(long)}, this method does not
+	 * throw an exception for unsupported values.
+	 */
+	public int tryGetEpochDayForEpochMilliseconds(long epochMilliseconds) {
+		return this.isSupportedEpochMilliseconds(epochMilliseconds) ? this.getEpochDayForEpochMilliseconds(epochMilliseconds) : 0;
+	}
+
+	/**
+	 * Gets the year that overlaps with the point where the given number of milliseconds have passed since the start of the Lukashian Calendar, or 0
+	 * if that point is not supported by this Lukashian Calendar instance. Unlike {@link #getYearForEpochMilliseconds(long)}, this method does not
+	 * throw an exception for unsupported values.
+	 */
+	public int tryGetYearForEpochMilliseconds(long epochMilliseconds) {
+		boolean supported = epochMilliseconds >= 1 && epochMilliseconds <= yearEpochMilliseconds[yearEpochMilliseconds.length - 1];
+		return supported ? this.getYearForEpochMilliseconds(epochMilliseconds) : 0;
+	}
+
+	/**
+	 * Checks each of the given numbers of milliseconds since the start of the Lukashian Calendar with {@link #isSupportedEpochMilliseconds(long)} and stores
+	 * the result at the same index of the given array of results, which needs to be at least as long as the given array of milliseconds.
+	 *
+	 * @return the number of unsupported values
+	 */
+	public int validateEpochMilliseconds(long[] epochMilliseconds, boolean[] results) {
+		check(results.length >= epochMilliseconds.length, () -> "The array of results is shorter than the array of milliseconds");
+
+		long lastEpochMilliseconds = dayEpochMilliseconds[dayEpochMilliseconds.length - 1];
+		int unsupported = 0;
+		for (int i = 0; i < epochMilliseconds.length; i++) {
+			boolean supported = epochMilliseconds[i] >= 1 && epochMilliseconds[i] <= lastEpochMilliseconds;
+			results[i] = supported;
+			unsupported += supported ? 0 : 1;
+		}
+		return unsupported;
+	}
+
+	/**
+	 * Checks each of the given numbers of milliseconds since the UNIX Epoch with {@link #isSupportedUnixEpochMilliseconds(long)} and stores the result at the
+	 * same index of the given array of results, which needs to be at least as long as the given array of milliseconds.
+	 *
+	 * @return the number of unsupported values
+	 */
+	public int validateUnixEpochMilliseconds(long[] unixEpochMilliseconds, boolean[] results) {
+		check(results.length >= unixEpochMilliseconds.length, () -> "The array of results is shorter than the array of milliseconds");
+
+		int unsupported = 0;
+		for (int i = 0; i < unixEpochMilliseconds.length; i++) {
+			boolean supported = this.isSupportedUnixEpochMilliseconds(unixEpochMilliseconds[i]);
+			results[i] = supported;
+			unsupported += supported ? 0 : 1;
+		}
+		return unsupported;
+	}
+
+	/**
+	 * Performs {@link #getLukashianEpochMilliseconds(long)} for the given number of values in the given array of milliseconds since the UNIX Epoch, starting at
+	 * the given offset, and stores the results in the given target array, starting at the given target offset. The target array may be the same array as the
+	 * source array.
+	 */
+	public void getLukashianEpochMilliseconds(long[] unixEpochMilliseconds, int offset, int length, long[] target, int targetOffset) {
+		long lastUnixTimestampWithLeapSecond = unixTimestampsWithLeapSecond[unixTimestampsWithLeapSecond.length - 1];
+
+		//Nearly all timestamps that are processed in bulk are after the most recent leap second, in which case every value gets the same correction
+		if (min(unixEpochMilliseconds, offset, length) > lastUnixTimestampWithLeapSecond) {
+			long leapMilliseconds = unixTimestampsWithLeapSecond.length * 1000L;
+
+			long overflow = 0;
+			for (int i = 0; i < length; i++) {
+				long correctedMilliseconds = unixEpochMilliseconds[offset + i] + leapMilliseconds;
+				long result = correctedMilliseconds + unixEpochOffsetMilliseconds;
+				overflow |= (correctedMilliseconds ^ result) & (unixEpochOffsetMilliseconds ^ result); //The same check as Math.addExact, without branching
+				target[targetOffset + i] = result;
+			}
+			checkOverflow(overflow);
+			return;
+		}
+
+		for (int i = 0; i < length; i++) {
+			long value = unixEpochMilliseconds[offset + i];
+			target[targetOffset + i] = Math.addExact(value + (getNumberOfLeapSeconds(value) * 1000L), unixEpochOffsetMilliseconds);
+		}
+	}
+
+	/**
+	 * Performs {@link #getUnixEpochMilliseconds(long)} for the given number of values in the given array of milliseconds since the start of the Lukashian
+	 * Calendar, starting at the given offset, and stores the results in the given target array, starting at the given target offset. The target array may be
+	 * the same array as the source array.
+	 */
+	public void getUnixEpochMilliseconds(long[] lukashianEpochMilliseconds, int offset, int length, long[] target, int targetOffset) {
+		long overflow = 0;
+		for (int i = 0; i < length; i++) {
+			long value = lukashianEpochMilliseconds[offset + i];
+			long result = value - unixEpochOffsetMilliseconds;
+			overflow |= (value ^ unixEpochOffsetMilliseconds) & (value ^ result); //The same check as Math.subtractExact, without branching
+			target[targetOffset + i] = result;
+		}
+		checkOverflow(overflow);
+
+		//We have the correct values, now we need to make them incorrect, so that they match the incorrect UNIX time standard
+		if (min(target, targetOffset, length) > unixTimestampsWithLeapSecond[unixTimestampsWithLeapSecond.length - 1]) {
+			long leapMilliseconds = unixTimestampsWithLeapSecond.length * 1000L;
+			for (int i = 0; i < length; i++) {
+				target[targetOffset + i] -= leapMilliseconds;
+			}
+			return;
+		}
+
+		for (int i = 0; i < length; i++) {
+			long unixEpochMilliseconds = target[targetOffset + i];
+			target[targetOffset + i] = unixEpochMilliseconds - (getNumberOfLeapSeconds(unixEpochMilliseconds) * 1000L);
+		}
+	}
+
+	/**
+	 * Performs {@link #getEpochDayForEpochMilliseconds(long)} for the given number of values in the given array of milliseconds, starting at the given offset,
+	 * and stores the results in the given target array, starting at the given target offset. When the values are in ascending order, they are matched against
+	 * the days in a single forward walk, instead of searching for each value separately.
+	 */
+	public void getEpochDaysForEpochMilliseconds(long[] epochMilliseconds, int offset, int length, int[] target, int targetOffset) {
+		getIndexes(dayEpochMilliseconds, epochMilliseconds, offset, length, target, targetOffset);
+	}
+
+	/**
+	 * Performs {@link #getYearForEpochMilliseconds(long)} for the given number of values in the given array of milliseconds, starting at the given offset,
+	 * and stores the results in the given target array, starting at the given target offset. When the values are in ascending order, they are matched against
+	 * the years in a single forward walk, instead of searching for each value separately.
+	 */
+	public void getYearsForEpochMilliseconds(long[] epochMilliseconds, int offset, int length, int[] target, int targetOffset) {
+		getIndexes(yearEpochMilliseconds, epochMilliseconds, offset, length, target, targetOffset);
+	}
+
+	/**
+	 * For each value, stores 1 + the index of the first boundary that is equal to or larger than that value, which is the number of the day or year that
+	 * contains the value.
+	 */
+	private static void getIndexes(long[] boundaries, long[] values, int offset, int length, int[] target, int targetOffset) {
+		long max = max(values, offset, length);
+		check(max <= boundaries[boundaries.length - 1], () -> "Epoch millisecond " + max + " isn't supported yet by this Lukashian Calendar instance");
+
+		if (!isAscending(values, offset, length)) {
+			for (int i = 0; i < length; i++) {
+				int index = Arrays.binarySearch(boundaries, values[offset + i]);
+				target[targetOffset + i] = index >= 0 ? index + 1 : -index;
+			}
+			return;
+		}
+
+		int index = 0;
+		for (int i = 0; i < length; i++) {
+			long value = values[offset + i];
+			if (boundaries[index] < value) {
+				//Gallop forward to find a range that contains the value, so that large gaps between values don't result in a linear walk
+				int low = index + 1;
+				int step = 1;
+				while (index + step < boundaries.length && boundaries[index + step] < value) {
+					low = index + step + 1;
+					step <<= 1;
+				}
+				int high = Math.min(index + step, boundaries.length - 1);
+
+				int found = Arrays.binarySearch(boundaries, low, high + 1, value);
+				index = found >= 0 ? found : -found - 1;
+			}
+			target[targetOffset + i] = index + 1;
+		}
+	}
+
+	private static void checkOverflow(long overflow) {
+		if (overflow < 0) {
+			throw new ArithmeticException("long overflow");
+		}
+	}
+
+	/**
+	 * Gets the lowest of the given values. Like the other reductions in this class, this is a loop without branches, which the JIT compiler can vectorize.
+	 */
+	private static long min(long[] values, int offset, int length) {
+		long min = Long.MAX_VALUE;
+		for (int i = 0; i < length; i++) {
+			min = Math.min(min, values[offset + i]);
+		}
+		return min;
+	}
+
+	private static long max(long[] values, int offset, int length) {
+		long max = Long.MIN_VALUE;
+		for (int i = 0; i < length; i++) {
+			max = Math.max(max, values[offset + i]);
+		}
+		return max;
+	}
+
+	private static boolean isAscending(long[] values, int offset, int length) {
+		for (int i = 1; i < length; i++) {
+			if (values[offset + i] < values[offset + i - 1]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private int getNumberOfLeapSeconds(long unixEpochMilliseconds) {
+		int index = Arrays.binarySearch(unixTimestampsWithLeapSecond, unixEpochMilliseconds);
+		return index >= 0 ? index + 1 : -index - 1;
+	}
+
 	private static long[] getUnixTimestampsWithLeapSecond() {
 		//if (true) return new long[] {}; //For initial Unix offset calculation
 
@@ -0,0 +1,352 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.lukashian.store.FixedOffsetMillisecondStoreDataProvider;
+import org.lukashian.store.MillisecondStore;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lukashian.LukashianAssert.assertLukashianException;
+import static org.lukashian.store.FixedOffsetMillisecondStoreDataProvider.FIXED;
+
+/**
+ * Unit tests for the {@link BeepWindowProcessor} class.
+ */
+public class BeepWindowProcessorTest {
+
+	@BeforeAll
+	public static void setUp() {
+		MillisecondStore.store().registerProvider(FIXED, new FixedOffsetMillisecondStoreDataProvider());
+		MillisecondStore.store().setDefaultCalendarKey(FIXED);
+	}
+
+	@Test
+	public void testCreate() {
+		assertLukashianException(() -> BeepWindowProcessor.tumbling(0, Long::longValue));
+		assertLukashianException(() -> BeepWindowProcessor.tumbling(10001, Long::longValue));
+		assertLukashianException(() -> BeepWindowProcessor.sliding(100, 0, Long::longValue));
+		assertLukashianException(() -> BeepWindowProcessor.sliding(100, 101, Long::longValue));
+		assertLukashianException(() -> BeepWindowProcessor.tumbling(100, Long::longValue).withAllowedLateness(-1));
+		assertLukashianException(() -> BeepWindowProcessor.tumbling(100, Long::longValue).withBatchSize(0));
+		assertLukashianException(() -> BeepWindowProcessor.tumbling(100, Long::longValue).withBuffer(0, 1));
+		assertEquals(FIXED, BeepWindowProcessor.tumbling(100, Long::longValue).getCalendarKey());
+
+		BeepWindowProcessor<Long> processor = BeepWindowProcessor.tumbling(100, Long::longValue);
+		processor.subscribe(new RecordingSubscriber());
+		assertThrows(IllegalStateException.class, () -> processor.withBatchSize(2));
+	}
+
+	@Test
+	public void testTumbling() {
+		BeepWindowProcessor<Long> processor = BeepWindowProcessor.tumbling(5000, Long::longValue);
+		RecordingSubscription upstream = new RecordingSubscription();
+		RecordingSubscriber downstream = new RecordingSubscriber();
+		processor.subscribe(downstream);
+		processor.onSubscribe(upstream);
+		assertEquals(256, upstream.requested);
+
+		//Day 7 runs from 1801 until 2100, its second half starts at 1951
+		processor.onNext(1801L);
+		processor.onNext(1950L);
+		processor.onNext(1951L); //Closes the first window of day 7
+		assertEquals(1951, processor.getWatermark());
+		assertTrue(downstream.batches.isEmpty()); //Nothing was requested yet
+		downstream.subscription.request(1);
+		assertEquals(1, downstream.batches.size());
+		assertWindow(downstream.batches.get(0).get(0), 7, 0, 5000, 1801, 1950, List.of(1801L, 1950L));
+		assertEquals("[BeepWindow: 2-3 0-5000, 2 events]", downstream.batches.get(0).get(0).toString());
+
+		processor.onNext(2101L); //Closes the second window of day 7
+		processor.onNext(2102L);
+		downstream.subscription.request(1);
+		assertEquals(2, downstream.batches.size());
+		assertEquals(1, downstream.batches.get(1).size());
+		assertWindow(downstream.batches.get(1).get(0), 7, 5000, 10000, 1951, 2100, List.of(1951L));
+
+		processor.onNext(2000L); //Too late
+		processor.onNext(0L); //Unsupported
+		assertEquals(2, processor.getNumberOfDroppedEvents());
+
+		processor.onComplete();
+		assertFalse(downstream.completed); //The window of 2101 still needs to be emitted
+		downstream.subscription.request(1);
+		assertEquals(3, downstream.batches.size());
+		assertWindow(downstream.batches.get(2).get(0), 8, 0, 5000, 2101, 2250, List.of(2101L, 2102L));
+		assertTrue(downstream.completed);
+		assertNull(downstream.error);
+	}
+
+	@Test
+	public void testSliding() {
+		BeepWindowProcessor<Long> processor = BeepWindowProcessor.sliding(5000, 2500, Long::longValue);
+		RecordingSubscriber downstream = new RecordingSubscriber();
+		processor.subscribe(downstream);
+		processor.onSubscribe(new RecordingSubscription());
+		downstream.subscription.request(Long.MAX_VALUE);
+
+		processor.onNext(1801L); //Beep 0 of day 7
+		processor.onNext(1951L); //Beep 5000 of day 7
+		processor.onNext(2099L); //Beep 9933 of day 7
+		processor.onComplete();
+
+		List<BeepWindow<Long>> windows = downstream.batches.stream().flatMap(List::stream).toList();
+		assertEquals(3, downstream.batches.size()); //The first two windows were closed by the later events, the others upon completion
+		assertEquals(4, windows.size());
+		assertWindow(windows.get(0), 7, 0, 5000, 1801, 1950, List.of(1801L));
+		assertWindow(windows.get(1), 7, 2500, 7500, 1876, 2025, List.of(1951L));
+		assertWindow(windows.get(2), 7, 5000, 10000, 1951, 2100, List.of(1951L, 2099L));
+		assertWindow(windows.get(3), 7, 7500, 10000, 2026, 2100, List.of(2099L)); //Ends at the end of the day
+		assertTrue(downstream.completed);
+	}
+
+	@Test
+	public void testAllowedLateness() {
+		BeepWindowProcessor<Long> processor = BeepWindowProcessor.<Long>tumbling(5000, Long::longValue).withAllowedLateness(100);
+		RecordingSubscriber downstream = new RecordingSubscriber();
+		processor.subscribe(downstream);
+		processor.onSubscribe(new RecordingSubscription());
+		downstream.subscription.request(10);
+
+		processor.onNext(1801L);
+		processor.onNext(2000L);
+		processor.onNext(2101L); //Closes the first window of day 7, but the second one is still allowed to receive events
+		assertEquals(1, downstream.batches.size());
+		assertWindow(downstream.batches.get(0).get(0), 7, 0, 5000, 1801, 1950, List.of(1801L));
+
+		processor.onNext(1900L); //Too late
+		processor.onNext(2050L);
+		assertEquals(1, processor.getNumberOfDroppedEvents());
+
+		processor.advanceWatermark(2201);
+		assertEquals(2, downstream.batches.size());
+		assertWindow(downstream.batches.get(1).get(0), 7, 5000, 10000, 1951, 2100, List.of(2000L, 2050L));
+	}
+
+	@Test
+	public void testBackpressureAndBatching() {
+		BeepWindowProcessor<Long> processor = BeepWindowProcessor.<Long>tumbling(10000, Long::longValue).withBatchSize(2).withBuffer(3, 4);
+		RecordingSubscription upstream = new RecordingSubscription();
+		RecordingSubscriber downstream = new RecordingSubscriber();
+		processor.onSubscribe(upstream);
+		assertEquals(0, upstream.requested); //Nothing is requested before there is a subscriber
+		processor.subscribe(downstream);
+		assertEquals(4, upstream.requested);
+
+		processor.onNext(1L);
+		assertEquals(4, upstream.requested);
+		processor.onNext(301L);
+		assertEquals(6, upstream.requested); //Only two events were outstanding, so two more were requested
+		processor.onNext(601L);
+		processor.onNext(901L); //Three closed windows are waiting now, which is the maximum
+		processor.onNext(1201L);
+		processor.onNext(1501L);
+		assertEquals(6, upstream.requested);
+
+		downstream.subscription.request(1);
+		assertEquals(1, downstream.batches.size());
+		assertEquals(List.of(1L), downstream.batches.get(0).get(0).getEvents());
+		assertEquals(List.of(301L), downstream.batches.get(0).get(1).getEvents());
+		assertEquals(6, upstream.requested); //Three closed windows are still waiting
+
+		downstream.subscription.request(5);
+		assertEquals(3, downstream.batches.size());
+		assertEquals(2, downstream.batches.get(1).size());
+		assertEquals(List.of(1201L), downstream.batches.get(2).get(0).getEvents());
+		assertEquals(10, upstream.requested); //No events were outstanding
+
+		downstream.subscription.cancel();
+		assertTrue(upstream.cancelled);
+		processor.onComplete();
+		assertEquals(3, downstream.batches.size());
+		assertFalse(downstream.completed);
+	}
+
+	@Test
+	public void testErrors() {
+		BeepWindowProcessor<Long> processor = BeepWindowProcessor.tumbling(10000, Long::longValue);
+		RecordingSubscriber downstream = new RecordingSubscriber();
+		processor.subscribe(downstream);
+
+		RecordingSubscriber second = new RecordingSubscriber();
+		processor.subscribe(second);
+		assertInstanceOf(IllegalStateException.class, second.error);
+
+		RecordingSubscription upstream = new RecordingSubscription();
+		processor.onSubscribe(upstream);
+		RecordingSubscription secondUpstream = new RecordingSubscription();
+		processor.onSubscribe(secondUpstream);
+		assertTrue(secondUpstream.cancelled);
+
+		processor.onNext(1L);
+		RuntimeException exception = new RuntimeException();
+		processor.onError(exception);
+		assertSame(exception, downstream.error);
+		assertTrue(downstream.batches.isEmpty());
+
+		BeepWindowProcessor<Long> invalidRequest = BeepWindowProcessor.tumbling(10000, Long::longValue);
+		RecordingSubscriber invalidRequestDownstream = new RecordingSubscriber();
+		invalidRequest.subscribe(invalidRequestDownstream);
+		RecordingSubscription invalidRequestUpstream = new RecordingSubscription();
+		invalidRequest.onSubscribe(invalidRequestUpstream);
+		invalidRequestDownstream.subscription.request(0);
+		assertInstanceOf(IllegalArgumentException.class, invalidRequestDownstream.error);
+		assertTrue(invalidRequestUpstream.cancelled);
+	}
+
+	@Test
+	public void testUnsupportedTimestamps() {
+		BeepWindowProcessor<Long> processor = BeepWindowProcessor.tumbling(5000, Long::longValue);
+		RecordingSubscriber downstream = new RecordingSubscriber();
+		processor.subscribe(downstream);
+		processor.onSubscribe(new RecordingSubscription());
+		downstream.subscription.request(10);
+
+		processor.onNext(1801L);
+		processor.onNext(Long.MAX_VALUE); //Garbage timestamps are dropped without moving the watermark, so they don't close any window
+		processor.onNext(0L);
+		processor.onNext(Long.MIN_VALUE);
+		assertEquals(1801, processor.getWatermark());
+		assertEquals(3, processor.getNumberOfDroppedEvents());
+		assertTrue(downstream.batches.isEmpty());
+
+		processor.onNext(1900L); //The window is still open
+		processor.onNext(1951L);
+		assertEquals(1, downstream.batches.size());
+		assertWindow(downstream.batches.get(0).get(0), 7, 0, 5000, 1801, 1950, List.of(1801L, 1900L));
+	}
+
+	@Test
+	public void testFunctionThrows() {
+		IllegalArgumentException exception = new IllegalArgumentException();
+		BeepWindowProcessor<Long> processor = BeepWindowProcessor.tumbling(5000, event -> {
+			if (event < 0) {
+				throw exception;
+			}
+			return event;
+		});
+		RecordingSubscription upstream = new RecordingSubscription();
+		RecordingSubscriber downstream = new RecordingSubscriber();
+		processor.subscribe(downstream);
+		processor.onSubscribe(upstream);
+		downstream.subscription.request(10);
+
+		processor.onNext(1801L);
+		assertDoesNotThrow(() -> processor.onNext(-1L));
+		assertTrue(upstream.cancelled);
+		assertSame(exception, downstream.error);
+		assertFalse(downstream.completed);
+
+		processor.onNext(2101L); //Already on its way when upstream was cancelled, ignored
+		processor.onComplete();
+		assertTrue(downstream.batches.isEmpty());
+		assertFalse(downstream.completed);
+		assertEquals(1801, processor.getWatermark());
+	}
+
+	private static void assertWindow(BeepWindow<Long> window, int epochDay, int startBeeps, int endBeeps, long epochMillisecondsAtStart, long epochMillisecondsAtEnd, List<Long> events) {
+		assertEquals(Day.ofEpoch(epochDay), window.getDay());
+		assertEquals(startBeeps, window.getStartBeeps());
+		assertEquals(endBeeps, window.getEndBeeps());
+		assertEquals(epochMillisecondsAtStart, window.getEpochMillisecondsAtStart());
+		assertEquals(epochMillisecondsAtEnd, window.getEpochMillisecondsAtEnd());
+		assertEquals(events, window.getEvents());
+	}
+
+	private static class RecordingSubscription implements Flow.Subscription {
+
+		private long requested;
+		private boolean cancelled;
+
+		@Override
+		public void request(long n) {
+			requested += n;
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true;
+		}
+	}
+
+	private static class RecordingSubscriber implements Flow.Subscriber<List<BeepWindow<Long>>> {
+
+		private final List<List<BeepWindow<Long>>> batches = new ArrayList<>();
+		private Flow.Subscription subscription;
+		private Throwable error;
+		private boolean completed;
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			this.subscription = subscription;
+		}
+
+		@Override
+		public void onNext(List<BeepWindow<Long>> batch) {
+			batches.add(batch);
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			error = throwable;
+		}
+
+		@Override
+		public void onComplete() {
+			completed = true;
+		}
+	}
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.lukashian.store.FixedOffsetMillisecondStoreDataProvider;
+import org.lukashian.store.MillisecondStore;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lukashian.LukashianAssert.assertLukashianException;
+import static org.lukashian.store.FixedOffsetMillisecondStoreDataProvider.FIXED;
+
+/**
+ * Unit tests for the {@link BucketAggregator} class.
+ */
+public class BucketAggregatorTest {
+
+	@BeforeAll
+	public static void setUp() {
+		MillisecondStore.store().registerProvider(FIXED, new FixedOffsetMillisecondStoreDataProvider());
+		MillisecondStore.store().setDefaultCalendarKey(FIXED);
+	}
+
+	@Test
+	public void testCreate() {
+		assertEquals(16, BucketAggregator.perDay(Day.ofEpoch(2), Day.ofEpoch(17)).getNumberOfBuckets());
+		assertEquals(4, BucketAggregator.perYear(Year.of(2), Year.of(5)).getNumberOfBuckets());
+		assertEquals(8, BucketAggregator.perBeeps(3000, Day.ofEpoch(2), Day.ofEpoch(3)).getNumberOfBuckets());
+		assertEquals(10000, BucketAggregator.perBeeps(1, Day.ofEpoch(2), Day.ofEpoch(2)).getNumberOfBuckets());
+
+		assertLukashianException(() -> BucketAggregator.perDay(Day.ofEpoch(3), Day.ofEpoch(2)));
+		assertLukashianException(() -> BucketAggregator.perYear(Year.of(3), Year.of(2)));
+		assertLukashianException(() -> BucketAggregator.perBeeps(0, Day.ofEpoch(2), Day.ofEpoch(3)));
+		assertLukashianException(() -> BucketAggregator.perBeeps(10001, Day.ofEpoch(2), Day.ofEpoch(3)));
+	}
+
+	@Test
+	public void testAdd() {
+		BucketAggregator aggregator = BucketAggregator.perDay(Day.ofEpoch(2), Day.ofEpoch(3));
+		aggregator.add(300, 1); //Day 1
+		aggregator.add(301, 2);
+		aggregator.add(600, 3);
+		aggregator.add(601, 4);
+		aggregator.add(Instant.ofEpoch(700), 5);
+		aggregator.add(0, 6); //Unsupported
+		aggregator.add(39001, 7); //Unsupported
+
+		assertArrayEquals(new long[] {2, 2}, aggregator.getCounts());
+		assertArrayEquals(new long[] {5, 9}, aggregator.getSums());
+		assertEquals(3, aggregator.getNumberOfDiscarded());
+		assertEquals(2, aggregator.getCount(1));
+		assertEquals(9, aggregator.getSum(1));
+	}
+
+	@Test
+	public void testAddUnix() {
+		BucketAggregator aggregator = BucketAggregator.perDay(Day.ofEpoch(1), Day.ofEpoch(18));
+		Instant instant = Instant.ofEpoch(1900);
+		aggregator.addUnix(instant.getUnixEpochMilliseconds(), 10);
+		aggregator.addUnix(Long.MAX_VALUE, 10);
+
+		assertEquals(1, aggregator.getCount(6));
+		assertEquals(10, aggregator.getSum(6));
+		assertEquals(1, aggregator.getNumberOfDiscarded());
+	}
+
+	@Test
+	public void testBuckets() {
+		BucketAggregator perDay = BucketAggregator.perDay(Day.ofEpoch(2), Day.ofEpoch(3));
+		assertEquals(301, perDay.getEpochMillisecondsAtStartOfBucket(0));
+		assertEquals(600, perDay.getEpochMillisecondsAtEndOfBucket(0));
+		assertEquals(601, perDay.getEpochMillisecondsAtStartOfBucket(1));
+		assertThrows(IndexOutOfBoundsException.class, () -> perDay.getEpochMillisecondsAtStartOfBucket(2));
+
+		BucketAggregator perYear = BucketAggregator.perYear(Year.of(2), Year.of(3));
+		assertEquals(1001, perYear.getEpochMillisecondsAtStartOfBucket(0));
+		assertEquals(3000, perYear.getEpochMillisecondsAtEndOfBucket(1));
+
+		BucketAggregator perBeeps = BucketAggregator.perBeeps(3000, Day.ofEpoch(7), Day.ofEpoch(8)); //Day 7 runs from 1801 until 2100
+		assertEquals(1801, perBeeps.getEpochMillisecondsAtStartOfBucket(0));
+		assertEquals(1890, perBeeps.getEpochMillisecondsAtEndOfBucket(0));
+		assertEquals(1891, perBeeps.getEpochMillisecondsAtStartOfBucket(1));
+		assertEquals(2071, perBeeps.getEpochMillisecondsAtStartOfBucket(3));
+		assertEquals(2100, perBeeps.getEpochMillisecondsAtEndOfBucket(3));
+		assertEquals(2101, perBeeps.getEpochMillisecondsAtStartOfBucket(4));
+
+		for (int bucket = 0; bucket < perBeeps.getNumberOfBuckets(); bucket++) {
+			long start = perBeeps.getEpochMillisecondsAtStartOfBucket(bucket);
+			long end = perBeeps.getEpochMillisecondsAtEndOfBucket(bucket);
+			BucketAggregator single = perBeeps.emptyCopy();
+			for (long epochMilliseconds = start; epochMilliseconds <= end; epochMilliseconds++) {
+				single.add(epochMilliseconds, 1);
+			}
+			assertEquals(end - start + 1, single.getCount(bucket));
+			assertEquals(end - start + 1, Arrays.stream(single.getCounts()).sum());
+		}
+	}
+
+	@Test
+	public void testAddAll() {
+		Random random = new Random(3);
+		long[] epochMilliseconds = new long[20000];
+		long[] values = new long[epochMilliseconds.length];
+		for (int i = 0; i < epochMilliseconds.length; i++) {
+			epochMilliseconds[i] = random.nextInt(39100) - 50; //Includes some unsupported milliseconds
+			values[i] = random.nextInt(1000);
+		}
+		this.testAddAll(epochMilliseconds, values);
+
+		long[] sorted = epochMilliseconds.clone();
+		Arrays.sort(sorted);
+		this.testAddAll(sorted, values);
+
+		long[] supported = new long[epochMilliseconds.length];
+		for (int i = 0; i < supported.length; i++) {
+			supported[i] = 1 + i % 39000;
+		}
+		this.testAddAll(supported, values);
+	}
+
+	@Test
+	public void testAddAll_Parallel() {
+		Random random = new Random(5);
+		long[] epochMilliseconds = new long[BulkEpochMath.PARALLEL_THRESHOLD * 2 + 3];
+		long[] values = new long[epochMilliseconds.length];
+		for (int i = 0; i < epochMilliseconds.length; i++) {
+			epochMilliseconds[i] = 1 + random.nextInt(39000);
+			values[i] = random.nextInt(1000);
+		}
+		this.testAddAll(epochMilliseconds, values);
+	}
+
+	@Test
+	public void testAddAll_ParallelSorted() {
+		//Sorted input, so that the partial aggregators cover different days and years, with unsupported milliseconds at both ends
+		long[] epochMilliseconds = new long[BulkEpochMath.PARALLEL_THRESHOLD * 4 + 5];
+		long[] values = new long[epochMilliseconds.length];
+		for (int i = 0; i < epochMilliseconds.length; i++) {
+			epochMilliseconds[i] = -100 + (long) i * 39200 / epochMilliseconds.length;
+			values[i] = i % 1000;
+		}
+		this.testAddAll(epochMilliseconds, values);
+
+		BucketAggregator aggregator = BucketAggregator.perDay(Day.ofEpoch(2), Day.ofEpoch(17));
+		aggregator.addAll(Arrays.copyOf(epochMilliseconds, BulkEpochMath.PARALLEL_THRESHOLD * 2), values);
+		assertEquals(BulkEpochMath.PARALLEL_THRESHOLD * 2, Arrays.stream(aggregator.getCounts()).sum() + aggregator.getNumberOfDiscarded());
+	}
+
+	@Test
+	public void testAddAll_NoValues() {
+		BucketAggregator aggregator = BucketAggregator.perDay(Day.ofEpoch(1), Day.ofEpoch(2));
+		aggregator.addAll(new long[] {1, 300, 301, 0}, null);
+		assertArrayEquals(new long[] {2, 1}, aggregator.getCounts());
+		assertArrayEquals(new long[] {0, 0}, aggregator.getSums());
+		assertEquals(1, aggregator.getNumberOfDiscarded());
+
+		assertLukashianException(() -> {
+			aggregator.addAll(new long[] {1, 2}, new long[1]);
+			return null;
+		});
+	}
+
+	@Test
+	public void testAddAllUnix() {
+		long[] epochMilliseconds = new long[] {1, 1900, 1901, 39000};
+		long[] unixEpochMilliseconds = new long[epochMilliseconds.length];
+		for (int i = 0; i < epochMilliseconds.length; i++) {
+			unixEpochMilliseconds[i] = Instant.ofEpoch(epochMilliseconds[i]).getUnixEpochMilliseconds();
+		}
+		long[] values = new long[] {1, 2, 3, 4};
+
+		BucketAggregator expected = BucketAggregator.perBeeps(1000, Day.ofEpoch(1), Day.ofEpoch(18));
+		expected.addAll(epochMilliseconds, values);
+		BucketAggregator actual = expected.emptyCopy();
+		actual.addAllUnix(unixEpochMilliseconds, values);
+
+		assertArrayEquals(expected.getCounts(), actual.getCounts());
+		assertArrayEquals(expected.getSums(), actual.getSums());
+	}
+
+	@Test
+	public void testMerge() {
+		BucketAggregator first = BucketAggregator.perDay(Day.ofEpoch(1), Day.ofEpoch(2));
+		BucketAggregator second = first.emptyCopy();
+		first.add(1, 1);
+		second.add(2, 2);
+		second.add(301, 3);
+		second.add(601, 4);
+		first.merge(second);
+
+		assertArrayEquals(new long[] {2, 1}, first.getCounts());
+		assertArrayEquals(new long[] {3, 3}, first.getSums());
+		assertEquals(1, first.getNumberOfDiscarded());
+
+		assertThrows(LukashianException.class, () -> first.merge(BucketAggregator.perDay(Day.ofEpoch(1), Day.ofEpoch(3))));
+		assertThrows(LukashianException.class, () -> first.merge(BucketAggregator.perBeeps(10000, Day.ofEpoch(1), Day.ofEpoch(2))));
+		assertThrows(LukashianException.class, () -> first.merge(BucketAggregator.perYear(Year.of(1), Year.of(2))));
+	}
+
+	private void testAddAll(long[] epochMilliseconds, long[] values) {
+		this.testAddAll(BucketAggregator.perDay(Day.ofEpoch(2), Day.ofEpoch(17)), epochMilliseconds, values);
+		this.testAddAll(BucketAggregator.perYear(Year.of(2), Year.of(7)), epochMilliseconds, values);
+		this.testAddAll(BucketAggregator.perBeeps(3000, Day.ofEpoch(2), Day.ofEpoch(17)), epochMilliseconds, values);
+		this.testAddAll(BucketAggregator.perBeeps(1, Day.ofEpoch(7), Day.ofEpoch(7)), epochMilliseconds, values);
+	}
+
+	private void testAddAll(BucketAggregator aggregator, long[] epochMilliseconds, long[] values) {
+		BucketAggregator expected = aggregator.emptyCopy();
+		for (int i = 0; i < epochMilliseconds.length; i++) {
+			expected.add(epochMilliseconds[i], values[i]);
+		}
+		aggregator.addAll(epochMilliseconds, values);
+
+		assertArrayEquals(expected.getCounts(), aggregator.getCounts());
+		assertArrayEquals(expected.getSums(), aggregator.getSums());
+		assertEquals(expected.getNumberOfDiscarded(), aggregator.getNumberOfDiscarded());
+		assertEquals(epochMilliseconds.length, Arrays.stream(aggregator.getCounts()).sum() + aggregator.getNumberOfDiscarded());
+
+		//The buckets of one by one addition agree with the objects
+		for (int i = 0; i < Math.min(epochMilliseconds.length, 200); i++) {
+			if (epochMilliseconds[i] < 1 || epochMilliseconds[i] > 39000) {
+				continue;
+			}
+			Instant instant = Instant.ofEpoch(epochMilliseconds[i]);
+			BucketAggregator single = aggregator.emptyCopy();
+			single.add(instant, 1);
+			for (int bucket = 0; bucket < single.getNumberOfBuckets(); bucket++) {
+				if (single.getCount(bucket) == 1) {
+					assertTrue(instant.getEpochMilliseconds() >= single.getEpochMillisecondsAtStartOfBucket(bucket));
+					assertTrue(instant.getEpochMilliseconds() <= single.getEpochMillisecondsAtEndOfBucket(bucket));
+				}
+			}
+		}
+	}
+}
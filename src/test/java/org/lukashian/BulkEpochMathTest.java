@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.lukashian.store.FixedOffsetMillisecondStoreDataProvider;
+import org.lukashian.store.MillisecondStore;
+import org.lukashian.store.TestMillisecondStoreDataProvider;
+
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lukashian.store.MillisecondStore.data;
+import static org.lukashian.store.TestMillisecondStoreDataProvider.TEST;
+
+/**
+ * Unit tests for the {@link BulkEpochMath} class.
+ */
+public class BulkEpochMathTest {
+
+	@BeforeAll
+	public static void setUp() {
+		MillisecondStore.store().registerProvider(TEST, new TestMillisecondStoreDataProvider());
+		MillisecondStore.store().setDefaultCalendarKey(TEST);
+	}
+
+	@Test
+	public void testFromEpochMilliseconds() {
+		long[] ascending = new long[39000];
+		for (int i = 0; i < ascending.length; i++) {
+			ascending[i] = i + 1;
+		}
+		this.testFromEpochMilliseconds(ascending);
+
+		long[] shuffled = ascending.clone();
+		Random random = new Random(42);
+		for (int i = shuffled.length - 1; i > 0; i--) {
+			int j = random.nextInt(i + 1);
+			long value = shuffled[i];
+			shuffled[i] = shuffled[j];
+			shuffled[j] = value;
+		}
+		this.testFromEpochMilliseconds(shuffled);
+	}
+
+	@Test
+	public void testFromEpochMilliseconds_Parallel() {
+		Random random = new Random(7);
+		long[] unordered = new long[BulkEpochMath.PARALLEL_THRESHOLD * 3 + 5];
+		for (int i = 0; i < unordered.length; i++) {
+			unordered[i] = 1 + random.nextInt(39000);
+		}
+		this.testFromEpochMilliseconds(unordered);
+
+		long[] ascending = unordered.clone();
+		Arrays.sort(ascending);
+		this.testFromEpochMilliseconds(ascending);
+	}
+
+	@Test
+	public void testFromEpochMilliseconds_PartialTargets() {
+		long[] epochMilliseconds = new long[] {1900, 1, 39000};
+		int[] beeps = new int[3];
+		BulkEpochMath.fromEpochMilliseconds(epochMilliseconds, null, null, null, beeps, TEST);
+		assertArrayEquals(new int[] {3300, 0, 9999}, beeps);
+
+		int[] dayNumbers = new int[3];
+		BulkEpochMath.fromEpochMilliseconds(epochMilliseconds, null, null, dayNumbers, null, TEST);
+		assertArrayEquals(new int[] {3, 1, 1}, dayNumbers);
+	}
+
+	@Test
+	public void testFromEpochMilliseconds_Unsupported() {
+		assertThrows(LukashianException.class, () -> BulkEpochMath.fromEpochMilliseconds(new long[] {1, 0}, new int[2], null, null, null, TEST));
+		assertThrows(LukashianException.class, () -> BulkEpochMath.fromEpochMilliseconds(new long[] {1, 39001}, new int[2], null, null, null, TEST));
+		assertThrows(LukashianException.class, () -> BulkEpochMath.fromEpochMilliseconds(new long[] {1, 2}, new int[1], null, null, null, TEST));
+	}
+
+	@Test
+	public void testFromUnixEpochMilliseconds() {
+		long start = data(TEST).getUnixEpochMilliseconds(1);
+		long[] unixEpochMilliseconds = new long[] {start, start + 1899, start + 299, start + 38999};
+		long[] expected = new long[] {1, 1900, 300, 39000};
+
+		long[] epochMilliseconds = new long[4];
+		int[] epochDays = new int[4];
+		BulkEpochMath.fromUnixEpochMilliseconds(unixEpochMilliseconds, epochMilliseconds, epochDays, null, null, null, TEST);
+		assertArrayEquals(expected, epochMilliseconds);
+		assertArrayEquals(new int[] {1, 7, 1, 18}, epochDays);
+
+		LongBuffer heapBuffer = LongBuffer.wrap(new long[] {0, start, start + 1899, start + 299, start + 38999}, 1, 4).slice();
+		LongBuffer directBuffer = ByteBuffer.allocateDirect(4 * Long.BYTES).asLongBuffer().put(unixEpochMilliseconds).flip();
+		for (LongBuffer buffer : new LongBuffer[] {heapBuffer, directBuffer}) {
+			long[] bufferEpochMilliseconds = new long[4];
+			int[] beeps = new int[4];
+			BulkEpochMath.fromUnixEpochMilliseconds(buffer, bufferEpochMilliseconds, null, null, null, beeps, TEST);
+			assertArrayEquals(expected, bufferEpochMilliseconds);
+			assertArrayEquals(new int[] {0, 3300, 9966, 9999}, beeps);
+			assertFalse(buffer.hasRemaining());
+		}
+
+		assertThrows(LukashianException.class, () -> BulkEpochMath.fromUnixEpochMilliseconds(new long[] {start - 1}, new long[1], null, null, null, null, TEST));
+	}
+
+	@Test
+	public void testToEpochMilliseconds() {
+		Random random = new Random(11);
+		int[] epochDays = new int[5000];
+		int[] beeps = new int[5000];
+		for (int i = 0; i < epochDays.length; i++) {
+			epochDays[i] = i < 2500 ? 1 + i / 150 : 1 + random.nextInt(18);
+			beeps[i] = i % 7 == 0 ? 9999 : random.nextInt(10000);
+		}
+
+		long[] epochMilliseconds = new long[5000];
+		long[] unixEpochMilliseconds = new long[5000];
+		BulkEpochMath.toEpochMilliseconds(epochDays, beeps, epochMilliseconds, TEST);
+		BulkEpochMath.toUnixEpochMilliseconds(epochDays, beeps, unixEpochMilliseconds, TEST);
+		for (int i = 0; i < epochDays.length; i++) {
+			assertEquals(EpochMath.getEpochMilliseconds(epochDays[i], beeps[i], TEST), epochMilliseconds[i]);
+			assertEquals(EpochMath.getUnixEpochMilliseconds(epochMilliseconds[i], TEST), unixEpochMilliseconds[i]);
+		}
+
+		assertThrows(LukashianException.class, () -> BulkEpochMath.toEpochMilliseconds(new int[] {1, 0}, new int[2], new long[2], TEST));
+		assertThrows(LukashianException.class, () -> BulkEpochMath.toEpochMilliseconds(new int[] {1, 19}, new int[2], new long[2], TEST));
+		assertThrows(LukashianException.class, () -> BulkEpochMath.toEpochMilliseconds(new int[] {1, 2}, new int[] {0, 10000}, new long[2], TEST));
+		assertThrows(LukashianException.class, () -> BulkEpochMath.toEpochMilliseconds(new int[] {1, 2}, new int[] {-1, 0}, new long[2], TEST));
+		assertThrows(LukashianException.class, () -> BulkEpochMath.toEpochMilliseconds(new int[] {1, 2}, new int[2], new long[1], TEST));
+	}
+
+	@Test
+	public void testToCalendar() {
+		int source = TEST + 10;
+		int target = TEST + 11;
+		MillisecondStore.store().registerProvider(source, new FixedOffsetMillisecondStoreDataProvider(0));
+		MillisecondStore.store().registerProvider(target, new FixedOffsetMillisecondStoreDataProvider(1000, 250));
+
+		Instant[] instants = new Instant[] {
+			Instant.ofEpoch(1, source),
+			Instant.ofEpoch(5, source),
+			Instant.of(Day.ofEpoch(7, source), 3333),
+			Instant.ofEpoch(1900, source),
+			Instant.ofEpoch(38000, source),
+			Instant.ofEpoch(300, source)
+		};
+		Instant[] converted = BulkEpochMath.toCalendar(instants, target);
+		long[] epochMilliseconds = new long[instants.length];
+		long[] targetEpochMilliseconds = new long[instants.length];
+		for (int i = 0; i < instants.length; i++) {
+			epochMilliseconds[i] = instants[i].getEpochMilliseconds();
+		}
+		BulkEpochMath.toCalendar(epochMilliseconds, targetEpochMilliseconds, source, target);
+
+		for (int i = 0; i < instants.length; i++) {
+			Instant expected = instants[i].toCalendar(target);
+			assertEquals(expected, converted[i]);
+			assertEquals(target, converted[i].getCalendarKey());
+			assertEquals(expected.getProportionOfDay(), converted[i].getProportionOfDay());
+			assertEquals(expected.getEpochMilliseconds(), targetEpochMilliseconds[i]);
+		}
+		assertEquals(0, BulkEpochMath.toCalendar(new Instant[0], target).length);
+
+		assertThrows(LukashianException.class, () -> BulkEpochMath.toCalendar(new Instant[] {Instant.ofEpoch(1, target)}, source));
+		assertThrows(LukashianException.class, () -> BulkEpochMath.toCalendar(new Instant[] {Instant.ofEpoch(1, source), Instant.ofEpoch(1, target)}, source));
+	}
+
+	@Test
+	public void testKernels() {
+		assertEquals(ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent(), !(BulkEpochMath.KERNELS instanceof BulkEpochMath.ScalarKernels));
+
+		long[] lengths = new long[] {1, 7, 300, 34100, 86400000, 86400001, 900719925473L, 900719925474L, 900719925475L, 1L << 45}; //Around the exact limit of doubles
+		Random random = new Random(3);
+		for (BulkEpochKernels kernels : new BulkEpochKernels[] {BulkEpochMath.KERNELS, new BulkEpochMath.ScalarKernels()}) {
+			for (long millisecondsOfDay : lengths) {
+				long epochMillisecondsPreviousDay = random.nextLong(1L << 40);
+				int length = (int) Math.min(millisecondsOfDay, 34100) + 37;
+				long[] epochMilliseconds = new long[length];
+				int[] beeps = new int[length];
+				for (int i = 0; i < length; i++) { //Every millisecond of short days, and the first, last and random milliseconds of long days
+					long millisecondsPassed = millisecondsOfDay <= 34100 ? i % millisecondsOfDay : i < 2 ? i * (millisecondsOfDay - 1) : random.nextLong(millisecondsOfDay);
+					epochMilliseconds[i] = epochMillisecondsPreviousDay + 1 + millisecondsPassed;
+					beeps[i] = i < 2 ? i * 9999 : random.nextInt(10000);
+				}
+
+				for (int start = 0; start < 6; start++) { //Runs that do and do not fill whole vectors
+					int end = length - start * 7;
+					int[] resultBeeps = new int[length];
+					long[] resultEpochMilliseconds = new long[length];
+					kernels.getBeepsOnDay(epochMilliseconds, start, end, epochMillisecondsPreviousDay, millisecondsOfDay, resultBeeps);
+					kernels.getEpochMillisecondsOnDay(beeps, start, end, epochMillisecondsPreviousDay, millisecondsOfDay, resultEpochMilliseconds);
+
+					for (int i = 0; i < length; i++) {
+						boolean inRun = i >= start && i < end;
+						assertEquals(inRun ? EpochMath.getBeepsOnDay(epochMilliseconds[i], epochMillisecondsPreviousDay, millisecondsOfDay) : 0, resultBeeps[i]);
+						assertEquals(inRun ? EpochMath.getEpochMillisecondsOnDay(epochMillisecondsPreviousDay, millisecondsOfDay, beeps[i]) : 0, resultEpochMilliseconds[i]);
+					}
+				}
+			}
+		}
+	}
+
+	private void testFromEpochMilliseconds(long[] epochMilliseconds) {
+		int length = epochMilliseconds.length;
+		int[] epochDays = new int[length];
+		int[] years = new int[length];
+		int[] dayNumbers = new int[length];
+		int[] beeps = new int[length];
+		BulkEpochMath.fromEpochMilliseconds(epochMilliseconds, epochDays, years, dayNumbers, beeps, TEST);
+
+		for (int i = 0; i < length; i++) {
+			long value = epochMilliseconds[i];
+			assertEquals(EpochMath.getEpochDay(value, TEST), epochDays[i]);
+			assertEquals(EpochMath.getYear(value, TEST), years[i]);
+			assertEquals(EpochMath.getDayNumber(epochDays[i], TEST), dayNumbers[i]);
+			assertEquals(EpochMath.getBeeps(value, TEST), beeps[i]);
+		}
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.lukashian.store.MillisecondStore;
+import org.lukashian.store.TestMillisecondStoreDataProvider;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lukashian.LukashianAssert.assertLukashianException;
+import static org.lukashian.store.CalendarKeys.EARTH;
+import static org.lukashian.store.TestMillisecondStoreDataProvider.TEST;
+
+/**
+ * Unit tests for the {@link CalendarRangeIndex} class.
+ */
+public class CalendarRangeIndexTest {
+
+	@BeforeAll
+	public static void setUp() {
+		MillisecondStore.store().registerProvider(TEST, new TestMillisecondStoreDataProvider());
+		MillisecondStore.store().setDefaultCalendarKey(TEST);
+	}
+
+	@Test
+	public void testContainingAndOverlapping() {
+		DayRange days = DayRange.of(Day.ofEpoch(2), Day.ofEpoch(4));
+		InstantRange instants = InstantRange.ofEpoch(1000, 1500);
+		YearRange years = YearRange.of(Year.of(1), Year.of(1));
+		CalendarRangeIndex<CalendarRange<?>> index = CalendarRangeIndex.of(List.of(days, instants, years));
+
+		assertEquals(3, index.size());
+		assertSame(instants, index.get(1));
+		assertEquals(Set.of(years), Set.copyOf(index.containing(Instant.ofEpoch(300))));
+		assertEquals(Set.of(days, instants, years), Set.copyOf(index.containing(Instant.ofEpoch(1000))));
+		assertEquals(Set.of(instants), Set.copyOf(index.containing(Instant.ofEpoch(1201))));
+		assertEquals(List.of(), index.containing(Instant.ofEpoch(1501)));
+		assertEquals(Set.of(days, instants), Set.copyOf(index.overlapping(InstantRange.ofEpoch(1100, 2000))));
+		assertEquals(Set.of(days, instants, years), Set.copyOf(index.overlapping(DayRange.of(Day.ofEpoch(1), Day.ofEpoch(18)))));
+
+		assertLukashianException(() -> index.containing(Instant.ofEpoch(1, EARTH)));
+		assertLukashianException(() -> CalendarRangeIndex.of(List.of(days, DayRange.of(Day.ofEpoch(1, EARTH), Day.ofEpoch(1, EARTH)))));
+	}
+
+	@Test
+	public void testEmpty() {
+		CalendarRangeIndex<InstantRange> index = CalendarRangeIndex.of(List.of());
+		assertEquals(0, index.size());
+		assertEquals(List.of(), index.containing(Instant.ofEpoch(1)));
+		assertEquals(List.of(), index.overlapping(InstantRange.ofEpoch(1, 39000)));
+	}
+
+	@Test
+	public void testEqualToBruteForce() {
+		Random random = new Random(3);
+		int size = 2000;
+		long[] starts = new long[size];
+		long[] ends = new long[size];
+		for (int i = 0; i < size; i++) {
+			starts[i] = 1 + random.nextInt(38000);
+			ends[i] = Math.min(39000, starts[i] + (i % 10 == 0 ? random.nextInt(10000) : random.nextInt(100)));
+			if (i % 50 == 0) { //Duplicates
+				starts[i] = starts[i / 2];
+				ends[i] = ends[i / 2];
+			}
+		}
+
+		//Ranges are created from epoch milliseconds directly, to keep the test fast; the index only looks at those
+		List<InstantRange> ranges = new ArrayList<>();
+		Instant[] instants = new Instant[39001];
+		for (int i = 0; i < size; i++) {
+			ranges.add(InstantRange.of(instant(instants, starts[i]), instant(instants, ends[i])));
+		}
+		CalendarRangeIndex<InstantRange> index = CalendarRangeIndex.of(ranges);
+
+		for (long point = 1; point <= 39000; point += 13) {
+			Set<Integer> expected = new HashSet<>();
+			for (int i = 0; i < size; i++) {
+				if (starts[i] <= point && point <= ends[i]) {
+					expected.add(i);
+				}
+			}
+			assertEquals(expected, this.found(index, point, point, true));
+		}
+
+		for (int query = 0; query < 300; query++) {
+			long start = 1 + random.nextInt(39000);
+			long end = Math.min(39000, start + random.nextInt(query % 3 == 0 ? 5000 : 50));
+			Set<Integer> expected = new HashSet<>();
+			for (int i = 0; i < size; i++) {
+				if (starts[i] <= end && start <= ends[i]) {
+					expected.add(i);
+				}
+			}
+			assertEquals(expected, this.found(index, start, end, false));
+		}
+	}
+
+	private Set<Integer> found(CalendarRangeIndex<?> index, long start, long end, boolean containing) {
+		Set<Integer> found = new HashSet<>();
+		if (containing) {
+			index.forEachContaining(start, i -> assertTrue(found.add(i), "Found twice: " + i));
+		} else {
+			index.forEachOverlapping(start, end, i -> assertTrue(found.add(i), "Found twice: " + i));
+		}
+		return found;
+	}
+
+	private static Instant instant(Instant[] instants, long epochMilliseconds) {
+		if (instants[(int) epochMilliseconds] == null) {
+			instants[(int) epochMilliseconds] = Instant.ofEpoch(epochMilliseconds);
+		}
+		return instants[(int) epochMilliseconds];
+	}
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.lukashian.store.MillisecondStore;
+import org.lukashian.store.TestMillisecondStoreDataProvider;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lukashian.LukashianAssert.assertLukashianException;
+import static org.lukashian.store.CalendarKeys.EARTH;
+import static org.lukashian.store.TestMillisecondStoreDataProvider.TEST;
+
+/**
+ * Unit tests for the {@link CalendarRange} class and its subclasses {@link InstantRange}, {@link DayRange} and {@link YearRange}.
+ */
+public class CalendarRangeTest {
+
+	@BeforeAll
+	public static void setUp() {
+		MillisecondStore.store().registerProvider(TEST, new TestMillisecondStoreDataProvider());
+		MillisecondStore.store().setDefaultCalendarKey(TEST);
+	}
+
+	@Test
+	public void testInstantRange() {
+		InstantRange range = InstantRange.ofEpoch(450, 1900);
+		assertEquals(Instant.ofEpoch(450), range.getStart());
+		assertEquals(Instant.ofEpoch(1900), range.getEnd());
+		assertEquals(450, range.getEpochMillisecondsAtStart());
+		assertEquals(1900, range.getEpochMillisecondsAtEnd());
+		assertEquals(1451, range.lengthInMilliseconds());
+		assertEquals(TEST, range.getCalendarKey());
+		assertSame(range, range.toInstantRange());
+		assertEquals(InstantRange.of(Instant.ofEpoch(450), Instant.ofEpoch(1900)), range);
+		assertEquals(1, InstantRange.ofEpoch(7, 7).lengthInMilliseconds());
+		assertEquals(List.of(Instant.ofEpoch(1, TEST), Instant.ofEpoch(151, TEST), Instant.ofEpoch(301, TEST)), InstantRange.ofEpoch(1, 301).instants(5000).toList());
+
+		assertTrue(range.contains(Instant.ofEpoch(450)));
+		assertTrue(range.contains(1900));
+		assertFalse(range.contains(449));
+		assertFalse(range.contains(Instant.ofEpoch(1901)));
+
+		assertLukashianException(() -> InstantRange.ofEpoch(1901, 1900));
+		assertLukashianException(() -> InstantRange.of(Instant.ofEpoch(1, TEST), Instant.ofEpoch(2, EARTH)));
+	}
+
+	@Test
+	public void testDayRange() {
+		DayRange range = DayRange.of(Day.ofEpoch(2), Day.ofEpoch(4));
+		assertEquals(301, range.getEpochMillisecondsAtStart());
+		assertEquals(1200, range.getEpochMillisecondsAtEnd());
+		assertEquals(3, range.getNumberOfDays());
+		assertEquals(List.of(Day.ofEpoch(2), Day.ofEpoch(3), Day.ofEpoch(4)), range.days().toList());
+		assertEquals(InstantRange.ofEpoch(301, 1200), range.toInstantRange());
+		assertEquals(1, DayRange.of(Day.ofEpoch(2), Day.ofEpoch(2)).getNumberOfDays());
+		assertNotEquals(range, range.toInstantRange());
+
+		assertLukashianException(() -> DayRange.of(Day.ofEpoch(3), Day.ofEpoch(2)));
+	}
+
+	@Test
+	public void testYearRange() {
+		YearRange range = YearRange.of(Year.of(2), Year.of(3));
+		assertEquals(1001, range.getEpochMillisecondsAtStart());
+		assertEquals(3000, range.getEpochMillisecondsAtEnd());
+		assertEquals(2, range.getNumberOfYears());
+		assertEquals(List.of(Year.of(2), Year.of(3)), range.years().toList());
+
+		assertLukashianException(() -> YearRange.of(Year.of(3), Year.of(2)));
+	}
+
+	@Test
+	public void testOverlapsAndEncloses() {
+		DayRange days = DayRange.of(Day.ofEpoch(2), Day.ofEpoch(4)); //301 - 1200
+
+		assertTrue(days.overlaps(InstantRange.ofEpoch(1200, 1300)));
+		assertTrue(days.overlaps(InstantRange.ofEpoch(1, 301)));
+		assertTrue(days.overlaps(YearRange.of(Year.of(1), Year.of(1))));
+		assertFalse(days.overlaps(InstantRange.ofEpoch(1201, 1300)));
+		assertFalse(days.overlaps(InstantRange.ofEpoch(1, 300)));
+
+		assertTrue(days.encloses(InstantRange.ofEpoch(301, 1200)));
+		assertTrue(days.encloses(DayRange.of(Day.ofEpoch(3), Day.ofEpoch(3))));
+		assertFalse(days.encloses(InstantRange.ofEpoch(300, 1200)));
+		assertFalse(days.encloses(YearRange.of(Year.of(1), Year.of(1))));
+		assertTrue(YearRange.of(Year.of(1), Year.of(2)).encloses(days));
+
+		assertLukashianException(() -> days.overlaps(DayRange.of(Day.ofEpoch(1, EARTH), Day.ofEpoch(1, EARTH))));
+	}
+
+	@Test
+	public void testToString() {
+		assertEquals("[DayRange: 1-2 - 1-4]", DayRange.of(Day.ofEpoch(2), Day.ofEpoch(4)).toString());
+		assertEquals("[YearRange: 2 - 3]", YearRange.of(Year.of(2), Year.of(3)).toString());
+	}
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.lukashian.Formatter.DayFormat;
+import org.lukashian.store.FixedOffsetMillisecondStoreDataProvider;
+import org.lukashian.store.MillisecondStore;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lukashian.LukashianAssert.assertLukashianException;
+import static org.lukashian.store.FixedOffsetMillisecondStoreDataProvider.FIXED;
+
+/**
+ * Unit tests for the {@link ColumnFormatter} class.
+ */
+public class ColumnFormatterTest {
+
+	private static final int OTHER = FIXED + 2;
+
+	@BeforeAll
+	public static void setUp() {
+		MillisecondStore.store().registerProvider(FIXED, new FixedOffsetMillisecondStoreDataProvider());
+		MillisecondStore.store().registerProvider(OTHER, new FixedOffsetMillisecondStoreDataProvider());
+		MillisecondStore.store().setDefaultCalendarKey(FIXED);
+	}
+
+	@Test
+	public void testFormat() {
+		assertEquals("1-1 0000\n2-3 3300\n2-3 3333\n1-1 9966\n", text(ColumnFormatter.of().format(new long[] {1, 1900, 1901, 300})));
+		assertEquals("3/2 3300;2/4 0000;", text(ColumnFormatter.of(DayFormat.DAY_FIRST, "/").withDelimiter(';').format(new long[] {0, 1900, 3301, 0}, 1, 2)));
+		assertEquals("", text(ColumnFormatter.of().format(new long[0])));
+
+		ByteBuffer buffer = ByteBuffer.allocate(20).put((byte) 'x');
+		ColumnFormatter.of(DayFormat.EPOCH, "-").format(new long[] {1900, 1}, 0, 2, buffer);
+		assertEquals("x7 3300\n1 0000\n", text(buffer.flip()));
+		ByteBuffer small = ByteBuffer.allocate(17);
+		assertThrows(BufferOverflowException.class, () -> ColumnFormatter.of().format(new long[] {1900, 1900}, 0, 2, small));
+		assertEquals(0, small.position());
+
+		assertLukashianException(() -> ColumnFormatter.of().format(new long[] {1900, 39001}));
+		assertLukashianException(() -> ColumnFormatter.of().format(new long[] {0, 1900}));
+		assertLukashianException(() -> ColumnFormatter.of(DayFormat.YEAR_FIRST, "–"));
+		assertLukashianException(() -> ColumnFormatter.of().withDelimiter(' '));
+		assertThrows(NullPointerException.class, () -> ColumnFormatter.of(null, "-"));
+		assertThrows(IndexOutOfBoundsException.class, () -> ColumnFormatter.of().format(new long[2], 1, 2));
+		assertThrows(IndexOutOfBoundsException.class, () -> ColumnFormatter.of().format(new long[2], 1, 2, ByteBuffer.allocate(100)));
+	}
+
+	@Test
+	public void testFormat_SameAsFormatter() {
+		Random random = new Random(45);
+		for (int length : new int[] {1000, BulkEpochMath.PARALLEL_THRESHOLD + 1000}) {
+			long[] sorted = new long[length];
+			long[] shuffled = new long[length];
+			for (int i = 0; i < length; i++) {
+				sorted[i] = 1 + (long) i * 39000 / length;
+				shuffled[i] = 1 + random.nextInt(39000);
+			}
+
+			DayFormat[] dayFormats = length < BulkEpochMath.PARALLEL_THRESHOLD ? DayFormat.values() : new DayFormat[] {DayFormat.YEAR_FIRST};
+			for (DayFormat dayFormat : dayFormats) {
+				ColumnFormatter formatter = ColumnFormatter.of(dayFormat, "::").withDelimiter(',');
+				for (long[] epochMilliseconds : new long[][] {sorted, shuffled}) {
+					StringBuilder expected = new StringBuilder();
+					List<Instant> instants = new ArrayList<>();
+					for (long value : epochMilliseconds) {
+						Instant instant = Instant.ofEpoch(value);
+						instants.add(instant);
+						expected.append(Formatter.format(instant, dayFormat, "::")).append(',');
+					}
+					assertEquals(expected.toString(), text(formatter.format(epochMilliseconds)));
+					assertEquals(expected.toString(), text(formatter.format(instants)));
+
+					ByteBuffer buffer = ByteBuffer.allocateDirect(expected.length());
+					formatter.format(epochMilliseconds, 0, length, buffer);
+					assertEquals(expected.toString(), text(buffer.flip()));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testFormat_Instants() {
+		List<Instant> instants = List.of(Instant.of(Day.ofEpoch(7), 3301), Instant.ofEpoch(1900), Instant.of(Day.ofEpoch(18), 9999));
+		assertEquals("2-3 3301\n2-3 3300\n7-1 9999\n", text(ColumnFormatter.of().format(instants)));
+		assertLukashianException(() -> ColumnFormatter.of().format(List.of(Instant.ofEpoch(1900, OTHER))));
+	}
+
+	private static String text(byte[] bytes) {
+		return new String(bytes, StandardCharsets.US_ASCII);
+	}
+
+	private static String text(ByteBuffer buffer) {
+		byte[] bytes = new byte[buffer.remaining()];
+		buffer.get(bytes);
+		return text(bytes);
+	}
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.lukashian.store.FixedOffsetMillisecondStoreDataProvider;
+import org.lukashian.store.MillisecondStore;
+import org.lukashian.store.TestMillisecondStoreDataProvider;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lukashian.LukashianAssert.assertLukashianException;
+import static org.lukashian.store.MillisecondStore.data;
+import static org.lukashian.store.TestMillisecondStoreDataProvider.TEST;
+
+/**
+ * Unit tests for the {@link DayOverlaps} class.
+ */
+public class DayOverlapsTest {
+
+	private static final int SOURCE = TEST + 10;
+	private static final int TARGET = TEST + 11; //Starts 1000 milliseconds before SOURCE, with days of 250 milliseconds
+
+	@BeforeAll
+	public static void setUp() {
+		MillisecondStore.store().registerProvider(TEST, new TestMillisecondStoreDataProvider());
+		MillisecondStore.store().registerProvider(SOURCE, new FixedOffsetMillisecondStoreDataProvider(0));
+		MillisecondStore.store().registerProvider(TARGET, new FixedOffsetMillisecondStoreDataProvider(1000, 250));
+		MillisecondStore.store().setDefaultCalendarKey(TEST);
+	}
+
+	@Test
+	public void testOfEpochDays() {
+		DayOverlaps overlaps = DayOverlaps.ofEpochDays(1, 2, SOURCE, TARGET);
+		assertEquals(4, overlaps.size());
+		assertEquals(SOURCE, overlaps.getCalendarKey());
+		assertEquals(TARGET, overlaps.getTargetCalendarKey());
+		assertOverlap(overlaps, 0, 1, 5, 250);
+		assertOverlap(overlaps, 1, 1, 6, 50);
+		assertOverlap(overlaps, 2, 2, 6, 200);
+		assertOverlap(overlaps, 3, 2, 7, 100);
+		assertEquals(Day.ofEpoch(2, SOURCE), overlaps.getDay(3));
+		assertEquals(Day.ofEpoch(7, TARGET), overlaps.getTargetDay(3));
+		assertEquals("[DayOverlaps: 1/5=250, 1/6=50, 2/6=200, 2/7=100]", overlaps.toString());
+	}
+
+	@Test
+	public void testOfEpochDays_Reverse() {
+		DayOverlaps overlaps = DayOverlaps.ofEpochDays(1, 7, TARGET, SOURCE); //Days 1 to 4 are before the start of SOURCE
+		assertEquals(5, overlaps.size());
+		assertOverlap(overlaps, 0, 5, 1, 250);
+		assertOverlap(overlaps, 1, 6, 1, 50);
+		assertOverlap(overlaps, 2, 6, 2, 200);
+		assertOverlap(overlaps, 3, 7, 2, 100);
+		assertOverlap(overlaps, 4, 7, 3, 150);
+
+		assertEquals(0, DayOverlaps.ofEpochDays(1, 4, TARGET, SOURCE).size());
+		assertEquals(0, DayOverlaps.ofEpochDays(5, 4, TARGET, SOURCE).size());
+	}
+
+	@Test
+	public void testOfEpochDays_EqualToIntervalIntersection() {
+		for (int[] keys : new int[][] {{SOURCE, TARGET}, {TARGET, SOURCE}}) {
+			DayOverlaps overlaps = DayOverlaps.ofEpochDays(1, 18, keys[0], keys[1]);
+			long shift = data(keys[1]).getLukashianEpochMilliseconds(0) - data(keys[0]).getLukashianEpochMilliseconds(0);
+
+			int index = 0;
+			for (int epochDay = 1; epochDay <= 18; epochDay++) {
+				for (int targetEpochDay = 1; data(keys[1]).isSupportedEpochDay(targetEpochDay); targetEpochDay++) {
+					long start = Math.max(EpochMath.getEpochMillisecondsAtStartOfDay(epochDay, keys[0]) - 1 + shift, EpochMath.getEpochMillisecondsAtStartOfDay(targetEpochDay, keys[1]) - 1);
+					long end = Math.min(EpochMath.getEpochMillisecondsAtEndOfDay(epochDay, keys[0]) + shift, EpochMath.getEpochMillisecondsAtEndOfDay(targetEpochDay, keys[1]));
+					if (end > start) {
+						assertOverlap(overlaps, index++, epochDay, targetEpochDay, end - start);
+					}
+				}
+			}
+			assertEquals(index, overlaps.size());
+		}
+	}
+
+	@Test
+	public void testOf() {
+		DayOverlaps overlaps = DayOverlaps.of(Day.ofEpoch(1, SOURCE), Day.ofEpoch(2, SOURCE), TARGET);
+		assertEquals(4, overlaps.size());
+
+		assertLukashianException(() -> DayOverlaps.of(Day.ofEpoch(1, SOURCE), Day.ofEpoch(2, TARGET), TARGET));
+		assertLukashianException(() -> DayOverlaps.ofEpochDays(0, 2, SOURCE, TARGET));
+		assertLukashianException(() -> DayOverlaps.ofEpochDays(1, 19, SOURCE, TARGET));
+	}
+
+	private static void assertOverlap(DayOverlaps overlaps, int index, int epochDay, int targetEpochDay, long overlapMilliseconds) {
+		assertEquals(epochDay, overlaps.getEpochDay(index));
+		assertEquals(targetEpochDay, overlaps.getTargetEpochDay(index));
+		assertEquals(overlapMilliseconds, overlaps.getOverlapMilliseconds(index));
+	}
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.lukashian.store.FixedOffsetMillisecondStoreDataProvider;
+import org.lukashian.store.MillisecondStore;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lukashian.store.FixedOffsetMillisecondStoreDataProvider.FIXED;
+
+/**
+ * Unit tests for the {@link DayPartitionedLog} class.
+ */
+public class DayPartitionedLogTest {
+
+	private static final int NOW = FIXED + 1; //A calendar of which the time that is now is on day 18, which lasts until 39000
+
+	@TempDir
+	Path directory;
+
+	@BeforeAll
+	public static void setUp() {
+		MillisecondStore.store().registerProvider(FIXED, new FixedOffsetMillisecondStoreDataProvider());
+		MillisecondStore.store().registerProvider(NOW, new FixedOffsetMillisecondStoreDataProvider(10000 - 27000 - System.currentTimeMillis())); //27 leap seconds
+		MillisecondStore.store().setDefaultCalendarKey(FIXED);
+	}
+
+	@Test
+	public void testAppendAndScan() throws IOException {
+		try (DayPartitionedLog log = DayPartitionedLog.open(directory, 64, FIXED)) { //Segments need to grow
+			assertEquals(FIXED, log.getCalendarKey());
+			for (long epochMilliseconds = 250; epochMilliseconds <= 1300; epochMilliseconds += 10) {
+				log.append(epochMilliseconds, payload(epochMilliseconds));
+			}
+			log.append(1300, payload(1300)); //Events at the same millisecond are allowed
+			log.flush();
+
+			assertArrayEquals(new int[] {1, 2, 3, 4, 5}, log.getEpochDays());
+			assertTrue(Files.exists(directory.resolve("0000000001.log")));
+			assertTrue(Files.exists(directory.resolve("0000000004.idx")));
+			assertFalse(Files.exists(directory.resolve("0000000005.idx"))); //The current segment is not sealed yet
+
+			assertEquals(List.of(300L, 310L, 320L), scan(log, 291, 320));
+			assertEquals(List.of(1300L, 1300L), scan(log, 1300, 5000));
+			assertEquals(List.of(), scan(log, 1301, 39000));
+			assertEquals(List.of(), scan(log, 600, 500));
+			assertEquals(107, scan(log, Long.MIN_VALUE, Long.MAX_VALUE).size());
+			assertEquals(30, scan(log, DayRange.of(Day.ofEpoch(2), Day.ofEpoch(2))).size());
+
+			assertThrows(LukashianException.class, () -> log.append(1299, payload(1299)));
+			assertThrows(LukashianException.class, () -> log.scan(DayRange.of(Day.ofEpoch(1, NOW), Day.ofEpoch(1, NOW)), (payload, epochMilliseconds) -> {}));
+
+			List<String> payloads = new ArrayList<>();
+			log.scan(1000, 1010, (payload, epochMilliseconds) -> payloads.add(StandardCharsets.UTF_8.decode(payload).toString()));
+			assertEquals(List.of("event 1000", "event 1010"), payloads);
+		}
+		assertTrue(Files.exists(directory.resolve("0000000005.idx")));
+	}
+
+	@Test
+	public void testReopen() throws IOException {
+		DayPartitionedLog log = DayPartitionedLog.open(directory, FIXED);
+		log.append(100, payload(100));
+		log.append(400, payload(400));
+		log.append(500, payload(500));
+		log.flush(); //Not closed, so the segment of day 2 is not sealed
+
+		try (DayPartitionedLog reopened = DayPartitionedLog.open(directory, FIXED)) {
+			assertEquals(List.of(100L, 400L, 500L), scan(reopened, 1, 39000));
+			assertThrows(LukashianException.class, () -> reopened.append(499, payload(499)));
+			reopened.append(550, payload(550));
+		}
+
+		try (DayPartitionedLog reopened = DayPartitionedLog.open(directory, FIXED)) {
+			assertEquals(List.of(400L, 500L, 550L), scan(reopened, 301, 600)); //Read from the sealed segment, with its index
+			assertThrows(LukashianException.class, () -> reopened.append(549, payload(549)));
+			reopened.append(560, payload(560)); //Unseals the segment of day 2
+			assertFalse(Files.exists(directory.resolve("0000000002.idx")));
+			assertEquals(List.of(550L, 560L), scan(reopened, 550, 600));
+		}
+
+		Files.delete(directory.resolve("0000000001.idx")); //Is rebuilt from the events
+		try (DayPartitionedLog reopened = DayPartitionedLog.open(directory, FIXED)) {
+			assertEquals(List.of(100L, 400L, 500L, 550L, 560L), scan(reopened, 1, 39000));
+		}
+		assertTrue(Files.exists(directory.resolve("0000000001.idx")));
+	}
+
+	@Test
+	public void testAppendNow() throws IOException {
+		try (DayPartitionedLog log = DayPartitionedLog.open(directory, NOW)) {
+			log.append(payload(0));
+			assertArrayEquals(new int[] {18}, log.getEpochDays());
+		}
+
+		DayPartitionedLog log = DayPartitionedLog.open(directory.resolve("closed"), FIXED);
+		log.close();
+		assertThrows(LukashianException.class, () -> log.append(1, payload(1)));
+		assertThrows(LukashianException.class, () -> DayPartitionedLog.open(directory, 11, FIXED));
+		assertThrows(LukashianException.class, () -> DayPartitionedLog.open(directory.resolve("unsupported"), FIXED).append(39001, payload(39001)));
+	}
+
+	private static List<Long> scan(DayPartitionedLog log, long startInclusive, long endInclusive) throws IOException {
+		List<Long> result = new ArrayList<>();
+		log.scan(startInclusive, endInclusive, (payload, epochMilliseconds) -> {
+			assertEquals("event " + epochMilliseconds, StandardCharsets.UTF_8.decode(payload).toString());
+			result.add(epochMilliseconds);
+		});
+		return result;
+	}
+
+	private static List<Long> scan(DayPartitionedLog log, CalendarRange<?> range) throws IOException {
+		List<Long> result = new ArrayList<>();
+		log.scan(range, (payload, epochMilliseconds) -> result.add(epochMilliseconds));
+		return result;
+	}
+
+	private static byte[] payload(long epochMilliseconds) {
+		return ("event " + epochMilliseconds).getBytes(StandardCharsets.UTF_8);
+	}
+}
@@ -56,6 +56,9 @@ import org.junit.jupiter.api.Test;
 import org.lukashian.store.MillisecondStore;
 import org.lukashian.store.TestMillisecondStoreDataProvider;
 
+import java.util.List;
+import java.util.Spliterator;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.lukashian.LukashianAssert.*;
 import static org.lukashian.store.CalendarKeys.EARTH;
@@ -118,11 +121,43 @@ public class DayTest {
 	@Test
 	public void testPrevious() {
 		assertDay(1, TEST, Day.ofEpoch(2, TEST).previous());
+		assertEquals(300, Day.ofEpoch(2, TEST).previous().getEpochMilliseconds());
+		assertEquals(0, Day.ofEpoch(2, TEST).previous().getEpochMillisecondsPreviousDay());
+		assertEquals(300, Day.ofEpoch(3, TEST).previous().getEpochMillisecondsPreviousDay());
+		assertLukashianException(() -> Day.ofEpoch(1, TEST).previous());
+	}
+
+	@Test
+	public void testRangeTo() {
+		assertEquals(List.of(2, 3, 4, 5), Day.ofEpoch(2, TEST).rangeTo(Day.ofEpoch(5, TEST)).map(Day::getEpochDay).toList());
+		assertEquals(List.of(Day.ofEpoch(7, TEST)), Day.ofEpoch(7, TEST).rangeTo(Day.ofEpoch(7, TEST)).toList());
+		assertEquals(0, Day.ofEpoch(7, TEST).rangeTo(Day.ofEpoch(6, TEST)).count());
+
+		Day first = Day.ofEpoch(1, TEST).rangeTo(Day.ofEpoch(2, TEST)).findFirst().orElseThrow();
+		assertEquals(0, first.getEpochMillisecondsPreviousDay());
+		assertEquals(300, first.getEpochMilliseconds());
+
+		List<Day> days = Day.ofEpoch(1, TEST).rangeTo(Day.ofEpoch(18, TEST)).toList();
+		assertEquals(days, Day.ofEpoch(1, TEST).rangeTo(Day.ofEpoch(18, TEST)).parallel().toList());
+		for (Day day : days) {
+			assertEquals(Day.ofEpoch(day.getEpochDay(), TEST).getEpochMillisecondsPreviousDay(), day.getEpochMillisecondsPreviousDay());
+			assertEquals(Day.ofEpoch(day.getEpochDay(), TEST).getEpochMilliseconds(), day.getEpochMilliseconds());
+		}
+
+		Spliterator<Day> spliterator = Day.ofEpoch(1, TEST).rangeTo(Day.ofEpoch(18, TEST)).spliterator();
+		assertEquals(18, spliterator.getExactSizeIfKnown());
+		assertEquals(9, spliterator.trySplit().getExactSizeIfKnown());
+		assertEquals(9, spliterator.getExactSizeIfKnown());
+
+		assertLukashianException(() -> Day.ofEpoch(1, TEST).rangeTo(Day.ofEpoch(2, EARTH)));
 	}
 
 	@Test
 	public void testNext() {
 		assertDay(3, TEST, Day.ofEpoch(2, TEST).next());
+		assertEquals(600, Day.ofEpoch(2, TEST).next().getEpochMillisecondsPreviousDay());
+		assertEquals(900, Day.ofEpoch(2, TEST).next().getEpochMilliseconds());
+		assertLukashianException(() -> Day.ofEpoch(18, TEST).next());
 	}
 
 	@Test
@@ -513,8 +548,33 @@ public class DayTest {
 		assertDay(1, EARTH, Day.of(1, 1, EARTH));
 	}
 
+	@Test
+	public void testTryOfEpoch() {
+		assertFalse(Day.tryOfEpoch(0, TEST).isPresent());
+		assertDay(1, TEST, Day.tryOfEpoch(1).orElseThrow());
+		assertDay(18, TEST, Day.tryOfEpoch(18, TEST).orElseThrow());
+		assertFalse(Day.tryOfEpoch(19, TEST).isPresent());
+	}
+
+	@Test
+	public void testTryOf() {
+		for (int year = -1; year <= 9; year++) {
+			for (int day = -1; day <= 6; day++) {
+				Day expected;
+				try {
+					expected = Day.of(year, day, TEST);
+				} catch (LukashianException e) {
+					expected = null;
+				}
+				assertEquals(expected, Day.tryOf(year, day, TEST).orElse(null));
+			}
+		}
+		assertDay(5, TEST, Day.tryOf(2, 1).orElseThrow());
+	}
+
 	@Test
 	public void testNow() {
+		MillisecondStore.store().clearData(TEST); //The time that is now is only supported for a few seconds after TEST has been loaded
 		assertEquals(TEST, Day.now().getCalendarKey());
 		assertEquals(EARTH, Day.now(EARTH).getCalendarKey());
 	}
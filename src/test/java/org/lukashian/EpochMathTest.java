@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.lukashian.store.MillisecondStore;
+import org.lukashian.store.TestMillisecondStoreDataProvider;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.lukashian.LukashianAssert.assertLukashianException;
+import static org.lukashian.store.CalendarKeys.EARTH;
+import static org.lukashian.store.CalendarKeys.MARS;
+import static org.lukashian.store.TestMillisecondStoreDataProvider.TEST;
+
+/**
+ * Unit tests for the {@link EpochMath} class.
+ */
+public class EpochMathTest {
+
+	@BeforeAll
+	public static void setUp() {
+		MillisecondStore.store().registerProvider(TEST, new TestMillisecondStoreDataProvider());
+		MillisecondStore.store().setDefaultCalendarKey(TEST);
+	}
+
+	@Test
+	public void testGetEpochDay() {
+		assertLukashianException(() -> EpochMath.getEpochDay(0, TEST));
+		assertEquals(1, EpochMath.getEpochDay(1, TEST));
+		assertEquals(1, EpochMath.getEpochDay(300, TEST));
+		assertEquals(2, EpochMath.getEpochDay(301, TEST));
+		assertEquals(18, EpochMath.getEpochDay(39000, TEST));
+		assertLukashianException(() -> EpochMath.getEpochDay(39001, TEST));
+	}
+
+	@Test
+	public void testGetEpochDay_YearAndDayNumber() {
+		assertEquals(1, EpochMath.getEpochDay(1, 1, TEST));
+		assertEquals(5, EpochMath.getEpochDay(2, 1, TEST));
+		assertEquals(10, EpochMath.getEpochDay(3, 3, TEST));
+		assertLukashianException(() -> EpochMath.getEpochDay(3, 4, TEST));
+		assertLukashianException(() -> EpochMath.getEpochDay(3, 0, TEST));
+		assertLukashianException(() -> EpochMath.getEpochDay(0, 1, TEST));
+	}
+
+	@Test
+	public void testGetBeeps() {
+		assertEquals(0, EpochMath.getBeeps(1, TEST));
+		assertEquals(9966, EpochMath.getBeeps(300, TEST));
+		assertEquals(3300, EpochMath.getBeeps(1900, TEST));
+	}
+
+	@Test
+	public void testGetEpochMilliseconds() {
+		assertEquals(1, EpochMath.getEpochMilliseconds(1, 0, TEST));
+		assertEquals(1801, EpochMath.getEpochMilliseconds(7, 0, TEST));
+		assertEquals(1900, EpochMath.getEpochMilliseconds(7, 3300, TEST));
+		assertLukashianException(() -> EpochMath.getEpochMilliseconds(7, -1, TEST));
+		assertLukashianException(() -> EpochMath.getEpochMilliseconds(7, 10000, TEST));
+		assertLukashianException(() -> EpochMath.getEpochMilliseconds(0, 0, TEST));
+	}
+
+	@Test
+	public void testPlusBeeps() {
+		assertEquals(Instant.ofEpoch(450, TEST).plusBeeps(10000).getEpochMilliseconds(), EpochMath.plusBeeps(450, 10000, TEST));
+		assertEquals(Instant.ofEpoch(450, TEST).minusBeeps(5000).getEpochMilliseconds(), EpochMath.plusBeeps(450, -5000, TEST));
+		assertLukashianException(() -> EpochMath.plusBeeps(450, -15000, TEST));
+		assertLukashianException(() -> EpochMath.plusBeeps(450, 200000, TEST));
+	}
+
+	@Test
+	public void testPlusBeeps_LongDays() {
+		//Late on a day of an Earth or Mars length, the product of the length of the day and the remaining numerator no longer fits in a long
+		for (int calendarKey : new int[] {EARTH, MARS}) {
+			Day today = Day.now(calendarKey);
+			long start = today.getEpochMillisecondsAtStartOfDay();
+			long length = today.lengthInMilliseconds();
+			for (long epochMilliseconds = start + length / 10; epochMilliseconds <= today.getEpochMilliseconds(); epochMilliseconds += length / 97) {
+				Instant instant = Instant.ofEpoch(epochMilliseconds, calendarKey);
+				assertEquals(instant.getBeeps(), EpochMath.getBeeps(epochMilliseconds, calendarKey));
+				for (int beeps : new int[] {-15000, -10000, -9999, -1, 0, 1, 3333, 9999, 10000, 15000}) {
+					assertEquals(instant.plusBeeps(beeps).getEpochMilliseconds(), EpochMath.plusBeeps(epochMilliseconds, beeps, calendarKey));
+				}
+			}
+			Instant last = Instant.ofEpoch(today.getEpochMilliseconds(), calendarKey);
+			assertEquals(last.plusBeeps(1).getEpochMilliseconds(), EpochMath.plusBeeps(today.getEpochMilliseconds(), 1, calendarKey));
+			assertEquals(last.minusBeeps(1).getEpochMilliseconds(), EpochMath.plusBeeps(today.getEpochMilliseconds(), -1, calendarKey));
+		}
+	}
+
+	@Test
+	public void testMultiplyDivide() {
+		Random random = new Random(26);
+		for (int i = 0; i < 20000; i++) {
+			long c = 1 + (random.nextLong() >>> (1 + random.nextInt(63)));
+			long b = random.nextLong(c); //As in the calculations of this class, b / c is a proportion below 1
+			long a = random.nextLong() >>> (1 + random.nextInt(63));
+			long expected = BigInteger.valueOf(a).multiply(BigInteger.valueOf(b)).divide(BigInteger.valueOf(c)).longValueExact();
+			assertEquals(expected, EpochMath.multiplyDivide(a, b, c));
+		}
+		assertEquals(Long.MAX_VALUE - 1, EpochMath.multiplyDivide(Long.MAX_VALUE, Long.MAX_VALUE - 1, Long.MAX_VALUE));
+		assertEquals(86399999, EpochMath.multiplyDivide(86400000, 863999999999L, 864000000000L)); //The final millisecond of an Earth day
+		assertThrows(ArithmeticException.class, () -> EpochMath.multiplyDivide(Long.MAX_VALUE, 4, 2));
+		assertThrows(ArithmeticException.class, () -> EpochMath.multiplyDivide(Long.MAX_VALUE, Long.MAX_VALUE, 1));
+	}
+
+	@Test
+	public void testEqualToObjects() {
+		for (long epochMilliseconds = 1; epochMilliseconds <= 39000; epochMilliseconds += 7) {
+			this.testEqualToObjects(epochMilliseconds, TEST);
+		}
+
+		Day today = Day.now(EARTH);
+		for (long epochMilliseconds = today.getEpochMillisecondsAtStartOfDay() - 1000; epochMilliseconds <= today.getEpochMilliseconds() + 1000; epochMilliseconds += 99991) {
+			this.testEqualToObjects(epochMilliseconds, EARTH);
+		}
+
+		Day sol = Day.now(MARS);
+		for (long epochMilliseconds = sol.getEpochMillisecondsAtStartOfDay() - 1000; epochMilliseconds <= sol.getEpochMilliseconds() + 1000; epochMilliseconds += 99991) {
+			this.testEqualToObjects(epochMilliseconds, MARS);
+		}
+	}
+
+	private void testEqualToObjects(long epochMilliseconds, int calendarKey) {
+		Instant instant = Instant.ofEpoch(epochMilliseconds, calendarKey);
+		Day day = instant.getDay();
+
+		assertEquals(day.getEpochDay(), EpochMath.getEpochDay(epochMilliseconds, calendarKey));
+		assertEquals(instant.getYear().getYearNumber(), EpochMath.getYear(epochMilliseconds, calendarKey));
+		assertEquals(instant.getBeeps(), EpochMath.getBeeps(epochMilliseconds, calendarKey));
+		assertEquals(instant.getUnixEpochMilliseconds(), EpochMath.getUnixEpochMilliseconds(epochMilliseconds, calendarKey));
+		assertEquals(epochMilliseconds, EpochMath.getLukashianEpochMilliseconds(instant.getUnixEpochMilliseconds(), calendarKey));
+
+		assertEquals(day.getYear().getYearNumber(), EpochMath.getYearOfEpochDay(day.getEpochDay(), calendarKey));
+		assertEquals(day.getDayNumber(), EpochMath.getDayNumber(day.getEpochDay(), calendarKey));
+		assertEquals(day.getEpochMillisecondsAtStartOfDay(), EpochMath.getEpochMillisecondsAtStartOfDay(day.getEpochDay(), calendarKey));
+		assertEquals(day.getEpochMilliseconds(), EpochMath.getEpochMillisecondsAtEndOfDay(day.getEpochDay(), calendarKey));
+		assertEquals(day.lengthInMilliseconds(), EpochMath.getLengthOfDayInMilliseconds(day.getEpochDay(), calendarKey));
+		assertEquals(Instant.of(day, instant.getBeeps()).getEpochMilliseconds(), EpochMath.getEpochMilliseconds(day.getEpochDay(), instant.getBeeps(), calendarKey));
+
+		for (int beeps : new int[] {-20001, -10000, -9999, -1, 0, 1, 3333, 9999, 10000, 15000}) {
+			if (day.getEpochDay() > 3 && day.getEpochDay() < 16) { //Results need to stay within the supported days of the test calendar
+				assertEquals(instant.plusBeeps(beeps).getEpochMilliseconds(), EpochMath.plusBeeps(epochMilliseconds, beeps, calendarKey));
+			}
+		}
+	}
+}
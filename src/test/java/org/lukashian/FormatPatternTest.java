@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import org.apache.commons.numbers.fraction.BigFraction;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.lukashian.Formatter.DayFormat;
+import org.lukashian.store.FixedOffsetMillisecondStoreDataProvider;
+import org.lukashian.store.MillisecondStore;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.RoundingMode;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lukashian.LukashianAssert.assertLukashianException;
+import static org.lukashian.store.FixedOffsetMillisecondStoreDataProvider.FIXED;
+
+/**
+ * Unit tests for the {@link FormatPattern} class.
+ */
+public class FormatPatternTest {
+
+	@BeforeAll
+	public static void setUp() {
+		MillisecondStore.store().registerProvider(FIXED, new FixedOffsetMillisecondStoreDataProvider());
+		MillisecondStore.store().setDefaultCalendarKey(FIXED);
+	}
+
+	@Test
+	public void testFormat() {
+		Instant instant = Instant.ofEpoch(1900);
+		assertEquals("0002-003 3300", FormatPattern.of("YYYY-DDD BBBB").format(instant));
+		assertEquals("2-3 3300.00", FormatPattern.of("Y-D BBBB.bb").format(instant));
+		assertEquals("7 3300", FormatPattern.of("E B").format(instant));
+		assertEquals("E00007, 3300 beeps", FormatPattern.of("'E'EEEEE, B 'beeps'").format(instant));
+		assertEquals("it's 2", FormatPattern.of("'it''s' Y").format(instant));
+		assertEquals("'2'", FormatPattern.of("''Y''").format(instant));
+		assertEquals("", FormatPattern.of("").format(instant));
+
+		assertEquals("3/2", FormatPattern.of("D/Y").format(Day.ofEpoch(7)));
+		assertEquals("007", FormatPattern.of("EEE").format(Day.ofEpoch(7)));
+		assertLukashianException(() -> FormatPattern.of("Y-D BBBB").format(Day.ofEpoch(7)));
+	}
+
+	@Test
+	public void testFormat_SameAsFormatter() throws IOException {
+		FormatPattern yearFirst = FormatPattern.of("Y-D BBBB");
+		FormatPattern dayFirst = FormatPattern.of("D/Y BBBB");
+		FormatPattern epoch = FormatPattern.of("E BBBB");
+		for (long epochMilliseconds = 1; epochMilliseconds <= 39000; epochMilliseconds += 3) {
+			Instant instant = Instant.ofEpoch(epochMilliseconds);
+			assertEquals(Formatter.format(instant), yearFirst.format(instant));
+			assertEquals(Formatter.format(instant), yearFirst.formatEpoch(epochMilliseconds));
+			assertEquals(Formatter.format(instant, DayFormat.DAY_FIRST, "/"), dayFirst.formatEpoch(epochMilliseconds, FIXED));
+			assertEquals(Formatter.format(instant, DayFormat.EPOCH), epoch.format(instant));
+		}
+
+		StringWriter writer = new StringWriter();
+		yearFirst.format(Instant.ofEpoch(1900), writer);
+		assertEquals("2-3 3300", writer.toString());
+	}
+
+	@Test
+	public void testFormat_Appendable() throws IOException {
+		List<Instant> instants = List.of(Instant.ofEpoch(1), Instant.ofEpoch(1900), Instant.ofEpoch(39000), Instant.of(Day.ofEpoch(7), BigFraction.of(1, 3)),
+				Instant.of(Day.ofEpoch(7), BigFraction.of(Long.MAX_VALUE - 1, Long.MAX_VALUE)));
+		for (String pattern : new String[] {"YYYY-DDD BBBB", "Y-D BBBB.bb", "'E'EEEEE, B 'beeps'", "BBBB.bbbbbbbbb", "EEEEEEEEEEEE b", "''Y''", ""}) {
+			FormatPattern formatPattern = FormatPattern.of(pattern);
+			for (Instant instant : instants) {
+				StringWriter writer = new StringWriter();
+				formatPattern.format(instant, writer);
+				assertEquals(formatPattern.format(instant), writer.toString(), pattern);
+			}
+		}
+	}
+
+	@Test
+	public void testFormat_SubBeeps() {
+		FormatPattern pattern = FormatPattern.of("BBBB.bbbbbbbbb");
+		assertEquals("3333.333333333", pattern.format(Instant.of(Day.ofEpoch(7), BigFraction.of(1, 3))));
+		assertEquals("0000.000000000", pattern.format(Instant.of(Day.ofEpoch(7), BigFraction.ZERO)));
+		assertEquals("9999.999999999", pattern.format(Instant.of(Day.ofEpoch(7), BigFraction.of(Long.MAX_VALUE - 1, Long.MAX_VALUE))));
+
+		for (long epochMilliseconds = 1801; epochMilliseconds <= 2100; epochMilliseconds++) {
+			Instant instant = Instant.ofEpoch(epochMilliseconds);
+			String expected = instant.getProportionOfDay().bigDecimalValue(9 + 4, RoundingMode.DOWN).toPlainString();
+			expected = (expected + "0000000000000").substring(2, 15);
+			assertEquals(expected.substring(0, 4) + "." + expected.substring(4), pattern.formatEpoch(epochMilliseconds));
+		}
+	}
+
+	@Test
+	public void testOf() {
+		assertTrue(FormatPattern.of("Y-D BBBB").hasProportionFields());
+		assertFalse(FormatPattern.of("Y-D").hasProportionFields());
+		assertEquals("Y-D BBBB", FormatPattern.of("Y-D BBBB").toString());
+		assertEquals(FormatPattern.of("Y-D BBBB"), FormatPattern.of("Y-D BBBB"));
+		assertEquals(FormatPattern.of("Y-D BBBB").hashCode(), FormatPattern.of("Y-D BBBB").hashCode());
+		assertNotEquals(FormatPattern.of("Y-D BBBB"), FormatPattern.of("Y-D BBB"));
+
+		assertLukashianException(() -> FormatPattern.of("Y-M"));
+		assertLukashianException(() -> FormatPattern.of("Y 'unterminated"));
+		assertLukashianException(() -> FormatPattern.of("BBBB.bbbbbbbbbb"));
+	}
+}
@@ -57,8 +57,15 @@ import org.lukashian.Formatter.DayFormat;
 import org.lukashian.store.MillisecondStore;
 import org.lukashian.store.TestMillisecondStoreDataProvider;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.lukashian.LukashianAssert.assertLukashianException;
 import static org.lukashian.store.TestMillisecondStoreDataProvider.TEST;
 
 /**
@@ -93,4 +100,58 @@ public class FormatterTest {
 	public void testFormat_NoDayFormat() {
 		assertThrows(IllegalStateException.class, () -> Formatter.format(Day.ofEpoch(1), null));
 	}
+
+	@Test
+	public void testFormat_Targets() throws IOException {
+		for (long epochMilliseconds = 1; epochMilliseconds <= 39000; epochMilliseconds += 7) {
+			Instant instant = Instant.ofEpoch(epochMilliseconds);
+			for (DayFormat dayFormat : DayFormat.values()) {
+				String expectedDay = Formatter.format(instant.getDay(), dayFormat, "::");
+				String expected = Formatter.format(instant, dayFormat, "::", (f) -> Formatter.format(f));
+
+				StringBuilder builder = new StringBuilder("x");
+				Formatter.format(instant, dayFormat, "::", builder);
+				assertEquals("x" + expected, builder.toString());
+
+				StringWriter writer = new StringWriter();
+				Formatter.format(instant, dayFormat, "::", writer);
+				assertEquals(expected, writer.toString());
+
+				byte[] bytes = new byte[40];
+				int end = Formatter.format(instant, dayFormat, "::", bytes, 3);
+				assertEquals(expected, new String(bytes, 3, end - 3, StandardCharsets.US_ASCII));
+				end = Formatter.format(instant.getDay(), dayFormat, "::", bytes, 1);
+				assertEquals(expectedDay, new String(bytes, 1, end - 1, StandardCharsets.US_ASCII));
+
+				for (ByteBuffer buffer : new ByteBuffer[] {ByteBuffer.allocate(40).position(2).slice(), ByteBuffer.allocateDirect(40)}) {
+					Formatter.format(instant, dayFormat, "::", buffer);
+					Formatter.format(instant.getDay(), dayFormat, "::", buffer);
+					assertEquals(expected.length() + expectedDay.length(), buffer.position());
+					byte[] written = new byte[buffer.position()];
+					buffer.flip().get(written);
+					assertEquals(expected + expectedDay, new String(written, StandardCharsets.US_ASCII));
+				}
+			}
+		}
+
+		StringBuilder builder = new StringBuilder();
+		Formatter.format(Day.ofEpoch(7), DayFormat.YEAR_FIRST, "-", builder);
+		Formatter.format(Instant.ofEpoch(1801), builder);
+		assertEquals("2-32-3 0000", builder.toString());
+		assertEquals(8, Formatter.format(Instant.ofEpoch(1900), new byte[8], 0));
+	}
+
+	@Test
+	public void testFormat_TargetTooSmall() {
+		ByteBuffer buffer = ByteBuffer.allocate(10).position(3);
+		assertThrows(BufferOverflowException.class, () -> Formatter.format(Instant.ofEpoch(1900), buffer));
+		assertEquals(3, buffer.position());
+		Formatter.format(Instant.ofEpoch(1900), buffer.position(2));
+		assertEquals(10, buffer.position());
+
+		assertThrows(IndexOutOfBoundsException.class, () -> Formatter.format(Instant.ofEpoch(1900), new byte[7], 0));
+		assertThrows(IndexOutOfBoundsException.class, () -> Formatter.format(Day.ofEpoch(7), new byte[3], 1));
+		assertLukashianException(() -> Formatter.format(Day.ofEpoch(7), DayFormat.YEAR_FIRST, "\u2013", new byte[8], 0));
+		assertThrows(LukashianException.class, () -> Formatter.format(Day.ofEpoch(7), DayFormat.YEAR_FIRST, "\u2013", ByteBuffer.allocateDirect(8)));
+	}
 }
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import org.apache.commons.numbers.fraction.BigFraction;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.lukashian.store.FixedOffsetMillisecondStoreDataProvider;
+import org.lukashian.store.MillisecondStore;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lukashian.LukashianAssert.assertLukashianException;
+import static org.lukashian.store.CalendarKeys.EARTH;
+import static org.lukashian.store.FixedOffsetMillisecondStoreDataProvider.FIXED;
+
+/**
+ * Unit tests for the {@link InstantColumn} class.
+ */
+public class InstantColumnTest {
+
+	@BeforeAll
+	public static void setUp() {
+		MillisecondStore.store().registerProvider(FIXED, new FixedOffsetMillisecondStoreDataProvider());
+		MillisecondStore.store().setDefaultCalendarKey(FIXED);
+	}
+
+	@Test
+	public void testOfEpoch() {
+		long[] epochMilliseconds = new long[5000];
+		Random random = new Random(1);
+		for (int i = 0; i < epochMilliseconds.length; i++) {
+			epochMilliseconds[i] = i < 2000 ? 1 + i * 7 : 1 + random.nextInt(39000); //Sorted blocks, a constant block and random blocks
+			if (i >= 2048 && i < 3072) {
+				epochMilliseconds[i] = 1900;
+			}
+		}
+
+		InstantColumn column = InstantColumn.ofEpoch(epochMilliseconds);
+		assertEquals(5000, column.size());
+		assertEquals(FIXED, column.getCalendarKey());
+		assertFalse(column.hasEpochDays());
+		assertFalse(column.hasExactProportions());
+		assertArrayEquals(epochMilliseconds, column.toEpochMilliseconds());
+		assertTrue(column.getSizeInBytes() < epochMilliseconds.length * 3L); //Instead of 8 bytes per value
+
+		InstantColumn withEpochDays = column.withEpochDays();
+		assertTrue(withEpochDays.hasEpochDays());
+		assertSame(withEpochDays, withEpochDays.withEpochDays());
+		for (int i = 0; i < epochMilliseconds.length; i += 7) {
+			assertEquals(epochMilliseconds[i], column.getEpochMilliseconds(i));
+			assertEquals(EpochMath.getEpochDay(epochMilliseconds[i], FIXED), column.getEpochDay(i));
+			assertEquals(EpochMath.getEpochDay(epochMilliseconds[i], FIXED), withEpochDays.getEpochDay(i));
+			assertEquals(Instant.ofEpoch(epochMilliseconds[i]), withEpochDays.get(i));
+		}
+
+		assertThrows(IndexOutOfBoundsException.class, () -> column.getEpochMilliseconds(5000));
+		assertLukashianException(() -> InstantColumn.ofEpoch(new long[] {1, 0}));
+		assertLukashianException(() -> InstantColumn.ofEpoch(new long[] {1, 39001}));
+		assertEquals(0, InstantColumn.ofEpoch(new long[0]).size());
+		assertEquals(new BitSet(), InstantColumn.ofEpoch(new long[0]).betweenEpochMilliseconds(1, 39000));
+	}
+
+	@Test
+	public void testOf() {
+		Day day = Day.ofEpoch(7);
+		List<Instant> instants = List.of(Instant.ofEpoch(1), Instant.of(day, 1), Instant.of(day, BigFraction.of(1, 3)), Instant.ofEpoch(39000));
+		InstantColumn column = InstantColumn.of(instants);
+		assertTrue(column.hasExactProportions());
+		for (int i = 0; i < instants.size(); i++) {
+			assertEquals(instants.get(i).getEpochMilliseconds(), column.getEpochMilliseconds(i));
+			assertEquals(instants.get(i).getProportionOfDay(), column.get(i).getProportionOfDay());
+			assertEquals(instants.get(i), column.get(i));
+		}
+
+		assertFalse(InstantColumn.of(List.of(Instant.ofEpoch(1), Instant.ofEpoch(2))).hasExactProportions());
+		assertLukashianException(() -> InstantColumn.of(List.of(Instant.ofEpoch(1)), EARTH));
+	}
+
+	@Test
+	public void testFilters() {
+		Random random = new Random(2);
+		long[] epochMilliseconds = new long[3000];
+		for (int i = 0; i < epochMilliseconds.length; i++) {
+			epochMilliseconds[i] = i < 1500 ? 1 + i * 3 : 1 + random.nextInt(39000);
+		}
+		InstantColumn column = InstantColumn.ofEpoch(epochMilliseconds);
+
+		for (int epochDay = 1; epochDay <= 18; epochDay++) {
+			Day day = Day.ofEpoch(epochDay);
+			assertEquals(this.bruteForce(epochMilliseconds, day.getEpochMillisecondsAtStartOfDay(), day.getEpochMilliseconds()), column.inDay(day));
+		}
+		for (int yearNumber = 1; yearNumber <= 8; yearNumber++) {
+			Year year = Year.of(yearNumber);
+			assertEquals(this.bruteForce(epochMilliseconds, year.getEpochMillisecondsAtStartOfYear(), year.getEpochMilliseconds()), column.inYear(year));
+		}
+		assertEquals(this.bruteForce(epochMilliseconds, 1000, 2000), column.between(Instant.ofEpoch(1000), Instant.ofEpoch(2000)));
+		assertEquals(this.bruteForce(epochMilliseconds, 301, 1200), column.in(DayRange.of(Day.ofEpoch(2), Day.ofEpoch(4))));
+		assertEquals(this.bruteForce(epochMilliseconds, 1, 39000), column.betweenEpochMilliseconds(Long.MIN_VALUE, Long.MAX_VALUE));
+		assertEquals(new BitSet(), column.betweenEpochMilliseconds(2000, 1000));
+
+		for (int i = 0; i < 100; i++) {
+			long start = random.nextInt(40000);
+			long end = start + random.nextInt(3000);
+			assertEquals(this.bruteForce(epochMilliseconds, start, end), column.betweenEpochMilliseconds(start, end));
+		}
+
+		assertLukashianException(() -> column.inDay(Day.ofEpoch(1, EARTH)));
+	}
+
+	private BitSet bruteForce(long[] epochMilliseconds, long startInclusive, long endInclusive) {
+		BitSet expected = new BitSet();
+		for (int i = 0; i < epochMilliseconds.length; i++) {
+			if (epochMilliseconds[i] >= startInclusive && epochMilliseconds[i] <= endInclusive) {
+				expected.set(i);
+			}
+		}
+		return expected;
+	}
+}
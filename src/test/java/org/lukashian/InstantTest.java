@@ -59,6 +59,7 @@ import org.lukashian.store.MillisecondStoreDataProvider;
 import org.lukashian.store.TestMillisecondStoreDataProvider;
 
 import java.lang.reflect.Field;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.lukashian.LukashianAssert.*;
@@ -140,6 +141,28 @@ public class InstantTest {
 		assertInstant(250, TEST, instant.plusMilliseconds(-200));
 	}
 
+	@Test
+	public void testPlusMilliseconds_AroundDayBoundaries() {
+		Instant instant = Instant.ofEpoch(450, TEST);
+
+		assertSame(instant.getDay(), instant.plusMilliseconds(150).getDay());
+		assertSame(instant.getDay(), instant.plusMilliseconds(-149).getDay());
+		assertInstant(600, TEST, instant.plusMilliseconds(150));
+		assertInstant(601, TEST, instant.plusMilliseconds(151));
+		assertInstant(900, TEST, instant.plusMilliseconds(450));
+		assertInstant(901, TEST, instant.plusMilliseconds(451));
+		assertInstant(301, TEST, instant.plusMilliseconds(-149));
+		assertInstant(300, TEST, instant.plusMilliseconds(-150));
+		assertInstant(1, TEST, instant.plusMilliseconds(-449));
+		assertDay(4, TEST, instant.plusMilliseconds(451).getDay());
+		assertDay(1, TEST, instant.plusMilliseconds(-150).getDay());
+
+		Instant last = Instant.ofEpoch(39000, TEST);
+		assertLukashianException(() -> last.plusMilliseconds(1));
+		assertInstant(4900, TEST, last.minusMilliseconds(34100));
+		assertDay(17, TEST, last.minusMilliseconds(34100).getDay());
+	}
+
 	@Test
 	public void testPlusSeconds() {
 		assertInstant(3000, TEST, Instant.ofEpoch(2000, TEST).plusSeconds(1));
@@ -382,6 +405,7 @@ public class InstantTest {
 
 	@Test
 	public void testToCalendar() {
+		MillisecondStore.store().clearData(TEST); //The time that is now is only supported for a few seconds after TEST has been loaded
 		MillisecondStoreDataProvider oneSecondBehind = new TestMillisecondStoreDataProvider() {
 			@Override
 			public long loadUnixEpochOffsetMilliseconds() {
@@ -406,6 +430,37 @@ public class InstantTest {
 		assertEquals(TEST + 1, oneSecondBehindInstant.getCalendarKey());
 	}
 
+	@Test
+	public void testRangeTo() {
+		Instant start = Instant.of(Day.ofEpoch(1, TEST), 0);
+
+		List<Instant> instants = start.rangeTo(Instant.of(Day.ofEpoch(2, TEST), 5000), 2500).toList();
+		assertEquals(7, instants.size());
+		for (int i = 0; i < instants.size(); i++) {
+			assertEquals(start.plusBeeps(i * 2500), instants.get(i));
+		}
+		assertEquals(6, start.rangeTo(Instant.of(Day.ofEpoch(2, TEST), 4999), 2500).count());
+		assertEquals(1, start.rangeTo(start, 2500).count());
+		assertEquals(34, start.rangeTo(start, 1).count()); //A beep of the test calendar lasts 0.03 milliseconds, so the first 34 steps are within the same millisecond
+		assertEquals(0, Instant.of(Day.ofEpoch(2, TEST), 0).rangeTo(start, 1).count());
+
+		Instant nearEnd = Instant.of(Day.ofEpoch(17, TEST), 0);
+		assertEquals(4, nearEnd.rangeTo(Day.ofEpoch(18, TEST).lastInstant(), 5000).count());
+
+		List<Instant> sequential = Instant.of(Day.ofEpoch(3, TEST), 1234).rangeTo(Instant.of(Day.ofEpoch(9, TEST), 777), 333).toList();
+		assertEquals(sequential, Instant.of(Day.ofEpoch(3, TEST), 1234).rangeTo(Instant.of(Day.ofEpoch(9, TEST), 777), 333).parallel().toList());
+		assertTrue(sequential.get(sequential.size() - 1).isSameOrBefore(Instant.of(Day.ofEpoch(9, TEST), 777)));
+
+		Instant earthStart = Instant.of(Day.ofEpoch(1, EARTH), 0);
+		Instant earthEnd = Instant.of(Day.ofEpoch(250001, EARTH), 0); //More steps of 1 beep than fit in an int
+		assertEquals(2500000001L, earthStart.rangeTo(earthEnd, 1).count());
+		assertEquals(833333334L, earthStart.rangeTo(earthEnd, 3).count());
+		assertEquals(250001L, earthStart.rangeTo(earthEnd, 10000).count());
+
+		assertLukashianException(() -> start.rangeTo(start, 0));
+		assertLukashianException(() -> start.rangeTo(Instant.of(Day.ofEpoch(2, EARTH), 0), 1));
+	}
+
 	@Test
 	public void testDifferenceWith() {
 		assertEquals(0, Instant.ofEpoch(1, TEST).differenceWith(Instant.ofEpoch(1, TEST)));
@@ -474,6 +529,28 @@ public class InstantTest {
 		assertEquals(EARTH, Instant.ofJavaInstant(java.time.Instant.now(), EARTH).getCalendarKey());
 	}
 
+	@Test
+	public void testTryOfEpoch() {
+		assertFalse(Instant.tryOfEpoch(0, TEST).isPresent());
+		assertFalse(Instant.tryOfEpoch(-1).isPresent());
+		assertInstant(1, TEST, Instant.tryOfEpoch(1).orElseThrow());
+		assertInstant(39000, TEST, Instant.tryOfEpoch(39000, TEST).orElseThrow());
+		assertFalse(Instant.tryOfEpoch(39001, TEST).isPresent());
+		assertFalse(Instant.tryOfEpoch(Long.MAX_VALUE, TEST).isPresent());
+	}
+
+	@Test
+	public void testTryOfUnixEpochMilliseconds() {
+		long unixEpochMilliseconds = Instant.ofEpoch(1, TEST).getUnixEpochMilliseconds();
+
+		assertFalse(Instant.tryOfUnixEpochMilliseconds(unixEpochMilliseconds - 1, TEST).isPresent());
+		assertInstant(1, TEST, Instant.tryOfUnixEpochMilliseconds(unixEpochMilliseconds).orElseThrow());
+		assertInstant(39000, TEST, Instant.tryOfUnixEpochMilliseconds(unixEpochMilliseconds + 38999, TEST).orElseThrow());
+		assertFalse(Instant.tryOfUnixEpochMilliseconds(unixEpochMilliseconds + 39000, TEST).isPresent());
+		assertFalse(Instant.tryOfUnixEpochMilliseconds(Long.MAX_VALUE, TEST).isPresent());
+		assertFalse(Instant.tryOfUnixEpochMilliseconds(Long.MIN_VALUE, TEST).isPresent());
+	}
+
 	@Test
 	public void testOfUnixEpochMilliseconds() {
 		assertNotNull(Instant.ofUnixEpochMilliseconds(System.currentTimeMillis()));
@@ -486,6 +563,7 @@ public class InstantTest {
 
 	@Test
 	public void testNow() {
+		MillisecondStore.store().clearData(TEST); //The time that is now is only supported for a few seconds after TEST has been loaded
 		assertEquals(TEST, Instant.now().getCalendarKey());
 		assertEquals(EARTH, Instant.now(EARTH).getCalendarKey());
 	}
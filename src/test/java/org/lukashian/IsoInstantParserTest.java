@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lukashian.LukashianAssert.assertLukashianException;
+import static org.lukashian.store.CalendarKeys.EARTH;
+
+/**
+ * Unit tests for the {@link IsoInstantParser} class.
+ */
+public class IsoInstantParserTest {
+
+	private final IsoInstantParser parser = IsoInstantParser.of(EARTH);
+
+	@Test
+	public void testGetUnixEpochDay() {
+		for (LocalDate date = LocalDate.of(-801, 1, 1); date.getYear() < 2801; date = date.plusDays(13)) {
+			assertEquals(date.toEpochDay(), IsoInstantParser.getUnixEpochDay(date.getYear(), date.getMonthValue(), date.getDayOfMonth()));
+		}
+	}
+
+	@Test
+	public void testParseEpochMilliseconds() {
+		Random random = new Random(44);
+		for (int i = 0; i < 2000; i++) {
+			long unixEpochMilliseconds = random.nextLong(2_500_000_000_000L);
+			ZoneOffset offset = ZoneOffset.ofTotalSeconds(random.nextInt(-18 * 60, 18 * 60 + 1) * 60);
+			String text = OffsetDateTime.ofInstant(java.time.Instant.ofEpochMilli(unixEpochMilliseconds), offset).toString();
+
+			long expected = Instant.ofJavaInstant(OffsetDateTime.parse(text).toInstant(), EARTH).getEpochMilliseconds();
+			assertEquals(expected, parser.parseEpochMilliseconds(text, 0, text.length()), text);
+			assertEquals(expected, parser.parseEpochMilliseconds(text.toCharArray(), 0, text.length()), text);
+		}
+
+		long expected = EpochMath.getLukashianEpochMilliseconds(1_700_000_000_123L, EARTH);
+		for (String text : new String[] {"2023-11-14T22:13:20.123Z", "2023-11-14t22:13:20.123456789z", "2023-11-14 23:13:20,1239+01:00", "2023-11-14T20:43:20.123-0130", "2023-11-15T00:13:20.123+02"}) {
+			assertEquals(expected, parser.parseEpochMilliseconds(text.getBytes(StandardCharsets.US_ASCII), 0, text.length()), text);
+		}
+		assertEquals(expected - 123, parser.parseEpochMilliseconds("2023-11-14T22:13:20Z", 0, 20));
+		assertEquals(expected - 20_123, parser.parseEpochMilliseconds("2023-11-14T22:13Z", 0, 17));
+		assertEquals(expected - 20_023, parser.parseEpochMilliseconds("2023-11-14T22:13:00.1Z", 0, 22));
+	}
+
+	@Test
+	public void testParseEpochMilliseconds_Invalid() {
+		for (String text : new String[] {"", "2023-11-14", "2023-11-14T22:13", "2023-11-14T22:13:20", "2023-11-14T22:13:20.Z", "2023-11-14T22:13:20.1234567890Z",
+										 "2023-13-14T22:13:20Z", "2023-02-29T22:13:20Z", "2023-11-31T22:13:20Z", "2023-11-14T24:00:00Z", "2023-11-14T22:60:20Z",
+										 "2023-11-14T22:13:61Z", "2023-11-14T22:13:20+19:00", "2023-11-14T22:13:20+01:60", "2023-11-14T22:13:20+1", "2023-11-14X22:13:20Z",
+										 "2023/11/14T22:13:20Z", "2023-11-14T22:13:20Z ", "2023-11-14T22:13:2xZ", "-023-11-14T22:13:20Z", "2015-12-31T23:59:60Z",
+										 "2016-12-31T23:58:60Z"}) {
+			assertEquals(0, parser.parseEpochMilliseconds(text, 0, text.length()), text);
+		}
+		assertLukashianException(() -> parser.parseInstant("2023-11-14T22:13:20"));
+		assertThrows(IndexOutOfBoundsException.class, () -> parser.parseEpochMilliseconds("2023-11-14T22:13:20Z", 0, 21));
+	}
+
+	@Test
+	public void testParseEpochMilliseconds_LeapSecond() {
+		long midnight = EpochMath.getLukashianEpochMilliseconds(LocalDate.of(2017, 1, 1).toEpochDay() * 86_400_000L, EARTH);
+		assertEquals(midnight - 2000, parser.parseEpochMilliseconds("2016-12-31T23:59:59Z", 0, 20));
+		assertEquals(midnight - 1000, parser.parseEpochMilliseconds("2016-12-31T23:59:60Z", 0, 20));
+		assertEquals(midnight - 500, parser.parseEpochMilliseconds("2016-12-31T23:59:60.5Z", 0, 22));
+		assertEquals(midnight - 1000, parser.parseEpochMilliseconds("2017-01-01T00:59:60+01:00", 0, 25));
+		assertEquals(midnight, parser.parseInstant("2017-01-01T00:00:00Z").getEpochMilliseconds());
+	}
+
+	@Test
+	public void testParse() {
+		String column = "2016-12-31T23:59:59Z\n2016-12-31T23:59:60.5Z\ninvalid\n2023-11-14T22:13:20.123Z\n2015-12-31T23:59:60Z\n";
+		long[] epochMilliseconds = new long[6];
+		int[] epochDays = new int[6];
+		int[] beeps = new int[6];
+		BitSet errors = new BitSet();
+		assertEquals(5, parser.parse(column.getBytes(StandardCharsets.US_ASCII), 0, column.length(), '\n', epochMilliseconds, epochDays, beeps, 1, errors));
+
+		assertEquals(BitSet.valueOf(new long[] {0b10100}), errors);
+		assertEquals(0, epochMilliseconds[0]);
+		for (int i = 0; i < 5; i++) {
+			String text = column.split("\n")[i];
+			long expected = parser.parseEpochMilliseconds(text, 0, text.length());
+			assertEquals(expected, epochMilliseconds[1 + i]);
+			assertEquals(expected == 0 ? 0 : EpochMath.getEpochDay(expected, EARTH), epochDays[1 + i]);
+			assertEquals(expected == 0 ? 0 : EpochMath.getBeeps(expected, EARTH), beeps[1 + i]);
+		}
+
+		errors.clear();
+		assertEquals(2, parser.parse("x,y", 0, 3, ',', epochMilliseconds, null, null, 0, errors));
+		assertEquals(BitSet.valueOf(new long[] {0b11}), errors);
+		assertEquals(0, epochMilliseconds[1]);
+		assertThrows(IndexOutOfBoundsException.class, () -> parser.parse("x,y".toCharArray(), 0, 3, ',', new long[1], null, null, 0, new BitSet()));
+	}
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import org.apache.commons.numbers.fraction.BigFraction;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.lukashian.Formatter.DayFormat;
+import org.lukashian.JsonReader.Token;
+import org.lukashian.JsonWriter.Form;
+import org.lukashian.store.FixedOffsetMillisecondStoreDataProvider;
+import org.lukashian.store.MillisecondStore;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lukashian.store.FixedOffsetMillisecondStoreDataProvider.FIXED;
+
+/**
+ * Unit tests for the {@link JsonReader} class.
+ */
+public class JsonReaderTest {
+
+	@BeforeAll
+	public static void setUp() {
+		MillisecondStore.store().registerProvider(FIXED, new FixedOffsetMillisecondStoreDataProvider());
+		MillisecondStore.store().setDefaultCalendarKey(FIXED);
+	}
+
+	@Test
+	public void testTokens() {
+		JsonReader reader = reader(" { \"a\" : [1, -2, 3.5e2, \"x\\\"\\u00e9\\n\", \"é\uD83D\uDE00\", true, false, null, {\"b\": [[]]}], \"c\": 12345678901234567890123 } ");
+		assertEquals(Token.BEGIN_OBJECT, reader.peek());
+		reader.beginObject();
+		assertEquals("a", reader.nextName());
+		reader.beginArray();
+		assertEquals(1, reader.nextLong());
+		assertEquals(-2, reader.nextLong());
+		assertEquals(Token.NUMBER, reader.peek());
+		reader.skipValue();
+		assertEquals("x\"é\n", reader.nextString());
+		assertEquals("é\uD83D\uDE00", reader.nextString());
+		assertTrue(reader.nextBoolean());
+		assertFalse(reader.nextBoolean());
+		reader.nextNull();
+		reader.skipValue();
+		assertFalse(reader.hasNext());
+		reader.endArray();
+		assertEquals("c", reader.nextName());
+		assertEquals(new BigInteger("12345678901234567890123"), reader.nextBigInteger());
+		reader.endObject();
+		assertEquals(Token.END_DOCUMENT, reader.peek());
+	}
+
+	@Test
+	public void testCalendarObjects() {
+		JsonReader reader = reader("[1900, \"2-3 3300\", {\"denominator\": 3, \"x\": [1], \"epochDay\": 7, \"numerator\": 1}, null, 7, \"2-3\", 2, \"2\"]");
+		reader.beginArray();
+		assertEquals(Instant.ofEpoch(1900), reader.nextInstant());
+		Instant beeps = reader.nextInstant();
+		assertEquals(BigFraction.of(33, 100), beeps.getProportionOfDay());
+		Instant third = reader.nextInstant();
+		assertEquals(Day.ofEpoch(7), third.getDay());
+		assertEquals(BigFraction.of(1, 3), third.getProportionOfDay());
+		assertNull(reader.nextInstant());
+		assertEquals(Day.ofEpoch(7), reader.nextDay());
+		assertEquals(Day.ofEpoch(7), reader.nextDay());
+		assertEquals(Year.of(2), reader.nextYear());
+		assertEquals(Year.of(2), reader.nextYear());
+		reader.endArray();
+
+		reader = reader("[{\"epochDay\": 7, \"numerator\": 100000000000000000000, \"denominator\": 300000000000000000000}, {\"epochDay\": 7, \"numerator\": 1, \"denominator\": 3}]");
+		long[] epochMilliseconds = new long[2];
+		reader.beginArray();
+		assertEquals(2, reader.nextEpochMilliseconds(epochMilliseconds, 0, 2));
+		reader.endArray();
+		assertArrayEquals(new long[] {third.getEpochMilliseconds(), third.getEpochMilliseconds()}, epochMilliseconds);
+	}
+
+	@Test
+	public void testRoundTrip() throws IOException {
+		Random random = new Random(47);
+		long[] epochMilliseconds = new long[1500];
+		int[] epochDays = new int[1500];
+		for (int i = 0; i < epochMilliseconds.length; i++) {
+			epochMilliseconds[i] = i < 1000 ? 1 + i * 39 : 1 + random.nextInt(39000);
+			epochDays[i] = 1 + random.nextInt(18);
+		}
+
+		for (Form form : Form.values()) {
+			for (DayFormat dayFormat : new DayFormat[] {DayFormat.EPOCH, DayFormat.YEAR_FIRST, DayFormat.DAY_FIRST}) {
+				ByteArrayOutputStream target = new ByteArrayOutputStream();
+				try (JsonWriter writer = form == Form.FORMATTED ? JsonWriter.of(target, dayFormat, "::") : JsonWriter.of(target, form)) {
+					writer.beginObject().name("instants").instants(epochMilliseconds, FIXED).name("days").days(epochDays, FIXED).endObject();
+				}
+				byte[] bytes = target.toByteArray();
+
+				for (ByteBuffer source : new ByteBuffer[] {ByteBuffer.wrap(bytes), ByteBuffer.allocateDirect(bytes.length).put(bytes).flip()}) {
+					JsonReader reader = JsonReader.of(source, dayFormat, "::", FIXED);
+					long[] readEpochMilliseconds = new long[epochMilliseconds.length];
+					int[] readEpochDays = new int[epochDays.length];
+
+					reader.beginObject();
+					assertEquals("instants", reader.nextName());
+					reader.beginArray();
+					int count = 0;
+					while (reader.hasNext()) { //Read in parts
+						count += reader.nextEpochMilliseconds(readEpochMilliseconds, count, Math.min(999, readEpochMilliseconds.length - count));
+					}
+					reader.endArray();
+					assertEquals("days", reader.nextName());
+					reader.beginArray();
+					assertEquals(epochDays.length, reader.nextEpochDays(readEpochDays, 0, readEpochDays.length));
+					reader.endArray();
+					reader.endObject();
+
+					assertEquals(epochMilliseconds.length, count);
+					assertEquals(form == Form.FORMATTED ? expectedFromBeeps(epochMilliseconds) : Arrays.toString(epochMilliseconds), Arrays.toString(readEpochMilliseconds));
+					assertArrayEquals(epochDays, readEpochDays);
+					assertEquals(bytes.length, source.position());
+
+					source.rewind();
+					reader = JsonReader.of(source, dayFormat, "::", FIXED);
+					reader.beginObject();
+					reader.nextName();
+					List<Instant> instants = reader.nextInstants();
+					reader.nextName();
+					List<Day> days = reader.nextDays();
+					for (int i = 0; i < epochMilliseconds.length; i++) {
+						assertEquals(readEpochMilliseconds[i], instants.get(i).getEpochMilliseconds());
+						assertEquals(epochDays[i], days.get(i).getEpochDay());
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testMalformed() {
+		for (String text : new String[] {"", "[1,]", "[1 2]", "{\"a\" 1}", "{\"a\":1,}", "[1", "\"abc", "1 2", "[1.5]", "[01x]", "{1:2}", "[tru]", "[\"\\x\"]", "[99999999999999999999]"}) {
+			assertThrows(LukashianException.class, () -> {
+				JsonReader reader = reader(text);
+				reader.skipValue();
+				assertEquals(Token.END_DOCUMENT, reader.peek());
+				reader = reader(text);
+				reader.beginArray();
+				reader.nextLong();
+			}, text);
+		}
+
+		assertThrows(LukashianException.class, () -> reader("[0]").nextInstants());
+		assertThrows(LukashianException.class, () -> reader("[39001]").nextEpochMilliseconds(new long[1], 0, 1));
+		assertThrows(LukashianException.class, () -> reader("[\"2-3 33\"]").nextEpochMilliseconds(new long[1], 0, 1));
+		assertThrows(LukashianException.class, () -> reader("[{\"epochDay\": 7, \"numerator\": 3, \"denominator\": 3}]").nextEpochMilliseconds(new long[1], 0, 1));
+		assertThrows(LukashianException.class, () -> reader("[{\"epochDay\": 7, \"numerator\": 1}]").nextInstants());
+		assertThrows(LukashianException.class, () -> reader("[19]").nextDays());
+		assertThrows(LukashianException.class, () -> reader("[true]").nextYears());
+
+		for (String text : new String[] {"-", "[-]", "[-,1]", "{\"epochDay\": 7, \"numerator\": -, \"denominator\": 3}"}) { //A sign without digits
+			assertThrows(LukashianException.class, () -> {
+				JsonReader reader = reader(text);
+				if (reader.peek() == Token.BEGIN_ARRAY) {
+					reader.beginArray();
+				}
+				reader.nextBigInteger();
+			}, text);
+		}
+		assertThrows(LukashianException.class, () -> reader("[{\"epochDay\": 7, \"numerator\": -, \"denominator\": 3}]").nextInstants());
+	}
+
+	private static String expectedFromBeeps(long[] epochMilliseconds) {
+		long[] expected = new long[epochMilliseconds.length];
+		for (int i = 0; i < expected.length; i++) {
+			Instant instant = Instant.ofEpoch(epochMilliseconds[i]);
+			expected[i] = Instant.of(instant.getDay(), instant.getBeeps()).getEpochMilliseconds();
+		}
+		return Arrays.toString(expected);
+	}
+
+	private static JsonReader reader(String text) {
+		return JsonReader.of(ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8)));
+	}
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import org.apache.commons.numbers.fraction.BigFraction;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.lukashian.Formatter.DayFormat;
+import org.lukashian.JsonWriter.Form;
+import org.lukashian.store.FixedOffsetMillisecondStoreDataProvider;
+import org.lukashian.store.MillisecondStore;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lukashian.store.FixedOffsetMillisecondStoreDataProvider.FIXED;
+
+/**
+ * Unit tests for the {@link JsonWriter} class.
+ */
+public class JsonWriterTest {
+
+	@BeforeAll
+	public static void setUp() {
+		MillisecondStore.store().registerProvider(FIXED, new FixedOffsetMillisecondStoreDataProvider());
+		MillisecondStore.store().setDefaultCalendarKey(FIXED);
+	}
+
+	@Test
+	public void testValues() throws IOException {
+		Instant third = Instant.of(Day.ofEpoch(7), BigFraction.of(1, 3));
+		Instant instant = Instant.ofEpoch(1900);
+
+		assertEquals("[1900,1901,7,2,null]", write(Form.EPOCH, writer -> writer.beginArray().value(instant).value(third).value(Day.ofEpoch(7)).value(Year.of(2)).value((Instant) null).endArray()));
+		assertEquals("[{\"epochDay\":7,\"numerator\":33,\"denominator\":100},{\"epochDay\":7,\"numerator\":1,\"denominator\":3},7,2]",
+				write(Form.EXACT, writer -> writer.beginArray().value(instant).value(third).value(Day.ofEpoch(7)).value(Year.of(2)).endArray()));
+		assertEquals("[\"2-3 3300\",\"2-3 3333\",\"2-3\",2]", write(Form.FORMATTED, writer -> writer.beginArray().value(instant).value(third).value(Day.ofEpoch(7)).value(Year.of(2)).endArray()));
+
+		StringWriter target = new StringWriter();
+		try (JsonWriter writer = JsonWriter.of(target, DayFormat.DAY_FIRST, "/")) {
+			writer.beginObject().name("instant").value(instant).name("day").value(Day.ofEpoch(7)).endObject();
+		}
+		assertEquals("{\"instant\":\"3/2 3300\",\"day\":\"3/2\"}", target.toString());
+
+		assertEquals("{\"s\":\"a\\\"\\\\\\n\\u0001é\uD83D\uDE00\\ud800\",\"b\":true,\"n\":null,\"l\":-9223372036854775808,\"i\":123456789012345678901234567890,\"e\":[],\"o\":{}}",
+				write(Form.EPOCH, writer -> writer.beginObject().name("s").value("a\"\\\n\u0001é\uD83D\uDE00\uD800").name("b").value(true).name("n").nullValue().name("l").value(Long.MIN_VALUE)
+						.name("i").value(new BigInteger("123456789012345678901234567890")).name("e").beginArray().endArray().name("o").beginObject().endObject().endObject()));
+	}
+
+	@Test
+	public void testValues_Columns() throws IOException {
+		Random random = new Random(47);
+		long[] epochMilliseconds = new long[1500];
+		int[] epochDays = new int[1500];
+		List<Instant> instants = new ArrayList<>();
+		List<Day> days = new ArrayList<>();
+		for (int i = 0; i < epochMilliseconds.length; i++) {
+			epochMilliseconds[i] = i < 1000 ? 1 + i * 39 : 1 + random.nextInt(39000);
+			epochDays[i] = 1 + random.nextInt(18);
+			instants.add(Instant.ofEpoch(epochMilliseconds[i]));
+			days.add(Day.ofEpoch(epochDays[i]));
+		}
+
+		for (Form form : Form.values()) {
+			String expected = write(form, writer -> writer.beginArray().instants(instants).days(days).years(List.of(Year.of(1), Year.of(2))).endArray());
+			assertEquals(expected, write(form, writer -> writer.beginArray().instants(epochMilliseconds, FIXED).days(epochDays, FIXED).years(List.of(Year.of(1), Year.of(2))).endArray()));
+
+			ByteArrayOutputStream target = new ByteArrayOutputStream();
+			try (JsonWriter writer = JsonWriter.of(target, form)) {
+				writer.beginArray().instants(epochMilliseconds, FIXED).days(epochDays, FIXED).years(List.of(Year.of(1), Year.of(2))).endArray();
+			}
+			assertEquals(expected, target.toString(StandardCharsets.UTF_8));
+		}
+
+		assertEquals("[[1,2],[]]", write(Form.EPOCH, writer -> writer.beginArray().instants(new long[] {0, 1, 2, 0}, 1, 2, FIXED).days(new int[0], FIXED).endArray()));
+		assertThrows(LukashianException.class, () -> write(Form.EPOCH, writer -> writer.instants(new long[] {1, 39001}, FIXED)));
+		assertThrows(LukashianException.class, () -> write(Form.EXACT, writer -> writer.instants(new long[] {0, 1}, FIXED)));
+		assertThrows(LukashianException.class, () -> write(Form.FORMATTED, writer -> writer.days(new int[] {1, 0}, FIXED)));
+		assertThrows(IndexOutOfBoundsException.class, () -> write(Form.EPOCH, writer -> writer.instants(new long[2], 1, 2, FIXED)));
+	}
+
+	@Test
+	public void testValues_LongText() throws IOException {
+		String text = "é".repeat(5000) + "\uD83D\uDE00".repeat(3000);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (JsonWriter writer = JsonWriter.of(bytes, Form.EPOCH)) {
+			writer.value(text);
+		}
+		assertEquals("\"" + text + "\"", bytes.toString(StandardCharsets.UTF_8));
+		assertEquals("\"" + text + "\"", write(Form.EPOCH, writer -> writer.value(text)));
+	}
+
+	@Test
+	public void testMalformed() {
+		assertThrows(LukashianException.class, () -> write(Form.EPOCH, writer -> writer.name("a")));
+		assertThrows(LukashianException.class, () -> write(Form.EPOCH, writer -> writer.beginObject().value(1)));
+		assertThrows(LukashianException.class, () -> write(Form.EPOCH, writer -> writer.beginObject().name("a").name("b")));
+		assertThrows(LukashianException.class, () -> write(Form.EPOCH, writer -> writer.beginObject().name("a").endObject()));
+		assertThrows(LukashianException.class, () -> write(Form.EPOCH, writer -> writer.beginObject().endArray()));
+		assertThrows(LukashianException.class, () -> write(Form.EPOCH, writer -> writer.beginArray().endObject()));
+		assertThrows(LukashianException.class, () -> write(Form.EPOCH, writer -> writer.value(1).value(2)));
+		assertThrows(LukashianException.class, () -> write(Form.EPOCH, JsonWriter::endArray));
+		assertThrows(LukashianException.class, () -> JsonWriter.of(new StringWriter(), DayFormat.YEAR_FIRST, "\""));
+		assertThrows(LukashianException.class, () -> JsonWriter.of(new StringWriter(), DayFormat.YEAR_FIRST, "–"));
+	}
+
+	private static String write(Form form, Writing writing) throws IOException {
+		StringWriter target = new StringWriter();
+		try (JsonWriter writer = JsonWriter.of(target, form)) {
+			writing.write(writer);
+		}
+		return target.toString();
+	}
+
+	private interface Writing {
+		void write(JsonWriter writer) throws IOException;
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import org.apache.commons.numbers.fraction.BigFraction;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.lukashian.store.FixedOffsetMillisecondStoreDataProvider;
+import org.lukashian.store.MillisecondStore;
+
+import java.time.InstantSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lukashian.LukashianAssert.assertLukashianException;
+import static org.lukashian.store.FixedOffsetMillisecondStoreDataProvider.FIXED;
+import static org.lukashian.store.MillisecondStore.data;
+
+/**
+ * Unit tests for the {@link LukashianClock} class.
+ */
+public class LukashianClockTest {
+
+	private static final long UNIX_OFFSET = 1_790_000_000_000L - 27000; //The difference between the UNIX time and the epoch milliseconds of the FIXED calendar, after 27 leap seconds
+	private static final long LEAP_SECOND = 1_483_228_800_000L; //The midnight after the leap second at the end of 2016, when the 27th leap second is counted
+	private static final int LEAP = FIXED + 4; //A calendar with days of 5000 milliseconds, with the leap second during day 3
+
+	@BeforeAll
+	public static void setUp() {
+		MillisecondStore.store().registerProvider(FIXED, new FixedOffsetMillisecondStoreDataProvider());
+		MillisecondStore.store().registerProvider(LEAP, new FixedOffsetMillisecondStoreDataProvider(12000 - LEAP_SECOND - 27000, 5000));
+		MillisecondStore.store().setDefaultCalendarKey(FIXED);
+	}
+
+	@Test
+	public void testNow() {
+		long[] unixEpochMilliseconds = new long[1];
+		LukashianClock clock = LukashianClock.of(() -> java.time.Instant.ofEpochMilli(unixEpochMilliseconds[0]));
+		assertEquals(FIXED, clock.getCalendarKey());
+
+		for (long epochMilliseconds : new long[] {1, 2, 299, 300, 301, 950, 1000, 1001, 1050, 1200, 1201, 38999, 39000, 1900, 1, 1900}) { //Crosses days and years, forwards and backwards
+			unixEpochMilliseconds[0] = epochMilliseconds + UNIX_OFFSET;
+			Instant expected = Instant.ofEpoch(epochMilliseconds);
+
+			assertEquals(epochMilliseconds, clock.currentEpochMilliseconds());
+			assertEquals(expected, clock.now());
+			assertEquals(expected.getProportionOfDay(), clock.now().getProportionOfDay());
+			assertEquals(expected.getDay(), clock.currentDay());
+			assertEquals(expected.getYear(), clock.currentYear());
+			assertEquals(expected, Instant.now(clock));
+			assertEquals(expected.getDay(), Day.now(clock));
+			assertEquals(expected.getYear(), Year.now(clock));
+		}
+
+		unixEpochMilliseconds[0] = 1900 + UNIX_OFFSET;
+		Day day = clock.currentDay();
+		assertSame(day, clock.currentDay()); //No lookup while the day lasts
+		assertSame(clock.currentYear(), clock.currentYear());
+
+		unixEpochMilliseconds[0] = 39001 + UNIX_OFFSET;
+		assertLukashianException(clock::now);
+		unixEpochMilliseconds[0] = UNIX_OFFSET;
+		assertLukashianException(clock::currentDay);
+		unixEpochMilliseconds[0] = Long.MIN_VALUE;
+		assertLukashianException(clock::currentYear);
+	}
+
+	@Test
+	public void testNow_LeapSecond() {
+		long[] unixEpochMilliseconds = new long[1];
+		LukashianClock clock = LukashianClock.of(() -> java.time.Instant.ofEpochMilli(unixEpochMilliseconds[0]), LEAP);
+
+		for (long unix = LEAP_SECOND - 10000; unix <= LEAP_SECOND + 11000; unix += 250) {
+			unixEpochMilliseconds[0] = unix;
+			long expected = data(LEAP).getLukashianEpochMilliseconds(unix);
+			assertEquals(expected, clock.currentEpochMilliseconds());
+			assertEquals(Instant.ofEpoch(expected, LEAP), clock.now());
+			assertEquals(Day.ofEpoch(data(LEAP).getEpochDayForEpochMilliseconds(expected), LEAP), clock.currentDay());
+		}
+	}
+
+	@Test
+	public void testFixed() {
+		Instant instant = Instant.of(Day.ofEpoch(7), BigFraction.of(1, 3));
+		LukashianClock clock = LukashianClock.fixed(instant);
+		assertEquals(instant, clock.now());
+		assertEquals(instant, clock.now());
+		assertEquals(Day.ofEpoch(7), clock.currentDay());
+		assertEquals(Year.of(2), clock.currentYear());
+
+		assertEquals(FIXED, LukashianClock.system().getCalendarKey());
+		assertEquals(InstantSource.system(), LukashianClock.system(FIXED).getSource());
+		assertThrows(NullPointerException.class, () -> LukashianClock.of(null, FIXED));
+	}
+}
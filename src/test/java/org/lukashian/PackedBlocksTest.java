@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link PackedBlocks} class.
+ */
+public class PackedBlocksTest {
+
+	@Test
+	public void testRoundTrip() {
+		Random random = new Random(4);
+		for (int bits : new int[] {0, 1, 7, 31, 33, 63, 64}) {
+			long[] values = new long[PackedBlocks.BLOCK_SIZE * 2 + 17];
+			for (int i = 0; i < values.length; i++) {
+				values[i] = bits == 64 ? random.nextLong() : -5 + (bits == 0 ? 0 : random.nextLong() >>> (64 - bits));
+			}
+			values[3] = bits == 64 ? Long.MIN_VALUE : values[3];
+			values[4] = bits == 64 ? Long.MAX_VALUE : values[4];
+
+			PackedBlocks blocks = new PackedBlocks(values, 0, values.length);
+			assertEquals(values.length, blocks.size());
+			assertEquals(3, blocks.numberOfBlocks());
+			assertEquals(17, blocks.blockLength(2));
+
+			long[] decoded = new long[values.length];
+			for (int block = 0; block < blocks.numberOfBlocks(); block++) {
+				blocks.decode(block, decoded, block * PackedBlocks.BLOCK_SIZE);
+			}
+			assertArrayEquals(values, decoded, "Bits: " + bits);
+			for (int i = 0; i < values.length; i++) {
+				assertEquals(values[i], blocks.get(i));
+			}
+		}
+	}
+
+	@Test
+	public void testOffsetAndZoneMaps() {
+		long[] values = new long[] {99, 5, 3, 8, 99};
+		PackedBlocks blocks = new PackedBlocks(values, 1, 3);
+		assertEquals(3, blocks.size());
+		assertEquals(3, blocks.minimum(0));
+		assertEquals(8, blocks.maximum(0));
+		assertEquals(5, blocks.get(0));
+		assertEquals(8, blocks.get(2));
+	}
+}
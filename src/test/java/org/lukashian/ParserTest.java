@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import org.apache.commons.numbers.fraction.BigFraction;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.lukashian.Formatter.DayFormat;
+import org.lukashian.store.FixedOffsetMillisecondStoreDataProvider;
+import org.lukashian.store.MillisecondStore;
+
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lukashian.LukashianAssert.assertLukashianException;
+import static org.lukashian.store.FixedOffsetMillisecondStoreDataProvider.FIXED;
+
+/**
+ * Unit tests for the {@link Parser} class.
+ */
+public class ParserTest {
+
+	@BeforeAll
+	public static void setUp() {
+		MillisecondStore.store().registerProvider(FIXED, new FixedOffsetMillisecondStoreDataProvider());
+		MillisecondStore.store().setDefaultCalendarKey(FIXED);
+	}
+
+	@Test
+	public void testParseInstant() {
+		assertEquals(Instant.of(Day.of(2, 3), 3300), Parser.ofInstants().parseInstant("2-3 3300"));
+		assertEquals(Instant.of(Day.of(2, 3), 3301), Parser.ofInstants().parseInstant("0002-003 3301"));
+		assertEquals(Instant.of(Day.of(2, 3), 3300), Parser.ofInstants(DayFormat.DAY_FIRST, "/").parseInstant("3/2 3300"));
+		assertEquals(Instant.of(Day.of(2, 3), 3300), Parser.ofInstants(DayFormat.EPOCH, "/").parseInstant("7 3300"));
+		assertEquals(Instant.of(Day.of(2, 3), 3300), Parser.ofInstants(DayFormat.DAY_ONLY, "/").withDefaultYear(2).parseInstant("3 3300"));
+		assertEquals(Instant.of(Day.of(2, 3), BigFraction.of(3333333, 10000000)), Parser.of(FormatPattern.of("YYYYDDD BBBB.bbb")).parseInstant("0002003 3333.333"));
+
+		Parser parser = Parser.ofInstants();
+		assertLukashianException(() -> parser.parseInstant("2-3"));
+		assertLukashianException(() -> parser.parseInstant("2-3 "));
+		assertLukashianException(() -> parser.parseInstant("2-3 33000"));
+		assertLukashianException(() -> parser.parseInstant("2-3 3300 "));
+		assertLukashianException(() -> parser.parseInstant("2/3 3300"));
+		assertLukashianException(() -> parser.parseInstant("2-4 3300"));
+		assertLukashianException(() -> parser.parseInstant("0-1 3300"));
+		assertLukashianException(() -> parser.parseInstant("2-0 3300"));
+		assertLukashianException(() -> parser.parseInstant("9999999999-1 3300"));
+		assertLukashianException(() -> Parser.ofInstants(DayFormat.EPOCH, "-").parseInstant("19 0000"));
+		assertLukashianException(() -> Parser.of(FormatPattern.of("E Y BBBB")).parseInstant("7 3 3300"));
+		assertEquals(Instant.of(Day.of(2, 3), 3300), Parser.of(FormatPattern.of("E Y BBBB")).parseInstant("7 2 3300"));
+
+		assertLukashianException(() -> Parser.ofDays(DayFormat.YEAR_FIRST, "-").parseInstant("2-3"));
+		assertLukashianException(() -> Parser.ofInstants(DayFormat.DAY_ONLY, "-").parseInstant("3 3300"));
+		assertLukashianException(() -> Parser.of(FormatPattern.of("Y BBBB")));
+		assertLukashianException(() -> Parser.ofDays(DayFormat.DAY_ONLY, "-").withDefaultYear(0));
+	}
+
+	@Test
+	public void testParseDay() {
+		assertEquals(Day.of(2, 3), Parser.ofDays(DayFormat.YEAR_FIRST, "-").parseDay("2-3"));
+		assertEquals(Day.of(2, 3), Parser.ofDays(DayFormat.YEAR_FIRST, "'s ").parseDay("2's 3"));
+		assertEquals(Day.of(2, 3), Parser.ofDays(DayFormat.EPOCH, "-").parseDay("7"));
+		assertEquals(Day.of(2, 3), Parser.ofDays(DayFormat.DAY_ONLY, "-").withDefaultYear(2).parseDay("3"));
+		assertEquals(Day.of(2, 3), Parser.ofInstants().parseDay("2-3 3300"));
+
+		assertLukashianException(() -> Parser.ofInstants().parseDay("2-3 10000"));
+		assertLukashianException(() -> Parser.ofDays(DayFormat.DAY_ONLY, "-").parseDay("3"));
+	}
+
+	@Test
+	public void testRoundTrip() {
+		for (DayFormat dayFormat : new DayFormat[] {DayFormat.EPOCH, DayFormat.YEAR_FIRST, DayFormat.DAY_FIRST}) {
+			Parser instantParser = Parser.ofInstants(dayFormat, "::");
+			Parser dayParser = Parser.ofDays(dayFormat, "::");
+			for (int epochDay = 1; epochDay <= 18; epochDay++) {
+				Day day = Day.ofEpoch(epochDay);
+				assertEquals(day, dayParser.parseDay(Formatter.format(day, dayFormat, "::")));
+				for (int beeps = 0; beeps < 10000; beeps += 37) {
+					Instant instant = Instant.of(day, beeps);
+					String text = Formatter.format(instant, dayFormat, "::");
+					assertEquals(instant, instantParser.parseInstant(text));
+					assertEquals(instant.getEpochMilliseconds(), instantParser.parseEpochMilliseconds(text, 0, text.length()));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testParseEpochMilliseconds() {
+		Parser parser = Parser.ofInstants();
+		long expected = Instant.of(Day.of(2, 3), 3300).getEpochMilliseconds();
+		assertEquals(expected, parser.parseEpochMilliseconds("xx2-3 3300yy", 2, 10));
+		assertEquals(expected, parser.parseEpochMilliseconds("xx2-3 3300yy".toCharArray(), 2, 8));
+		assertEquals(expected, parser.parseEpochMilliseconds("xx2-3 3300yy".getBytes(StandardCharsets.US_ASCII), 2, 8));
+		assertEquals(0, parser.parseEpochMilliseconds("xx2-3 3300yy", 2, 11));
+		assertEquals(0, parser.parseEpochMilliseconds("2-3 33x0", 0, 8));
+		assertEquals(0, parser.parseEpochMilliseconds("2-3 é300".getBytes(StandardCharsets.ISO_8859_1), 0, 8));
+		assertEquals(7, Parser.ofDays(DayFormat.YEAR_FIRST, "-").parseEpochDay("2-3".toCharArray(), 0, 3));
+		assertEquals(0, Parser.ofDays(DayFormat.YEAR_FIRST, "-").parseEpochDay("2-4".getBytes(StandardCharsets.US_ASCII), 0, 3));
+		assertThrows(IndexOutOfBoundsException.class, () -> parser.parseEpochMilliseconds("2-3 3300", 0, 9));
+	}
+
+	@Test
+	public void testParseColumn() {
+		String column = "2-3 3300\n2-3 0000\ninvalid\n\n18-1 9999\n";
+		long[] epochMilliseconds = new long[6];
+		BitSet errors = new BitSet();
+		assertEquals(5, Parser.ofInstants().parseEpochMilliseconds(column.getBytes(StandardCharsets.US_ASCII), 0, column.length(), '\n', epochMilliseconds, 1, errors));
+		assertArrayEquals(new long[] {0, 1900, 1801, 0, 0, 0}, epochMilliseconds);
+		assertEquals(BitSet.valueOf(new long[] {0b11100}), errors);
+
+		int[] epochDays = new int[3];
+		errors.clear();
+		assertEquals(3, Parser.ofDays(DayFormat.EPOCH, "-").parseEpochDays("7,19,18".toCharArray(), 0, 7, ',', epochDays, 0, errors));
+		assertArrayEquals(new int[] {7, 0, 18}, epochDays);
+		assertEquals(BitSet.valueOf(new long[] {0b10}), errors);
+		assertEquals(3, Parser.ofDays(DayFormat.EPOCH, "-").parseEpochDays("7,19,18", 0, 7, ',', epochDays, 0, errors));
+
+		assertThrows(IndexOutOfBoundsException.class, () -> Parser.ofInstants().parseEpochMilliseconds("2-3 3300,2-3 3300", 0, 17, ',', new long[1], 0, new BitSet()));
+		assertLukashianException(() -> Parser.ofDays(DayFormat.EPOCH, "-").parseEpochMilliseconds("7", 0, 1, ',', new long[1], 0, new BitSet()));
+	}
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.lukashian.store.FixedOffsetMillisecondStoreDataProvider;
+import org.lukashian.store.MillisecondStore;
+
+import java.util.Optional;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lukashian.LukashianAssert.assertLukashianException;
+import static org.lukashian.store.FixedOffsetMillisecondStoreDataProvider.FIXED;
+
+/**
+ * Unit tests for the {@link Schedule} class.
+ */
+public class ScheduleTest {
+
+	@BeforeAll
+	public static void setUp() {
+		MillisecondStore.store().registerProvider(FIXED, new FixedOffsetMillisecondStoreDataProvider());
+		MillisecondStore.store().setDefaultCalendarKey(FIXED);
+	}
+
+	@Test
+	public void testNextEpochMilliseconds() {
+		assertEquals(301, Schedule.everyDay().nextEpochMilliseconds(1, FIXED));
+		assertEquals(301, Schedule.everyDay().nextEpochMilliseconds(300, FIXED));
+		assertEquals(601, Schedule.everyDay().nextEpochMilliseconds(301, FIXED));
+		assertEquals(0, Schedule.everyDay().nextEpochMilliseconds(4901, FIXED)); //The final day
+
+		assertEquals(151, Schedule.everyDayAt(5000).nextEpochMilliseconds(1, FIXED));
+		assertEquals(451, Schedule.everyDayAt(5000).nextEpochMilliseconds(151, FIXED));
+
+		assertEquals(76, Schedule.everyBeeps(2500).nextEpochMilliseconds(1, FIXED));
+		assertEquals(151, Schedule.everyBeeps(2500).nextEpochMilliseconds(76, FIXED));
+		assertEquals(301, Schedule.everyBeeps(2500).nextEpochMilliseconds(226, FIXED));
+		assertEquals(301, Schedule.everyBeeps(10000).nextEpochMilliseconds(1, FIXED));
+
+		assertEquals(Day.of(1, 2).getEpochMillisecondsPreviousDay() + 1, Schedule.everyYearAt(2, 0).nextEpochMilliseconds(1, FIXED));
+		assertEquals(Day.of(2, 2).getEpochMillisecondsPreviousDay() + 1, Schedule.everyYearAt(2, 0).nextEpochMilliseconds(Day.of(1, 2).getEpochMillisecondsPreviousDay() + 1, FIXED));
+		assertEquals(0, Schedule.everyYearAt(100, 0).nextEpochMilliseconds(1, FIXED));
+
+		assertEquals(Optional.of(Instant.ofEpoch(151)), Schedule.everyDayAt(5000).next(Instant.ofEpoch(1)));
+		assertEquals(Optional.empty(), Schedule.everyDay().next(Instant.ofEpoch(39000)));
+
+		assertLukashianException(() -> Schedule.everyDay().nextEpochMilliseconds(0, FIXED));
+		assertLukashianException(() -> Schedule.everyDay().nextEpochMilliseconds(39001, FIXED));
+		assertLukashianException(() -> Schedule.everyDayAt(10000));
+		assertLukashianException(() -> Schedule.everyBeeps(0));
+		assertLukashianException(() -> Schedule.everyBeeps(10001));
+		assertLukashianException(() -> Schedule.everyYearAt(0, 0));
+		assertLukashianException(() -> Schedule.everyYearAt(1, -1));
+	}
+
+	@Test
+	public void testNextEpochMilliseconds_SameAsAllTimes() {
+		//All times at which the schedules fire, from the beeps of every millisecond of the calendar
+		TreeSet<Long> everyDayAt = new TreeSet<>();
+		TreeSet<Long> everyBeeps = new TreeSet<>();
+		TreeSet<Long> everyYearAt = new TreeSet<>();
+		for (int epochDay = 1; epochDay <= 18; epochDay++) {
+			Day day = Day.ofEpoch(epochDay);
+			int previousBeeps = -1;
+			for (long epochMilliseconds = day.getEpochMillisecondsPreviousDay() + 1; epochMilliseconds <= day.getEpochMilliseconds(); epochMilliseconds++) {
+				int beeps = Instant.ofEpoch(epochMilliseconds).getBeeps();
+				if (beeps >= 1234 && previousBeeps < 1234) {
+					everyDayAt.add(epochMilliseconds);
+				}
+				if (beeps / 700 != previousBeeps / 700 || previousBeeps == -1) {
+					everyBeeps.add(epochMilliseconds);
+				}
+				if (day.getDayNumber() == 3 && beeps >= 9999 && previousBeeps < 9999) {
+					everyYearAt.add(epochMilliseconds);
+				}
+				previousBeeps = beeps;
+			}
+			if (previousBeeps < 1234 && epochDay < 18) { //Beeps that are not reached on short days fire at the start of the next day
+				everyDayAt.add(day.getEpochMilliseconds() + 1);
+			}
+			if (day.getDayNumber() == 3 && previousBeeps < 9999 && epochDay < 18) {
+				everyYearAt.add(day.getEpochMilliseconds() + 1);
+			}
+		}
+
+		for (long epochMilliseconds = 1; epochMilliseconds <= 39000; epochMilliseconds++) {
+			assertEquals(next(everyDayAt, epochMilliseconds), Schedule.everyDayAt(1234).nextEpochMilliseconds(epochMilliseconds, FIXED), "" + epochMilliseconds);
+			assertEquals(next(everyBeeps, epochMilliseconds), Schedule.everyBeeps(700).nextEpochMilliseconds(epochMilliseconds, FIXED), "" + epochMilliseconds);
+			assertEquals(next(everyYearAt, epochMilliseconds), Schedule.everyYearAt(3, 9999).nextEpochMilliseconds(epochMilliseconds, FIXED), "" + epochMilliseconds);
+		}
+	}
+
+	@Test
+	public void testEquals() {
+		assertEquals(Schedule.everyDay(), Schedule.everyDayAt(0));
+		assertNotEquals(Schedule.everyDay(), Schedule.everyBeeps(10000));
+		assertNotEquals(Schedule.everyYearAt(1, 2), Schedule.everyYearAt(2, 1));
+		assertEquals(Schedule.everyYearAt(1, 2).hashCode(), Schedule.everyYearAt(1, 2).hashCode());
+		assertEquals("Every 500 beeps", Schedule.everyBeeps(500).toString());
+	}
+
+	private static long next(TreeSet<Long> times, long epochMilliseconds) {
+		Long next = times.higher(epochMilliseconds);
+		return next == null ? 0 : next;
+	}
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.lukashian.Scheduler.ScheduledTask;
+import org.lukashian.store.FixedOffsetMillisecondStoreDataProvider;
+import org.lukashian.store.MillisecondStore;
+
+import java.time.InstantSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lukashian.LukashianAssert.assertLukashianException;
+import static org.lukashian.store.FixedOffsetMillisecondStoreDataProvider.FIXED;
+
+/**
+ * Unit tests for the {@link Scheduler} class.
+ */
+public class SchedulerTest {
+
+	private static final int NOW = FIXED + 5; //A calendar with days of 200 milliseconds, in which the time that is now is at about 1000 epoch milliseconds
+
+	@BeforeAll
+	public static void setUp() {
+		MillisecondStore.store().registerProvider(NOW, new FixedOffsetMillisecondStoreDataProvider(1000 - 27000 - System.currentTimeMillis(), 200));
+	}
+
+	@Test
+	public void testSchedule() throws InterruptedException {
+		LukashianClock clock = LukashianClock.of(InstantSource.system(), NOW);
+		BlockingQueue<Instant> due = new LinkedBlockingQueue<>();
+		BlockingQueue<Long> started = new LinkedBlockingQueue<>();
+		Schedule schedule = Schedule.everyBeeps(2500); //Every 50 milliseconds
+
+		try (Scheduler scheduler = Scheduler.of(clock)) {
+			long scheduled = clock.currentEpochMilliseconds();
+			ScheduledTask task = scheduler.schedule(schedule, instant -> {
+				started.add(clock.currentEpochMilliseconds());
+				due.add(instant);
+			});
+			assertEquals(schedule.nextEpochMilliseconds(scheduled, NOW), task.getNextEpochMilliseconds(), 50.0);
+
+			List<Instant> instants = new ArrayList<>();
+			for (int i = 0; i < 5; i++) {
+				instants.add(due.poll(5, TimeUnit.SECONDS));
+				assertTrue(started.take() >= instants.get(i).getEpochMilliseconds()); //Never early
+			}
+			for (int i = 1; i < instants.size(); i++) { //Every time is calculated from the previous one, and times may only be skipped when running behind
+				long expected = schedule.nextEpochMilliseconds(instants.get(i - 1).getEpochMilliseconds(), NOW);
+				assertTrue(instants.get(i).getEpochMilliseconds() >= expected);
+				assertEquals(0, Instant.ofEpoch(instants.get(i).getEpochMilliseconds(), NOW).getBeeps() % 2500);
+			}
+
+			task.cancel();
+			assertTrue(task.isCancelled());
+			assertEquals(0, task.getNextEpochMilliseconds());
+			assertEquals(0, scheduler.getNumberOfTasks());
+			due.clear();
+			assertNull(due.poll(150, TimeUnit.MILLISECONDS));
+		}
+	}
+
+	@Test
+	public void testSchedule_ManyTasks() throws InterruptedException {
+		LukashianClock clock = LukashianClock.of(InstantSource.system(), NOW);
+		CountDownLatch latch = new CountDownLatch(100);
+		AtomicInteger threads = new AtomicInteger();
+
+		try (Scheduler scheduler = Scheduler.of(clock, Runnable::run)) {
+			Instant[] due = new Instant[100];
+			for (int i = 0; i < 100; i++) {
+				int index = i;
+				scheduler.schedule(Schedule.everyDay(), instant -> {
+					if (due[index] == null) {
+						due[index] = instant;
+						threads.compareAndSet(0, Thread.currentThread().getName().equals("lukashian-scheduler") ? 1 : 2);
+						latch.countDown();
+					}
+				});
+			}
+			assertEquals(100, scheduler.getNumberOfTasks());
+			assertTrue(latch.await(5, TimeUnit.SECONDS));
+			assertEquals(1, threads.get()); //The given executor runs the tasks on the timer thread
+
+			for (Instant instant : due) {
+				assertEquals(instant.getDay().getEpochMillisecondsPreviousDay() + 1, instant.getEpochMilliseconds()); //The start of the day
+			}
+		}
+	}
+
+	@Test
+	public void testSchedule_ThrowingTask() throws InterruptedException {
+		LukashianClock clock = LukashianClock.of(InstantSource.system(), NOW);
+		BlockingQueue<Throwable> reported = new LinkedBlockingQueue<>();
+		CountDownLatch latch = new CountDownLatch(3);
+
+		Thread.UncaughtExceptionHandler handler = Thread.getDefaultUncaughtExceptionHandler();
+		Thread.setDefaultUncaughtExceptionHandler((thread, e) -> reported.add(e));
+		try (Scheduler scheduler = Scheduler.of(clock, Runnable::run)) {
+			scheduler.schedule(Schedule.everyBeeps(2500), () -> {
+				throw new IllegalStateException("Failed");
+			});
+			scheduler.schedule(Schedule.everyBeeps(2500), latch::countDown);
+
+			assertTrue(latch.await(5, TimeUnit.SECONDS)); //The timer thread keeps running after the first failure
+			assertEquals("Failed", reported.poll(5, TimeUnit.SECONDS).getMessage());
+			assertEquals(2, scheduler.getNumberOfTasks());
+		} finally {
+			Thread.setDefaultUncaughtExceptionHandler(handler);
+		}
+	}
+
+	@Test
+	public void testClose() {
+		Scheduler scheduler = Scheduler.of(LukashianClock.of(InstantSource.system(), NOW));
+		ScheduledTask task = scheduler.schedule(Schedule.everyDay(), () -> {
+		});
+		assertSame(Schedule.everyDay().getClass(), task.getSchedule().getClass());
+		scheduler.close();
+		assertEquals(0, task.getNextEpochMilliseconds());
+		assertEquals(0, scheduler.getNumberOfTasks());
+		assertLukashianException(() -> scheduler.schedule(Schedule.everyDay(), () -> {
+		}));
+	}
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import org.apache.commons.numbers.fraction.BigFraction;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.lukashian.store.MillisecondStore;
+import org.lukashian.store.TestMillisecondStoreDataProvider;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lukashian.store.TestMillisecondStoreDataProvider.TEST;
+
+/**
+ * Unit tests for the {@link SerializationProxy} class.
+ */
+public class SerializationProxyTest {
+
+	@BeforeAll
+	public static void setUp() {
+		MillisecondStore.store().registerProvider(TEST, new TestMillisecondStoreDataProvider());
+		MillisecondStore.store().registerProvider(-TEST, new TestMillisecondStoreDataProvider());
+		MillisecondStore.store().setDefaultCalendarKey(TEST);
+	}
+
+	@Test
+	public void testYear() throws Exception {
+		assertEquals(Year.of(3, TEST), this.roundTrip(Year.of(3, TEST)));
+		assertEquals(Year.of(8, -TEST), this.roundTrip(Year.of(8, -TEST)));
+	}
+
+	@Test
+	public void testDay() throws Exception {
+		assertEquals(Day.ofEpoch(1, TEST), this.roundTrip(Day.ofEpoch(1, TEST)));
+		assertEquals(Day.ofEpoch(18, -TEST), this.roundTrip(Day.ofEpoch(18, -TEST)));
+	}
+
+	@Test
+	public void testInstant() throws Exception {
+		for (Instant instant : new Instant[] {
+			Instant.ofEpoch(1, TEST),
+			Instant.ofEpoch(1900, TEST),
+			Instant.ofEpoch(39000, -TEST),
+			Instant.of(Day.ofEpoch(7, TEST), 3333),
+			Instant.of(Day.ofEpoch(7, TEST), BigFraction.of(999999999999999999L, 1000000000000000000L)),
+			Instant.of(Day.ofEpoch(7, TEST), BigFraction.of(BigInteger.ONE, BigInteger.TEN.pow(40)))
+		}) {
+			Instant copy = (Instant) this.roundTrip(instant);
+			assertEquals(instant, copy);
+			assertEquals(instant.getCalendarKey(), copy.getCalendarKey());
+			assertEquals(instant.getProportionOfDay(), copy.getProportionOfDay());
+		}
+	}
+
+	@Test
+	public void testSize() throws Exception {
+		assertTrue(this.serialize(Instant.ofEpoch(1900, TEST)).length < 80);
+		assertTrue(this.serialize(Day.ofEpoch(7, TEST)).length < 70);
+		assertTrue(this.serialize(Year.of(2, TEST)).length < 70);
+	}
+
+	@Test
+	public void testUnsupportedValue() throws Exception {
+		MillisecondStore.store().registerProvider(TEST + 5, new TestMillisecondStoreDataProvider());
+		byte[] bytes = this.serialize(Day.ofEpoch(18, TEST + 5));
+
+		MillisecondStore.store().registerProvider(TEST + 5, new TestMillisecondStoreDataProvider() {
+			@Override
+			public long[] loadDayEpochMilliseconds(long[] yearEpochMilliseconds) {
+				return new long[] {300};
+			}
+		});
+		MillisecondStore.store().clearData(TEST + 5);
+
+		assertThrows(InvalidObjectException.class, () -> this.deserialize(bytes));
+	}
+
+	@Test
+	public void testCorruptInput() throws Exception {
+		assertInvalid(2, varLong(TEST * 2L), varLong(1L << 40)); //An epoch day that does not fit in an int
+		assertInvalid(3, varLong(TEST * 2L), varLong(7), varLong(0), varLong(Integer.MAX_VALUE)); //A length that would allocate 2 GB
+		assertInvalid(3, varLong(TEST * 2L), varLong(7), varLong(0), varLong(0)); //A number without any bytes
+		assertInvalid(3, varLong(TEST * 2L), varLong(7), varLong(0), varLong(1), new byte[] {0}, varLong(1), new byte[] {1}); //A denominator of zero
+	}
+
+	private static void assertInvalid(int type, byte[]... values) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeByte(type);
+			for (byte[] value : values) {
+				out.write(value);
+			}
+		}
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			assertThrows(InvalidObjectException.class, () -> new SerializationProxy().readExternal(in));
+		}
+	}
+
+	private static byte[] varLong(long value) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		while ((value & ~0x7FL) != 0) {
+			bytes.write((int) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		bytes.write((int) value);
+		return bytes.toByteArray();
+	}
+
+	private Object roundTrip(Object object) throws Exception {
+		return this.deserialize(this.serialize(object));
+	}
+
+	private byte[] serialize(Object object) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(object);
+		}
+		return bytes.toByteArray();
+	}
+
+	private Object deserialize(byte[] bytes) throws Exception {
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+			return in.readObject();
+		}
+	}
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import org.apache.commons.numbers.fraction.BigFraction;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.lukashian.store.MillisecondStore;
+import org.lukashian.store.TestMillisecondStoreDataProvider;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lukashian.LukashianAssert.assertLukashianException;
+import static org.lukashian.store.TestMillisecondStoreDataProvider.TEST;
+
+/**
+ * Unit tests for the {@link SortKey} class.
+ */
+public class SortKeyTest {
+
+	@BeforeAll
+	public static void setUp() {
+		MillisecondStore.store().registerProvider(TEST, new TestMillisecondStoreDataProvider());
+		MillisecondStore.store().registerProvider(-TEST, new TestMillisecondStoreDataProvider());
+		MillisecondStore.store().setDefaultCalendarKey(TEST);
+	}
+
+	@Test
+	public void testYear() {
+		byte[] previous = null;
+		for (int calendarKey : new int[] {-TEST, TEST}) {
+			for (int yearNumber = 1; yearNumber <= 8; yearNumber++) {
+				Year year = Year.of(yearNumber, calendarKey);
+				byte[] key = new byte[SortKey.YEAR_KEY_LENGTH + 1];
+				assertEquals(SortKey.YEAR_KEY_LENGTH + 1, SortKey.encode(year, key, 1));
+				assertEquals(year, SortKey.decodeYear(key, 1));
+				assertEquals(calendarKey, SortKey.decodeYear(key, 1).getCalendarKey());
+				assertEquals(yearNumber, SortKey.decodeYearNumber(key, 1));
+
+				if (previous != null) {
+					assertTrue(Arrays.compareUnsigned(previous, key) < 0);
+				}
+				previous = key;
+			}
+		}
+	}
+
+	@Test
+	public void testDay() {
+		byte[] previous = null;
+		for (int calendarKey : new int[] {-TEST, TEST}) {
+			for (int epochDay = 1; epochDay <= 18; epochDay++) {
+				Day day = Day.ofEpoch(epochDay, calendarKey);
+				byte[] key = new byte[SortKey.DAY_KEY_LENGTH];
+				assertEquals(SortKey.DAY_KEY_LENGTH, SortKey.encode(day, key, 0));
+				assertEquals(day, SortKey.decodeDay(key, 0));
+				assertEquals(epochDay, SortKey.decodeEpochDay(key, 0));
+				assertEquals(calendarKey, SortKey.decodeCalendarKey(key, 0));
+
+				if (previous != null) {
+					assertTrue(Arrays.compareUnsigned(previous, key) < 0);
+				}
+				previous = key;
+			}
+		}
+	}
+
+	@Test
+	public void testInstant() {
+		List<Instant> instants = new ArrayList<>();
+		for (long epochMilliseconds = 1; epochMilliseconds <= 39000; epochMilliseconds += 37) {
+			instants.add(Instant.ofEpoch(epochMilliseconds, TEST));
+		}
+		instants.add(Instant.ofEpoch(39000, TEST));
+
+		byte[] previous = null;
+		for (Instant instant : instants) {
+			byte[] key = new byte[SortKey.INSTANT_KEY_LENGTH];
+			SortKey.encode(instant, key, 0);
+
+			byte[] primitiveKey = new byte[SortKey.INSTANT_KEY_LENGTH];
+			SortKey.encode(instant.getEpochMilliseconds(), TEST, primitiveKey, 0);
+			assertArrayEquals(key, primitiveKey);
+
+			Instant decoded = SortKey.decodeInstant(key, 0);
+			assertEquals(instant, decoded);
+			assertEquals(instant.getProportionOfDay(), decoded.getProportionOfDay());
+			assertEquals(instant.getEpochMilliseconds(), SortKey.decodeEpochMilliseconds(key, 0));
+
+			if (previous != null) {
+				assertTrue(Arrays.compareUnsigned(previous, key) < 0);
+			}
+			previous = key;
+		}
+	}
+
+	@Test
+	public void testInstant_ExactProportion() {
+		Instant instant = Instant.of(Day.ofEpoch(7, TEST), BigFraction.of(999999999999999999L, 1000000000000000000L));
+		byte[] key = new byte[SortKey.INSTANT_KEY_LENGTH];
+		SortKey.encode(instant, key, 0);
+		assertEquals(instant.getProportionOfDay(), SortKey.decodeInstant(key, 0).getProportionOfDay());
+
+		Instant tooPrecise = Instant.of(Day.ofEpoch(7, TEST), BigFraction.of(BigInteger.ONE, BigInteger.TEN.pow(40)));
+		assertLukashianException(() -> SortKey.encode(tooPrecise, key, 0));
+		assertLukashianException(() -> SortKey.encode(39001, TEST, key, 0));
+	}
+
+	@Test
+	public void testByteBuffer() {
+		Instant instant = Instant.of(Day.ofEpoch(7, TEST), 3333);
+		byte[] expected = new byte[SortKey.INSTANT_KEY_LENGTH];
+		SortKey.encode(instant, expected, 0);
+
+		for (ByteOrder order : new ByteOrder[] {ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+			ByteBuffer buffer = ByteBuffer.allocate(SortKey.YEAR_KEY_LENGTH + SortKey.DAY_KEY_LENGTH + SortKey.INSTANT_KEY_LENGTH).order(order);
+			SortKey.encode(Year.of(3, TEST), buffer);
+			SortKey.encode(Day.ofEpoch(7, TEST), buffer);
+			SortKey.encode(instant, buffer);
+			assertFalse(buffer.hasRemaining());
+			assertArrayEquals(expected, Arrays.copyOfRange(buffer.array(), SortKey.YEAR_KEY_LENGTH + SortKey.DAY_KEY_LENGTH, buffer.capacity()));
+
+			buffer.flip();
+			assertEquals(Year.of(3, TEST), SortKey.decodeYear(buffer));
+			assertEquals(Day.ofEpoch(7, TEST), SortKey.decodeDay(buffer));
+			Instant decoded = SortKey.decodeInstant(buffer);
+			assertEquals(instant, decoded);
+			assertEquals(instant.getProportionOfDay(), decoded.getProportionOfDay());
+		}
+	}
+}
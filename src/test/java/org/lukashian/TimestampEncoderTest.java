@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.lukashian.store.FixedOffsetMillisecondStoreDataProvider;
+import org.lukashian.store.MillisecondStore;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lukashian.store.FixedOffsetMillisecondStoreDataProvider.FIXED;
+
+/**
+ * Unit tests for the {@link TimestampEncoder} and {@link TimestampDecoder} classes.
+ */
+public class TimestampEncoderTest {
+
+	@BeforeAll
+	public static void setUp() {
+		MillisecondStore.store().registerProvider(FIXED, new FixedOffsetMillisecondStoreDataProvider());
+		MillisecondStore.store().setDefaultCalendarKey(FIXED);
+	}
+
+	@Test
+	public void testRoundTrip() {
+		Random random = new Random(6);
+		long[] values = new long[3000];
+		for (int i = 0; i < values.length; i++) {
+			switch (i % 6) {
+				case 0 -> values[i] = random.nextLong();
+				case 1 -> values[i] = i % 12 == 1 ? Long.MIN_VALUE : Long.MAX_VALUE;
+				default -> values[i] = (i > 0 ? values[i - 1] : 0) + random.nextInt(1 << (2 * (i % 6)));
+			}
+		}
+		this.testRoundTrip(values);
+		this.testRoundTrip(new long[] {42});
+		this.testRoundTrip(new long[0]);
+
+		long[] boundaries = new long[] {0, 0, 63, 62, -2, -2 - 64, -2 - 64 - 65, 0, 256, 256 + 255 + 256, 0, 2047, 0, -2048, 0, 2048, -2049};
+		long[] cumulative = new long[boundaries.length];
+		for (int i = 1; i < boundaries.length; i++) {
+			cumulative[i] = cumulative[i - 1] + boundaries[i];
+		}
+		this.testRoundTrip(cumulative);
+	}
+
+	@Test
+	public void testCompression() {
+		TimestampEncoder epochMilliseconds = new TimestampEncoder();
+		TimestampEncoder beepIndexes = new TimestampEncoder();
+		for (int epochDay = 1; epochDay <= 17; epochDay++) {
+			for (int beeps = 0; beeps < 10000; beeps += 100) {
+				epochMilliseconds.add(EpochMath.getEpochMilliseconds(epochDay, beeps, FIXED));
+				beepIndexes.add(epochDay * 10000L + beeps);
+			}
+		}
+
+		assertEquals(1700, epochMilliseconds.getNumberOfValues());
+		assertTrue(epochMilliseconds.getNumberOfBits() < 1700 * 4, "Bits: " + epochMilliseconds.getNumberOfBits());
+		assertEquals(64 + 3 + 9 + 1698, beepIndexes.getNumberOfBits()); //The first delta of 100 is the only one that differs from the previous one
+
+		TimestampDecoder decoder = new TimestampDecoder(ByteBuffer.wrap(epochMilliseconds.toByteArray()));
+		for (int epochDay = 1; epochDay <= 17; epochDay++) {
+			for (int beeps = 0; beeps < 10000; beeps += 100) {
+				assertEquals(Instant.of(Day.ofEpoch(epochDay), beeps), decoder.nextInstant());
+			}
+		}
+		assertFalse(decoder.hasNext());
+	}
+
+	@Test
+	public void testBuffers() {
+		TimestampEncoder encoder = new TimestampEncoder();
+		encoder.add(Instant.ofEpoch(1000));
+		encoder.add(new long[] {0, 1001, 1002}, 1, 2);
+		assertEquals(TimestampEncoder.HEADER_LENGTH + 10, encoder.getEncodedLength());
+
+		ByteBuffer buffer = ByteBuffer.allocate(100);
+		buffer.putInt(7);
+		encoder.writeTo(buffer);
+		buffer.putInt(8);
+		assertThrows(BufferOverflowException.class, () -> encoder.writeTo(ByteBuffer.allocate(encoder.getEncodedLength() - 1)));
+
+		buffer.flip();
+		assertEquals(7, buffer.getInt());
+		TimestampDecoder decoder = new TimestampDecoder(buffer);
+		assertEquals(8, buffer.getInt()); //The position of the buffer is advanced past the encoded values
+		assertEquals(3, decoder.getNumberOfValues());
+		long[] target = new long[5];
+		assertEquals(3, decoder.next(target, 1, 4));
+		assertArrayEquals(new long[] {0, 1000, 1001, 1002, 0}, target);
+		assertThrows(NoSuchElementException.class, decoder::next);
+
+		encoder.reset();
+		assertEquals(0, encoder.getNumberOfValues());
+		encoder.add(5);
+		decoder.reset(ByteBuffer.wrap(encoder.toByteArray()));
+		assertEquals(5, decoder.next());
+
+		byte[] truncated = encoder.toByteArray();
+		assertThrows(BufferUnderflowException.class, () -> new TimestampDecoder(ByteBuffer.wrap(truncated, 0, truncated.length - 1)));
+	}
+
+	private void testRoundTrip(long[] values) {
+		TimestampEncoder encoder = new TimestampEncoder();
+		encoder.add(values, 0, values.length);
+		assertEquals(values.length, encoder.getNumberOfValues());
+
+		TimestampDecoder decoder = new TimestampDecoder(ByteBuffer.wrap(encoder.toByteArray()));
+		long[] decoded = new long[values.length];
+		assertEquals(values.length, decoder.next(decoded, 0, values.length));
+		assertArrayEquals(values, decoded);
+		assertFalse(decoder.hasNext());
+	}
+}
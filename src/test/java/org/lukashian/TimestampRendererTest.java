@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.lukashian.Formatter.DayFormat;
+import org.lukashian.store.FixedOffsetMillisecondStoreDataProvider;
+import org.lukashian.store.MillisecondStore;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lukashian.LukashianAssert.assertLukashianException;
+import static org.lukashian.store.FixedOffsetMillisecondStoreDataProvider.FIXED;
+
+/**
+ * Unit tests for the {@link TimestampRenderer} class.
+ */
+public class TimestampRendererTest {
+
+	private static final int NOW = FIXED + 3; //A calendar in which the time that is now is at about 5000 epoch milliseconds
+
+	@BeforeAll
+	public static void setUp() {
+		MillisecondStore.store().registerProvider(FIXED, new FixedOffsetMillisecondStoreDataProvider());
+		MillisecondStore.store().registerProvider(NOW, new FixedOffsetMillisecondStoreDataProvider(5000 - 27000 - System.currentTimeMillis()));
+		MillisecondStore.store().setDefaultCalendarKey(FIXED);
+	}
+
+	@Test
+	public void testRender() {
+		Random random = new Random(46);
+		for (DayFormat dayFormat : DayFormat.values()) {
+			TimestampRenderer renderer = TimestampRenderer.of(dayFormat, "::");
+			byte[] bytes = new byte[32];
+			ByteBuffer direct = ByteBuffer.allocateDirect(32);
+			for (int i = 0; i < 5000; i++) {
+				long epochMilliseconds = i < 2000 ? 1 + i * 19 : 1 + random.nextInt(39000); //Sorted and then random
+				String expected = Formatter.format(Instant.ofEpoch(epochMilliseconds), dayFormat, "::");
+
+				StringBuilder builder = new StringBuilder("x");
+				renderer.render(epochMilliseconds, builder);
+				assertEquals("x" + expected, builder.toString());
+
+				int end = renderer.render(epochMilliseconds, bytes, 1);
+				assertEquals(expected, new String(bytes, 1, end - 1, StandardCharsets.US_ASCII));
+
+				renderer.render(epochMilliseconds, direct.clear());
+				assertEquals(expected.length(), direct.position());
+				direct.flip().get(bytes, 0, expected.length());
+				assertEquals(expected, new String(bytes, 0, expected.length(), StandardCharsets.US_ASCII));
+			}
+		}
+	}
+
+	@Test
+	public void testRender_Invalid() {
+		TimestampRenderer renderer = TimestampRenderer.of();
+		assertLukashianException(() -> renderer.renderNow());
+		assertThrows(LukashianException.class, () -> renderer.render(0, new StringBuilder()));
+		assertThrows(LukashianException.class, () -> renderer.render(39001, new StringBuilder()));
+		assertThrows(IndexOutOfBoundsException.class, () -> renderer.render(1900, new byte[10], 3));
+		assertThrows(BufferOverflowException.class, () -> renderer.render(1900, ByteBuffer.allocate(7)));
+		assertLukashianException(() -> TimestampRenderer.of(DayFormat.YEAR_FIRST, "–"));
+		assertThrows(NullPointerException.class, () -> TimestampRenderer.of(null, "-"));
+		assertLukashianException(() -> renderer.withClock(LukashianClock.system(NOW)));
+
+		ByteBuffer buffer = ByteBuffer.allocate(8).position(1);
+		assertThrows(BufferOverflowException.class, () -> renderer.render(1900, buffer));
+		assertEquals(1, buffer.position());
+	}
+
+	@Test
+	public void testRenderNow() {
+		TimestampRenderer renderer = TimestampRenderer.of(DayFormat.EPOCH, "-", NOW);
+		for (int i = 0; i < 3; i++) { //The first call replaces the snapshot, after which the UNIX bounds of the day are used
+			Instant before = Instant.now(NOW);
+			String now = renderer.renderNow();
+			Instant after = Instant.now(NOW);
+
+			assertTrue(now.compareTo(Formatter.format(before, DayFormat.EPOCH)) >= 0 || now.length() > Formatter.format(before, DayFormat.EPOCH).length(), now);
+			assertTrue(now.compareTo(Formatter.format(after, DayFormat.EPOCH)) <= 0 || now.length() < Formatter.format(after, DayFormat.EPOCH).length(), now);
+		}
+
+		byte[] bytes = new byte[16];
+		assertEquals(Formatter.format(Instant.now(NOW), DayFormat.EPOCH).length(), renderer.renderNow(bytes, 0));
+		ByteBuffer buffer = ByteBuffer.allocate(16);
+		renderer.renderNow(buffer);
+		assertTrue(buffer.position() >= 6);
+		StringBuilder builder = new StringBuilder();
+		renderer.renderNow(builder);
+		assertTrue(builder.length() >= 6);
+	}
+
+	@Test
+	public void testRenderNow_Clock() {
+		TimestampRenderer renderer = TimestampRenderer.of().withClock(LukashianClock.fixed(Instant.ofEpoch(1900)));
+		assertEquals("2-3 3300", renderer.renderNow());
+
+		byte[] bytes = new byte[8];
+		assertEquals(8, renderer.renderNow(bytes, 0));
+		assertEquals("2-3 3300", new String(bytes, StandardCharsets.US_ASCII));
+		ByteBuffer buffer = ByteBuffer.allocateDirect(8);
+		renderer.renderNow(buffer);
+		assertEquals(8, buffer.position());
+
+		renderer = renderer.withClock(LukashianClock.fixed(Instant.ofEpoch(38999)));
+		assertEquals("7-1 9999", renderer.renderNow()); //The final day, on which the snapshot is replaced
+	}
+}
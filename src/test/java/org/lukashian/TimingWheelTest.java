@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.lukashian.TimingWheel.Timeout;
+import org.lukashian.store.FixedOffsetMillisecondStoreDataProvider;
+import org.lukashian.store.MillisecondStore;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lukashian.LukashianAssert.assertLukashianException;
+import static org.lukashian.store.FixedOffsetMillisecondStoreDataProvider.FIXED;
+
+/**
+ * Unit tests for the {@link TimingWheel} class.
+ */
+public class TimingWheelTest {
+
+	private static final long LAST_EPOCH_MILLISECONDS = 39000;
+
+	@BeforeAll
+	public static void setUp() {
+		MillisecondStore.store().registerProvider(FIXED, new FixedOffsetMillisecondStoreDataProvider());
+		MillisecondStore.store().setDefaultCalendarKey(FIXED);
+	}
+
+	@Test
+	public void testAdvance() {
+		TimingWheel<Integer> wheel = TimingWheel.of(1, FIXED);
+		List<Timeout<Integer>> timeouts = new ArrayList<>();
+		Map<Timeout<Integer>, Long> expiredAt = new HashMap<>();
+		Map<Timeout<Integer>, Long> scheduledAt = new HashMap<>();
+		TreeSet<Long> times = new TreeSet<>();
+
+		Random random = new Random(42);
+		for (int i = 0; i < 2000; i++) { //Deadlines on days of all lengths and in all years, including the final year that ends after the final day
+			timeouts.add(wheel.schedule(1 + random.nextLong(LAST_EPOCH_MILLISECONDS), i));
+		}
+		for (int i = 0; i < timeouts.size(); i += 7) {
+			assertTrue(timeouts.get(i).cancel());
+		}
+		assertEquals(2000 - 286, wheel.getNumberOfTimeouts());
+
+		long now = 1;
+		while (now < LAST_EPOCH_MILLISECONDS) {
+			if (random.nextInt(10) == 0) { //Some in the past, some on the current day and some much later
+				long deadline = Math.max(1, now - 500 + random.nextLong(LAST_EPOCH_MILLISECONDS - now + 500));
+				Timeout<Integer> timeout = wheel.schedule(deadline, timeouts.size());
+				timeouts.add(timeout);
+				scheduledAt.put(timeout, now);
+				if (random.nextInt(3) == 0) {
+					timeout.cancel();
+				}
+			}
+
+			long time = Math.min(LAST_EPOCH_MILLISECONDS, now + 1 + random.nextInt(random.nextBoolean() ? 5 : 700));
+			int expired = wheel.advance(time, timeout -> assertNull(expiredAt.put(timeout, time)));
+			assertEquals(time, wheel.getEpochMilliseconds());
+			assertEquals(expired, expiredAt.values().stream().filter(at -> at == time).count());
+			times.add(time);
+			now = time;
+		}
+
+		for (int i = 0; i < timeouts.size(); i++) {
+			Timeout<Integer> timeout = timeouts.get(i);
+			assertEquals(i, timeout.getValue());
+			if (timeout.isCancelled()) {
+				assertNull(expiredAt.get(timeout));
+				assertFalse(timeout.cancel());
+			} else {
+				assertTrue(timeout.isExpired());
+				assertFalse(timeout.cancel());
+				long earliest = Math.max(timeout.getDeadlineEpochMilliseconds(), scheduledAt.getOrDefault(timeout, 0L) + 1);
+				assertEquals(times.ceiling(earliest), expiredAt.get(timeout)); //At the first advance that reaches its deadline
+			}
+		}
+		assertEquals(0, wheel.getNumberOfTimeouts());
+	}
+
+	@Test
+	public void testAdvance_Exact() {
+		TimingWheel<String> wheel = TimingWheel.of(Instant.ofEpoch(4901, FIXED));
+		List<String> expired = new ArrayList<>();
+
+		//On the final day of 34100 milliseconds, a beep lasts 3 or 4 milliseconds, but deadlines are not rounded to their beep
+		wheel.schedule(10001, "a");
+		wheel.schedule(10002, "b");
+		wheel.schedule(Instant.ofEpoch(10003, FIXED), "c");
+		wheel.schedule(10000, "d");
+		assertEquals(EpochMath.getBeeps(10000, FIXED), EpochMath.getBeeps(10002, FIXED));
+
+		assertEquals(1, wheel.advance(10000, timeout -> expired.add(timeout.getValue())));
+		assertEquals(List.of("d"), expired);
+		assertEquals(1, wheel.advance(10001, timeout -> expired.add(timeout.getValue())));
+		assertEquals(List.of("d", "a"), expired);
+		assertEquals(0, wheel.advance(10001, timeout -> expired.add(timeout.getValue())));
+		assertEquals(2, wheel.advance(Instant.ofEpoch(10003, FIXED), timeout -> expired.add(timeout.getValue())));
+		assertEquals(Set.of("b", "c"), Set.copyOf(expired.subList(2, 4)));
+
+		wheel.schedule(5000, "past"); //Expires at the next advance, even if the wheel does not move
+		assertEquals(1, wheel.advance(10003, timeout -> expired.add(timeout.getValue())));
+		assertEquals("past", expired.get(4));
+		assertEquals(0, wheel.advance(9000, timeout -> expired.add(timeout.getValue())));
+		assertEquals(10003, wheel.getEpochMilliseconds());
+	}
+
+	@Test
+	public void testAdvance_ConsumerThrows() {
+		TimingWheel<Integer> wheel = TimingWheel.of(1, FIXED);
+		for (int i = 1; i <= 10; i++) {
+			wheel.schedule(i * 100L, i);
+		}
+
+		AtomicInteger count = new AtomicInteger();
+		assertThrows(IllegalStateException.class, () -> wheel.advance(2000, timeout -> {
+			if (count.incrementAndGet() == 3) {
+				throw new IllegalStateException();
+			}
+		}));
+		assertEquals(7, wheel.getNumberOfTimeouts());
+		assertEquals(7, wheel.advance(2000, timeout -> count.incrementAndGet()));
+		assertEquals(10, count.get());
+	}
+
+	@Test
+	public void testSchedule_Concurrent() throws InterruptedException {
+		TimingWheel<Integer> wheel = TimingWheel.of(1, FIXED);
+		ConcurrentLinkedQueue<Timeout<Integer>> expired = new ConcurrentLinkedQueue<>();
+		AtomicInteger cancelled = new AtomicInteger();
+		CountDownLatch done = new CountDownLatch(4);
+
+		for (int t = 0; t < 4; t++) {
+			int thread = t;
+			Thread.ofPlatform().start(() -> {
+				Random random = new Random(thread);
+				for (int i = 0; i < 5000; i++) {
+					Timeout<Integer> timeout = wheel.schedule(1 + random.nextLong(LAST_EPOCH_MILLISECONDS), i);
+					if (i % 5 == 0 && timeout.cancel()) {
+						cancelled.incrementAndGet();
+					}
+				}
+				done.countDown();
+			});
+		}
+
+		long now = 1;
+		while (done.getCount() > 0 || now < LAST_EPOCH_MILLISECONDS) {
+			now = Math.min(LAST_EPOCH_MILLISECONDS, now + 7);
+			long time = now;
+			wheel.advance(time, timeout -> {
+				assertTrue(timeout.getDeadlineEpochMilliseconds() <= time);
+				expired.add(timeout);
+			});
+		}
+		wheel.advance(LAST_EPOCH_MILLISECONDS, expired::add);
+
+		assertEquals(20000, expired.size() + cancelled.get());
+		assertEquals(0, wheel.getNumberOfTimeouts());
+		assertTrue(expired.stream().allMatch(Timeout::isExpired));
+	}
+
+	@Test
+	public void testSchedule_Unsupported() {
+		TimingWheel<Integer> wheel = TimingWheel.of(1, FIXED);
+		assertLukashianException(() -> wheel.schedule(0, 1));
+		assertLukashianException(() -> wheel.schedule(LAST_EPOCH_MILLISECONDS + 1, 1));
+		assertLukashianException(() -> wheel.advance(LAST_EPOCH_MILLISECONDS + 1, timeout -> {
+		}));
+		assertLukashianException(() -> TimingWheel.of(0, FIXED));
+		assertEquals(0, wheel.getNumberOfTimeouts());
+	}
+}
@@ -55,6 +55,8 @@ import org.junit.jupiter.api.Test;
 import org.lukashian.store.MillisecondStore;
 import org.lukashian.store.TestMillisecondStoreDataProvider;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.lukashian.LukashianAssert.*;
 import static org.lukashian.store.CalendarKeys.EARTH;
@@ -102,6 +104,24 @@ public class YearTest {
 		assertYear(1, TEST, Year.of(2).previous());
 	}
 
+	@Test
+	public void testDays() {
+		assertEquals(List.of(1, 2, 3, 4), Year.of(1, TEST).days().map(Day::getEpochDay).toList());
+		assertEquals(List.of(5, 6, 7), Year.of(2, TEST).days().map(Day::getEpochDay).toList());
+		assertEquals(List.of(5, 6, 7), Year.of(2, TEST).epochDays().boxed().toList());
+		assertEquals(Year.of(4, TEST).days().toList(), Year.of(4, TEST).days().parallel().toList());
+	}
+
+	@Test
+	public void testRangeTo() {
+		assertEquals(List.of(2, 3, 4), Year.of(2, TEST).rangeTo(Year.of(4, TEST)).map(Year::getYearNumber).toList());
+		assertEquals(0, Year.of(4, TEST).rangeTo(Year.of(3, TEST)).count());
+		assertEquals(Year.of(1, TEST).rangeTo(Year.of(8, TEST)).toList(), Year.of(1, TEST).rangeTo(Year.of(8, TEST)).parallel().toList());
+		assertEquals(8, Year.of(1, TEST).rangeTo(Year.of(8, TEST)).spliterator().getExactSizeIfKnown());
+
+		assertLukashianException(() -> Year.of(1, TEST).rangeTo(Year.of(2, EARTH)));
+	}
+
 	@Test
 	public void testNext() {
 		assertYear(3, TEST, Year.of(2).next());
@@ -389,8 +409,17 @@ public class YearTest {
 		assertLukashianException(() -> Year.of(8).differenceWith(Year.of(4, EARTH)));
 	}
 
+	@Test
+	public void testTryOf() {
+		assertFalse(Year.tryOf(0, TEST).isPresent());
+		assertYear(1, TEST, Year.tryOf(1).orElseThrow());
+		assertYear(8, TEST, Year.tryOf(8, TEST).orElseThrow());
+		assertFalse(Year.tryOf(9, TEST).isPresent());
+	}
+
 	@Test
 	public void testNow() {
+		MillisecondStore.store().clearData(TEST); //The time that is now is only supported for a few seconds after TEST has been loaded
 		assertEquals(TEST, Year.now().getCalendarKey());
 		assertEquals(EARTH, Year.now(EARTH).getCalendarKey());
 	}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian.store;
+
+/**
+ * A {@link TestMillisecondStoreDataProvider} with a fixed UNIX epoch offset and, optionally, days of a fixed length, for tests that need multiple calendar
+ * instances with a known distance between their epochs.
+ */
+public class FixedOffsetMillisecondStoreDataProvider extends TestMillisecondStoreDataProvider {
+
+	/**
+	 * Key for a calendar with the days of the {@link TestMillisecondStoreDataProvider} and a fixed offset. Unlike {@link #TEST}, of which the time that is
+	 * now is only supported for about ten seconds after it has been loaded, this calendar can be used by any number of tests, without affecting the tests
+	 * that depend on the time that is now in the {@link #TEST} calendar.
+	 */
+	public static final int FIXED = TEST + 20;
+
+	private final long unixEpochOffsetMilliseconds;
+	private final long dayLength;
+
+	/**
+	 * Creates a provider with the days of the {@link TestMillisecondStoreDataProvider} and an offset of about the time that these tests were written, as
+	 * used for {@link #FIXED}.
+	 */
+	public FixedOffsetMillisecondStoreDataProvider() {
+		this(-1_790_000_000_000L);
+	}
+
+	/**
+	 * Creates a provider with the days of the {@link TestMillisecondStoreDataProvider} and the given offset.
+	 */
+	public FixedOffsetMillisecondStoreDataProvider(long unixEpochOffsetMilliseconds) {
+		this(unixEpochOffsetMilliseconds, 0);
+	}
+
+	/**
+	 * Creates a provider with the given offset and days of the given length, until 40000 milliseconds, or with the days of the
+	 * {@link TestMillisecondStoreDataProvider} if the given length is 0.
+	 */
+	public FixedOffsetMillisecondStoreDataProvider(long unixEpochOffsetMilliseconds, long dayLength) {
+		this.unixEpochOffsetMilliseconds = unixEpochOffsetMilliseconds;
+		this.dayLength = dayLength;
+	}
+
+	@Override
+	public long loadUnixEpochOffsetMilliseconds() {
+		return unixEpochOffsetMilliseconds;
+	}
+
+	@Override
+	public long[] loadDayEpochMilliseconds(long[] yearEpochMilliseconds) {
+		if (dayLength == 0) {
+			return super.loadDayEpochMilliseconds(yearEpochMilliseconds);
+		}
+
+		long[] dayEpochMilliseconds = new long[(int) (40000 / dayLength)];
+		for (int i = 0; i < dayEpochMilliseconds.length; i++) {
+			dayEpochMilliseconds[i] = (i + 1) * dayLength;
+		}
+		return dayEpochMilliseconds;
+	}
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2018-2026 (5918-5926 in Lukashian years)
+ * All rights reserved.
+ *
+ * The Lukashian Calendar and The Lukashian Calendar Mechanism are registered
+ * at the Benelux Office for Intellectual Property, registration number 120712.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, the above registration notice, this list of conditions
+ *    and the following disclaimer in the documentation and/or other materials
+ *    provided with the distribution.
+ * 3. All materials mentioning features or use of this software,
+ *    the Lukashian Calendar or the underlying Lukashian Calendar Mechanism,
+ *    with or without modification, must refer to the Calendar as "The
+ *    Lukashian Calendar" and to the Calendar Mechanism as "The Lukashian
+ *    Calendar Mechanism".
+ * 4. Renaming of source code, binary form, the Lukashian Calendar or the
+ *    Lukashian Calendar Mechanism, with or without modification, is explicitly
+ *    disallowed. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, must refer to the Calendar
+ *    as "The Lukashian Calendar" and to the Calendar Mechanism as "The
+ *    Lukashian Calendar Mechanism".
+ * 5. Any copies, extracts, code excerpts, forks, redistributions
+ *    or translations into other languages of source code, binary form,
+ *    the functional behaviour of the Lukashian Calendar as defined by source code or
+ *    the functional behaviour of the Lukashian Calendar Mechanism as defined by source
+ *    code, with or without modification, may not include modifications that
+ *    change the functional behaviour of the Lukashian Calendar Mechanism as
+ *    implemented by source code.
+ *
+ * THIS SOFTWARE IS PROVIDED BY COPYRIGHT HOLDER ''AS IS'' AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL COPYRIGHT HOLDER BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.lukashian.store;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.lukashian.LukashianException;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.lukashian.LukashianAssert.assertLukashianException;
+import static org.lukashian.store.MillisecondStore.data;
+import static org.lukashian.store.TestMillisecondStoreDataProvider.TEST;
+
+/**
+ * Unit tests for the {@link MillisecondStoreData} class.
+ */
+public class MillisecondStoreDataTest {
+
+	@BeforeAll
+	public static void setUp() {
+		MillisecondStore.store().registerProvider(TEST, new TestMillisecondStoreDataProvider());
+		MillisecondStore.store().setDefaultCalendarKey(TEST);
+	}
+
+	@Test
+	public void testIsSupported() {
+		assertFalse(data(TEST).isSupportedYear(0));
+		assertTrue(data(TEST).isSupportedYear(1));
+		assertTrue(data(TEST).isSupportedYear(8));
+		assertFalse(data(TEST).isSupportedYear(9));
+
+		assertFalse(data(TEST).isSupportedEpochDay(0));
+		assertTrue(data(TEST).isSupportedEpochDay(1));
+		assertTrue(data(TEST).isSupportedEpochDay(18));
+		assertFalse(data(TEST).isSupportedEpochDay(19));
+
+		assertFalse(data(TEST).isSupportedEpochMilliseconds(0));
+		assertTrue(data(TEST).isSupportedEpochMilliseconds(1));
+		assertTrue(data(TEST).isSupportedEpochMilliseconds(39000));
+		assertFalse(data(TEST).isSupportedEpochMilliseconds(39001));
+	}
+
+	@Test
+	public void testTryGet() {
+		assertEquals(0, data(TEST).tryGetEpochDayForEpochMilliseconds(0));
+		assertEquals(1, data(TEST).tryGetEpochDayForEpochMilliseconds(1));
+		assertEquals(18, data(TEST).tryGetEpochDayForEpochMilliseconds(39000));
+		assertEquals(0, data(TEST).tryGetEpochDayForEpochMilliseconds(39001));
+
+		assertEquals(0, data(TEST).tryGetYearForEpochMilliseconds(0));
+		assertEquals(1, data(TEST).tryGetYearForEpochMilliseconds(1));
+		assertEquals(8, data(TEST).tryGetYearForEpochMilliseconds(40000));
+		assertEquals(0, data(TEST).tryGetYearForEpochMilliseconds(40001));
+	}
+
+	@Test
+	public void testValidateEpochMilliseconds() {
+		long[] epochMilliseconds = new long[] {Long.MIN_VALUE, 0, 1, 20000, 39000, 39001, Long.MAX_VALUE};
+		boolean[] results = new boolean[epochMilliseconds.length];
+
+		assertEquals(4, data(TEST).validateEpochMilliseconds(epochMilliseconds, results));
+		assertArrayEquals(new boolean[] {false, false, true, true, true, false, false}, results);
+
+		assertLukashianException(() -> data(TEST).validateEpochMilliseconds(epochMilliseconds, new boolean[1]));
+	}
+
+	@Test
+	public void testValidateUnixEpochMilliseconds() {
+		long start = data(TEST).getUnixEpochMilliseconds(1);
+		long[] unixEpochMilliseconds = new long[] {Long.MIN_VALUE, start - 1, start, start + 38999, start + 39000, Long.MAX_VALUE};
+		boolean[] results = new boolean[unixEpochMilliseconds.length];
+
+		assertEquals(4, data(TEST).validateUnixEpochMilliseconds(unixEpochMilliseconds, results));
+		assertArrayEquals(new boolean[] {false, false, true, true, false, false}, results);
+
+		assertLukashianException(() -> data(TEST).validateUnixEpochMilliseconds(unixEpochMilliseconds, new boolean[1]));
+	}
+
+	@Test
+	public void testGetLukashianEpochMilliseconds_Bulk() {
+		long[] unixEpochMilliseconds = new long[] {-1000000000000L, 0, 78796799999L, 78796800000L, 1483228799999L, 1483228800000L, System.currentTimeMillis()};
+		long[] target = new long[unixEpochMilliseconds.length + 1];
+
+		data(TEST).getLukashianEpochMilliseconds(unixEpochMilliseconds, 1, unixEpochMilliseconds.length - 1, target, 2);
+		for (int i = 1; i < unixEpochMilliseconds.length; i++) {
+			assertEquals(data(TEST).getLukashianEpochMilliseconds(unixEpochMilliseconds[i]), target[i + 1]);
+		}
+
+		long[] recent = new long[] {1483228800000L, System.currentTimeMillis(), 1600000000000L};
+		long[] recentTarget = new long[3];
+		data(TEST).getLukashianEpochMilliseconds(recent, 0, 3, recentTarget, 0);
+		for (int i = 0; i < recent.length; i++) {
+			assertEquals(data(TEST).getLukashianEpochMilliseconds(recent[i]), recentTarget[i]);
+		}
+		assertThrows(ArithmeticException.class, () -> data(TEST).getLukashianEpochMilliseconds(new long[] {1600000000000L, Long.MAX_VALUE - 1}, 0, 2, new long[2], 0));
+
+		data(TEST).getLukashianEpochMilliseconds(unixEpochMilliseconds, 0, unixEpochMilliseconds.length, unixEpochMilliseconds, 0);
+		assertArrayEquals(Arrays.copyOfRange(target, 2, target.length), Arrays.copyOfRange(unixEpochMilliseconds, 1, unixEpochMilliseconds.length));
+	}
+
+	@Test
+	public void testGetEpochDaysAndYearsForEpochMilliseconds_Bulk() {
+		long[] ascending = new long[] {1, 2, 300, 301, 302, 1900, 4799, 4800, 4801, 38999, 39000};
+		long[] unordered = new long[] {39000, 1, 4800, 300, 301, 2, 38999, 1900, 4799, 4801, 302};
+
+		for (long[] epochMilliseconds : new long[][] {ascending, unordered}) {
+			int[] epochDays = new int[epochMilliseconds.length];
+			int[] years = new int[epochMilliseconds.length];
+			data(TEST).getEpochDaysForEpochMilliseconds(epochMilliseconds, 0, epochMilliseconds.length, epochDays, 0);
+			data(TEST).getYearsForEpochMilliseconds(epochMilliseconds, 0, epochMilliseconds.length, years, 0);
+
+			for (int i = 0; i < epochMilliseconds.length; i++) {
+				assertEquals(data(TEST).getEpochDayForEpochMilliseconds(epochMilliseconds[i]), epochDays[i]);
+				assertEquals(data(TEST).getYearForEpochMilliseconds(epochMilliseconds[i]), years[i]);
+			}
+		}
+
+		assertThrows(LukashianException.class, () -> data(TEST).getEpochDaysForEpochMilliseconds(new long[] {1, 39001}, 0, 2, new int[2], 0));
+		assertThrows(LukashianException.class, () -> data(TEST).getYearsForEpochMilliseconds(new long[] {1, 40001}, 0, 2, new int[2], 0));
+	}
+
+	@Test
+	public void testGetUnixEpochMilliseconds_Bulk() {
+		long offset = data(TEST).getLukashianEpochMilliseconds(0);
+		long[] epochMilliseconds = new long[] {1, 1900, 39000, offset - 1000000000000L, offset + 78796800000L, offset + 1483228827000L};
+		long[] target = new long[epochMilliseconds.length];
+
+		data(TEST).getUnixEpochMilliseconds(epochMilliseconds, 0, 3, target, 0);
+		data(TEST).getUnixEpochMilliseconds(epochMilliseconds, 3, 3, target, 3);
+		for (int i = 0; i < epochMilliseconds.length; i++) {
+			assertEquals(data(TEST).getUnixEpochMilliseconds(epochMilliseconds[i]), target[i]);
+		}
+		assertThrows(ArithmeticException.class, () -> data(TEST).getUnixEpochMilliseconds(new long[] {1, Long.MAX_VALUE}, 0, 2, new long[2], 0));
+	}
+}